@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -192,6 +193,87 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 		}
 	}
 
+	/**
+	 * Caches the types found for unresolved simple names, so that organizing the imports of many
+	 * compilation units does not query the index for the same names again and again. The types are
+	 * cached per project and kind of source folder, as these determine the search scope.
+	 * <p>
+	 * A cache does not observe changes of the Java model and should only be used for one run over
+	 * a set of compilation units. It can be shared by operations that run concurrently.
+	 * </p>
+	 *
+	 * @see OrganizeImportsOperation#setTypeNameMatchCache(TypeNameMatchCache)
+	 * @since 1.23
+	 */
+	public static final class TypeNameMatchCache {
+
+		private record Scope(IJavaProject project, boolean excludeTestCode) {
+		}
+
+		private final Map<Scope, Map<String, List<TypeNameMatch>>> fMatches= new ConcurrentHashMap<>();
+
+		private static Scope getScope(IPackageFragment pack) {
+			boolean excludeTestCode= false;
+			try {
+				excludeTestCode= !((IPackageFragmentRoot) pack.getParent()).getResolvedClasspathEntry().isTest();
+			} catch (JavaModelException e) {
+				// search the test code as well
+			}
+			return new Scope(pack.getJavaProject(), excludeTestCode);
+		}
+
+		/**
+		 * Returns the types with the given simple names. Names that are not cached yet are searched
+		 * with one query.
+		 */
+		List<TypeNameMatch> getMatches(IPackageFragment pack, Collection<String> names, IProgressMonitor monitor) throws JavaModelException {
+			return getMatches(getScope(pack), names, monitor);
+		}
+
+		private List<TypeNameMatch> getMatches(Scope scope, Collection<String> names, IProgressMonitor monitor) throws JavaModelException {
+			Map<String, List<TypeNameMatch>> cached= fMatches.computeIfAbsent(scope, key -> new ConcurrentHashMap<>());
+			List<String> missing= new ArrayList<>();
+			for (String name : names) {
+				if (!cached.containsKey(name)) {
+					missing.add(name);
+				}
+			}
+			if (!missing.isEmpty()) {
+				Map<String, List<TypeNameMatch>> found= new HashMap<>();
+				for (String name : missing) {
+					found.put(name, new ArrayList<>(1));
+				}
+				for (TypeNameMatch match : search(scope, missing, monitor)) {
+					List<TypeNameMatch> matches= found.get(match.getSimpleTypeName());
+					if (matches != null) {
+						matches.add(match);
+					}
+				}
+				for (Entry<String, List<TypeNameMatch>> entry : found.entrySet()) {
+					cached.putIfAbsent(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+				}
+			}
+			List<TypeNameMatch> result= new ArrayList<>();
+			for (String name : names) {
+				result.addAll(cached.get(name));
+			}
+			return result;
+		}
+
+		private static List<TypeNameMatch> search(Scope scope, Collection<String> names, IProgressMonitor monitor) throws JavaModelException {
+			char[][] allTypes= new char[names.size()][];
+			int i= 0;
+			for (String name : names) {
+				allTypes[i++]= name.toCharArray();
+			}
+			ArrayList<TypeNameMatch> typesFound= new ArrayList<>();
+			IJavaSearchScope searchScope= SearchEngine.createJavaSearchScope(scope.excludeTestCode(), new IJavaElement[] { scope.project() }, true);
+			TypeNameMatchCollector collector= new TypeNameMatchCollector(typesFound);
+			new SearchEngine().searchAllTypeNames(null, allTypes, searchScope, collector, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+			return typesFound;
+		}
+	}
+
 	private static class TypeReferenceProcessor {
 
 		private static class UnresolvedTypeData {
@@ -229,6 +311,8 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 
 		private final UnresolvableImportMatcher fUnresolvableImportMatcher;
 
+		private final TypeNameMatchCache fTypeNameMatchCache;
+
 		private IPackageFragment fCurrPackage;
 
 		private ScopeAnalyzer fAnalyzer;
@@ -239,12 +323,13 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 		private SourceRange[] fSourceRanges;
 
 
-		public TypeReferenceProcessor(Set<String> oldSingleImports, Set<String> oldDemandImports, CompilationUnit root, ImportRewrite impStructure, boolean ignoreLowerCaseNames, UnresolvableImportMatcher unresolvableImportMatcher) {
+		public TypeReferenceProcessor(Set<String> oldSingleImports, Set<String> oldDemandImports, CompilationUnit root, ImportRewrite impStructure, boolean ignoreLowerCaseNames, UnresolvableImportMatcher unresolvableImportMatcher, TypeNameMatchCache typeNameMatchCache) {
 			fOldSingleImports= oldSingleImports;
 			fOldDemandImports= oldDemandImports;
 			fImpStructure= impStructure;
 			fDoIgnoreLowerCaseNames= ignoreLowerCaseNames;
 			fUnresolvableImportMatcher= unresolvableImportMatcher;
+			fTypeNameMatchCache= typeNameMatchCache;
 
 			ICompilationUnit cu= impStructure.getCompilationUnit();
 
@@ -348,17 +433,22 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 				if (nUnresolved == 0) {
 					return false;
 				}
-				char[][] allTypes= new char[nUnresolved][];
-				int i= 0;
-				for (String string : fUnresolvedTypes.keySet()) {
-					allTypes[i++]= string.toCharArray();
+				final List<TypeNameMatch> typesFound;
+				if (fTypeNameMatchCache != null) {
+					typesFound= fTypeNameMatchCache.getMatches(fCurrPackage, fUnresolvedTypes.keySet(), monitor);
+				} else {
+					char[][] allTypes= new char[nUnresolved][];
+					int i= 0;
+					for (String string : fUnresolvedTypes.keySet()) {
+						allTypes[i++]= string.toCharArray();
+					}
+					typesFound= new ArrayList<>();
+					final IJavaProject project= fCurrPackage.getJavaProject();
+					boolean excludeTestCode= !((IPackageFragmentRoot)fCurrPackage.getParent()).getResolvedClasspathEntry().isTest();
+					IJavaSearchScope scope= SearchEngine.createJavaSearchScope(excludeTestCode, new IJavaElement[] { project }, true);
+					TypeNameMatchCollector collector= new TypeNameMatchCollector(typesFound);
+					new SearchEngine().searchAllTypeNames(null, allTypes, scope, collector, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
 				}
-				final ArrayList<TypeNameMatch> typesFound= new ArrayList<>();
-				final IJavaProject project= fCurrPackage.getJavaProject();
-				boolean excludeTestCode= !((IPackageFragmentRoot)fCurrPackage.getParent()).getResolvedClasspathEntry().isTest();
-				IJavaSearchScope scope= SearchEngine.createJavaSearchScope(excludeTestCode, new IJavaElement[] { project }, true);
-				TypeNameMatchCollector collector= new TypeNameMatchCollector(typesFound);
-				new SearchEngine().searchAllTypeNames(null, allTypes, scope, collector, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
 
 				for (TypeNameMatch curr : typesFound) {
 					UnresolvedTypeData data= fUnresolvedTypes.get(curr.getSimpleTypeName());
@@ -509,6 +599,8 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 	private final boolean fAllowSyntaxErrors;
 	private Collection<String> fResolvedStaticFavoriteImports;
 
+	private TypeNameMatchCache fTypeNameMatchCache;
+
 	/**
 	 * Creates a new OrganizeImportsOperation operation.
 	 *
@@ -553,6 +645,17 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 		fRestoreExistingImports= restoreExistingImports;
 	}
 
+	/**
+	 * Sets the cache used to look up the types of unresolved simple names. Operations on many
+	 * compilation units should share a cache, so that each name is only searched once.
+	 *
+	 * @param cache the cache or <code>null</code> to search the types of every compilation unit
+	 * @since 1.23
+	 */
+	public void setTypeNameMatchCache(TypeNameMatchCache cache) {
+		fTypeNameMatchCache= cache;
+	}
+
 	/**
 	 * Runs the operation.
 	 * @param monitor the progress monitor
@@ -603,7 +706,8 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 				astRoot,
 				importsRewrite,
 				fIgnoreLowerCaseNames,
-				unresolvableImportMatcher);
+				unresolvableImportMatcher,
+				fTypeNameMatchCache);
 
 		Iterator<SimpleName> refIterator= typeReferences.iterator();
 		while (refIterator.hasNext()) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -231,7 +231,7 @@ public class CoreJavadocAccess {
 			if (useAttachedJavadoc) {
 				if (element.getOpenable().getBuffer() == null) { // only if no source available
 					try {
-						return element.getAttachedJavadoc(null);
+						return getAttachedJavadoc(element);
 					} catch (Exception e) {
 						JavaManipulationPlugin.log(e);
 						return null;
@@ -335,6 +335,23 @@ public class CoreJavadocAccess {
 	}
 
 
+	/**
+	 * Returns the Javadoc of the given element from the Javadoc attachment. The Javadoc of fields
+	 * and methods in a Javadoc archive is read with the {@link JavadocArchiveIndex} of the archive.
+	 *
+	 * @param element the element
+	 * @return the Javadoc from the attachment, or <code>null</code> if none
+	 * @throws JavaModelException if the Javadoc cannot be accessed
+	 */
+	protected String getAttachedJavadoc(IJavaElement element) throws JavaModelException {
+		if (element instanceof IMember) {
+			String javadoc= JavadocArchiveIndex.getAttachedJavadoc((IMember) element);
+			if (javadoc != null)
+				return javadoc;
+		}
+		return element.getAttachedJavadoc(null);
+	}
+
 	protected String getHTMLContentFromSource(IJavaElement element) throws JavaModelException {
 		IMember member;
 		if (element instanceof ILocalVariable) {
@@ -455,7 +472,7 @@ public class CoreJavadocAccess {
 					return InheritDocVisitor.CONTINUE;
 
 				if (overridden.getOpenable().getBuffer() == null) { // only if no source available
-					String attachedJavadoc= overridden.getAttachedJavadoc(null);
+					String attachedJavadoc= getAttachedJavadoc(overridden);
 					if (attachedJavadoc != null) {
 						// BaseURL for the original method can be wrong for attached Javadoc from overridden
 						// (e.g. when overridden is from rt.jar).
@@ -0,0 +1,655 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.internal.javadoc;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
+/**
+ * Index of the member Javadoc in the pages of a Javadoc archive, i.e. of a Javadoc location with a
+ * <code>jar:</code> URL.
+ * <p>
+ * When a page is accessed for the first time, it is extracted from the archive to the state
+ * location of the plug-in and the byte ranges of its member anchors are recorded. Member anchors
+ * are <code>&lt;section class="detail" id="..."&gt;</code> tags (Javadoc 17 and later) and
+ * <code>&lt;a name="..."&gt;</code> or <code>&lt;a id="..."&gt;</code> tags followed by an empty
+ * comment (Javadoc 8 and 11). Anchors inside the documentation of a member do not start a range. A
+ * member anchor ranges from the start of its tag to the start of the next member anchor, section
+ * or section comment. The index is saved next to the extracted pages, in a directory of its own
+ * for every time stamp and size of the archive. A page that is indexed later is appended to the
+ * saved index.
+ * </p>
+ * <p>
+ * The Javadoc of a member is then read from the byte range of its anchor in the extracted page,
+ * without opening the archive or parsing the page again. The range is read into a heap buffer,
+ * the page is not memory mapped: on Windows, a mapped file cannot be deleted before the mapping
+ * is garbage collected, which would keep the pages of a discarded index on disk.
+ * </p>
+ * <p>
+ * When the archive changes, the index is replaced by a new one and disposed. The directory of the
+ * disposed index is deleted when the reads that are in progress have finished.
+ * </p>
+ */
+public final class JavadocArchiveIndex {
+
+	private static final String INDEX_DIRECTORY= "javadocArchives"; //$NON-NLS-1$
+	private static final String INDEX_FILE= "index.dat"; //$NON-NLS-1$
+	private static final String JAR_PROTOCOL= "jar"; //$NON-NLS-1$
+	private static final String FILE_PROTOCOL= "file"; //$NON-NLS-1$
+	private static final String ARCHIVE_SEPARATOR= "!/"; //$NON-NLS-1$
+	private static final int VERSION= 3;
+	private static final int MAX_ARCHIVES= 8;
+
+	private static final byte[] NAME_ATTRIBUTE= "name=".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+	private static final byte[] ID_ATTRIBUTE= "id=".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+	private static final byte[] CLASS_ATTRIBUTE= "class=".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+	private static final byte[] SECTION_TAG= "<section".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+	private static final byte[] ANCHOR_TAG= "<a".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+	private static final byte[] COMMENT_START= "<!--".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+	private static final byte[] SECTION_COMMENT= "<!-- ====".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+	private static final String DETAIL_CLASS= "detail"; //$NON-NLS-1$
+
+	private static boolean fgStaleDirectoriesDeleted;
+
+	private static final Map<File, JavadocArchiveIndex> fgIndexes= new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<File, JavadocArchiveIndex> eldest) {
+			// an index that is read from must not be created a second time for the same directory
+			return size() > MAX_ARCHIVES && !eldest.getValue().isInUse();
+		}
+	};
+
+	private record Range(long start, long end) {
+	}
+
+	/**
+	 * An indexed page. The file is <code>null</code> if the archive has no such page.
+	 */
+	private record Page(String fileName, String charset, Map<String, Range> anchors) {
+	}
+
+	private final File fArchive;
+	private final File fDirectory;
+	private final long fLastModified;
+	private final long fLength;
+	private final Map<String, Page> fPages= new HashMap<>();
+	/**
+	 * Whether the index file contains all pages, so that new pages can be appended.
+	 */
+	private boolean fSaved;
+	private int fReaders;
+	private boolean fDisposed;
+
+	/**
+	 * Creates the index of an archive and loads it if it has been saved before. The index and the
+	 * extracted pages are stored in a sub directory of the given directory for the current time
+	 * stamp and size of the archive. Extracted pages that do not belong to the loaded index are
+	 * deleted.
+	 *
+	 * @param archive the Javadoc archive
+	 * @param directory the directory of the archive
+	 */
+	public JavadocArchiveIndex(File archive, File directory) {
+		fArchive= archive;
+		fLastModified= archive.lastModified();
+		fLength= archive.length();
+		fDirectory= new File(directory, getVersionName(fLastModified, fLength));
+		load();
+	}
+
+	private static String getVersionName(long lastModified, long length) {
+		return Long.toHexString(lastModified) + '-' + Long.toHexString(length);
+	}
+
+	/**
+	 * Tells whether the archive has changed since the index was created.
+	 *
+	 * @return <code>true</code> if the time stamp or the size of the archive has changed
+	 */
+	public boolean isStale() {
+		return fArchive.lastModified() != fLastModified || fArchive.length() != fLength;
+	}
+
+	/**
+	 * Disposes the index. Its directory is deleted as soon as no read is in progress. Reads that
+	 * start after the index has been disposed return <code>null</code>.
+	 */
+	public void dispose() {
+		synchronized (this) {
+			fDisposed= true;
+			if (fReaders > 0)
+				return;
+		}
+		deleteDirectory(fDirectory);
+	}
+
+	private synchronized boolean acquire() {
+		if (fDisposed)
+			return false;
+		fReaders++;
+		return true;
+	}
+
+	private void release() {
+		synchronized (this) {
+			fReaders--;
+			if (fReaders > 0 || !fDisposed)
+				return;
+		}
+		deleteDirectory(fDirectory);
+	}
+
+	private synchronized boolean isInUse() {
+		return fReaders > 0;
+	}
+
+	/**
+	 * Returns the attached Javadoc of a field or method whose Javadoc location is a
+	 * <code>jar:</code> URL of a local archive.
+	 *
+	 * @param member the member
+	 * @return the Javadoc in HTML, or <code>null</code> if the member has no such Javadoc location
+	 *         or its anchor cannot be found in the archive
+	 * @throws JavaModelException if the Javadoc location cannot be computed
+	 */
+	public static String getAttachedJavadoc(IMember member) throws JavaModelException {
+		if (!(member instanceof IField) && !(member instanceof IMethod))
+			return null;
+		URL location= CoreJavaDocLocations.getJavadocLocation(member, true);
+		return location != null ? getFragment(location) : null;
+	}
+
+	/**
+	 * Returns the content of the anchor a <code>jar:</code> URL refers to.
+	 *
+	 * @param location the URL, with the anchor as reference
+	 * @return the HTML of the anchor, or <code>null</code> if the URL does not refer to an anchor
+	 *         of a page in a local archive or if the anchor cannot be found
+	 */
+	public static String getFragment(URL location) {
+		JavaManipulationPlugin plugin= JavaManipulationPlugin.getDefault();
+		if (plugin == null || !JAR_PROTOCOL.equals(location.getProtocol()))
+			return null;
+		String spec= location.toExternalForm().substring(JAR_PROTOCOL.length() + 1);
+		int separator= spec.indexOf(ARCHIVE_SEPARATOR);
+		if (separator == -1)
+			return null;
+		try {
+			URL archiveURL= new URL(spec.substring(0, separator));
+			if (!FILE_PROTOCOL.equals(archiveURL.getProtocol()))
+				return null;
+			URI entry= new URI(spec.substring(separator + ARCHIVE_SEPARATOR.length()));
+			if (entry.getPath() == null || entry.getFragment() == null)
+				return null;
+
+			File archive= CoreJavaDocLocations.toFile(archiveURL);
+			JavadocArchiveIndex index;
+			synchronized (fgIndexes) {
+				IPath root= plugin.getStateLocation().append(INDEX_DIRECTORY);
+				if (!fgStaleDirectoriesDeleted) {
+					fgStaleDirectoriesDeleted= true;
+					deleteStaleDirectories(root.toFile());
+				}
+				index= fgIndexes.get(archive);
+				if (index != null && index.isStale()) {
+					fgIndexes.remove(archive);
+					index.dispose();
+					index= null;
+				}
+				if (index == null) {
+					index= new JavadocArchiveIndex(archive, root.append(getDirectoryName(archive)).toFile());
+					fgIndexes.put(archive, index);
+				}
+				// acquired while the index is registered, so that it is not created a second time
+				index.acquire();
+			}
+			try {
+				return index.readAcquired(entry.getPath(), entry.getFragment());
+			} finally {
+				index.release();
+			}
+		} catch (MalformedURLException | URISyntaxException e) {
+			return null;
+		}
+	}
+
+	private static String getDirectoryName(File archive) {
+		String path= archive.getAbsolutePath();
+		return archive.getName() + '-' + Integer.toHexString(path.hashCode());
+	}
+
+	/**
+	 * Tells whether the given page has been indexed.
+	 *
+	 * @param entryName the name of the page in the archive
+	 * @return <code>true</code> if the page is indexed
+	 */
+	public synchronized boolean isIndexed(String entryName) {
+		return fPages.containsKey(entryName);
+	}
+
+	/**
+	 * Reads the content of an anchor of a page. Indexes the page if this has not been done yet.
+	 *
+	 * @param entryName the name of the page in the archive
+	 * @param anchor the name of the anchor
+	 * @return the HTML of the anchor, or <code>null</code> if the page or the anchor cannot be
+	 *         found or if the index has been disposed
+	 */
+	public String read(String entryName, String anchor) {
+		if (!acquire())
+			return null;
+		try {
+			return readAcquired(entryName, anchor);
+		} finally {
+			release();
+		}
+	}
+
+	private String readAcquired(String entryName, String anchor) {
+		Page page;
+		synchronized (this) {
+			page= fPages.get(entryName);
+			if (page == null) {
+				page= index(entryName);
+				if (page == null)
+					return null;
+				fPages.put(entryName, page);
+				save(entryName, page);
+			}
+		}
+		Range range= page.anchors().get(anchor);
+		if (range == null || page.fileName() == null)
+			return null;
+
+		File file= new File(fDirectory, page.fileName());
+		try (FileChannel channel= FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			ByteBuffer buffer= ByteBuffer.allocate((int) (range.end() - range.start()));
+			while (buffer.hasRemaining() && channel.read(buffer, range.start() + buffer.position()) != -1) {
+				// read the whole range
+			}
+			buffer.flip();
+			return Charset.forName(page.charset()).decode(buffer).toString();
+		} catch (IOException | IllegalArgumentException e) {
+			JavaManipulationPlugin.log(e);
+			return null;
+		}
+	}
+
+	private Page index(String entryName) {
+		if (!fArchive.isFile())
+			return null;
+		byte[] content;
+		try (ZipFile zipFile= new ZipFile(fArchive)) {
+			ZipEntry entry= zipFile.getEntry(entryName);
+			if (entry == null)
+				return new Page(null, StandardCharsets.UTF_8.name(), Map.of());
+			try (InputStream in= zipFile.getInputStream(entry)) {
+				content= in.readAllBytes();
+			}
+		} catch (IOException e) {
+			JavaManipulationPlugin.log(e);
+			return null;
+		}
+
+		Charset charset= getCharset(content);
+		if (charset == null)
+			return new Page(null, StandardCharsets.UTF_8.name(), Map.of());
+		Map<String, Range> anchors= new HashMap<>();
+		String anchor= null;
+		long start= 0;
+		int pos= 0;
+		while (pos < content.length) {
+			if (content[pos] != '<') {
+				pos++;
+				continue;
+			}
+			int boundary= -1;
+			String next= null;
+			int tagEnd= -1;
+			if (startsWith(content, pos, SECTION_COMMENT)) {
+				boundary= pos;
+			} else if (isTag(content, pos, SECTION_TAG)) {
+				// Javadoc 17 and later: members are detail sections, other sections end a member
+				boundary= pos;
+				tagEnd= getTagEnd(content, pos);
+				if (tagEnd != -1 && DETAIL_CLASS.equals(getAttribute(content, pos, tagEnd, CLASS_ATTRIBUTE, charset)))
+					next= getAttribute(content, pos, tagEnd, ID_ATTRIBUTE, charset);
+			} else if (isTag(content, pos, ANCHOR_TAG)) {
+				// Javadoc 8 and 11: members are anchors followed by an empty comment
+				tagEnd= getTagEnd(content, pos);
+				if (tagEnd != -1 && startsWith(content, skipWhitespace(content, tagEnd + 1), COMMENT_START)) {
+					next= getAttribute(content, pos, tagEnd, NAME_ATTRIBUTE, charset);
+					if (next == null)
+						next= getAttribute(content, pos, tagEnd, ID_ATTRIBUTE, charset);
+					if (next != null)
+						boundary= pos;
+				}
+			}
+			if (boundary != -1) {
+				if (anchor != null && boundary > start)
+					anchors.put(anchor, new Range(start, boundary));
+				anchor= next;
+				start= boundary;
+			}
+			pos= tagEnd != -1 ? tagEnd + 1 : pos + 1;
+		}
+		if (anchor != null)
+			anchors.put(anchor, new Range(start, content.length));
+
+		String fileName= "page" + fPages.size() + ".html"; //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			fDirectory.mkdirs();
+			Files.write(new File(fDirectory, fileName).toPath(), content);
+		} catch (IOException e) {
+			JavaManipulationPlugin.log(e);
+			return null;
+		}
+		return new Page(fileName, charset.name(), anchors);
+	}
+
+	/*
+	 * Tells whether a start tag with the given name, e.g. "<a", is at the given position.
+	 */
+	private static boolean isTag(byte[] content, int pos, byte[] tag) {
+		int end= pos + tag.length;
+		return end < content.length && startsWithIgnoreCase(content, pos, tag) && (isWhitespace(content[end]) || content[end] == '>');
+	}
+
+	/*
+	 * Returns the position of the '>' that ends the tag at the given position, or -1.
+	 */
+	private static int getTagEnd(byte[] content, int pos) {
+		byte quote= 0;
+		for (int i= pos; i < content.length; i++) {
+			byte b= content[i];
+			if (quote != 0) {
+				if (b == quote)
+					quote= 0;
+			} else if (b == '"' || b == '\'') {
+				quote= b;
+			} else if (b == '>') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/*
+	 * Returns the value of the quoted attribute of the tag between the given positions, or null.
+	 */
+	private static String getAttribute(byte[] content, int tagStart, int tagEnd, byte[] attribute, Charset charset) {
+		for (int i= tagStart + 1; i + attribute.length < tagEnd; i++) {
+			if (isWhitespace(content[i - 1]) && startsWithIgnoreCase(content, i, attribute)) {
+				int quote= i + attribute.length;
+				if (content[quote] != '"' && content[quote] != '\'')
+					return null;
+				for (int end= quote + 1; end < tagEnd; end++) {
+					if (content[end] == content[quote])
+						return unescape(new String(content, quote + 1, end - quote - 1, charset));
+				}
+				return null;
+			}
+		}
+		return null;
+	}
+
+	private static int skipWhitespace(byte[] content, int pos) {
+		while (pos < content.length && isWhitespace(content[pos]))
+			pos++;
+		return pos;
+	}
+
+	private static Charset getCharset(byte[] content) {
+		String head= new String(content, 0, Math.min(content.length, 2048), StandardCharsets.ISO_8859_1);
+		int index= head.toLowerCase(Locale.ENGLISH).indexOf("charset="); //$NON-NLS-1$
+		if (index == -1)
+			return StandardCharsets.UTF_8;
+		int start= index + "charset=".length(); //$NON-NLS-1$
+		if (start < head.length() && (head.charAt(start) == '"' || head.charAt(start) == '\''))
+			start++;
+		int end= start;
+		while (end < head.length() && (Character.isLetterOrDigit(head.charAt(end)) || head.charAt(end) == '-' || head.charAt(end) == '_'))
+			end++;
+		try {
+			Charset charset= Charset.forName(head.substring(start, end));
+			// the page is scanned for ASCII attribute names
+			if (charset.name().startsWith("UTF-16") || charset.name().startsWith("UTF-32")) //$NON-NLS-1$ //$NON-NLS-2$
+				return null;
+			return charset;
+		} catch (IllegalArgumentException e) {
+			return StandardCharsets.UTF_8;
+		}
+	}
+
+	private static String unescape(String value) {
+		if (value.indexOf('&') == -1)
+			return value;
+		return value.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"").replace("&#39;", "'").replace("&amp;", "&"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$
+	}
+
+	private static boolean isWhitespace(byte b) {
+		return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+	}
+
+	private static boolean startsWith(byte[] content, int pos, byte[] prefix) {
+		if (pos + prefix.length > content.length)
+			return false;
+		for (int i= 0; i < prefix.length; i++) {
+			if (content[pos + i] != prefix[i])
+				return false;
+		}
+		return true;
+	}
+
+	private static boolean startsWithIgnoreCase(byte[] content, int pos, byte[] prefix) {
+		if (pos + prefix.length > content.length)
+			return false;
+		for (int i= 0; i < prefix.length; i++) {
+			byte b= content[pos + i];
+			if (b >= 'A' && b <= 'Z')
+				b+= 'a' - 'A';
+			if (b != prefix[i])
+				return false;
+		}
+		return true;
+	}
+
+	private synchronized void load() {
+		File file= new File(fDirectory, INDEX_FILE);
+		if (file.exists())
+			readIndex(file);
+		deleteUnusedPages();
+	}
+
+	/*
+	 * Reads the header and the pages until the end of the file. A page that has not been written
+	 * completely is ignored, the index file is then written again when the next page is indexed.
+	 */
+	private void readIndex(File file) {
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != VERSION || !in.readUTF().equals(fArchive.getAbsolutePath())
+					|| in.readLong() != fLastModified || in.readLong() != fLength) {
+				return;
+			}
+			while (true) {
+				String entryName;
+				try {
+					entryName= in.readUTF();
+				} catch (EOFException e) {
+					break;
+				}
+				String fileName= in.readBoolean() ? in.readUTF() : null;
+				String charset= in.readUTF();
+				int count= in.readInt();
+				Map<String, Range> anchors= new HashMap<>(count * 2);
+				for (int j= 0; j < count; j++) {
+					anchors.put(in.readUTF(), new Range(in.readLong(), in.readLong()));
+				}
+				fPages.put(entryName, new Page(fileName, charset, anchors));
+			}
+			fSaved= true;
+		} catch (EOFException e) {
+			// the last page has not been written completely
+		} catch (IOException e) {
+			JavaManipulationPlugin.log(e);
+		}
+	}
+
+	/*
+	 * Deletes the extracted pages that are not referenced by the index, e.g. because the archive
+	 * has changed.
+	 */
+	private void deleteUnusedPages() {
+		File[] files= fDirectory.listFiles();
+		if (files == null)
+			return;
+		Set<String> used= new HashSet<>();
+		used.add(INDEX_FILE);
+		for (Page page : fPages.values()) {
+			if (page.fileName() != null)
+				used.add(page.fileName());
+		}
+		for (File file : files) {
+			if (!used.contains(file.getName()))
+				file.delete();
+		}
+	}
+
+	/*
+	 * Deletes the directories of the indexes whose archive does not exist anymore or has changed,
+	 * or that have been saved in an older format. Called before any index is created.
+	 */
+	private static void deleteStaleDirectories(File root) {
+		File[] directories= root.listFiles(File::isDirectory);
+		if (directories == null)
+			return;
+		for (File directory : directories) {
+			File[] files= directory.listFiles();
+			if (files == null)
+				continue;
+			for (File file : files) {
+				if (!file.isDirectory()) {
+					// saved in an older format
+					file.delete();
+					continue;
+				}
+				String archivePath= readArchivePath(new File(file, INDEX_FILE));
+				File archive= archivePath != null ? new File(archivePath) : null;
+				if (archive == null || !archive.isFile() || !file.getName().equals(getVersionName(archive.lastModified(), archive.length())))
+					deleteDirectory(file);
+			}
+			directory.delete(); // only if it is empty
+		}
+	}
+
+	private static void deleteDirectory(File directory) {
+		File[] files= directory.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+		directory.delete();
+	}
+
+	private static String readArchivePath(File file) {
+		if (!file.isFile())
+			return null;
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			return in.readInt() == VERSION ? in.readUTF() : null;
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/*
+	 * Appends a newly indexed page to the index file. The whole index is only written if the file
+	 * does not exist yet or does not contain all pages.
+	 */
+	private void save(String entryName, Page page) {
+		fDirectory.mkdirs();
+		File file= new File(fDirectory, INDEX_FILE);
+		boolean append= fSaved;
+		fSaved= false;
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, append)))) {
+			if (append) {
+				writePage(out, entryName, page);
+			} else {
+				out.writeInt(VERSION);
+				out.writeUTF(fArchive.getAbsolutePath());
+				out.writeLong(fLastModified);
+				out.writeLong(fLength);
+				for (Map.Entry<String, Page> entry : fPages.entrySet()) {
+					writePage(out, entry.getKey(), entry.getValue());
+				}
+			}
+			out.flush();
+			fSaved= true;
+		} catch (IOException e) {
+			JavaManipulationPlugin.log(e);
+		}
+	}
+
+	private static void writePage(DataOutputStream out, String entryName, Page page) throws IOException {
+		out.writeUTF(entryName);
+		out.writeBoolean(page.fileName() != null);
+		if (page.fileName() != null)
+			out.writeUTF(page.fileName());
+		out.writeUTF(page.charset());
+		out.writeInt(page.anchors().size());
+		for (Map.Entry<String, Range> anchor : page.anchors().entrySet()) {
+			out.writeUTF(anchor.getKey());
+			out.writeLong(anchor.getValue().start());
+			out.writeLong(anchor.getValue().end());
+		}
+	}
+}
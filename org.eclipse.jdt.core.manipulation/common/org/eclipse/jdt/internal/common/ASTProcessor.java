@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Carsten Hammer.
+ * Copyright (c) 2021, 2026 Carsten Hammer.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,10 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.common;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
@@ -55,7 +57,9 @@ public class ASTProcessor<E extends HelperVisitorProvider<V, T, E>, V, T> {
 
 	Set<ASTNode> nodesprocessed;
 
-	LinkedList<VisitorEnum> nodetypekeylist;
+	List<VisitorEnum> nodetypekeylist;
+
+	private List<HelperVisitor<E, V, T>> visitors;
 
 	/**
 	 *
@@ -2428,7 +2432,8 @@ public class ASTProcessor<E extends HelperVisitorProvider<V, T, E>, V, T> {
 	 * @param node - ASTNode
 	 */
 	public void build(ASTNode node) {
-		nodetypekeylist= new LinkedList<>(nodetypelist.keySet());
+		nodetypekeylist= new ArrayList<>(nodetypelist.keySet());
+		visitors= new ArrayList<>(Collections.nCopies(nodetypekeylist.size(), null));
 		process(node, 0);
 	}
 
@@ -2436,6 +2441,24 @@ public class ASTProcessor<E extends HelperVisitorProvider<V, T, E>, V, T> {
 		if (i == nodetypekeylist.size()) {
 			return;
 		}
+		HelperVisitor<E, V, T> hv= visitors.get(i);
+		if (hv == null) {
+			hv= createVisitor(i);
+			visitors.set(i, hv);
+		} else {
+			dataholder.setHelperVisitor(hv);
+		}
+		hv.build(localnode);
+	}
+
+	/**
+	 * The visitor of a step is created once per build and reused for all nodes that the previous
+	 * step navigates to.
+	 *
+	 * @param i - index of the step
+	 * @return - HelperVisitor of the step
+	 */
+	private HelperVisitor<E, V, T> createVisitor(final int i) {
 		final VisitorEnum next= nodetypekeylist.get(i);
 		ASTProcessor<E, V, T>.NodeHolder nodeHolder= nodetypelist.get(next);
 		BiPredicate<ASTNode, E> biPredicate= nodeHolder.callee;
@@ -2461,7 +2484,7 @@ public class ASTProcessor<E extends HelperVisitorProvider<V, T, E>, V, T> {
 				return test;
 			});
 		}
-		hv.build(localnode);
+		return hv;
 	}
 
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Carsten Hammer.
+ * Copyright (c) 2021, 2026 Carsten Hammer.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.common;
 
+import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -36,12 +36,15 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 
 	ASTVisitor astvisitor;
 
+	private boolean astvisitorjavadoc;
+
 	public E dataholder;
 
 	/**
 	 * This map contains one VisitorSupplier per kind if supplied Each BiPredicate is called with
 	 * two parameters 1) ASTNode 2) your data object Call is processed when build(ASTNode) is
-	 * called.
+	 * called. It is an EnumMap, so the visitor looks up the BiPredicate of a node in an array
+	 * indexed by the kind of the node.
 	 */
 	Map<VisitorEnum, BiPredicate<? extends ASTNode, E>> predicatemap;
 
@@ -93,8 +96,8 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @param dataholder - HelperVisitorProvider providing this HelperVisitor
 	 */
 	public HelperVisitor(Set<ASTNode> nodesprocessed, E dataholder) {
-		this.predicatemap= new LinkedHashMap<>();
-		this.consumermap= new LinkedHashMap<>();
+		this.predicatemap= new EnumMap<>(VisitorEnum.class);
+		this.consumermap= new EnumMap<>(VisitorEnum.class);
 		this.predicatedata= new HashMap<>();
 		this.consumerdata= new HashMap<>();
 
@@ -119,8 +122,35 @@ public class HelperVisitor<E extends HelperVisitorProvider<V, T, E>,V,T> {
 	 * @return - HelperVisitor
 	 */
 	public HelperVisitor<E, V, T> build(ASTNode node, boolean visitjavadoc) {
-		astvisitor= new LambdaASTVisitor<>(this, visitjavadoc);
-		node.accept(astvisitor);
+		node.accept(getASTVisitor(visitjavadoc));
+		return this;
+	}
+
+	/**
+	 * The visitor only depends on this HelperVisitor, so it is reused when this HelperVisitor is
+	 * built again, e.g. for each node found by the previous step of an ASTProcessor.
+	 */
+	private ASTVisitor getASTVisitor(boolean visitjavadoc) {
+		if (astvisitor == null || astvisitorjavadoc != visitjavadoc) {
+			astvisitor= new LambdaASTVisitor<>(this, visitjavadoc);
+			astvisitorjavadoc= visitjavadoc;
+		}
+		return astvisitor;
+	}
+
+	/**
+	 * Adds the visitor to a fused traversal instead of traversing a node on its own. The visitor
+	 * is only called for the visitor kinds added to this HelperVisitor.
+	 *
+	 * @param fusedvisitor - FusedASTVisitor that traverses the AST
+	 * @param visitjavadoc - true if Javadoc comments should be visited
+	 * @return - HelperVisitor
+	 */
+	public HelperVisitor<E, V, T> build(FusedASTVisitor fusedvisitor, boolean visitjavadoc) {
+		Set<VisitorEnum> kinds= EnumSet.noneOf(VisitorEnum.class);
+		kinds.addAll(predicatemap.keySet());
+		kinds.addAll(consumermap.keySet());
+		fusedvisitor.add(getASTVisitor(visitjavadoc), kinds.stream().mapToInt(VisitorEnum::getValue).toArray());
 		return this;
 	}
 
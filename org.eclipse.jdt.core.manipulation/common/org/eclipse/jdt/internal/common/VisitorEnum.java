@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Carsten Hammer.
+ * Copyright (c) 2021, 2026 Carsten Hammer.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,6 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.common;
 
-import java.util.Arrays;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.core.dom.ASTNode;
@@ -258,16 +254,30 @@ public enum VisitorEnum {
 		return Stream.of(VisitorEnum.values());
 	}
 
-	static final Map<Integer, VisitorEnum> values= Arrays.stream(VisitorEnum.values())
-			.collect(Collectors.toMap(VisitorEnum::getValue, Function.identity()));
+	/**
+	 * VisitorEnum values indexed by node type
+	 */
+	private static final VisitorEnum[] values= createValues();
+
+	private static VisitorEnum[] createValues() {
+		int max= 0;
+		for (VisitorEnum ve : VisitorEnum.values()) {
+			max= Math.max(max, ve.nodetype);
+		}
+		VisitorEnum[] result= new VisitorEnum[max + 1];
+		for (VisitorEnum ve : VisitorEnum.values()) {
+			result[ve.nodetype]= ve;
+		}
+		return result;
+	}
 
 	/**
 	 *
 	 * @param nodetype - node type
-	 * @return - corresponding VistorEnum
+	 * @return - corresponding VistorEnum or null
 	 */
 	public static VisitorEnum fromNodetype(final int nodetype) {
-		return values.get(nodetype);
+		return nodetype >= 0 && nodetype < values.length ? values[nodetype] : null;
 	}
 
 	/**
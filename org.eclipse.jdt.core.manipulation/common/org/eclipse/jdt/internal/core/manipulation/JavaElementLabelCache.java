@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * A bounded, concurrent cache of composed labels of members, type parameters and local variables.
+ * <p>
+ * Labels are keyed by the element and the rendering flags. The cache keeps one map per flag
+ * combination, so looking up a label does not allocate. The number of combinations and the number
+ * of labels per combination are bounded: once all slots are taken, the slot of the oldest
+ * combination is reused for a new one, and {@link #clear()} releases all slots. Java element deltas invalidate the labels of the affected compilation units and class
+ * files; changes that cannot be attributed to single compilation units or class files (e.g.
+ * classpath changes or source attachments) invalidate all caches.
+ * </p>
+ *
+ * @param <T> the type of the cached labels. Labels must be immutable, or must be copied by clients.
+ */
+public final class JavaElementLabelCache<T> {
+
+	private static final class Slot {
+
+		final long fFlags;
+		final Map<IJavaElement, Object> fLabels;
+
+		Slot(long flags) {
+			fFlags= flags;
+			fLabels= new ConcurrentHashMap<>();
+		}
+	}
+
+	private static final int MAX_SLOTS= 8;
+	private static final int MAX_SLOT_SIZE= 5000;
+
+	private static final List<JavaElementLabelCache<?>> fgCaches= new CopyOnWriteArrayList<>();
+
+	private static final IElementChangedListener fgListener= new IElementChangedListener() {
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			Set<IJavaElement> changed= new HashSet<>();
+			if (!collectChangedOpenables(event.getDelta(), changed)) {
+				clearAll();
+			} else if (!changed.isEmpty()) {
+				for (JavaElementLabelCache<?> cache : fgCaches) {
+					cache.removeAll(changed);
+				}
+			}
+		}
+	};
+
+	private volatile Slot[] fSlots= new Slot[0];
+
+	/**
+	 * Creates a new cache. The cache is registered for invalidation by Java element deltas and
+	 * by {@link #clearAll()}.
+	 */
+	public JavaElementLabelCache() {
+		synchronized (fgCaches) {
+			if (fgCaches.isEmpty()) {
+				JavaCore.addElementChangedListener(fgListener);
+			}
+			fgCaches.add(this);
+		}
+	}
+
+	/**
+	 * Returns the cached label of an element.
+	 *
+	 * @param element the element
+	 * @param flags the rendering flags
+	 * @return the cached label, or <code>null</code> if no label is cached
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(IJavaElement element, long flags) {
+		for (Slot slot : fSlots) {
+			if (slot.fFlags == flags) {
+				return (T) slot.fLabels.get(element);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Caches the label of an element. Labels of elements for which {@link #isCacheable(IJavaElement, long)}
+	 * returns <code>false</code> are ignored.
+	 *
+	 * @param element the element
+	 * @param flags the rendering flags
+	 * @param label the label
+	 */
+	public void put(IJavaElement element, long flags, T label) {
+		if (!isCacheable(element, flags)) {
+			return;
+		}
+		Slot slot= getSlot(flags);
+		if (slot.fLabels.size() >= MAX_SLOT_SIZE) {
+			slot.fLabels.clear();
+		}
+		slot.fLabels.put(element, label);
+	}
+
+	private Slot getSlot(long flags) {
+		Slot[] slots= fSlots;
+		for (Slot slot : slots) {
+			if (slot.fFlags == flags) {
+				return slot;
+			}
+		}
+		synchronized (this) {
+			slots= fSlots;
+			for (Slot slot : slots) {
+				if (slot.fFlags == flags) {
+					return slot;
+				}
+			}
+			// evict the oldest flag combination if all slots are taken
+			int kept= Math.min(slots.length, MAX_SLOTS - 1);
+			Slot[] newSlots= new Slot[kept + 1];
+			System.arraycopy(slots, slots.length - kept, newSlots, 0, kept);
+			Slot slot= new Slot(flags);
+			newSlots[kept]= slot;
+			fSlots= newSlots;
+			return slot;
+		}
+	}
+
+	/**
+	 * Returns whether the label of an element can be cached. Only labels of members, type
+	 * parameters and local variables of primary compilation units and class files are cached.
+	 * Labels rendered from resolved elements are not cached, since resolved and unresolved elements
+	 * are equal.
+	 *
+	 * @param element the element
+	 * @param flags the rendering flags
+	 * @return <code>true</code> if the label can be cached
+	 */
+	public static boolean isCacheable(IJavaElement element, long flags) {
+		switch (element.getElementType()) {
+			case IJavaElement.TYPE:
+			case IJavaElement.FIELD:
+			case IJavaElement.METHOD:
+			case IJavaElement.INITIALIZER:
+			case IJavaElement.TYPE_PARAMETER:
+			case IJavaElement.LOCAL_VARIABLE:
+				break;
+			default:
+				return false;
+		}
+		if ((flags & JavaElementLabelsCore.USE_RESOLVED) != 0) {
+			return false;
+		}
+		ICompilationUnit cu= (ICompilationUnit) element.getAncestor(IJavaElement.COMPILATION_UNIT);
+		return cu == null || cu.getOwner() == null;
+	}
+
+	private void removeAll(Set<IJavaElement> changedOpenables) {
+		for (Slot slot : fSlots) {
+			slot.fLabels.keySet().removeIf(element -> changedOpenables.contains(element.getOpenable()));
+		}
+	}
+
+	/**
+	 * Removes all cached labels.
+	 */
+	public void clear() {
+		Slot[] slots;
+		synchronized (this) {
+			slots= fSlots;
+			fSlots= new Slot[0];
+		}
+		for (Slot slot : slots) {
+			slot.fLabels.clear();
+		}
+	}
+
+	/**
+	 * Removes the cached labels of all caches. To be called when the label composition changes,
+	 * e.g. because of changed label preferences.
+	 */
+	public static void clearAll() {
+		for (JavaElementLabelCache<?> cache : fgCaches) {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * Collects the compilation units and class files affected by the delta.
+	 *
+	 * @param delta the delta
+	 * @param changed the set to add the affected elements to
+	 * @return <code>false</code> if the change cannot be attributed to single compilation units or
+	 *         class files and all labels have to be invalidated
+	 */
+	private static boolean collectChangedOpenables(IJavaElementDelta delta, Set<IJavaElement> changed) {
+		IJavaElement element= delta.getElement();
+		int type= element.getElementType();
+		if (type >= IJavaElement.COMPILATION_UNIT) {
+			changed.add(type > IJavaElement.CLASS_FILE ? (IJavaElement) element.getOpenable() : element);
+			return true;
+		}
+		if ((delta.getFlags() & ~IJavaElementDelta.F_CHILDREN) != 0 || delta.getKind() != IJavaElementDelta.CHANGED) {
+			return false;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (!collectChangedOpenables(child, changed)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
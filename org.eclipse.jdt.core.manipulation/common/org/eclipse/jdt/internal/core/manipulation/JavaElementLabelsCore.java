@@ -382,6 +382,8 @@ public final class JavaElementLabelsCore {
 	 */
 	public final static String DEFAULT_PACKAGE= JavaElementLabelsMessages.JavaElementLabels_default_package;
 
+	private static final JavaElementLabelCache<String> fgLabelCache= new JavaElementLabelCache<>();
+
 	private JavaElementLabelsCore() {
 	}
 
@@ -416,9 +418,15 @@ public final class JavaElementLabelsCore {
 	 * @return the label of the Java element
 	 */
 	public static String getElementLabel(IJavaElement element, long flags) {
+		String label= fgLabelCache.get(element, flags);
+		if (label != null) {
+			return label;
+		}
 		StringBuffer result= new StringBuffer();
 		getElementLabel(element, flags, result);
-		return org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
+		label= org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
+		fgLabelCache.put(element, flags, label);
+		return label;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,6 +30,7 @@ import org.eclipse.core.runtime.Status;
 
 import org.eclipse.jdt.core.manipulation.JavaManipulation;
 
+import org.eclipse.jdt.internal.corext.refactoring.rename.RippleMethodCache;
 import org.eclipse.jdt.internal.corext.util.TypeFilter;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
@@ -77,10 +78,12 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 	public void start(BundleContext context) throws Exception {
 		super.start(context);
 		fBundleContext= context;
+		RippleMethodCache.install();
 	}
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
+		RippleMethodCache.uninstall();
 		super.stop(context);
 		fgDefault= null;
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Fabrice TIERCELIN and others.
+ * Copyright (c) 2021, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import org.eclipse.core.runtime.CoreException;
 
 import org.eclipse.jdt.core.dom.CompilationUnit;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
 import org.eclipse.jdt.internal.corext.fix.ArrayWithCurlyFixCore;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
 
@@ -28,7 +29,7 @@ import org.eclipse.jdt.ui.cleanup.CleanUpContext;
 import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 
-public class ArrayWithCurlyCleanUpCore extends AbstractCleanUp {
+public class ArrayWithCurlyCleanUpCore extends AbstractCleanUp implements IFusedCleanUp {
 	public ArrayWithCurlyCleanUpCore(final Map<String, String> options) {
 		super(options);
 	}
@@ -56,6 +57,15 @@ public class ArrayWithCurlyCleanUpCore extends AbstractCleanUp {
 		return ArrayWithCurlyFixCore.createCleanUp(compilationUnit);
 	}
 
+	@Override
+	public FixCreator addVisitors(final CleanUpContext context, final FusedASTVisitor visitor) throws CoreException {
+		if (!isEnabled(CleanUpConstants.ARRAY_WITH_CURLY)) {
+			return null;
+		}
+
+		return ArrayWithCurlyFixCore.addFinder(context.getAST(), visitor);
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		List<String> result= new ArrayList<>();
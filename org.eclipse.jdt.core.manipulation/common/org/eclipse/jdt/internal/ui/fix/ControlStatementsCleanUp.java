@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,8 +20,11 @@ import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
 
+import org.eclipse.jface.text.IRegion;
+
 import org.eclipse.jdt.core.dom.CompilationUnit;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
 import org.eclipse.jdt.internal.corext.fix.ControlStatementsFix;
 
@@ -29,7 +32,7 @@ import org.eclipse.jdt.ui.cleanup.CleanUpContext;
 import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 
-public class ControlStatementsCleanUp extends AbstractCleanUp {
+public class ControlStatementsCleanUp extends AbstractCleanUp implements IMultiLineCleanUp, IFusedCleanUp {
 
 	public ControlStatementsCleanUp(Map<String, String> options) {
 		super(options);
@@ -41,7 +44,8 @@ public class ControlStatementsCleanUp extends AbstractCleanUp {
 
 	@Override
 	public CleanUpRequirements getRequirements() {
-		return new CleanUpRequirements(requireAST(), false, false, null);
+		boolean requireAST= requireAST();
+		return new CleanUpRequirements(requireAST, false, requireAST && isEnabled(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY), null);
 	}
 
 	private boolean requireAST() {
@@ -65,12 +69,30 @@ public class ControlStatementsCleanUp extends AbstractCleanUp {
 		if (!useBlocks)
 			return null;
 
-		return ControlStatementsFix.createCleanUp(compilationUnit,
+		return ControlStatementsFix.createCleanUp(compilationUnit, getRegions(context),
 				isEnabled(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS),
 				isEnabled(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_NEVER),
 				isEnabled(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_NO_FOR_RETURN_AND_THROW));
 	}
 
+	@Override
+	public FixCreator addVisitors(CleanUpContext context, FusedASTVisitor visitor) throws CoreException {
+		boolean useBlocks= isEnabled(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS);
+		if (!useBlocks)
+			return null;
+
+		return ControlStatementsFix.addFinder(context.getAST(), visitor, getRegions(context),
+				isEnabled(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS),
+				isEnabled(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_NEVER),
+				isEnabled(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_NO_FOR_RETURN_AND_THROW));
+	}
+
+	private IRegion[] getRegions(CleanUpContext context) {
+		if (context instanceof MultiLineCleanUpContext && isEnabled(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY))
+			return ((MultiLineCleanUpContext) context).getRegions();
+		return null;
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		List<String> result= new ArrayList<>();
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.fix;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
+
+import org.eclipse.jdt.ui.cleanup.CleanUpContext;
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
+import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
+
+/**
+ * A clean up that finds the nodes to fix with visitors that can share one traversal of the AST
+ * with the visitors of other clean ups.
+ * <p>
+ * Instead of calling {@link ICleanUp#createFix(CleanUpContext)}, the caller adds the visitors of
+ * all fused clean ups to one {@link FusedASTVisitor}, traverses the AST of the context once and
+ * then creates the fixes. The result must be the same as the result of
+ * {@link ICleanUp#createFix(CleanUpContext)}.
+ * </p>
+ */
+public interface IFusedCleanUp extends ICleanUp {
+
+	/**
+	 * Creates the fix of a fused clean up once the AST has been traversed.
+	 */
+	@FunctionalInterface
+	interface FixCreator {
+
+		/**
+		 * @return the fix or <code>null</code> if there is nothing to fix
+		 * @throws CoreException if the fix cannot be created
+		 */
+		ICleanUpFix createFix() throws CoreException;
+	}
+
+	/**
+	 * Adds the visitors that find the nodes to fix in the AST of the given context.
+	 *
+	 * @param context the context, its AST is not <code>null</code>
+	 * @param visitor the visitor the visitors are added to
+	 * @return creates the fix after the AST has been traversed with <code>visitor</code>, or
+	 *         <code>null</code> if the clean up does not fix anything in the context
+	 * @throws CoreException if the visitors cannot be created
+	 */
+	FixCreator addVisitors(CleanUpContext context, FusedASTVisitor visitor) throws CoreException;
+}
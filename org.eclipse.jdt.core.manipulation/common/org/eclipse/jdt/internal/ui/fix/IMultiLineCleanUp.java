@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2008 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,5 +48,26 @@ public interface IMultiLineCleanUp extends ICleanUp {
 		public IRegion[] getRegions() {
 			return fRegions;
 		}
+
+		/**
+		 * Tells whether the given range intersects one of the regions.
+		 *
+		 * @param regions the regions or <b>null</b> if the whole compilation unit is to be
+		 *            cleaned up
+		 * @param offset the offset of the range
+		 * @param length the length of the range
+		 * @return <code>true</code> if <code>regions</code> is <b>null</b> or if the range
+		 *         intersects one of the regions
+		 */
+		public static boolean intersects(IRegion[] regions, int offset, int length) {
+			if (regions == null)
+				return true;
+
+			for (IRegion region : regions) {
+				if (offset <= region.getOffset() + region.getLength() && region.getOffset() <= offset + length)
+					return true;
+			}
+			return false;
+		}
 	}
 }
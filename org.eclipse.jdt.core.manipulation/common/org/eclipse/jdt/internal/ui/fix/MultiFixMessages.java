@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -94,6 +94,7 @@ public class MultiFixMessages extends NLS {
 
 	public static String CleanUpRefactoringWizard_WindowTitle;
 	public static String CleanUpRefactoringWizard_PageTitle;
+	public static String CleanUpRefactoringWizard_statistics_title;
 	public static String CleanUpRefactoringWizard_formatterException_errorMessage;
 
 	public static String CleanUpSelectionDialog_restoreDefaults_label;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Fabrice TIERCELIN and others.
+ * Copyright (c) 2021, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import org.eclipse.core.runtime.CoreException;
 
 import org.eclipse.jdt.core.dom.CompilationUnit;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
 import org.eclipse.jdt.internal.corext.fix.StandardComparisonFixCore;
 
@@ -28,7 +29,7 @@ import org.eclipse.jdt.ui.cleanup.CleanUpContext;
 import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 
-public class StandardComparisonCleanUpCore extends AbstractCleanUp {
+public class StandardComparisonCleanUpCore extends AbstractCleanUp implements IFusedCleanUp {
 	public StandardComparisonCleanUpCore(final Map<String, String> options) {
 		super(options);
 	}
@@ -56,6 +57,15 @@ public class StandardComparisonCleanUpCore extends AbstractCleanUp {
 		return StandardComparisonFixCore.createCleanUp(compilationUnit);
 	}
 
+	@Override
+	public FixCreator addVisitors(final CleanUpContext context, final FusedASTVisitor visitor) throws CoreException {
+		if (!isEnabled(CleanUpConstants.STANDARD_COMPARISON)) {
+			return null;
+		}
+
+		return StandardComparisonFixCore.addFinder(context.getAST(), visitor);
+	}
+
 	@Override
 	public String[] getStepDescriptions() {
 		List<String> result= new ArrayList<>();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Fabrice TIERCELIN and others.
+ * Copyright (c) 2021, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,11 +34,13 @@ import org.eclipse.jdt.core.dom.VariableDeclaration;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.TargetSourceRangeComputer;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.refactoring.structure.CompilationUnitRewrite;
 
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 
+import org.eclipse.jdt.internal.ui.fix.IFusedCleanUp.FixCreator;
 import org.eclipse.jdt.internal.ui.fix.MultiFixMessages;
 
 public class ArrayWithCurlyFixCore extends CompilationUnitRewriteOperationsFixCore {
@@ -133,7 +135,16 @@ public class ArrayWithCurlyFixCore extends CompilationUnitRewriteOperationsFixCo
 		List<ArrayWithCurlyFixOperation> operations= new ArrayList<>();
 		ArrayWithCurlyFinder finder= new ArrayWithCurlyFinder(operations);
 		compilationUnit.accept(finder);
+		return createCleanUp(compilationUnit, operations);
+	}
+
+	public static FixCreator addFinder(final CompilationUnit compilationUnit, final FusedASTVisitor visitor) {
+		List<ArrayWithCurlyFixOperation> operations= new ArrayList<>();
+		visitor.add(new ArrayWithCurlyFinder(operations), ASTNode.ARRAY_CREATION);
+		return () -> createCleanUp(compilationUnit, operations);
+	}
 
+	private static ICleanUpFix createCleanUp(final CompilationUnit compilationUnit, final List<ArrayWithCurlyFixOperation> operations) {
 		if (operations.isEmpty()) {
 			return null;
 		}
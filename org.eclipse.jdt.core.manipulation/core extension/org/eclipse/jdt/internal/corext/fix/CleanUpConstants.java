@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -2323,6 +2323,30 @@ public class CleanUpConstants {
 	 */
 	public static final String CLEANUP_ON_SAVE_PROFILE= "cleanup.on_save_profile_id"; //$NON-NLS-1$
 
+	/**
+	 * If true then save actions that support it, e.g. {@link #CONTROL_STATEMENTS_USE_BLOCKS}, only
+	 * clean up the changed regions on save.<br>
+	 * <br>
+	 * Possible values: {TRUE, FALSE}<br>
+	 * <br>
+	 *
+	 * @see CleanUpOptions#TRUE
+	 * @see CleanUpOptions#FALSE
+	 * @since 4.37
+	 */
+	public static final String CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY= "cleanup.on_save_changed_regions_only"; //$NON-NLS-1$
+
+	/**
+	 * The time in milliseconds the save actions of one save may take. Save actions that have not
+	 * started when the time is up are skipped and reported. <code>0</code> disables the budget.<br>
+	 * <br>
+	 * Possible values: Integer value<br>
+	 * Default value: <code>0</code> <br>
+	 *
+	 * @since 4.37
+	 */
+	public static final String CLEANUP_ON_SAVE_TIME_BUDGET= "cleanup.on_save_time_budget"; //$NON-NLS-1$
+
 	/**
 	 * A key to the version of the profile stored in the preferences.<br>
 	 * <br>
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,8 @@ import org.eclipse.core.runtime.CoreException;
 
 import org.eclipse.text.edits.TextEditGroup;
 
+import org.eclipse.jface.text.IRegion;
+
 import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
@@ -47,11 +49,15 @@ import org.eclipse.jdt.core.dom.WhileStatement;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
 import org.eclipse.jdt.internal.corext.dom.GenericVisitor;
 import org.eclipse.jdt.internal.corext.refactoring.structure.CompilationUnitRewrite;
 
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 
+import org.eclipse.jdt.internal.ui.fix.IFusedCleanUp.FixCreator;
+import org.eclipse.jdt.internal.ui.fix.IMultiLineCleanUp.MultiLineCleanUpContext;
+
 
 public class ControlStatementsFix extends CompilationUnitRewriteOperationsFixCore {
 
@@ -61,15 +67,18 @@ public class ControlStatementsFix extends CompilationUnitRewriteOperationsFixCor
 		private final boolean fFindControlStatementsWithoutBlock;
 		private final boolean fRemoveUnnecessaryBlocks;
 		private final boolean fRemoveUnnecessaryBlocksOnlyWhenReturnOrThrow;
+		private final IRegion[] fRegions;
 
 		public ControlStatementFinder(boolean findControlStatementsWithoutBlock,
 				boolean removeUnnecessaryBlocks,
 				boolean removeUnnecessaryBlocksOnlyWhenReturnOrThrow,
+				IRegion[] regions,
 				List<CompilationUnitRewriteOperationWithSourceRange> resultingCollection) {
 
 			fFindControlStatementsWithoutBlock= findControlStatementsWithoutBlock;
 			fRemoveUnnecessaryBlocks= removeUnnecessaryBlocks;
 			fRemoveUnnecessaryBlocksOnlyWhenReturnOrThrow= removeUnnecessaryBlocksOnlyWhenReturnOrThrow;
+			fRegions= regions;
 			fResult= resultingCollection;
 		}
 
@@ -119,6 +128,8 @@ public class ControlStatementsFix extends CompilationUnitRewriteOperationsFixCor
 			Statement parent= (Statement)body.getParent();
 			if ((parent.getFlags() & ASTNode.RECOVERED) != 0)
 				return;
+			if (!MultiLineCleanUpContext.intersects(fRegions, body.getStartPosition(), body.getLength()))
+				return;
 
 			if (fRemoveUnnecessaryBlocksOnlyWhenReturnOrThrow) {
 				if (!(body instanceof Block)) {
@@ -570,13 +581,68 @@ public class ControlStatementsFix extends CompilationUnitRewriteOperationsFixCor
 			boolean removeUnnecessaryBlock,
 			boolean removeUnnecessaryBlockContainingReturnOrThrow) {
 
+		return createCleanUp(compilationUnit, null, convertSingleStatementToBlock, removeUnnecessaryBlock, removeUnnecessaryBlockContainingReturnOrThrow);
+	}
+
+	/**
+	 * Creates a fix for the control statements whose body intersects one of the given regions.
+	 *
+	 * @param compilationUnit the AST of the compilation unit
+	 * @param regions the regions to clean up, or <code>null</code> to clean up the whole
+	 *            compilation unit
+	 * @param convertSingleStatementToBlock <code>true</code> to add blocks to all control statements
+	 * @param removeUnnecessaryBlock <code>true</code> to remove unnecessary blocks
+	 * @param removeUnnecessaryBlockContainingReturnOrThrow <code>true</code> to only remove blocks
+	 *            containing a return or throw statement
+	 * @return the fix or <code>null</code> if nothing is to be fixed
+	 */
+	public static ICleanUpFix createCleanUp(CompilationUnit compilationUnit,
+			IRegion[] regions,
+			boolean convertSingleStatementToBlock,
+			boolean removeUnnecessaryBlock,
+			boolean removeUnnecessaryBlockContainingReturnOrThrow) {
+
 		if (!convertSingleStatementToBlock && !removeUnnecessaryBlock && !removeUnnecessaryBlockContainingReturnOrThrow)
 			return null;
 
 		List<CompilationUnitRewriteOperationWithSourceRange> operations= new ArrayList<>();
-		ControlStatementFinder finder= new ControlStatementFinder(convertSingleStatementToBlock, removeUnnecessaryBlock, removeUnnecessaryBlockContainingReturnOrThrow, operations);
+		ControlStatementFinder finder= new ControlStatementFinder(convertSingleStatementToBlock, removeUnnecessaryBlock, removeUnnecessaryBlockContainingReturnOrThrow, regions, operations);
 		compilationUnit.accept(finder);
+		return createCleanUp(compilationUnit, operations);
+	}
+
+	/**
+	 * Adds the finder of
+	 * {@link #createCleanUp(CompilationUnit, IRegion[], boolean, boolean, boolean)} to a fused
+	 * traversal of the compilation unit.
+	 *
+	 * @param compilationUnit the AST of the compilation unit
+	 * @param visitor the visitor that traverses the compilation unit
+	 * @param regions the regions to clean up, or <code>null</code> to clean up the whole
+	 *            compilation unit
+	 * @param convertSingleStatementToBlock <code>true</code> to add blocks to all control statements
+	 * @param removeUnnecessaryBlock <code>true</code> to remove unnecessary blocks
+	 * @param removeUnnecessaryBlockContainingReturnOrThrow <code>true</code> to only remove blocks
+	 *            containing a return or throw statement
+	 * @return creates the fix after the traversal, or <code>null</code> if nothing is to be fixed
+	 */
+	public static FixCreator addFinder(CompilationUnit compilationUnit,
+			FusedASTVisitor visitor,
+			IRegion[] regions,
+			boolean convertSingleStatementToBlock,
+			boolean removeUnnecessaryBlock,
+			boolean removeUnnecessaryBlockContainingReturnOrThrow) {
+
+		if (!convertSingleStatementToBlock && !removeUnnecessaryBlock && !removeUnnecessaryBlockContainingReturnOrThrow)
+			return null;
+
+		List<CompilationUnitRewriteOperationWithSourceRange> operations= new ArrayList<>();
+		ControlStatementFinder finder= new ControlStatementFinder(convertSingleStatementToBlock, removeUnnecessaryBlock, removeUnnecessaryBlockContainingReturnOrThrow, regions, operations);
+		visitor.add(finder, ASTNode.DO_STATEMENT, ASTNode.FOR_STATEMENT, ASTNode.ENHANCED_FOR_STATEMENT, ASTNode.IF_STATEMENT, ASTNode.WHILE_STATEMENT);
+		return () -> createCleanUp(compilationUnit, operations);
+	}
 
+	private static ICleanUpFix createCleanUp(CompilationUnit compilationUnit, List<CompilationUnitRewriteOperationWithSourceRange> operations) {
 		if (operations.isEmpty())
 			return null;
 
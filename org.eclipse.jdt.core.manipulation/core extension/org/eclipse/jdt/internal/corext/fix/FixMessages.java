@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,7 @@ public final class FixMessages extends NLS {
 	public static String CleanUpPostSaveListener_SlowCleanUpDialog_title;
 	public static String CleanUpPostSaveListener_SlowCleanUpWarningDialog_explain;
 	public static String CleanUpPostSaveListener_unknown_profile_error_message;
+	public static String CleanUpPostSaveListener_time_budget_exceeded;
 
 	public static String CleanUpRefactoring_checkingPostConditions_message;
 	public static String CleanUpRefactoring_clean_up_multi_chang_name;
@@ -41,6 +42,7 @@ public final class FixMessages extends NLS {
 	public static String CleanUpRefactoring_ProcessingCompilationUnit_message;
 	public static String CleanUpRefactoring_Initialize_message;
 	public static String CleanUpRefactoring_exception;
+	public static String CleanUpRefactoring_statistics_message;
 
 	public static String CleanUpRegistry_ErrorTabPage_description;
 	public static String CleanUpRegistry_ErrorTabPage_preview;
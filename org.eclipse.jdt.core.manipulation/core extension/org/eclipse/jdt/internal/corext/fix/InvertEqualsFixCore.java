@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Fabrice TIERCELIN and others.
+ * Copyright (c) 2021, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,12 +34,14 @@ import org.eclipse.jdt.core.dom.ThisExpression;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.TargetSourceRangeComputer;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
 import org.eclipse.jdt.internal.corext.dom.ASTNodeFactory;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.refactoring.structure.CompilationUnitRewrite;
 
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 
+import org.eclipse.jdt.internal.ui.fix.IFusedCleanUp.FixCreator;
 import org.eclipse.jdt.internal.ui.fix.MultiFixMessages;
 
 public class InvertEqualsFixCore extends CompilationUnitRewriteOperationsFixCore {
@@ -131,7 +133,16 @@ public class InvertEqualsFixCore extends CompilationUnitRewriteOperationsFixCore
 		List<InvertEqualsFixOperation> operations= new ArrayList<>();
 		InvertEqualsFinder finder= new InvertEqualsFinder(operations);
 		compilationUnit.accept(finder);
+		return createCleanUp(compilationUnit, operations);
+	}
+
+	public static FixCreator addFinder(final CompilationUnit compilationUnit, final FusedASTVisitor visitor) {
+		List<InvertEqualsFixOperation> operations= new ArrayList<>();
+		visitor.add(new InvertEqualsFinder(operations), ASTNode.METHOD_INVOCATION);
+		return () -> createCleanUp(compilationUnit, operations);
+	}
 
+	private static ICleanUpFix createCleanUp(final CompilationUnit compilationUnit, final List<InvertEqualsFixOperation> operations) {
 		if (operations.isEmpty()) {
 			return null;
 		}
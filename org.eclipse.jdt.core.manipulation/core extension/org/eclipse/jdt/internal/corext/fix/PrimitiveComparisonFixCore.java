@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Fabrice TIERCELIN and others.
+ * Copyright (c) 2021, 2026 Fabrice TIERCELIN and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,12 +31,14 @@ import org.eclipse.jdt.core.dom.MethodInvocation;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.TargetSourceRangeComputer;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.dom.Bindings;
 import org.eclipse.jdt.internal.corext.refactoring.structure.CompilationUnitRewrite;
 
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 
+import org.eclipse.jdt.internal.ui.fix.IFusedCleanUp.FixCreator;
 import org.eclipse.jdt.internal.ui.fix.MultiFixMessages;
 
 public class PrimitiveComparisonFixCore extends CompilationUnitRewriteOperationsFixCore {
@@ -138,7 +140,16 @@ public class PrimitiveComparisonFixCore extends CompilationUnitRewriteOperations
 		List<PrimitiveComparisonFixOperation> operations= new ArrayList<>();
 		PrimitiveComparisonFinder finder= new PrimitiveComparisonFinder(operations);
 		compilationUnit.accept(finder);
+		return createCleanUp(compilationUnit, operations);
+	}
+
+	public static FixCreator addFinder(final CompilationUnit compilationUnit, final FusedASTVisitor visitor) {
+		List<PrimitiveComparisonFixOperation> operations= new ArrayList<>();
+		visitor.add(new PrimitiveComparisonFinder(operations), ASTNode.METHOD_INVOCATION);
+		return () -> createCleanUp(compilationUnit, operations);
+	}
 
+	private static ICleanUpFix createCleanUp(final CompilationUnit compilationUnit, final List<PrimitiveComparisonFixOperation> operations) {
 		if (operations.isEmpty()) {
 			return null;
 		}
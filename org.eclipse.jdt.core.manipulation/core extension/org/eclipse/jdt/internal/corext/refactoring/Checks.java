@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -593,10 +593,8 @@ public class Checks {
 				continue;
 			//XXX this is a workaround 	for a jcore feature that shows errors in cus only when you get the original element
 			ICompilationUnit cu= (ICompilationUnit)JavaCore.create(resource);
-			if (! cu.isStructureKnown()){
-				status.addError(Messages.format(RefactoringCoreMessages.Checks_cannot_be_parsed, BasicElementLabels.getPathLabel(cu.getPath(), false)));
+			if (isExcluded(cu, status))
 				continue; //removed, go to the next one
-			}
 			result.add(g);
 		}
 
@@ -606,6 +604,23 @@ public class Checks {
 		return result.toArray(new SearchResultGroup[result.size()]);
 	}
 
+	/**
+	 * Checks whether the references in a compilation unit must be excluded from a refactoring
+	 * because the compilation unit cannot be parsed.
+	 *
+	 * @param cu the compilation unit
+	 * @param status an error is added here if the compilation unit is excluded
+	 * @return <code>true</code> if the compilation unit is excluded
+	 * @throws JavaModelException if the compilation unit cannot be accessed
+	 */
+	public static boolean isExcluded(ICompilationUnit cu, RefactoringStatus status) throws JavaModelException {
+		if (! cu.isStructureKnown()){
+			status.addError(Messages.format(RefactoringCoreMessages.Checks_cannot_be_parsed, BasicElementLabels.getPathLabel(cu.getPath(), false)));
+			return true;
+		}
+		return false;
+	}
+
 	public static RefactoringStatus checkCompileErrorsInAffectedFiles(SearchResultGroup[] grouped) throws JavaModelException {
 		RefactoringStatus result= new RefactoringStatus();
 		for (SearchResultGroup g : grouped) {
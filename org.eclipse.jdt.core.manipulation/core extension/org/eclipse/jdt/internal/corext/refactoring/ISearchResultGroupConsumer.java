@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring;
+
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Consumer of the search result groups reported by the streaming search of
+ * {@link RefactoringSearchEngine}.
+ */
+@FunctionalInterface
+public interface ISearchResultGroupConsumer {
+
+	/**
+	 * Accepts the matches found in one compilation unit. Called in the thread of the search,
+	 * as soon as the search engine has moved on to another resource.
+	 * <p>
+	 * The search engine usually reports all matches of a resource in one run, but this is not
+	 * guaranteed: the matches of a compilation unit can be reported in several groups.
+	 * </p>
+	 *
+	 * @param group the group of matches. The matches of the group are in the order in which they
+	 *            have been reported.
+	 * @throws CoreException if the group cannot be processed. Stops the search.
+	 */
+	void accept(SearchResultGroup group) throws CoreException;
+}
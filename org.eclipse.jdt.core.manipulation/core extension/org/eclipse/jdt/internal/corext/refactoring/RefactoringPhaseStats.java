@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring;
+
+import org.eclipse.core.runtime.PerformanceStats;
+
+/**
+ * Reports the time spent in the phases of refactorings to core's {@link PerformanceStats}
+ * service. The events are enabled by the corresponding tracing options of this plug-in, they are
+ * blamed on the class of the refactoring or processor that runs the phase.
+ * <p>
+ * Usage:
+ * </p>
+ * <pre>
+ * public Change createChange(IProgressMonitor pm) throws CoreException {
+ * 	return RefactoringPhaseStats.measure(RefactoringPhaseStats.CREATE_CHANGE, this, () -&gt; doCreateChange(pm));
+ * }
+ * </pre>
+ */
+public final class RefactoringPhaseStats {
+
+	/** The performance event of checking the initial conditions. */
+	public static final String CHECK_INITIAL_CONDITIONS= "org.eclipse.jdt.core.manipulation/perf/refactoring/checkInitialConditions"; //$NON-NLS-1$
+
+	/** The performance event of checking the final conditions. */
+	public static final String CHECK_FINAL_CONDITIONS= "org.eclipse.jdt.core.manipulation/perf/refactoring/checkFinalConditions"; //$NON-NLS-1$
+
+	/** The performance event of creating the change. */
+	public static final String CREATE_CHANGE= "org.eclipse.jdt.core.manipulation/perf/refactoring/createChange"; //$NON-NLS-1$
+
+	private static final boolean MEASURE_CHECK_INITIAL_CONDITIONS= PerformanceStats.isEnabled(CHECK_INITIAL_CONDITIONS);
+	private static final boolean MEASURE_CHECK_FINAL_CONDITIONS= PerformanceStats.isEnabled(CHECK_FINAL_CONDITIONS);
+	private static final boolean MEASURE_CREATE_CHANGE= PerformanceStats.isEnabled(CREATE_CHANGE);
+
+	/**
+	 * A phase of a refactoring.
+	 *
+	 * @param <T> the result of the phase
+	 * @param <E> the exception thrown by the phase
+	 */
+	@FunctionalInterface
+	public interface Phase<T, E extends Exception> {
+		T run() throws E;
+	}
+
+	private RefactoringPhaseStats() {
+	}
+
+	/**
+	 * Runs a phase and measures it if the event is enabled.
+	 *
+	 * @param event one of {@link #CHECK_INITIAL_CONDITIONS}, {@link #CHECK_FINAL_CONDITIONS} and
+	 *            {@link #CREATE_CHANGE}
+	 * @param blame the refactoring or processor that runs the phase
+	 * @param phase the phase
+	 * @return the result of the phase
+	 * @throws E if the phase fails
+	 */
+	public static <T, E extends Exception> T measure(String event, Object blame, Phase<T, E> phase) throws E {
+		PerformanceStats stats= start(event, blame);
+		try {
+			return phase.run();
+		} finally {
+			if (stats != null)
+				stats.endRun();
+		}
+	}
+
+	private static PerformanceStats start(String event, Object blame) {
+		if (!isEnabled(event))
+			return null;
+		String name= blame.getClass().getName();
+		PerformanceStats stats= PerformanceStats.getStats(event, name);
+		stats.startRun(name);
+		return stats;
+	}
+
+	private static boolean isEnabled(String event) {
+		switch (event) {
+			case CHECK_INITIAL_CONDITIONS:
+				return MEASURE_CHECK_INITIAL_CONDITIONS;
+			case CHECK_FINAL_CONDITIONS:
+				return MEASURE_CHECK_FINAL_CONDITIONS;
+			case CREATE_CHANGE:
+				return MEASURE_CREATE_CHANGE;
+			default:
+				return false;
+		}
+	}
+}
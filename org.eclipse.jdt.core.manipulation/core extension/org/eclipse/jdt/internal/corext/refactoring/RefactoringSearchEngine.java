@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -39,6 +39,7 @@ import org.eclipse.jdt.core.WorkingCopyOwner;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.core.search.SearchEngine;
 import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.core.search.SearchRequestor;
 
@@ -149,6 +150,119 @@ public class RefactoringSearchEngine {
 		return groupByCu(requestor.getResults(), status);
 	}
 
+	/**
+	 * Performs a search and reports the resulting {@link SearchMatch}es grouped by compilation
+	 * unit while the search is running. A group is passed to the consumer as soon as the search
+	 * engine reports a match in another resource, so clients can create the changes of a
+	 * compilation unit while the search continues, and the matches of all compilation units never
+	 * have to be kept in memory at the same time.
+	 * <p>
+	 * As with {@link #search(SearchPattern, WorkingCopyOwner, IJavaSearchScope, CollectingSearchRequestor, IProgressMonitor, RefactoringStatus)},
+	 * matches that are not in compilation units are dropped.
+	 * </p>
+	 *
+	 * @param pattern the search pattern
+	 * @param owner the working copy owner, or <code>null</code>
+	 * @param scope the search scope
+	 * @param requestor the requestor that filters the matches. Its {@link CollectingSearchRequestor#getResults() results}
+	 *            are drained after every reported match.
+	 * @param consumer the consumer of the groups
+	 * @param monitor the progress monitor
+	 * @param status an error is added here if inaccurate or non-cu matches have been found
+	 * @throws JavaModelException when the search failed, or the consumer failed to process a group
+	 * @see ISearchResultGroupConsumer
+	 */
+	//TODO: throw CoreException
+	public static void search(SearchPattern pattern, WorkingCopyOwner owner, IJavaSearchScope scope, CollectingSearchRequestor requestor,
+			ISearchResultGroupConsumer consumer, IProgressMonitor monitor, RefactoringStatus status) throws JavaModelException {
+		SearchEngine searchEngine= owner != null ? new SearchEngine(owner) : new SearchEngine();
+		StreamingSearchRequestor streamingRequestor= new StreamingSearchRequestor(requestor, consumer);
+		try {
+			searchEngine.search(pattern, SearchUtils.getDefaultSearchParticipants(), scope, streamingRequestor, monitor);
+			streamingRequestor.flush();
+		} catch (CoreException e) {
+			throw new JavaModelException(e);
+		}
+		addStatusErrors(status, streamingRequestor.fHasPotentialMatches, streamingRequestor.fHasNonCuMatches);
+	}
+
+	/**
+	 * Forwards the matches to a {@link CollectingSearchRequestor} and groups the collected matches
+	 * of consecutive matches in the same resource.
+	 */
+	private static final class StreamingSearchRequestor extends SearchRequestor {
+
+		private final CollectingSearchRequestor fRequestor;
+		private final ISearchResultGroupConsumer fConsumer;
+
+		private IResource fResource;
+		private boolean fIsCu;
+		private List<SearchMatch> fMatches= new ArrayList<>();
+
+		boolean fHasPotentialMatches;
+		boolean fHasNonCuMatches;
+
+		StreamingSearchRequestor(CollectingSearchRequestor requestor, ISearchResultGroupConsumer consumer) {
+			fRequestor= requestor;
+			fConsumer= consumer;
+		}
+
+		@Override
+		public void beginReporting() {
+			fRequestor.beginReporting();
+		}
+
+		@Override
+		public void enterParticipant(SearchParticipant participant) {
+			fRequestor.enterParticipant(participant);
+		}
+
+		@Override
+		public void acceptSearchMatch(SearchMatch match) throws CoreException {
+			fRequestor.acceptSearchMatch(match);
+			List<SearchMatch> collected= fRequestor.getResults();
+			if (collected.isEmpty())
+				return;
+			for (SearchMatch collectedMatch : collected) {
+				add(collectedMatch);
+			}
+			collected.clear();
+		}
+
+		@Override
+		public void exitParticipant(SearchParticipant participant) {
+			fRequestor.exitParticipant(participant);
+		}
+
+		@Override
+		public void endReporting() {
+			fRequestor.endReporting();
+		}
+
+		private void add(SearchMatch match) throws CoreException {
+			if (match.getAccuracy() == SearchMatch.A_INACCURATE)
+				fHasPotentialMatches= true;
+			IResource resource= match.getResource();
+			if (fResource == null || !fResource.equals(resource)) {
+				flush();
+				fResource= resource;
+				fIsCu= JavaCore.create(resource) instanceof ICompilationUnit;
+				if (!fIsCu)
+					fHasNonCuMatches= true;
+			}
+			if (fIsCu)
+				fMatches.add(match);
+		}
+
+		void flush() throws CoreException {
+			if (fMatches.isEmpty())
+				return;
+			SearchResultGroup group= new SearchResultGroup(fResource, fMatches.toArray(new SearchMatch[fMatches.size()]));
+			fMatches= new ArrayList<>();
+			fConsumer.accept(group);
+		}
+	}
+
 	public static SearchResultGroup[] groupByCu(SearchMatch[] matches, RefactoringStatus status) {
 		return groupByCu(Arrays.asList(matches), status);
 	}
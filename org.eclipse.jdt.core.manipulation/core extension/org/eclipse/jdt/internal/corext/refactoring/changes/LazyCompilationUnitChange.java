@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.changes;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.TextEdit;
+
+import org.eclipse.jface.text.IDocument;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.ltk.core.refactoring.RefactoringStatusEntry;
+import org.eclipse.ltk.core.refactoring.TextChange;
+import org.eclipse.ltk.core.refactoring.TextEditBasedChangeGroup;
+import org.eclipse.ltk.core.refactoring.TextEditChangeGroup;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
+/**
+ * A compilation unit change whose edits are computed when they are first needed, i.e. when the
+ * change is previewed, validated or performed.
+ * <p>
+ * Refactorings with many affected compilation units can use lazy changes to show the preview
+ * before all edits have been computed. Problems found while computing the edits are reported
+ * by {@link #isValid(IProgressMonitor)}. Since the user cannot confirm them anymore, errors are
+ * reported as fatal errors, which prevents the change from being performed.
+ * </p>
+ */
+public final class LazyCompilationUnitChange extends CompilationUnitChange {
+
+	/**
+	 * Computes the edits of a compilation unit.
+	 */
+	@FunctionalInterface
+	public interface ChangeCreator {
+		/**
+		 * Computes the change of the compilation unit.
+		 *
+		 * @param status the status to report problems to
+		 * @return the change, or <code>null</code> if the compilation unit is not modified
+		 * @throws CoreException if the change cannot be computed
+		 */
+		TextChange createChange(RefactoringStatus status) throws CoreException;
+	}
+
+	private ChangeCreator fCreator;
+	private final RefactoringStatus fStatus= new RefactoringStatus();
+
+	/**
+	 * @param name the name of the change
+	 * @param cunit the compilation unit
+	 * @param creator computes the edits of the compilation unit
+	 */
+	public LazyCompilationUnitChange(String name, ICompilationUnit cunit, ChangeCreator creator) {
+		super(name, cunit);
+		fCreator= creator;
+	}
+
+	/**
+	 * @return <code>true</code> if the edits have been computed
+	 */
+	public synchronized boolean isMaterialized() {
+		return fCreator == null;
+	}
+
+	/**
+	 * Computes the edits, if not yet done.
+	 *
+	 * @throws CoreException if the edits cannot be computed
+	 */
+	public synchronized void materialize() throws CoreException {
+		ChangeCreator creator= fCreator;
+		if (creator == null)
+			return;
+		fCreator= null;
+		TextChange change;
+		try {
+			change= creator.createChange(fStatus);
+		} catch (CoreException | RuntimeException e) {
+			setEdit(new MultiTextEdit());
+			fStatus.addFatalError(e.getMessage() != null ? e.getMessage() : e.toString());
+			throw e;
+		}
+		TextEdit edit= change != null ? change.getEdit() : null;
+		setEdit(edit != null ? edit : new MultiTextEdit());
+		if (change != null) {
+			for (TextEditBasedChangeGroup group : change.getChangeGroups()) {
+				addChangeGroup(group);
+			}
+		}
+	}
+
+	/**
+	 * @return the problems found while computing the edits
+	 */
+	public RefactoringStatus getStatus() {
+		return fStatus;
+	}
+
+	private void materializeQuietly() {
+		try {
+			materialize();
+		} catch (CoreException e) {
+			JavaManipulationPlugin.log(e);
+		}
+	}
+
+	@Override
+	public TextEdit getEdit() {
+		materializeQuietly();
+		return super.getEdit();
+	}
+
+	@Override
+	public TextEditChangeGroup[] getTextEditChangeGroups() {
+		materializeQuietly();
+		return super.getTextEditChangeGroups();
+	}
+
+	@Override
+	public IDocument getPreviewDocument(IProgressMonitor pm) throws CoreException {
+		materialize();
+		return super.getPreviewDocument(pm);
+	}
+
+	@Override
+	public String getPreviewContent(IProgressMonitor pm) throws CoreException {
+		materialize();
+		return super.getPreviewContent(pm);
+	}
+
+	@Override
+	public RefactoringStatus isValid(IProgressMonitor pm) throws CoreException, OperationCanceledException {
+		RefactoringStatus result= super.isValid(pm);
+		if (result.hasFatalError())
+			return result;
+		materialize();
+		for (RefactoringStatusEntry entry : fStatus.getEntries()) {
+			if (entry.isError())
+				entry= new RefactoringStatusEntry(RefactoringStatus.FATAL, entry.getMessage(), entry.getContext(), entry.getPluginId(), entry.getCode(), entry.getData());
+			result.addEntry(entry);
+		}
+		return result;
+	}
+
+	@Override
+	public Change perform(IProgressMonitor pm) throws CoreException {
+		materialize();
+		return super.perform(pm);
+	}
+}
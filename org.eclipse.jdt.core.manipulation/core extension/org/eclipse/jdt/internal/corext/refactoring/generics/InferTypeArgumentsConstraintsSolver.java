@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@
 package org.eclipse.jdt.internal.corext.refactoring.generics;
 
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -23,9 +24,9 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
@@ -70,16 +71,23 @@ public class InferTypeArgumentsConstraintsSolver {
 	/**
 	 * The work-list used by the type constraint solver to hold the set of
 	 * nodes in the constraint graph that remain to be (re-)processed. Entries
-	 * are <code>ConstraintVariable2</code>s.
+	 * are the <code>TypeEquivalenceSet</code>s whose type estimate has changed.
+	 * A set is contained at most once.
 	 */
-	private LinkedList<ConstraintVariable2> fWorkList;
+	private final ArrayDeque<TypeEquivalenceSet> fWorkList;
+
+	/**
+	 * The sets currently contained in {@link #fWorkList}.
+	 */
+	private final Set<TypeEquivalenceSet> fInWorkList;
 
 	private InferTypeArgumentsUpdate fUpdate;
 
 
 	public InferTypeArgumentsConstraintsSolver(InferTypeArgumentsTCModel typeConstraintFactory) {
 		fTCModel= typeConstraintFactory;
-		fWorkList= new LinkedList<>();
+		fWorkList= new ArrayDeque<>();
+		fInWorkList= new HashSet<>();
 	}
 
 	public InferTypeArgumentsUpdate solveConstraints(IProgressMonitor pm) {
@@ -123,8 +131,7 @@ public class InferTypeArgumentsConstraintsSolver {
 		initializeTypeEstimates(allConstraintVariables);
 		if (pm.isCanceled())
 			throw new OperationCanceledException();
-		fWorkList.addAll(Arrays.asList(allConstraintVariables));
-		runSolver(Progress.subMonitor(pm, 1));
+		runSolver(allConstraintVariables, Progress.subMonitor(pm, 1));
 		chooseTypes(allConstraintVariables, Progress.subMonitor(pm, 1));
 		findCastsToRemove(fTCModel.getCastVariables());
 		return fUpdate;
@@ -187,20 +194,131 @@ public class InferTypeArgumentsConstraintsSolver {
 		}
 	}
 
-	private void runSolver(IProgressMonitor pm) {
-		pm.beginTask("", fWorkList.size() * 3); //$NON-NLS-1$
-		while (! fWorkList.isEmpty()) {
-			// Get a variable whose type estimate has changed
-			ConstraintVariable2 cv= fWorkList.removeFirst();
-			List<ITypeConstraint2> usedIn= fTCModel.getUsedIn(cv);
-			processConstraints(usedIn);
-			pm.worked(1);
+	/**
+	 * Propagates the type estimates across the constraints until a fixed point is reached.
+	 * <p>
+	 * The constraint graph is decomposed into its connected components, which are solved one
+	 * after the other. A component in which all type estimates are the universe cannot change and
+	 * is skipped. The work-list holds each changed type equivalence set only once, so its size is
+	 * bounded by the number of sets in a component.
+	 * </p>
+	 *
+	 * @param allConstraintVariables the constraint variables
+	 * @param pm the progress monitor
+	 */
+	private void runSolver(ConstraintVariable2[] allConstraintVariables, IProgressMonitor pm) {
+		List<List<TypeEquivalenceSet>> components= computeComponents(allConstraintVariables);
+		int setCount= 0;
+		for (List<TypeEquivalenceSet> component : components)
+			setCount+= component.size();
+		pm.beginTask("", setCount); //$NON-NLS-1$
+		for (List<TypeEquivalenceSet> component : components) {
+			if (!isConstant(component)) {
+				for (TypeEquivalenceSet set : component) {
+					addToWorkList(set);
+				}
+				while (! fWorkList.isEmpty()) {
+					// Get a set whose type estimate has changed
+					TypeEquivalenceSet set= fWorkList.removeFirst();
+					fInWorkList.remove(set);
+					for (ConstraintVariable2 cv : set.getContributingVariables()) {
+						processConstraints(fTCModel.getUsedIn(cv));
+					}
+					if (pm.isCanceled())
+						throw new OperationCanceledException();
+				}
+			}
+			pm.worked(component.size());
 			if (pm.isCanceled())
 				throw new OperationCanceledException();
 		}
 		pm.done();
 	}
 
+	private void addToWorkList(TypeEquivalenceSet set) {
+		if (fInWorkList.add(set))
+			fWorkList.addLast(set);
+	}
+
+	/**
+	 * @param component the type equivalence sets of a component
+	 * @return <code>true</code> iff no constraint of the component can change a type estimate
+	 */
+	private static boolean isConstant(List<TypeEquivalenceSet> component) {
+		for (TypeEquivalenceSet set : component) {
+			TypeSet estimate= (TypeSet) set.getTypeEstimate();
+			if (estimate == null || ! estimate.isUniverse())
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Computes the connected components of the constraint graph, whose nodes are the type
+	 * equivalence sets and whose edges are the constraints used in the constraint variables.
+	 * Constraints only propagate estimates within a component, so the components can be solved
+	 * independently.
+	 *
+	 * @param allConstraintVariables the constraint variables
+	 * @return the type equivalence sets of each component, in the order of the constraint variables
+	 */
+	private List<List<TypeEquivalenceSet>> computeComponents(ConstraintVariable2[] allConstraintVariables) {
+		Map<TypeEquivalenceSet, Integer> indices= new LinkedHashMap<>();
+		List<TypeEquivalenceSet> sets= new ArrayList<>();
+		for (ConstraintVariable2 cv : allConstraintVariables) {
+			addIndex(cv.getTypeEquivalenceSet(), indices, sets);
+		}
+		// the solver processes the constraints of all contributing variables of a set
+		List<ITypeConstraint2> constraints= new ArrayList<>();
+		for (int i= 0; i < sets.size(); i++) {
+			for (ConstraintVariable2 cv : sets.get(i).getContributingVariables()) {
+				for (ITypeConstraint2 constraint : fTCModel.getUsedIn(cv)) {
+					constraints.add(constraint);
+					addIndex(constraint.getLeft().getTypeEquivalenceSet(), indices, sets);
+					addIndex(constraint.getRight().getTypeEquivalenceSet(), indices, sets);
+				}
+			}
+		}
+
+		int[] parents= new int[indices.size()];
+		for (int i= 0; i < parents.length; i++)
+			parents[i]= i;
+		for (ITypeConstraint2 constraint : constraints) {
+			Integer leftIndex= indices.get(constraint.getLeft().getTypeEquivalenceSet());
+			Integer rightIndex= indices.get(constraint.getRight().getTypeEquivalenceSet());
+			if (leftIndex == null || rightIndex == null)
+				continue;
+			int left= find(parents, leftIndex.intValue());
+			int right= find(parents, rightIndex.intValue());
+			if (left != right)
+				parents[Math.max(left, right)]= Math.min(left, right);
+		}
+
+		Map<Integer, List<TypeEquivalenceSet>> components= new LinkedHashMap<>();
+		for (Map.Entry<TypeEquivalenceSet, Integer> entry : indices.entrySet()) {
+			Integer root= Integer.valueOf(find(parents, entry.getValue().intValue()));
+			components.computeIfAbsent(root, key -> new ArrayList<>()).add(entry.getKey());
+		}
+		return new ArrayList<>(components.values());
+	}
+
+	private static void addIndex(TypeEquivalenceSet set, Map<TypeEquivalenceSet, Integer> indices, List<TypeEquivalenceSet> sets) {
+		if (set != null && indices.putIfAbsent(set, Integer.valueOf(sets.size())) == null)
+			sets.add(set);
+	}
+
+	private static int find(int[] parents, int index) {
+		int root= index;
+		while (parents[root] != root)
+			root= parents[root];
+		while (parents[index] != root) { // path compression
+			int next= parents[index];
+			parents[index]= root;
+			index= next;
+		}
+		return root;
+	}
+
 	/**
 	 * Given a list of <code>ITypeConstraint2</code>s that all refer to a
 	 * given <code>ConstraintVariable2</code> (whose type bound has presumably
@@ -249,7 +367,7 @@ public class InferTypeArgumentsConstraintsSolver {
 //				throw new IllegalStateException("Type estimate set is now empty for LHS in " + left + " <= " + right + "; estimates were " + leftEstimate + " <= " + rightEstimate); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 
 			leftSet.setTypeEstimate(xsection);
-			fWorkList.addAll(Arrays.asList(leftSet.getContributingVariables()));
+			addToWorkList(leftSet);
 		}
 		if (! lhsSuperTypes.containsAll(rightEstimate)) {
 			TypeSet xsection= rightEstimate.intersectedWith(lhsSuperTypes);
@@ -258,7 +376,7 @@ public class InferTypeArgumentsConstraintsSolver {
 //				throw new IllegalStateException("Type estimate set is now empty for RHS in " + left + " <= " + right + "; estimates were " + leftEstimate + " <= " + rightEstimate); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 
 			rightSet.setTypeEstimate(xsection);
-			fWorkList.addAll(Arrays.asList(rightSet.getContributingVariables()));
+			addToWorkList(rightSet);
 		}
 	}
 
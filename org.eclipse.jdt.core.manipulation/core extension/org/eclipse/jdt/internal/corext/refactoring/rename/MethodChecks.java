@@ -155,7 +155,7 @@ public class MethodChecks {
 		final IType declaringType= method.getDeclaringType();
 		if (!declaringType.isInterface()) {
 			if ((hierarchy == null) || !declaringType.equals(hierarchy.getType()))
-				hierarchy= declaringType.newTypeHierarchy(monitor);
+				hierarchy= RippleMethodCache.getTypeHierarchy(declaringType, monitor);
 
 			IMethod inInterface= isDeclaredInInterface(method, hierarchy, monitor);
 			if (inInterface != null && !inInterface.equals(method))
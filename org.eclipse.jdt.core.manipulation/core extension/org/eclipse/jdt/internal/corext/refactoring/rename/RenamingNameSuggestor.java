@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -159,6 +159,11 @@ public class RenamingNameSuggestor {
 	private boolean fExtendedAllUpperCaseHunkMatching;
 	private boolean fExtendedPluralMatching;
 
+	private IJavaProject fPrefixProject;
+
+	private String fKeysTypeName;
+	private String[] fKeys;
+
 	public RenamingNameSuggestor() {
 		this(STRATEGY_SUFFIX);
 	}
@@ -209,6 +214,58 @@ public class RenamingNameSuggestor {
 		return match(oldTypeName, newTypeName, oldMethodName);
 	}
 
+	/**
+	 * Tests whether any of the <code>suggestNew*Name</code> methods could possibly suggest a new
+	 * name for the given name, regardless of the prefixes and suffixes, the strategy and the new
+	 * type name. This test only looks at the names and is much cheaper than computing a
+	 * suggestion, so clients can use it to skip elements before they access their details.
+	 * <p>
+	 * All strategies require the last camel case hunk of the type name (or of its plural form, or
+	 * of the type name without the leading "I" of interface names) to occur in the name, ignoring
+	 * case.
+	 * </p>
+	 *
+	 * @param oldName the name of the variable or method
+	 * @param oldTypeName the old name of the type
+	 * @return <code>false</code> if no new name can be suggested for <code>oldName</code>
+	 */
+	public boolean mayMatch(String oldName, String oldTypeName) {
+		if (!oldTypeName.equals(fKeysTypeName)) {
+			fKeys= computeMatchKeys(oldTypeName);
+			fKeysTypeName= oldTypeName;
+		}
+		if (fKeys.length == 0)
+			return true;
+		String lowerCaseName= oldName.toLowerCase();
+		for (String key : fKeys) {
+			if (lowerCaseName.contains(key))
+				return true;
+		}
+		return false;
+	}
+
+	private String[] computeMatchKeys(String oldTypeName) {
+		List<String> typeNames= new ArrayList<>(4);
+		typeNames.add(oldTypeName);
+		if (fExtendedInterfaceNameMatching && isInterfaceName(oldTypeName))
+			typeNames.add(getInterfaceName(oldTypeName));
+		if (fExtendedPluralMatching) {
+			for (int i= 0, n= typeNames.size(); i < n; i++) {
+				String typeName= typeNames.get(i);
+				if (canPluralize(typeName))
+					typeNames.add(pluralize(typeName));
+			}
+		}
+		List<String> keys= new ArrayList<>(typeNames.size());
+		for (String typeName : typeNames) {
+			String[] hunks= getSuffixes(typeName);
+			if (hunks.length == 0)
+				return new String[0]; // no hunks, cannot filter
+			keys.add(hunks[hunks.length - 1].toLowerCase());
+		}
+		return keys.toArray(new String[keys.size()]);
+	}
+
 	public String suggestNewVariableName(String[] prefixes, String[] suffixes, String oldVariableName, String oldTypeName, String newTypeName) {
 
 		Assert.isNotNull(prefixes);
@@ -542,6 +599,7 @@ public class RenamingNameSuggestor {
 	}
 
 	private void resetPrefixes() {
+		fPrefixProject= null;
 		String[] empty= new String[0];
 		fFieldPrefixes= empty;
 		fFieldSuffixes= empty;
@@ -554,6 +612,9 @@ public class RenamingNameSuggestor {
 	}
 
 	private void initializePrefixesAndSuffixes(IJavaProject project) {
+		if (project.equals(fPrefixProject))
+			return;
+		fPrefixProject= project;
 		fFieldPrefixes= readCommaSeparatedPreference(project, JavaCore.CODEASSIST_FIELD_PREFIXES);
 		fFieldSuffixes= readCommaSeparatedPreference(project, JavaCore.CODEASSIST_FIELD_SUFFIXES);
 		fStaticFieldPrefixes= readCommaSeparatedPreference(project, JavaCore.CODEASSIST_STATIC_FIELD_PREFIXES);
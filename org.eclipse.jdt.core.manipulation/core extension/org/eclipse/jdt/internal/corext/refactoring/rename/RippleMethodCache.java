@@ -0,0 +1,463 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.rename;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IParent;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.eclipse.jdt.core.search.SearchMatch;
+
+/**
+ * Caches ripple methods computed by {@link RippleMethodFinder2} and type hierarchies of the
+ * types involved, so that consecutive refactorings on methods of the same hierarchy (e.g.
+ * renaming several methods of an interface, or changing a signature after a rename) do not
+ * recompute them.
+ * <p>
+ * Entries are invalidated by Java element deltas which can change their result: type hierarchies
+ * by added or removed types, changed super types, modifiers and class paths; ripple methods in
+ * addition by added or removed methods. Deltas of edits inside method bodies, whether reconciled
+ * or saved, do not invalidate the cache. Only results computed without an explicit working copy
+ * owner (i.e. considering the working copies of the primary owner) are cached, and only while the
+ * listener is installed by {@link #install()}.
+ * </p>
+ * <p>
+ * Type hierarchies can be large, so they are only softly referenced and released under memory
+ * pressure.
+ * </p>
+ */
+public final class RippleMethodCache {
+
+	/**
+	 * The mode in which the ripple methods have been searched.
+	 */
+	enum Mode {
+		ALL, EXCLUDE_BINARIES, IN_COMPILATION_UNIT, BINARY_REFERENCES
+	}
+
+	/**
+	 * Ripple methods of a method.
+	 *
+	 * @param methods the ripple methods
+	 * @param binaryMatches the matches of binary ripple methods which have been reported as
+	 *            references in binaries, only set in mode {@link Mode#BINARY_REFERENCES}
+	 */
+	record RippleMethods(IMethod[] methods, SearchMatch[] binaryMatches) {
+	}
+
+	private record RippleKey(IMethod method, Mode mode) {
+	}
+
+	private static final int MAX_RIPPLE_ENTRIES= 100;
+	private static final int MAX_HIERARCHY_ENTRIES= 16;
+
+	/**
+	 * Increased by changes which invalidate the type hierarchies.
+	 */
+	private static final AtomicLong fgHierarchyStamp= new AtomicLong();
+
+	/**
+	 * Increased by changes which invalidate the ripple methods. Every change to the type
+	 * hierarchies increases it as well.
+	 */
+	private static final AtomicLong fgStamp= new AtomicLong();
+
+	// guarded by RippleMethodCache.class
+	private static long fgCacheHierarchyStamp= -1;
+	private static long fgCacheStamp= -1;
+	private static int fgComputingHierarchies;
+
+	private static volatile IElementChangedListener fgListener;
+
+	private static final Map<RippleKey, RippleMethods> fgRippleMethods= new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<RippleKey, RippleMethods> eldest) {
+			return size() > MAX_RIPPLE_ENTRIES;
+		}
+	};
+
+	private static final Map<IType, SoftReference<ITypeHierarchy>> fgHierarchies= new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<IType, SoftReference<ITypeHierarchy>> eldest) {
+			return size() > MAX_HIERARCHY_ENTRIES;
+		}
+	};
+
+	private RippleMethodCache() {
+	}
+
+	/**
+	 * Starts caching and listening to Java element changes. Called when the plug-in is started.
+	 */
+	public static synchronized void install() {
+		if (fgListener == null) {
+			fgListener= new DeltaListener();
+			JavaCore.addElementChangedListener(fgListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+	}
+
+	/**
+	 * Stops caching and removes all cached entries. Called when the plug-in is stopped.
+	 */
+	public static synchronized void uninstall() {
+		if (fgListener != null) {
+			JavaCore.removeElementChangedListener(fgListener);
+			fgListener= null;
+		}
+		clear();
+	}
+
+	private static boolean isCacheable(WorkingCopyOwner owner) {
+		return owner == null && fgListener != null;
+	}
+
+	/*
+	 * Must be called while holding the class lock.
+	 */
+	private static void validate() {
+		long stamp= fgStamp.get();
+		if (fgCacheStamp != stamp) {
+			fgRippleMethods.clear();
+			fgCacheStamp= stamp;
+		}
+		long hierarchyStamp= fgHierarchyStamp.get();
+		if (fgCacheHierarchyStamp != hierarchyStamp) {
+			fgHierarchies.clear();
+			fgCacheHierarchyStamp= hierarchyStamp;
+		}
+	}
+
+	/**
+	 * Returns the cached ripple methods of a method.
+	 *
+	 * @param method the method
+	 * @param mode the mode of the search
+	 * @param owner the working copy owner
+	 * @return the ripple methods, or <code>null</code> if not cached
+	 */
+	static synchronized RippleMethods getRippleMethods(IMethod method, Mode mode, WorkingCopyOwner owner) {
+		if (!isCacheable(owner))
+			return null;
+		validate();
+		return fgRippleMethods.get(new RippleKey(method, mode));
+	}
+
+	/**
+	 * Caches the ripple methods of a method.
+	 *
+	 * @param method the method
+	 * @param mode the mode of the search
+	 * @param owner the working copy owner
+	 * @param stamp the stamp obtained by {@link #getStamp()} before the computation started
+	 * @param rippleMethods the ripple methods
+	 */
+	static synchronized void putRippleMethods(IMethod method, Mode mode, WorkingCopyOwner owner, long stamp, RippleMethods rippleMethods) {
+		if (!isCacheable(owner))
+			return;
+		validate();
+		if (stamp == fgCacheStamp)
+			fgRippleMethods.put(new RippleKey(method, mode), rippleMethods);
+	}
+
+	/**
+	 * @return the current modification stamp
+	 */
+	static long getStamp() {
+		return fgStamp.get();
+	}
+
+	/**
+	 * Returns the type hierarchy of a type, computing it if it is not cached.
+	 *
+	 * @param type the type
+	 * @param owner the working copy owner, or <code>null</code> to consider the working copies of
+	 *            the primary owner
+	 * @param monitor the progress monitor
+	 * @return the type hierarchy
+	 * @throws JavaModelException if the hierarchy cannot be computed
+	 */
+	public static ITypeHierarchy getTypeHierarchy(IType type, WorkingCopyOwner owner, IProgressMonitor monitor) throws JavaModelException {
+		if (!isCacheable(owner))
+			return type.newTypeHierarchy(owner, monitor);
+		long stamp;
+		synchronized (RippleMethodCache.class) {
+			validate();
+			SoftReference<ITypeHierarchy> reference= fgHierarchies.get(type);
+			ITypeHierarchy hierarchy= reference != null ? reference.get() : null;
+			if (hierarchy != null) {
+				monitor.done();
+				return hierarchy;
+			}
+			stamp= fgCacheHierarchyStamp;
+			fgComputingHierarchies++;
+		}
+		ITypeHierarchy hierarchy= null;
+		try {
+			hierarchy= type.newTypeHierarchy(monitor);
+			return hierarchy;
+		} finally {
+			synchronized (RippleMethodCache.class) {
+				fgComputingHierarchies--;
+				validate();
+				if (hierarchy != null && stamp == fgCacheHierarchyStamp)
+					fgHierarchies.put(type, new SoftReference<>(hierarchy));
+			}
+		}
+	}
+
+	/**
+	 * Returns the type hierarchy of a type, computing it if it is not cached. Working copies of
+	 * the primary owner are considered.
+	 *
+	 * @param type the type
+	 * @param monitor the progress monitor
+	 * @return the type hierarchy
+	 * @throws JavaModelException if the hierarchy cannot be computed
+	 */
+	public static ITypeHierarchy getTypeHierarchy(IType type, IProgressMonitor monitor) throws JavaModelException {
+		return getTypeHierarchy(type, null, monitor);
+	}
+
+	/**
+	 * Removes all cached entries.
+	 */
+	public static synchronized void clear() {
+		fgRippleMethods.clear();
+		fgHierarchies.clear();
+	}
+
+	/**
+	 * Returns whether the type hierarchy of a type is cached. This method is for testing purpose
+	 * only.
+	 *
+	 * @param type the type
+	 * @return <code>true</code> if the type hierarchy of the type is cached
+	 */
+	public static synchronized boolean hasInCache(IType type) {
+		validate();
+		SoftReference<ITypeHierarchy> reference= fgHierarchies.get(type);
+		return reference != null && reference.get() != null;
+	}
+
+	private static synchronized List<ITypeHierarchy> getCachedHierarchies() {
+		validate();
+		List<ITypeHierarchy> result= new ArrayList<>(fgHierarchies.size());
+		for (SoftReference<ITypeHierarchy> reference : fgHierarchies.values()) {
+			ITypeHierarchy hierarchy= reference.get();
+			if (hierarchy != null)
+				result.add(hierarchy);
+		}
+		return result;
+	}
+
+	private static synchronized boolean isComputingHierarchies() {
+		return fgComputingHierarchies > 0;
+	}
+
+	/**
+	 * Invalidates the cached entries affected by Java element deltas.
+	 */
+	private static final class DeltaListener implements IElementChangedListener {
+
+		private static final int NONE= 0;
+		private static final int METHODS= 1;
+		private static final int HIERARCHIES= 2;
+
+		private static final int PROJECT_FLAGS= IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED
+				| IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED;
+		private static final int ROOT_FLAGS= IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+				| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_REORDER;
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			List<ICompilationUnit> changedUnits= new ArrayList<>();
+			int change= processDelta(event.getDelta(), changedUnits);
+			if (change != HIERARCHIES && !changedUnits.isEmpty() && affectHierarchies(changedUnits))
+				change= HIERARCHIES;
+			if (change == HIERARCHIES)
+				fgHierarchyStamp.incrementAndGet();
+			if (change != NONE)
+				fgStamp.incrementAndGet();
+		}
+
+		/*
+		 * Compilation units whose content changed without a fine-grained delta are collected to
+		 * be compared with the cached type hierarchies.
+		 */
+		private static int processDelta(IJavaElementDelta delta, List<ICompilationUnit> changedUnits) {
+			int kind= delta.getKind();
+			int flags= delta.getFlags();
+			switch (delta.getElement().getElementType()) {
+				case IJavaElement.JAVA_PROJECT:
+					if (kind != IJavaElementDelta.CHANGED || (flags & PROJECT_FLAGS) != 0)
+						return HIERARCHIES;
+					break;
+				case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+					if (kind != IJavaElementDelta.CHANGED || (flags & ROOT_FLAGS) != 0)
+						return HIERARCHIES;
+					break;
+				case IJavaElement.PACKAGE_FRAGMENT:
+				case IJavaElement.IMPORT_DECLARATION:
+					if (kind != IJavaElementDelta.CHANGED)
+						return HIERARCHIES;
+					break;
+				case IJavaElement.CLASS_FILE:
+					return HIERARCHIES;
+				case IJavaElement.COMPILATION_UNIT:
+					if (kind != IJavaElementDelta.CHANGED)
+						return HIERARCHIES;
+					if ((flags & IJavaElementDelta.F_CONTENT) != 0 && (flags & IJavaElementDelta.F_FINE_GRAINED) == 0) {
+						changedUnits.add((ICompilationUnit) delta.getElement());
+						return METHODS;
+					}
+					break;
+				case IJavaElement.TYPE:
+					if (kind != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_SUPER_TYPES | IJavaElementDelta.F_MODIFIERS)) != 0)
+						return HIERARCHIES;
+					break;
+				case IJavaElement.METHOD:
+					if (kind != IJavaElementDelta.CHANGED || (flags & IJavaElementDelta.F_MODIFIERS) != 0)
+						return METHODS;
+					break;
+				default:
+					break;
+			}
+			int result= NONE;
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				result= Math.max(result, processDelta(child, changedUnits));
+				if (result == HIERARCHIES)
+					break;
+			}
+			return result;
+		}
+
+		/*
+		 * A change of the content of a compilation unit affects a cached hierarchy if a type of the
+		 * hierarchy has been removed from it or got other super types, or if a type of it now
+		 * extends a type of the hierarchy. Super types are compared by simple names.
+		 */
+		private static boolean affectHierarchies(List<ICompilationUnit> changedUnits) {
+			if (isComputingHierarchies())
+				return true;
+			List<ITypeHierarchy> hierarchies= getCachedHierarchies();
+			if (hierarchies.isEmpty())
+				return false;
+			try {
+				for (ICompilationUnit unit : changedUnits) {
+					List<IType> types= new ArrayList<>();
+					collectTypes(unit, types);
+					for (ITypeHierarchy hierarchy : hierarchies) {
+						if (affectsHierarchy(unit, types, hierarchy))
+							return true;
+					}
+				}
+				return false;
+			} catch (JavaModelException e) {
+				return true;
+			}
+		}
+
+		private static boolean affectsHierarchy(ICompilationUnit unit, List<IType> types, ITypeHierarchy hierarchy) throws JavaModelException {
+			Set<String> typeNames= new HashSet<>();
+			for (IType type : hierarchy.getAllTypes()) {
+				if (unit.equals(type.getCompilationUnit()) && !types.contains(type))
+					return true;
+				typeNames.add(type.getElementName());
+			}
+			for (IType type : types) {
+				if (hierarchy.contains(type)) {
+					if (!getSuperTypeNames(type).equals(getSuperTypeNames(type, hierarchy)))
+						return true;
+				} else {
+					for (String name : getSuperTypeNames(type)) {
+						if (typeNames.contains(name))
+							return true;
+					}
+				}
+			}
+			return false;
+		}
+
+		private static void collectTypes(IParent parent, List<IType> types) throws JavaModelException {
+			for (IJavaElement child : parent.getChildren()) {
+				if (child instanceof IType type)
+					types.add(type);
+				if (child instanceof IParent childParent && child.getElementType() != IJavaElement.IMPORT_CONTAINER)
+					collectTypes(childParent, types);
+			}
+		}
+
+		private static Set<String> getSuperTypeNames(IType type) throws JavaModelException {
+			Set<String> result= new HashSet<>();
+			String superclassName= type.getSuperclassName();
+			if (superclassName != null)
+				result.add(getSimpleName(superclassName));
+			for (String name : type.getSuperInterfaceNames()) {
+				result.add(getSimpleName(name));
+			}
+			return result;
+		}
+
+		private static Set<String> getSuperTypeNames(IType type, ITypeHierarchy hierarchy) throws JavaModelException {
+			Set<String> result= new HashSet<>();
+			if (type.isAnonymous()) {
+				// the declared super type of an anonymous type is its super class or its only super interface
+				IType[] superInterfaces= hierarchy.getSuperInterfaces(type);
+				IType superType= superInterfaces.length == 1 ? superInterfaces[0] : hierarchy.getSuperclass(type);
+				if (superType != null)
+					result.add(superType.getElementName());
+				return result;
+			}
+			IType superclass= hierarchy.getSuperclass(type);
+			// implicit super classes (Object, Enum, Record) are not declared
+			if (superclass != null && type.getSuperclassName() != null)
+				result.add(superclass.getElementName());
+			for (IType superInterface : hierarchy.getSuperInterfaces(type)) {
+				result.add(superInterface.getElementName());
+			}
+			return result;
+		}
+
+		private static String getSimpleName(String typeName) {
+			String name= typeName;
+			int typeArguments= name.indexOf('<');
+			if (typeArguments != -1)
+				name= name.substring(0, typeArguments);
+			return name.substring(name.lastIndexOf('.') + 1).trim();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -49,6 +49,7 @@ import org.eclipse.jdt.core.search.SearchRequestor;
 
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringScopeFactory;
 import org.eclipse.jdt.internal.corext.refactoring.base.ReferencesInBinaryContext;
+import org.eclipse.jdt.internal.corext.refactoring.rename.RippleMethodCache.RippleMethods;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.internal.corext.util.MethodOverrideTester;
 import org.eclipse.jdt.internal.corext.util.SearchUtils;
@@ -70,6 +71,7 @@ public class RippleMethodFinder2 {
 	private final ReferencesInBinaryContext fBinaryRefs;
 	private Map<IMethod, SearchMatch> fDeclarationToMatch;
 	private boolean fSearchOnlyInCompilationUnit = false;
+	private final RippleMethodCache.Mode fMode;
 
 	private static class MultiMap<K, V> {
 		HashMap<K, Collection<V>> fImplementation= new HashMap<>();
@@ -141,6 +143,10 @@ public class RippleMethodFinder2 {
 		fExcludeBinaries= excludeBinaries;
 		fSearchOnlyInCompilationUnit= searchOnlyInCompilationUnit;
 		fBinaryRefs= null;
+		if (searchOnlyInCompilationUnit)
+			fMode= RippleMethodCache.Mode.IN_COMPILATION_UNIT;
+		else
+			fMode= excludeBinaries ? RippleMethodCache.Mode.EXCLUDE_BINARIES : RippleMethodCache.Mode.ALL;
 	}
 
 	private RippleMethodFinder2(IMethod method, ReferencesInBinaryContext binaryRefs) {
@@ -148,6 +154,7 @@ public class RippleMethodFinder2 {
 		fExcludeBinaries= true;
 		fDeclarationToMatch= new HashMap<>();
 		fBinaryRefs= binaryRefs;
+		fMode= RippleMethodCache.Mode.BINARY_REFERENCES;
 	}
 
 	public static IMethod[] getRelatedMethods(IMethod method, boolean excludeBinaries, IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
@@ -186,21 +193,37 @@ public class RippleMethodFinder2 {
 	}
 
 	private IMethod[] getAllRippleMethods(IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
+		RippleMethods cached= RippleMethodCache.getRippleMethods(fMethod, fMode, owner);
+		if (cached != null) {
+			if (fBinaryRefs != null) {
+				for (SearchMatch match : cached.binaryMatches()) {
+					fBinaryRefs.add(match);
+				}
+			}
+			return cached.methods().clone();
+		}
+		long stamp= RippleMethodCache.getStamp();
 		IMethod[] rippleMethods= findAllRippleMethods(pm, owner);
-		if (fDeclarationToMatch == null)
+		if (fDeclarationToMatch == null) {
+			RippleMethodCache.putRippleMethods(fMethod, fMode, owner, stamp, new RippleMethods(rippleMethods.clone(), null));
 			return rippleMethods;
+		}
 
 		List<IMethod> filteredMethods= new ArrayList<>(rippleMethods.length / 2);
+		List<SearchMatch> binaryMatches= new ArrayList<>();
 		for (IMethod currentMethod : rippleMethods) {
-			Object match= fDeclarationToMatch.get(currentMethod);
+			SearchMatch match= fDeclarationToMatch.get(currentMethod);
 			if (match != null) {
-				fBinaryRefs.add((SearchMatch) match);
+				fBinaryRefs.add(match);
+				binaryMatches.add(match);
 			} else {
 				filteredMethods.add(currentMethod);
 			}
 		}
 		fDeclarationToMatch= null;
-		return toArray(filteredMethods);
+		IMethod[] result= toArray(filteredMethods);
+		RippleMethodCache.putRippleMethods(fMethod, fMode, owner, stamp, new RippleMethods(result.clone(), binaryMatches.toArray(new SearchMatch[binaryMatches.size()])));
+		return result;
 	}
 
 	private IMethod[] findAllRippleMethods(IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
@@ -359,7 +382,7 @@ public class RippleMethodFinder2 {
 
 		for (IType methodTypeSubtype : methodTypeSubtypes) {
 			checkCanceled(pm);
-			ITypeHierarchy subtypeHierarchy= methodTypeSubtype.newTypeHierarchy(owner, pm);
+			ITypeHierarchy subtypeHierarchy= RippleMethodCache.getTypeHierarchy(methodTypeSubtype, owner, pm);
 			IType[] subtypeSuperTypes= subtypeHierarchy.getAllSupertypes(methodTypeSubtype);
 			for (IType subtypeSuperType : subtypeSuperTypes) {
 				checkCanceled(pm);
@@ -405,7 +428,7 @@ public class RippleMethodFinder2 {
 			throws JavaModelException {
 		ITypeHierarchy hierarchy= getCachedHierarchy(type, owner, Progress.subMonitor(pm, 1));
 		if (hierarchy == null)
-			hierarchy= type.newTypeHierarchy(owner, Progress.subMonitor(pm, 1));
+			hierarchy= RippleMethodCache.getTypeHierarchy(type, owner, Progress.subMonitor(pm, 1));
 		return hierarchy;
 	}
 
@@ -425,7 +448,7 @@ public class RippleMethodFinder2 {
 			for (IType root : fRootReps.get(rep)) {
 				ITypeHierarchy hierarchy= fRootHierarchies.get(root);
 				if (hierarchy == null) {
-					hierarchy= root.newTypeHierarchy(owner, Progress.subMonitor(monitor, 1));
+					hierarchy= RippleMethodCache.getTypeHierarchy(root, owner, Progress.subMonitor(monitor, 1));
 					fRootHierarchies.put(root, hierarchy);
 				}
 				if (hierarchy.contains(type))
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -145,6 +145,7 @@ import org.eclipse.jdt.internal.corext.refactoring.JavaRefactoringDescriptorUtil
 import org.eclipse.jdt.internal.corext.refactoring.ParameterInfo;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringAvailabilityTesterCore;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringPhaseStats;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringScopeFactory;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringSearchEngine;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringSearchEngine2;
@@ -156,11 +157,13 @@ import org.eclipse.jdt.internal.corext.refactoring.base.JavaStringStatusContext;
 import org.eclipse.jdt.internal.corext.refactoring.base.RefactoringStatusCodes;
 import org.eclipse.jdt.internal.corext.refactoring.base.ReferencesInBinaryContext;
 import org.eclipse.jdt.internal.corext.refactoring.changes.DynamicValidationRefactoringChange;
+import org.eclipse.jdt.internal.corext.refactoring.changes.LazyCompilationUnitChange;
 import org.eclipse.jdt.internal.corext.refactoring.code.Invocations;
 import org.eclipse.jdt.internal.corext.refactoring.delegates.DelegateMethodCreator;
 import org.eclipse.jdt.internal.corext.refactoring.participants.JavaProcessors;
 import org.eclipse.jdt.internal.corext.refactoring.rename.MethodChecks;
 import org.eclipse.jdt.internal.corext.refactoring.rename.RefactoringAnalyzeUtil;
+import org.eclipse.jdt.internal.corext.refactoring.rename.RippleMethodCache;
 import org.eclipse.jdt.internal.corext.refactoring.rename.RippleMethodFinder2;
 import org.eclipse.jdt.internal.corext.refactoring.rename.TempOccurrenceAnalyzer;
 import org.eclipse.jdt.internal.corext.refactoring.tagging.IDelegateUpdating;
@@ -216,6 +219,7 @@ public class ChangeSignatureProcessor extends RefactoringProcessor implements ID
 	private ITypeHierarchy fCachedTypeHierarchy= null;
 	private boolean fDelegateUpdating;
 	private boolean fDelegateDeprecation;
+	private boolean fLazyChangeCreation;
 
 	public ChangeSignatureProcessor(JavaRefactoringArguments arguments, RefactoringStatus status) throws JavaModelException {
 		this((IMethod) null);
@@ -379,6 +383,24 @@ public class ChangeSignatureProcessor extends RefactoringProcessor implements ID
 		fBodyUpdater= bodyUpdater;
 	}
 
+	/**
+	 * Sets whether the changes of the compilation units that only reference the method are
+	 * computed lazily. If enabled, checking the final conditions computes the changes of the
+	 * compilation units that declare the method or one of its ripple methods, and the changes of
+	 * the compilation units whose references are all modified are computed when they are
+	 * previewed or performed. Errors found in these compilation units are reported as fatal
+	 * errors by the validation of the change.
+	 *
+	 * @param lazy <code>true</code> to compute the changes lazily
+	 */
+	public void setLazyChangeCreation(boolean lazy) {
+		fLazyChangeCreation= lazy;
+	}
+
+	public boolean isLazyChangeCreation() {
+		return fLazyChangeCreation;
+	}
+
 	public CompilationUnitRewrite getBaseCuRewrite() {
 		return fBaseCuRewrite;
 	}
@@ -1005,12 +1027,16 @@ public class ChangeSignatureProcessor extends RefactoringProcessor implements ID
 
 	private ITypeHierarchy getCachedTypeHierarchy(IProgressMonitor monitor) throws JavaModelException {
 		if (fCachedTypeHierarchy == null)
-			fCachedTypeHierarchy= fMethod.getDeclaringType().newTypeHierarchy(Progress.subMonitor(monitor, 1));
+			fCachedTypeHierarchy= RippleMethodCache.getTypeHierarchy(fMethod.getDeclaringType(), Progress.subMonitor(monitor, 1));
 		return fCachedTypeHierarchy;
 	}
 
 	@Override
 	public RefactoringStatus checkInitialConditions(IProgressMonitor monitor) throws CoreException {
+		return RefactoringPhaseStats.measure(RefactoringPhaseStats.CHECK_INITIAL_CONDITIONS, this, () -> doCheckInitialConditions(monitor));
+	}
+
+	private RefactoringStatus doCheckInitialConditions(IProgressMonitor monitor) throws CoreException {
 		try {
 			monitor.beginTask("", 5); //$NON-NLS-1$
 			RefactoringStatus result= Checks.checkIfCuBroken(fMethod);
@@ -1091,6 +1117,10 @@ public class ChangeSignatureProcessor extends RefactoringProcessor implements ID
 
 	@Override
 	public RefactoringStatus checkFinalConditions(IProgressMonitor pm, CheckConditionsContext context) throws CoreException, OperationCanceledException {
+		return RefactoringPhaseStats.measure(RefactoringPhaseStats.CHECK_FINAL_CONDITIONS, this, () -> doCheckFinalConditions(pm, context));
+	}
+
+	private RefactoringStatus doCheckFinalConditions(IProgressMonitor pm, CheckConditionsContext context) throws CoreException, OperationCanceledException {
 		try {
 			pm.beginTask(RefactoringCoreMessages.ChangeSignatureRefactoring_checking_preconditions, 8);
 			RefactoringStatus result= new RefactoringStatus();
@@ -1462,6 +1492,10 @@ public class ChangeSignatureProcessor extends RefactoringProcessor implements ID
 
 	@Override
 	public Change createChange(IProgressMonitor pm) {
+		return RefactoringPhaseStats.measure(RefactoringPhaseStats.CREATE_CHANGE, this, () -> doCreateChange(pm));
+	}
+
+	private Change doCreateChange(IProgressMonitor pm) {
 		pm.beginTask("", 1); //$NON-NLS-1$
 		try {
 			return new DynamicValidationRefactoringChange(createDescriptor(), doGetRefactoringChangeName(), getAllChanges());
@@ -1664,6 +1698,7 @@ public class ChangeSignatureProcessor extends RefactoringProcessor implements ID
 		}else{
 			pm.worked(1);
 		}
+		Map<ICompilationUnit, Set<IType>> subclassMapping= namedSubclassMapping;
 		for (SearchResultGroup occurrence : fOccurrences) {
 			if (pm.isCanceled())
 				throw new OperationCanceledException();
@@ -1671,36 +1706,11 @@ public class ChangeSignatureProcessor extends RefactoringProcessor implements ID
 			ICompilationUnit cu= group.getCompilationUnit();
 			if (cu == null)
 				continue;
-			CompilationUnitRewrite cuRewrite;
-			if (cu.equals(getCu())) {
-				cuRewrite= fBaseCuRewrite;
-			} else {
-				cuRewrite= new CompilationUnitRewrite(cu);
-				cuRewrite.getASTRewrite().setTargetSourceRangeComputer(new TightSourceRangeComputer());
-			}
-			//IntroduceParameterObjectRefactoring needs to update declarations first:
-			List<OccurrenceUpdate<? extends ASTNode>> deferredUpdates= new ArrayList<>();
-			for (ASTNode node : ASTNodeSearchUtil.findNodes(group.getSearchResults(), cuRewrite.getRoot())) {
-				OccurrenceUpdate<? extends ASTNode> update= createOccurrenceUpdate(node, cuRewrite, result);
-				if (update instanceof DeclarationUpdate) {
-					update.updateNode();
-				} else {
-					deferredUpdates.add(update);
-				}
-			}
-			for (OccurrenceUpdate<? extends ASTNode> occurrenceUpdate : deferredUpdates) {
-				occurrenceUpdate.updateNode();
-			}
-
-			if (namedSubclassMapping != null && namedSubclassMapping.containsKey(cu)) {
-				//only non-anonymous subclasses may have noArgConstructors to modify - see bug 43444
-				for (IType subtype : namedSubclassMapping.get(cu)) {
-					AbstractTypeDeclaration subtypeNode= ASTNodeSearchUtil.getAbstractTypeDeclarationNode(subtype, cuRewrite.getRoot());
-					if (subtypeNode != null)
-						modifyImplicitCallsToNoArgConstructor(subtypeNode, cuRewrite);
-				}
+			if (canCreateChangeLazily(group, cu, namedSubclassMapping)) {
+				fChangeManager.manage(cu, new LazyCompilationUnitChange(cu.getElementName(), cu, status -> createCompilationUnitChange(group, cu, subclassMapping, status)));
+				continue;
 			}
-			TextChange change= cuRewrite.createChange(true);
+			TextChange change= createCompilationUnitChange(group, cu, namedSubclassMapping, result);
 			if (change != null)
 				fChangeManager.manage(cu, change);
 		}
@@ -1709,6 +1719,78 @@ public class ChangeSignatureProcessor extends RefactoringProcessor implements ID
 		return fChangeManager;
 	}
 
+	/*
+	 * Declarations are always updated eagerly, since their checks must be part of the final
+	 * conditions. References are only updated lazily if each of them is modified, so that the
+	 * compilation unit can be passed to the resource change checker before the edits are known.
+	 * The kind of the references is taken from an AST without bindings, which is much cheaper
+	 * than the rewrite.
+	 */
+	private boolean canCreateChangeLazily(SearchResultGroup group, ICompilationUnit cu, Map<ICompilationUnit, Set<IType>> namedSubclassMapping) {
+		if (!fLazyChangeCreation || cu.equals(getCu()) || namedSubclassMapping != null && namedSubclassMapping.containsKey(cu))
+			return false;
+		boolean renamed= !isMethodNameSameAsInitial();
+		if (!renamed && isOrderSameAsInitial())
+			return false;
+		SearchMatch[] matches= group.getSearchResults();
+		for (SearchMatch match : matches) {
+			if (!(match instanceof MethodReferenceMatch))
+				return false;
+		}
+		CompilationUnit root= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(cu, false);
+		for (SearchMatch match : matches) {
+			ASTNode node= ASTNodeSearchUtil.findNode(match, root);
+			if (node == null || !isModifiedReference(node, renamed))
+				return false;
+		}
+		return true;
+	}
+
+	/*
+	 * Mirrors createOccurrenceUpdate(..): invocations get new arguments, other references are
+	 * only modified if the method is renamed.
+	 */
+	private static boolean isModifiedReference(ASTNode node, boolean renamed) {
+		if (BUG_89686 && node instanceof SimpleName && node.getParent() instanceof EnumConstantDeclaration)
+			node= node.getParent();
+		if (Invocations.isInvocationWithArguments(node))
+			return true;
+		return renamed && (node instanceof MemberRef || node instanceof MethodRef || node.getLocationInParent() == ExpressionMethodReference.NAME_PROPERTY);
+	}
+
+	private TextChange createCompilationUnitChange(SearchResultGroup group, ICompilationUnit cu, Map<ICompilationUnit, Set<IType>> namedSubclassMapping, RefactoringStatus result) throws CoreException {
+		CompilationUnitRewrite cuRewrite;
+		if (cu.equals(getCu())) {
+			cuRewrite= fBaseCuRewrite;
+		} else {
+			cuRewrite= new CompilationUnitRewrite(cu);
+			cuRewrite.getASTRewrite().setTargetSourceRangeComputer(new TightSourceRangeComputer());
+		}
+		//IntroduceParameterObjectRefactoring needs to update declarations first:
+		List<OccurrenceUpdate<? extends ASTNode>> deferredUpdates= new ArrayList<>();
+		for (ASTNode node : ASTNodeSearchUtil.findNodes(group.getSearchResults(), cuRewrite.getRoot())) {
+			OccurrenceUpdate<? extends ASTNode> update= createOccurrenceUpdate(node, cuRewrite, result);
+			if (update instanceof DeclarationUpdate) {
+				update.updateNode();
+			} else {
+				deferredUpdates.add(update);
+			}
+		}
+		for (OccurrenceUpdate<? extends ASTNode> occurrenceUpdate : deferredUpdates) {
+			occurrenceUpdate.updateNode();
+		}
+
+		if (namedSubclassMapping != null && namedSubclassMapping.containsKey(cu)) {
+			//only non-anonymous subclasses may have noArgConstructors to modify - see bug 43444
+			for (IType subtype : namedSubclassMapping.get(cu)) {
+				AbstractTypeDeclaration subtypeNode= ASTNodeSearchUtil.getAbstractTypeDeclarationNode(subtype, cuRewrite.getRoot());
+				if (subtypeNode != null)
+					modifyImplicitCallsToNoArgConstructor(subtypeNode, cuRewrite);
+			}
+		}
+		return cuRewrite.createChange(true);
+	}
+
 	private Map<ICompilationUnit, Set<IType>> createNamedSubclassMapping(IProgressMonitor pm) throws JavaModelException{
 		Map<ICompilationUnit, Set<IType>> result= new HashMap<>();
 		for (IType subclass : getCachedTypeHierarchy(Progress.subMonitor(pm, 1)).getSubclasses(fMethod.getDeclaringType())) {
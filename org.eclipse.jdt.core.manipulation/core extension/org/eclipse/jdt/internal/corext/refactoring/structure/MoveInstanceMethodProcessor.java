@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -159,6 +159,7 @@ import org.eclipse.jdt.internal.corext.refactoring.JDTRefactoringDescriptorComme
 import org.eclipse.jdt.internal.corext.refactoring.JavaRefactoringArguments;
 import org.eclipse.jdt.internal.corext.refactoring.JavaRefactoringDescriptorUtil;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringPhaseStats;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringScopeFactory;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringSearchEngine;
 import org.eclipse.jdt.internal.corext.refactoring.SearchResultGroup;
@@ -1664,6 +1665,10 @@ public final class MoveInstanceMethodProcessor extends MoveProcessor implements
 	 */
 	@Override
 	public RefactoringStatus checkFinalConditions(final IProgressMonitor monitor, final CheckConditionsContext context) throws CoreException, OperationCanceledException {
+		return RefactoringPhaseStats.measure(RefactoringPhaseStats.CHECK_FINAL_CONDITIONS, this, () -> doCheckFinalConditions(monitor, context));
+	}
+
+	private RefactoringStatus doCheckFinalConditions(final IProgressMonitor monitor, final CheckConditionsContext context) throws CoreException, OperationCanceledException {
 		Assert.isNotNull(monitor);
 		Assert.isNotNull(context);
 		Assert.isNotNull(fTarget);
@@ -1761,6 +1766,10 @@ public final class MoveInstanceMethodProcessor extends MoveProcessor implements
 	 */
 	@Override
 	public RefactoringStatus checkInitialConditions(final IProgressMonitor monitor) throws CoreException, OperationCanceledException {
+		return RefactoringPhaseStats.measure(RefactoringPhaseStats.CHECK_INITIAL_CONDITIONS, this, () -> doCheckInitialConditions(monitor));
+	}
+
+	private RefactoringStatus doCheckInitialConditions(final IProgressMonitor monitor) throws CoreException, OperationCanceledException {
 		Assert.isNotNull(monitor);
 		final RefactoringStatus status= new RefactoringStatus();
 		try {
@@ -2124,6 +2133,10 @@ public final class MoveInstanceMethodProcessor extends MoveProcessor implements
 	 */
 	@Override
 	public Change createChange(final IProgressMonitor monitor) throws CoreException, OperationCanceledException {
+		return RefactoringPhaseStats.measure(RefactoringPhaseStats.CREATE_CHANGE, this, () -> doCreateChange(monitor));
+	}
+
+	private Change doCreateChange(final IProgressMonitor monitor) throws CoreException, OperationCanceledException {
 		Assert.isNotNull(monitor);
 		try {
 			monitor.beginTask("", 6); //$NON-NLS-1$
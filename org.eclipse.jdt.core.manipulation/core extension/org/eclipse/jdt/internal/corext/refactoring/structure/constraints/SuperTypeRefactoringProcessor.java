@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,6 +29,7 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 
 import org.eclipse.text.edits.MalformedTreeException;
 import org.eclipse.text.edits.TextEdit;
@@ -1232,29 +1233,38 @@ public abstract class SuperTypeRefactoringProcessor extends RefactoringProcessor
 					for (IJavaProject project : keySet) {
 						Collection<ICompilationUnit> cuCollection= secondPass.get(project);
 						if (cuCollection != null) {
-							parser.setWorkingCopyOwner(fOwner);
-							parser.setResolveBindings(true);
-							parser.setProject(project);
-							parser.setCompilerOptions(RefactoringASTParser.getCompilerOptions(project));
+							final Map<String, String> options= RefactoringASTParser.getCompilerOptions(project);
 							final IProgressMonitor subsubMonitor= Progress.subMonitor(subMonitor, 100);
 							try {
 								subsubMonitor.beginTask("", cuCollection.size() * 100); //$NON-NLS-1$
 								subsubMonitor.setTaskName(RefactoringCoreMessages.SuperTypeRefactoringProcessor_creating);
-								parser.createASTs(cuCollection.toArray(new ICompilationUnit[cuCollection.size()]), new String[0], new ASTRequestor() {
+								// parse in batches like the first pass, so that only the ASTs of one batch are alive
+								final List<ICompilationUnit> batches= new ArrayList<>(cuCollection);
+								final int size= batches.size();
+								for (int index= 0; index < size; index+= SIZE_BATCH) {
+									final List<ICompilationUnit> iteration= batches.subList(index, Math.min(size, index + SIZE_BATCH));
+									parser.setWorkingCopyOwner(fOwner);
+									parser.setResolveBindings(true);
+									parser.setProject(project);
+									parser.setCompilerOptions(options);
+									parser.createASTs(iteration.toArray(new ICompilationUnit[iteration.size()]), new String[0], new ASTRequestor() {
 
-									@Override
-									public final void acceptAST(final ICompilationUnit unit, final CompilationUnit node) {
-										if (!processed.contains(unit))
-											performSecondPass(creator, unit, node, Progress.subMonitor(subsubMonitor, 100));
-										else
-											subsubMonitor.worked(100);
-									}
+										@Override
+										public final void acceptAST(final ICompilationUnit unit, final CompilationUnit node) {
+											if (!processed.contains(unit))
+												performSecondPass(creator, unit, node, Progress.subMonitor(subsubMonitor, 100));
+											else
+												subsubMonitor.worked(100);
+										}
 
-									@Override
-									public final void acceptBinding(final String key, final IBinding binding) {
-										// Do nothing
-									}
-								}, new NullProgressMonitor());
+										@Override
+										public final void acceptBinding(final String key, final IBinding binding) {
+											// Do nothing
+										}
+									}, new NullProgressMonitor());
+									if (subsubMonitor.isCanceled())
+										throw new OperationCanceledException();
+								}
 							} finally {
 								subsubMonitor.done();
 							}
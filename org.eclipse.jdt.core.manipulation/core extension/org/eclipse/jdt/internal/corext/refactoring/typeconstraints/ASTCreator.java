@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,21 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.WorkingCopyOwner;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 
 import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
@@ -37,6 +48,54 @@ public class ASTCreator {
 		return cuNode;
 	}
 
+	/**
+	 * Creates the ASTs of several compilation units with bindings. The units are parsed per
+	 * project in batches of at most <code>batchSize</code> units that share their bindings. The
+	 * ASTs of a batch are passed to the requestor and can be released before the next batch is
+	 * parsed, so the peak memory consumption depends on the batch size only.
+	 *
+	 * @param units the compilation units
+	 * @param workingCopyOwner the working copy owner, or <code>null</code>
+	 * @param batchSize the maximal number of units parsed together
+	 * @param requestor the requestor to pass the ASTs to. The ASTs have the {@link #CU_PROPERTY} set.
+	 * @param pm the progress monitor, one tick per unit. Canceling is checked between batches.
+	 */
+	public static void createASTs(ICompilationUnit[] units, WorkingCopyOwner workingCopyOwner, int batchSize, ASTRequestor requestor, IProgressMonitor pm) {
+		pm.beginTask("", units.length); //$NON-NLS-1$
+		try {
+			Map<IJavaProject, List<ICompilationUnit>> unitsByProject= new LinkedHashMap<>();
+			for (ICompilationUnit unit : units) {
+				unitsByProject.computeIfAbsent(unit.getJavaProject(), key -> new ArrayList<>()).add(unit);
+			}
+			ASTRequestor batchRequestor= new ASTRequestor() {
+				@Override
+				public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+					ast.setProperty(CU_PROPERTY, source);
+					requestor.acceptAST(source, ast);
+					pm.worked(1);
+				}
+			};
+			ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+			for (Map.Entry<IJavaProject, List<ICompilationUnit>> entry : unitsByProject.entrySet()) {
+				IJavaProject project= entry.getKey();
+				List<ICompilationUnit> projectUnits= entry.getValue();
+				Map<String, String> options= RefactoringASTParser.getCompilerOptions(project);
+				for (int index= 0; index < projectUnits.size(); index+= batchSize) {
+					if (pm.isCanceled())
+						throw new OperationCanceledException();
+					List<ICompilationUnit> batch= projectUnits.subList(index, Math.min(projectUnits.size(), index + batchSize));
+					parser.setResolveBindings(true);
+					parser.setWorkingCopyOwner(workingCopyOwner);
+					parser.setProject(project);
+					parser.setCompilerOptions(options);
+					parser.createASTs(batch.toArray(new ICompilationUnit[batch.size()]), new String[0], batchRequestor, new NullProgressMonitor());
+				}
+			}
+		} finally {
+			pm.done();
+		}
+	}
+
 	private static CompilationUnit getCuNode(WorkingCopyOwner workingCopyOwner, ICompilationUnit cu) {
 		ASTParser p = ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
 		p.setSource(cu);
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+
+/**
+ * Creates the changes of a refactoring for many compilation units concurrently.
+ * <p>
+ * The items (e.g. search result groups) are grouped by compilation unit. The items of one
+ * compilation unit are processed sequentially in their original order, different compilation
+ * units are processed on a pool of worker threads. Processing an item must only modify the
+ * change of its own compilation unit, which it obtains from a {@link TextChangeManager}.
+ * Since {@link TextChangeManager#getAllChanges()} orders the changes independently of the
+ * order of their creation, the resulting change is deterministic.
+ * </p>
+ */
+public final class ConcurrentChangeCreator {
+
+	/**
+	 * Creates the change of one item.
+	 *
+	 * @param <T> the type of the items
+	 */
+	@FunctionalInterface
+	public interface ItemProcessor<T> {
+		/**
+		 * Processes an item. Runs in a worker thread.
+		 *
+		 * @param item the item
+		 * @throws CoreException if the change cannot be created
+		 */
+		void process(T item) throws CoreException;
+	}
+
+	private static final int PARALLEL_THRESHOLD= 16;
+
+	private ConcurrentChangeCreator() {
+	}
+
+	/**
+	 * Processes the items, grouped by compilation unit.
+	 *
+	 * @param <T> the type of the items
+	 * @param items the items
+	 * @param cuOf returns the compilation unit of an item, or <code>null</code> to skip the item
+	 * @param processor the processor
+	 * @param pm the progress monitor, one tick per item. Canceling is checked between items.
+	 * @throws CoreException if an item cannot be processed
+	 */
+	public static <T> void process(T[] items, Function<T, ICompilationUnit> cuOf, ItemProcessor<T> processor, IProgressMonitor pm) throws CoreException {
+		pm.beginTask("", items.length); //$NON-NLS-1$
+		try {
+			Map<ICompilationUnit, List<T>> itemsByCu= new LinkedHashMap<>();
+			for (T item : items) {
+				ICompilationUnit cu= cuOf.apply(item);
+				if (cu != null) {
+					itemsByCu.computeIfAbsent(cu, key -> new ArrayList<>()).add(item);
+				} else {
+					pm.worked(1);
+				}
+			}
+			int threads= Math.min(itemsByCu.size() / PARALLEL_THRESHOLD, Runtime.getRuntime().availableProcessors());
+			if (threads <= 1) {
+				for (List<T> cuItems : itemsByCu.values()) {
+					processItems(cuItems, processor, pm);
+					pm.worked(cuItems.size());
+				}
+				return;
+			}
+			try (ExecutorService executor= Executors.newFixedThreadPool(threads)) {
+				try {
+					CompletionService<Integer> completionService= new ExecutorCompletionService<>(executor);
+					for (List<T> cuItems : itemsByCu.values()) {
+						completionService.submit(() -> {
+							processItems(cuItems, processor, pm);
+							return Integer.valueOf(cuItems.size());
+						});
+					}
+					for (int pending= itemsByCu.size(); pending > 0;) {
+						Future<Integer> done= completionService.poll(100, TimeUnit.MILLISECONDS);
+						if (pm.isCanceled())
+							throw new OperationCanceledException();
+						if (done == null)
+							continue;
+						pending--;
+						pm.worked(done.get().intValue());
+					}
+				} catch (InterruptedException e) {
+					throw new OperationCanceledException();
+				} catch (ExecutionException e) {
+					Throwable cause= e.getCause();
+					if (cause instanceof CoreException)
+						throw (CoreException) cause;
+					if (cause instanceof RuntimeException)
+						throw (RuntimeException) cause;
+					if (cause instanceof Error)
+						throw (Error) cause;
+					throw new IllegalStateException(cause);
+				} finally {
+					executor.shutdownNow();
+				}
+			}
+		} finally {
+			pm.done();
+		}
+	}
+
+	private static <T> void processItems(List<T> items, ItemProcessor<T> processor, IProgressMonitor pm) throws CoreException {
+		for (T item : items) {
+			if (pm.isCanceled())
+				throw new OperationCanceledException();
+			processor.process(item);
+		}
+	}
+}
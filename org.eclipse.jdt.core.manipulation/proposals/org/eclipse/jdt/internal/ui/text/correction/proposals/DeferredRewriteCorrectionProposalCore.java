@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.correction.proposals;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
+
+/**
+ * A proposal whose AST rewrite is created when it is first needed, i.e. when the proposal is
+ * previewed or applied, and not when the proposal is collected.
+ * <p>
+ * Only the label, relevance and image of the proposal are computed up front, so the cost of
+ * collecting the proposal does not depend on the size of the rewrite. The rewrite is created on
+ * the AST of the invocation, which all proposals of the invocation share. As previews are
+ * computed in the background, rewrites created on the same AST are serialized.
+ * </p>
+ */
+public class DeferredRewriteCorrectionProposalCore extends LinkedCorrectionProposalCore {
+
+	/**
+	 * Creates the rewrite of a deferred proposal.
+	 */
+	@FunctionalInterface
+	public interface RewriteCreator {
+		/**
+		 * Creates the rewrite. Called at most once.
+		 *
+		 * @param proposal the proposal, e.g. to add linked positions or an import rewrite
+		 * @return the rewrite
+		 * @throws CoreException if the rewrite cannot be created
+		 */
+		ASTRewrite createRewrite(DeferredRewriteCorrectionProposalCore proposal) throws CoreException;
+	}
+
+	private final CompilationUnit fASTRoot;
+	private RewriteCreator fCreator;
+	private ASTRewrite fRewrite;
+
+	/**
+	 * @param name the display name of the proposal
+	 * @param cu the compilation unit that is modified
+	 * @param astRoot the AST the rewrite is created on
+	 * @param relevance the relevance of the proposal
+	 * @param creator creates the rewrite when it is first needed
+	 */
+	public DeferredRewriteCorrectionProposalCore(String name, ICompilationUnit cu, CompilationUnit astRoot, int relevance, RewriteCreator creator) {
+		super(name, cu, null, relevance);
+		fASTRoot= astRoot;
+		fCreator= creator;
+	}
+
+	@Override
+	protected ASTRewrite getRewrite() throws CoreException {
+		synchronized (fASTRoot) {
+			if (fCreator != null) {
+				RewriteCreator creator= fCreator;
+				fCreator= null;
+				fRewrite= creator.createRewrite(this);
+			}
+			return fRewrite;
+		}
+	}
+}
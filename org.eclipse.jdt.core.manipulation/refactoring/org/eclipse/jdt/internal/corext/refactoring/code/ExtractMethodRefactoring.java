@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -146,6 +146,7 @@ import org.eclipse.jdt.internal.corext.refactoring.JavaRefactoringArguments;
 import org.eclipse.jdt.internal.corext.refactoring.JavaRefactoringDescriptorUtil;
 import org.eclipse.jdt.internal.corext.refactoring.ParameterInfo;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringPhaseStats;
 import org.eclipse.jdt.internal.corext.refactoring.code.SnippetFinder.Match;
 import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
 import org.eclipse.jdt.internal.corext.refactoring.util.ResourceUtil;
@@ -326,6 +327,10 @@ public class ExtractMethodRefactoring extends Refactoring {
 	 */
 	@Override
 	public RefactoringStatus checkInitialConditions(IProgressMonitor pm) throws CoreException {
+		return RefactoringPhaseStats.measure(RefactoringPhaseStats.CHECK_INITIAL_CONDITIONS, this, () -> doCheckInitialConditions(pm));
+	}
+
+	private RefactoringStatus doCheckInitialConditions(IProgressMonitor pm) throws CoreException {
 		RefactoringStatus result= new RefactoringStatus();
 		pm.beginTask("", 100); //$NON-NLS-1$
 
@@ -609,6 +614,10 @@ public class ExtractMethodRefactoring extends Refactoring {
 
 	@Override
 	public RefactoringStatus checkFinalConditions(IProgressMonitor pm) throws CoreException {
+		return RefactoringPhaseStats.measure(RefactoringPhaseStats.CHECK_FINAL_CONDITIONS, this, () -> doCheckFinalConditions(pm));
+	}
+
+	private RefactoringStatus doCheckFinalConditions(IProgressMonitor pm) throws CoreException {
 		pm.beginTask(RefactoringCoreMessages.ExtractMethodRefactoring_checking_new_name, 2);
 		pm.subTask(EMPTY);
 
@@ -631,6 +640,10 @@ public class ExtractMethodRefactoring extends Refactoring {
 
 	@Override
 	public Change createChange(IProgressMonitor pm) throws CoreException {
+		return RefactoringPhaseStats.measure(RefactoringPhaseStats.CREATE_CHANGE, this, () -> doCreateChange(pm));
+	}
+
+	private Change doCreateChange(IProgressMonitor pm) throws CoreException {
 		if (fMethodName == null)
 			return null;
 		pm.beginTask("", 2); //$NON-NLS-1$
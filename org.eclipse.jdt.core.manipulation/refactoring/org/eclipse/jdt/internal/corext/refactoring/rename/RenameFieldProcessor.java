@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,11 @@ package org.eclipse.jdt.internal.corext.refactoring.rename;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -23,6 +27,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
 
 import org.eclipse.text.edits.ReplaceEdit;
 import org.eclipse.text.edits.TextEdit;
@@ -73,6 +78,7 @@ import org.eclipse.jdt.internal.corext.codemanipulation.GetterSetterUtil;
 import org.eclipse.jdt.internal.corext.refactoring.Checks;
 import org.eclipse.jdt.internal.corext.refactoring.CollectingSearchRequestor;
 import org.eclipse.jdt.internal.corext.refactoring.CuCollectingSearchRequestor;
+import org.eclipse.jdt.internal.corext.refactoring.ISearchResultGroupConsumer;
 import org.eclipse.jdt.internal.corext.refactoring.JDTRefactoringDescriptorComment;
 import org.eclipse.jdt.internal.corext.refactoring.JavaRefactoringArguments;
 import org.eclipse.jdt.internal.corext.refactoring.JavaRefactoringDescriptorUtil;
@@ -123,7 +129,7 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 	private ILocalVariable fLocalVariable;
 	private boolean fIsCompactConstructor;
 	/* Record Related Fields End*/
-	private SearchResultGroup[] fReferences;
+	private Map<ICompilationUnit, ReferenceRanges> fReferences;
 	private TextChangeManager fChangeManager;
 	protected boolean fUpdateReferences;
 	protected boolean fUpdateTextualMatches;
@@ -530,18 +536,9 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 			result.merge(checkNestedHierarchy(fField.getDeclaringType()));
 			pm.worked(1);
 
-			if (fUpdateReferences){
-				pm.setTaskName(RefactoringCoreMessages.RenameFieldRefactoring_searching);
-				fReferences= getReferences(Progress.subMonitor(pm, 3), result);
-				pm.setTaskName(RefactoringCoreMessages.RenameFieldRefactoring_checking);
-			} else {
-				fReferences= new SearchResultGroup[0];
-				pm.worked(3);
-			}
-
-			if (fUpdateReferences)
-				result.merge(analyzeAffectedCompilationUnits());
-			else
+			// the references are searched when the changes are created
+			fReferences= new LinkedHashMap<>();
+			if (!fUpdateReferences)
 				Checks.checkCompileErrorsInAffectedFile(result, fField.getResource());
 
 			if (getGetter() != null && fRenameGetter){
@@ -574,7 +571,7 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 					return result;
 			}
 
-			result.merge(createChanges(Progress.subMonitor(pm, 10)));
+			result.merge(createChanges(Progress.subMonitor(pm, 13)));
 			if (result.hasFatalError())
 				return result;
 
@@ -689,20 +686,6 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 		return result;
 	}
 
-	/*
-	 * (non java-doc)
-	 * Analyzes all compilation units in which type is referenced
-	 */
-	private RefactoringStatus analyzeAffectedCompilationUnits() throws CoreException{
-		RefactoringStatus result= new RefactoringStatus();
-		fReferences= Checks.excludeCompilationUnits(fReferences, result);
-		if (result.hasFatalError())
-			return result;
-
-		result.merge(Checks.checkCompileErrorsInAffectedFiles(fReferences));
-		return result;
-	}
-
 	private SearchPattern createSearchPattern(){
 		return SearchPattern.createPattern(fField, IJavaSearchConstants.REFERENCES);
 	}
@@ -711,55 +694,47 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 		return RefactoringScopeFactory.create(fField, true, false);
 	}
 
-	private SearchResultGroup[] getReferences(IProgressMonitor pm, RefactoringStatus status) throws CoreException{
-		String binaryRefsDescription= Messages.format(RefactoringCoreMessages.ReferencesInBinaryContext_ref_in_binaries_description , BasicElementLabels.getJavaElementName(getCurrentElementName()));
-		ReferencesInBinaryContext binaryRefs= new ReferencesInBinaryContext(binaryRefsDescription);
-
-		SearchPattern searchPattern= createSearchPattern();
-		if (searchPattern == null) {
-			return new SearchResultGroup[0];
+	/**
+	 * Returns the references found by {@link #addReferenceUpdates(IProgressMonitor)}. The matches
+	 * only have their offsets and lengths.
+	 *
+	 * @return the references, one group per compilation unit
+	 */
+	private SearchResultGroup[] getReferences() {
+		SearchResultGroup[] result= new SearchResultGroup[fReferences.size()];
+		int i= 0;
+		for (ReferenceRanges ranges : fReferences.values()) {
+			result[i++]= ranges.toSearchResultGroup();
 		}
-		SearchResultGroup[] result= RefactoringSearchEngine.search(searchPattern, createRefactoringScope(),
-				new CuCollectingSearchRequestor(binaryRefs), pm, status);
-		binaryRefs.addErrorIfNecessary(status);
-		result= filterAccessorMethods(result, true);
 		return result;
 	}
 
 	/**
-	 * @param grouped the list that needs to be filtered
+	 * @param group the group that needs to be filtered
 	 * @param filterOut if <code>true</code>, filters out the references to record component
 	 *            accessor methods. If <code>false</code>, returns only the references to record
 	 *            component accessor methods.
-	 * @return the filtered list
+	 * @return the filtered group
 	 */
-	private SearchResultGroup[] filterAccessorMethods(SearchResultGroup[] grouped, boolean filterOut) {
+	private SearchResultGroup filterAccessorMethods(SearchResultGroup group, boolean filterOut) {
 		if (this.fIsRecordComponent) {
-			List<SearchResultGroup> result= new ArrayList<>();
-			for (SearchResultGroup g : grouped) {
-				SearchMatch[] matches= g.getSearchResults();
-				List<SearchMatch> newList= new ArrayList<>();
-				for (SearchMatch match : matches) {
-					if (match instanceof MethodReferenceMatch) {
-						if (filterOut) {
-							continue;
-						}
-						newList.add(match);
-					} else if (filterOut) {
-						newList.add(match);
+			SearchMatch[] matches= group.getSearchResults();
+			List<SearchMatch> newList= new ArrayList<>();
+			for (SearchMatch match : matches) {
+				if (match instanceof MethodReferenceMatch) {
+					if (filterOut) {
+						continue;
 					}
-				}
-				if (newList.size() != matches.length) {
-					result.add(new SearchResultGroup(g.getResource(), newList.toArray(new SearchMatch[newList.size()])));
-				} else {
-					result.add(g);
+					newList.add(match);
+				} else if (filterOut) {
+					newList.add(match);
 				}
 			}
-			return result.toArray(new SearchResultGroup[result.size()]);
-		} else {
-			return grouped;
+			if (newList.size() != matches.length) {
+				return new SearchResultGroup(group.getResource(), newList.toArray(new SearchMatch[newList.size()]));
+			}
 		}
-
+		return group;
 	}
 
 	@Override
@@ -821,7 +796,7 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 	}
 
 	private RefactoringStatus createChanges(IProgressMonitor pm) throws CoreException {
-		pm.beginTask(RefactoringCoreMessages.RenameFieldRefactoring_checking, 10);
+		pm.beginTask(RefactoringCoreMessages.RenameFieldRefactoring_checking, 13);
 		RefactoringStatus result= new RefactoringStatus();
 		if (!fIsComposite)
 			fChangeManager.clear();
@@ -834,12 +809,16 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 		addDeclarationUpdate();
 
 		if (fUpdateReferences) {
-			addReferenceUpdates(Progress.subMonitor(pm, 1));
+			pm.setTaskName(RefactoringCoreMessages.RenameFieldRefactoring_searching);
+			result.merge(addReferenceUpdates(Progress.subMonitor(pm, 4)));
+			pm.setTaskName(RefactoringCoreMessages.RenameFieldRefactoring_checking);
+			if (result.hasFatalError())
+				return result;
 			result.merge(analyzeRenameChanges(Progress.subMonitor(pm, 2)));
 			if (result.hasFatalError())
 				return result;
 		} else {
-			pm.worked(3);
+			pm.worked(6);
 		}
 
 		if (getGetter() != null && fRenameGetter) {
@@ -943,17 +922,98 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 
 	}
 
-	private void addReferenceUpdates(IProgressMonitor pm) {
-		pm.beginTask("", fReferences.length); //$NON-NLS-1$
-		String editName= RefactoringCoreMessages.RenameFieldRefactoring_Update_field_reference;
-		for (SearchResultGroup reference : fReferences) {
-			ICompilationUnit cu= reference.getCompilationUnit();
-			if (cu == null)
-				continue;
-			for (SearchMatch result : reference.getSearchResults()) {
-				addTextEdit(fChangeManager.get(cu), editName, createTextChange(result));
+	/**
+	 * Searches the references to the field and creates their edits. The edits of a compilation
+	 * unit are created as soon as its matches have been found. Only the ranges of the matches are
+	 * kept, for the analysis of the rename and the textual matches.
+	 *
+	 * @param pm the progress monitor
+	 * @return the status of the search
+	 * @throws CoreException if the search failed
+	 */
+	private RefactoringStatus addReferenceUpdates(IProgressMonitor pm) throws CoreException {
+		RefactoringStatus result= new RefactoringStatus();
+		fReferences= new LinkedHashMap<>();
+		SearchPattern searchPattern= createSearchPattern();
+		if (searchPattern == null) {
+			pm.done();
+			return result;
+		}
+		String binaryRefsDescription= Messages.format(RefactoringCoreMessages.ReferencesInBinaryContext_ref_in_binaries_description , BasicElementLabels.getJavaElementName(getCurrentElementName()));
+		ReferencesInBinaryContext binaryRefs= new ReferencesInBinaryContext(binaryRefsDescription);
+
+		ReferenceUpdater updater= new ReferenceUpdater(result);
+		RefactoringSearchEngine.search(searchPattern, null, createRefactoringScope(), new CuCollectingSearchRequestor(binaryRefs), updater, pm, result);
+		binaryRefs.addErrorIfNecessary(result);
+		if (!updater.fExcluded.isEmpty() && fReferences.isEmpty())
+			result.addFatalError(RefactoringCoreMessages.Checks_all_excluded);
+		return result;
+	}
+
+	/**
+	 * Creates the edits of the references in one compilation unit, and checks the compilation
+	 * unit when its first references are reported.
+	 */
+	private final class ReferenceUpdater implements ISearchResultGroupConsumer {
+
+		private final RefactoringStatus fStatus;
+		private final Set<ICompilationUnit> fExcluded= new HashSet<>();
+
+		ReferenceUpdater(RefactoringStatus status) {
+			fStatus= status;
+		}
+
+		@Override
+		public void accept(SearchResultGroup group) throws CoreException {
+			SearchMatch[] matches= filterAccessorMethods(group, true).getSearchResults();
+			ICompilationUnit cu= group.getCompilationUnit();
+			if (matches.length == 0 || cu == null || fExcluded.contains(cu))
+				return;
+			ReferenceRanges ranges= fReferences.get(cu);
+			if (ranges == null) {
+				if (Checks.isExcluded(cu, fStatus)) {
+					fExcluded.add(cu);
+					return;
+				}
+				Checks.checkCompileErrorsInAffectedFile(fStatus, group.getResource());
+				ranges= new ReferenceRanges(group.getResource());
+				fReferences.put(cu, ranges);
+			}
+			String editName= RefactoringCoreMessages.RenameFieldRefactoring_Update_field_reference;
+			TextChange change= fChangeManager.get(cu);
+			for (SearchMatch match : matches) {
+				addTextEdit(change, editName, createTextChange(match));
+				ranges.add(match.getOffset(), match.getLength());
 			}
-			pm.worked(1);
+		}
+	}
+
+	/**
+	 * The ranges of the references in a compilation unit.
+	 */
+	private static final class ReferenceRanges {
+
+		private final IResource fResource;
+		private int[] fRanges= new int[8];
+		private int fSize;
+
+		ReferenceRanges(IResource resource) {
+			fResource= resource;
+		}
+
+		void add(int offset, int length) {
+			if (fSize + 2 > fRanges.length)
+				fRanges= Arrays.copyOf(fRanges, fRanges.length * 2);
+			fRanges[fSize++]= offset;
+			fRanges[fSize++]= length;
+		}
+
+		SearchResultGroup toSearchResultGroup() {
+			SearchMatch[] matches= new SearchMatch[fSize / 2];
+			for (int i= 0; i < matches.length; i++) {
+				matches[i]= new SearchMatch(null, SearchMatch.A_ACCURATE, fRanges[2 * i], fRanges[2 * i + 1], null, fResource);
+			}
+			return new SearchResultGroup(fResource, matches);
 		}
 	}
 
@@ -985,19 +1045,17 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 		if (pattern == null) {
 			return;
 		}
-		SearchResultGroup[] groupedResults= RefactoringSearchEngine.search(
-			pattern, scope, new MethodOccurenceCollector(accessor.getElementName()), pm, status);
-
-		for (SearchResultGroup groupedResult : groupedResults) {
+		// the edits of a compilation unit are created as soon as its matches have been found
+		RefactoringSearchEngine.search(pattern, null, scope, new MethodOccurenceCollector(accessor.getElementName()), groupedResult -> {
 			ICompilationUnit cu= groupedResult.getCompilationUnit();
 			if (cu == null)
-				continue;
+				return;
 			SearchMatch[] results= groupedResult.getSearchResults();
 			for (SearchMatch searchResult : results) {
 				TextEdit edit= new ReplaceEdit(searchResult.getOffset(), searchResult.getLength(), newAccessorName);
 				addTextEdit(fChangeManager.get(cu), editName, edit);
 			}
-		}
+		}, pm, status);
 	}
 
 	private void addLocalVariableOccurrences(String newName, RefactoringStatus status) throws CoreException {
@@ -1031,24 +1089,22 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 		if (searchPattern == null) {
 			return;
 		}
-		SearchResultGroup[] result= RefactoringSearchEngine.search(searchPattern, scope,
-				new CuCollectingSearchRequestor(binaryRefs), pm, status);
-		binaryRefs.addErrorIfNecessary(status);
-		result= filterAccessorMethods(result, false);
-		for (SearchResultGroup groupedResult : result) {
+		// the edits of a compilation unit are created as soon as its matches have been found
+		RefactoringSearchEngine.search(searchPattern, null, scope, new CuCollectingSearchRequestor(binaryRefs), groupedResult -> {
 			ICompilationUnit cu= groupedResult.getCompilationUnit();
 			if (cu == null)
-				continue;
-			SearchMatch[] results= groupedResult.getSearchResults();
+				return;
+			SearchMatch[] results= filterAccessorMethods(groupedResult, false).getSearchResults();
 			for (SearchMatch searchResult : results) {
 				TextEdit edit= new ReplaceEdit(searchResult.getOffset(), fieldName.length(), newAccessorName);
 				addTextEdit(fChangeManager.get(cu), editName, edit);
 			}
-		}
+		}, pm, status);
+		binaryRefs.addErrorIfNecessary(status);
 	}
 
 	private void addTextMatches(IProgressMonitor pm) throws CoreException {
-		TextMatchUpdater.perform(pm, createRefactoringScope(), this, fChangeManager, fReferences);
+		TextMatchUpdater.perform(pm, createRefactoringScope(), this, fChangeManager, getReferences());
 	}
 
 	private void assignField(IField field) {
@@ -1073,14 +1129,10 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 		try {
 			pm.beginTask("", 2); //$NON-NLS-1$
 			RefactoringStatus result= new RefactoringStatus();
-			SearchResultGroup[] oldReferences= fReferences;
-
 			List<ICompilationUnit> compilationUnitsToModify= new ArrayList<>();
 			if (fIsComposite) {
 				// limited change set, no accessors.
-				for (SearchResultGroup oldReference : oldReferences) {
-					compilationUnitsToModify.add(oldReference.getCompilationUnit());
-				}
+				compilationUnitsToModify.addAll(fReferences.keySet());
 				compilationUnitsToModify.add(fField.getCompilationUnit());
 			} else {
 				// include all cus, including accessors
@@ -1091,7 +1143,7 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 					fChangeManager, newWCOwner, Progress.subMonitor(pm, 1));
 
 			SearchResultGroup[] newReferences= getNewReferences(Progress.subMonitor(pm, 1), result, newWCOwner, newWorkingCopies);
-			result.merge(RenameAnalyzeUtil.analyzeRenameChanges2(fChangeManager, oldReferences, newReferences, getNewElementName()));
+			result.merge(RenameAnalyzeUtil.analyzeRenameChanges2(fChangeManager, getReferences(), newReferences, getNewElementName()));
 			return result;
 		} finally{
 			pm.done();
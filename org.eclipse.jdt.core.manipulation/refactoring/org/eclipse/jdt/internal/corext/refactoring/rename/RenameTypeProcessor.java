@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -100,6 +101,7 @@ import org.eclipse.jdt.internal.corext.refactoring.JavaRefactoringArguments;
 import org.eclipse.jdt.internal.corext.refactoring.JavaRefactoringDescriptorUtil;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringAvailabilityTesterCore;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringPhaseStats;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringScopeFactory;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringSearchEngine;
 import org.eclipse.jdt.internal.corext.refactoring.SearchResultGroup;
@@ -114,6 +116,7 @@ import org.eclipse.jdt.internal.corext.refactoring.tagging.IReferenceUpdating;
 import org.eclipse.jdt.internal.corext.refactoring.tagging.ISimilarDeclarationUpdating;
 import org.eclipse.jdt.internal.corext.refactoring.tagging.ITextUpdating;
 import org.eclipse.jdt.internal.corext.refactoring.util.Changes;
+import org.eclipse.jdt.internal.corext.refactoring.util.ConcurrentChangeCreator;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaElementUtil;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaStatusContext;
 import org.eclipse.jdt.internal.corext.refactoring.util.QualifiedNameFinder;
@@ -455,6 +458,10 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 
 	@Override
 	public RefactoringStatus checkInitialConditions(IProgressMonitor pm) throws CoreException {
+		return RefactoringPhaseStats.measure(RefactoringPhaseStats.CHECK_INITIAL_CONDITIONS, this, () -> doCheckInitialConditions(pm));
+	}
+
+	private RefactoringStatus doCheckInitialConditions(IProgressMonitor pm) throws CoreException {
 		IType primary= (IType) fType.getPrimaryElement();
 		if (primary == null || !primary.exists()) {
 			String qualifiedTypeName= JavaElementLabelsCore.getElementLabel(fType, JavaElementLabelsCore.F_FULLY_QUALIFIED);
@@ -627,79 +634,21 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 
 			final String unQualifiedTypeName= fType.getElementName();
 
-			monitor.beginTask("", fReferences.length); //$NON-NLS-1$
-
 			if (getUpdateSimilarDeclarations()) {
-
-				RenamingNameSuggestor sugg= new RenamingNameSuggestor(fRenamingStrategy);
-
+				// find the candidates of all compilation units concurrently, merge them in the order of the references
+				final Map<SearchResultGroup, Map<IJavaElement, String>> similarElements= new ConcurrentHashMap<>();
+				try {
+					ConcurrentChangeCreator.process(fReferences, SearchResultGroup::getCompilationUnit,
+							reference -> similarElements.put(reference, findSimilarElements(reference, unQualifiedTypeName)), monitor);
+				} catch (JavaModelException e) {
+					throw e;
+				} catch (CoreException e) {
+					throw new JavaModelException(e);
+				}
 				for (SearchResultGroup reference : fReferences) {
-					final ICompilationUnit cu= reference.getCompilationUnit();
-					if (cu == null)
-						continue;
-
-					final SearchMatch[] results= reference.getSearchResults();
-
-					for (SearchMatch result : results) {
-
-						if (! (result instanceof TypeReferenceMatch))
-							continue;
-
-						final TypeReferenceMatch match= (TypeReferenceMatch) result;
-						final List<IJavaElement> matches= new ArrayList<>();
-
-						if (match.getLocalElement() != null) {
-							if (match.getLocalElement() instanceof ILocalVariable) {
-								matches.add(match.getLocalElement());
-							}
-							// else don't update (e.g. match in type parameter, annotation, ...)
-						} else {
-							matches.add((IJavaElement) match.getElement());
-						}
-
-						final IJavaElement[] others= match.getOtherElements();
-						if (others != null)
-							matches.addAll(Arrays.asList(others));
-
-						for (IJavaElement element : matches) {
-							if (! (element instanceof IMethod) && ! (element instanceof IField) && ! (element instanceof ILocalVariable))
-								continue;
-
-							if (!isInDeclaredType(match.getOffset(), element))
-								continue;
-
-							if (element instanceof IField) {
-								final IField currentField= (IField) element;
-								final String newFieldName= sugg.suggestNewFieldName(currentField.getJavaProject(), currentField.getElementName(), Flags.isStatic(currentField.getFlags()),
-										unQualifiedTypeName, getNewElementName());
-
-								if (newFieldName != null)
-									fPreloadedElementToName.put(currentField, newFieldName);
-
-							} else if (element instanceof IMethod) {
-								final IMethod currentMethod= (IMethod) element;
-								addMethodRename(unQualifiedTypeName, sugg, currentMethod);
-
-							} else if (element instanceof ILocalVariable) {
-								final ILocalVariable currentLocal= (ILocalVariable) element;
-								final boolean isParameter;
-
-								if (currentLocal.isParameter()) {
-									addMethodRename(unQualifiedTypeName, sugg, (IMethod) currentLocal.getParent());
-									isParameter= true;
-								} else
-									isParameter= false;
-
-								final String newLocalName= sugg
-										.suggestNewLocalName(currentLocal.getJavaProject(), currentLocal.getElementName(), isParameter, unQualifiedTypeName, getNewElementName());
-
-								if (newLocalName != null)
-									fPreloadedElementToName.put(currentLocal, newLocalName);
-							}
-						}
-					}
-					if (monitor.isCanceled())
-						throw new OperationCanceledException();
+					Map<IJavaElement, String> elements= similarElements.get(reference);
+					if (elements != null)
+						fPreloadedElementToName.putAll(elements);
 				}
 			}
 
@@ -738,12 +687,92 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 		return false;
 	}
 
-	private void addMethodRename(final String unQualifiedTypeName, RenamingNameSuggestor sugg, final IMethod currentMethod) throws JavaModelException {
-		if (!currentMethod.isConstructor()) {
+	/**
+	 * Finds the similarly named elements declared with the type in the matches of one compilation
+	 * unit. Only names are compared, bindings are not resolved. Called concurrently for different
+	 * compilation units.
+	 *
+	 * @param reference the references in a compilation unit
+	 * @param unQualifiedTypeName the old name of the type
+	 * @return the similarly named elements, mapped to their new names, in the order of the matches
+	 * @throws JavaModelException should not happen
+	 */
+	private Map<IJavaElement, String> findSimilarElements(SearchResultGroup reference, final String unQualifiedTypeName) throws JavaModelException {
+		final Map<IJavaElement, String> result= new LinkedHashMap<>();
+		final RenamingNameSuggestor sugg= new RenamingNameSuggestor(fRenamingStrategy);
+
+		for (SearchMatch searchMatch : reference.getSearchResults()) {
+
+			if (! (searchMatch instanceof TypeReferenceMatch))
+				continue;
+
+			final TypeReferenceMatch match= (TypeReferenceMatch) searchMatch;
+			final List<IJavaElement> matches= new ArrayList<>();
+
+			if (match.getLocalElement() != null) {
+				if (match.getLocalElement() instanceof ILocalVariable) {
+					matches.add(match.getLocalElement());
+				}
+				// else don't update (e.g. match in type parameter, annotation, ...)
+			} else {
+				matches.add((IJavaElement) match.getElement());
+			}
+
+			final IJavaElement[] others= match.getOtherElements();
+			if (others != null)
+				matches.addAll(Arrays.asList(others));
+
+			for (IJavaElement element : matches) {
+				if (! (element instanceof IMethod) && ! (element instanceof IField) && ! (element instanceof ILocalVariable))
+					continue;
+
+				// fast path: skip elements whose names cannot match before accessing their details
+				if (!sugg.mayMatch(element.getElementName(), unQualifiedTypeName)
+						&& !(element instanceof ILocalVariable && ((ILocalVariable) element).isParameter() && sugg.mayMatch(element.getParent().getElementName(), unQualifiedTypeName)))
+					continue;
+
+				if (!isInDeclaredType(match.getOffset(), element))
+					continue;
+
+				if (element instanceof IField) {
+					final IField currentField= (IField) element;
+					final String newFieldName= sugg.suggestNewFieldName(currentField.getJavaProject(), currentField.getElementName(), Flags.isStatic(currentField.getFlags()),
+							unQualifiedTypeName, getNewElementName());
+
+					if (newFieldName != null)
+						result.put(currentField, newFieldName);
+
+				} else if (element instanceof IMethod) {
+					final IMethod currentMethod= (IMethod) element;
+					addMethodRename(unQualifiedTypeName, sugg, currentMethod, result);
+
+				} else if (element instanceof ILocalVariable) {
+					final ILocalVariable currentLocal= (ILocalVariable) element;
+					final boolean isParameter;
+
+					if (currentLocal.isParameter()) {
+						addMethodRename(unQualifiedTypeName, sugg, (IMethod) currentLocal.getParent(), result);
+						isParameter= true;
+					} else
+						isParameter= false;
+
+					final String newLocalName= sugg
+							.suggestNewLocalName(currentLocal.getJavaProject(), currentLocal.getElementName(), isParameter, unQualifiedTypeName, getNewElementName());
+
+					if (newLocalName != null)
+						result.put(currentLocal, newLocalName);
+				}
+			}
+		}
+		return result;
+	}
+
+	private void addMethodRename(final String unQualifiedTypeName, RenamingNameSuggestor sugg, final IMethod currentMethod, Map<IJavaElement, String> result) throws JavaModelException {
+		if (!currentMethod.isConstructor() && sugg.mayMatch(currentMethod.getElementName(), unQualifiedTypeName)) {
 			final String newMethodName= sugg.suggestNewMethodName(currentMethod.getElementName(), unQualifiedTypeName, getNewElementName());
 
 			if (newMethodName != null)
-				fPreloadedElementToName.put(currentMethod, newMethodName);
+				result.put(currentMethod, newMethodName);
 		}
 	}
 
@@ -1036,6 +1065,10 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 
 	@Override
 	public Change createChange(IProgressMonitor monitor) throws CoreException {
+		return RefactoringPhaseStats.measure(RefactoringPhaseStats.CREATE_CHANGE, this, () -> doCreateChange(monitor));
+	}
+
+	private Change doCreateChange(IProgressMonitor monitor) throws CoreException {
 		try {
 			monitor.beginTask(RefactoringCoreMessages.RenameTypeRefactoring_creating_change, 4);
 			String project= null;
@@ -1200,21 +1233,15 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 		}
 	}
 
-	private void addReferenceUpdates(TextChangeManager manager, IProgressMonitor pm) {
-		pm.beginTask("", fReferences.length); //$NON-NLS-1$
-		for (SearchResultGroup reference : fReferences) {
-			ICompilationUnit cu= reference.getCompilationUnit();
-			if (cu == null)
-				continue;
-
-			String name= RefactoringCoreMessages.RenameTypeRefactoring_update_reference;
-
+	private void addReferenceUpdates(TextChangeManager manager, IProgressMonitor pm) throws CoreException {
+		String name= RefactoringCoreMessages.RenameTypeRefactoring_update_reference;
+		ConcurrentChangeCreator.process(fReferences, SearchResultGroup::getCompilationUnit, reference -> {
+			TextChange change= manager.get(reference.getCompilationUnit());
 			for (SearchMatch match : reference.getSearchResults()) {
 				ReplaceEdit replaceEdit= new ReplaceEdit(match.getOffset(), match.getLength(), getNewElementName());
-				TextChangeCompatibility.addTextEdit(manager.get(cu), name, replaceEdit, CATEGORY_TYPE_RENAME);
+				TextChangeCompatibility.addTextEdit(change, name, replaceEdit, CATEGORY_TYPE_RENAME);
 			}
-			pm.worked(1);
-		}
+		}, pm);
 	}
 
 	private void computeQualifiedNameMatches(IProgressMonitor pm) {
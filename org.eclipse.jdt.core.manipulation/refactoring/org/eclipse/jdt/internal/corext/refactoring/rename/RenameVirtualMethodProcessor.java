@@ -94,7 +94,7 @@ public class RenameVirtualMethodProcessor extends RenameMethodProcessor {
 	private ITypeHierarchy getCachedHierarchy(IType declaring, IProgressMonitor monitor) throws JavaModelException {
 		if (fCachedHierarchy != null && declaring.equals(fCachedHierarchy.getType()))
 			return fCachedHierarchy;
-		fCachedHierarchy= declaring.newTypeHierarchy(Progress.subMonitor(monitor, 1));
+		fCachedHierarchy= RippleMethodCache.getTypeHierarchy(declaring, Progress.subMonitor(monitor, 1));
 		return fCachedHierarchy;
 	}
 
@@ -203,7 +203,7 @@ public class RenameVirtualMethodProcessor extends RenameMethodProcessor {
 			for (IType type : types) {
 				final IMethod found= Checks.findMethod(method, type);
 				final IType declaring= found.getDeclaringType();
-				result.addAll(Arrays.asList(hierarchyDeclaresMethodName(Progress.subMonitor(pm, 1), declaring.newTypeHierarchy(Progress.subMonitor(pm, 1)), found, newName)));
+				result.addAll(Arrays.asList(hierarchyDeclaresMethodName(Progress.subMonitor(pm, 1), RippleMethodCache.getTypeHierarchy(declaring, Progress.subMonitor(pm, 1)), found, newName)));
 			}
 			return result.toArray(new IMethod[result.size()]);
 		} finally {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,9 +15,18 @@ package org.eclipse.jdt.internal.corext.refactoring.rename;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -37,6 +46,7 @@ import org.eclipse.text.edits.ReplaceEdit;
 import org.eclipse.ltk.core.refactoring.GroupCategory;
 import org.eclipse.ltk.core.refactoring.GroupCategorySet;
 
+import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.JavaCore;
@@ -49,6 +59,7 @@ import org.eclipse.jdt.internal.corext.refactoring.SearchResultGroup;
 import org.eclipse.jdt.internal.corext.refactoring.changes.TextChangeCompatibility;
 import org.eclipse.jdt.internal.corext.refactoring.rename.RefactoringScanner.TextMatch;
 import org.eclipse.jdt.internal.corext.refactoring.tagging.ITextUpdating;
+import org.eclipse.jdt.internal.corext.refactoring.util.FileContentPrefilter;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
 
 import org.eclipse.jdt.internal.ui.util.Progress;
@@ -62,27 +73,34 @@ public class TextMatchUpdater {
 			RefactoringCoreMessages.TextMatchUpdater_textualMatches_name,
 			RefactoringCoreMessages.TextMatchUpdater_textualMatches_description));
 
+
 	private final IJavaSearchScope fScope;
 	private final TextChangeManager fManager;
 	private final SearchResultGroup[] fReferences;
 	private final boolean fOnlyQualified;
 
-	private final RefactoringScanner fScanner;
+	private final String fCurrentName;
+	private final String fCurrentQualifier;
 	private final String fNewName;
 	private final int fCurrentNameLength;
+	private final FileContentPrefilter fPrefilter;
 
 	private TextMatchUpdater(TextChangeManager manager, IJavaSearchScope scope, String currentName, String currentQualifier, String newName, SearchResultGroup[] references, boolean onlyQualified){
 		Assert.isNotNull(manager);
 		Assert.isNotNull(scope);
 		Assert.isNotNull(references);
+		Assert.isNotNull(currentName);
+		Assert.isNotNull(currentQualifier);
 		fManager= manager;
 		fScope= scope;
 		fReferences= references;
 		fOnlyQualified= onlyQualified;
 
 		fNewName= newName;
+		fCurrentName= currentName;
+		fCurrentQualifier= currentQualifier;
 		fCurrentNameLength= currentName.length();
-		fScanner= new RefactoringScanner(currentName, currentQualifier);
+		fPrefilter= new FileContentPrefilter(currentName, false, -1);
 	}
 
 	public static void perform(IProgressMonitor pm, IJavaSearchScope scope, String currentName, String currentQualifier, String newName, TextChangeManager manager, SearchResultGroup[] references, boolean onlyQualified) throws JavaModelException{
@@ -93,16 +111,25 @@ public class TextMatchUpdater {
 		new TextMatchUpdater(manager, scope, processor.getCurrentElementName(), processor.getCurrentElementQualifier(), processor.getNewElementName(), references, false).updateTextMatches(pm);
 	}
 
+	/*
+	 * Text matches are searched in two stages: the compilation units in scope are collected, and
+	 * their contents are scanned by a pool of workers. A worker first checks the file contents
+	 * for the current name and only runs the Java scanner on the candidates that contain
+	 * it. The matches are added to the text change manager in the calling thread, in the order in
+	 * which the compilation units have been collected.
+	 */
 	private void updateTextMatches(IProgressMonitor pm) throws JavaModelException {
 		try{
 			IProject[] projectsInScope= getProjectsInScope();
 
-			pm.beginTask("", projectsInScope.length); //$NON-NLS-1$
+			pm.beginTask("", 2 * projectsInScope.length); //$NON-NLS-1$
+			List<ICompilationUnit> cus= new ArrayList<>();
 			for (IProject project : projectsInScope) {
 				if (pm.isCanceled())
 					throw new OperationCanceledException();
-				addTextMatches(project, Progress.subMonitor(pm, 1));
+				collectCompilationUnits(project, cus, Progress.subMonitor(pm, 1));
 			}
+			addTextMatches(cus, Progress.subMonitor(pm, projectsInScope.length));
 		} finally{
 			pm.done();
 		}
@@ -121,7 +148,7 @@ public class TextMatchUpdater {
 		return projectsInScope.toArray(new IProject[projectsInScope.size()]);
 	}
 
-	private void addTextMatches(IResource resource, IProgressMonitor pm) throws JavaModelException{
+	private void collectCompilationUnits(IResource resource, List<ICompilationUnit> cus, IProgressMonitor pm) throws JavaModelException{
 		try{
 			String task= RefactoringCoreMessages.TextMatchUpdater_searching + resource.getFullPath();
 			if (resource instanceof IFile){
@@ -133,7 +160,7 @@ public class TextMatchUpdater {
 					return;
 				if (! fScope.encloses(element))
 					return;
-				addCuTextMatches((ICompilationUnit) element);
+				cus.add((ICompilationUnit) element);
 
 			} else if (resource instanceof IContainer){
 				IResource[] members= ((IContainer) resource).members();
@@ -142,7 +169,7 @@ public class TextMatchUpdater {
 				for (IResource member : members) {
 					if (pm.isCanceled())
 						throw new OperationCanceledException();
-					addTextMatches(member, Progress.subMonitor(pm, 1));
+					collectCompilationUnits(member, cus, Progress.subMonitor(pm, 1));
 				}
 			}
 		} catch (JavaModelException e){
@@ -154,15 +181,114 @@ public class TextMatchUpdater {
 		}
 	}
 
-	private void addCuTextMatches(ICompilationUnit cu) throws JavaModelException{
-		fScanner.scan(cu);
-		Set<TextMatch> matches= fScanner.getMatches(); //Set of TextMatch
-		if (matches.isEmpty())
+	private void addTextMatches(List<ICompilationUnit> cus, IProgressMonitor pm) throws JavaModelException {
+		pm.beginTask(RefactoringCoreMessages.TextMatchUpdater_update, cus.size());
+		int threads= Math.min(cus.size(), Runtime.getRuntime().availableProcessors());
+		if (threads <= 1) {
+			try {
+				for (ICompilationUnit cu : cus) {
+					if (pm.isCanceled())
+						throw new OperationCanceledException();
+					addTextUpdates(cu, findTextMatches(cu, pm));
+					pm.worked(1);
+				}
+			} finally {
+				pm.done();
+			}
 			return;
+		}
+		try (ExecutorService executor= Executors.newFixedThreadPool(threads)) {
+			try {
+				List<Future<List<TextMatch>>> results= new ArrayList<>(cus.size());
+				for (ICompilationUnit cu : cus) {
+					results.add(executor.submit(() -> findTextMatches(cu, pm)));
+				}
+				for (int i= 0; i < cus.size(); i++) {
+					addTextUpdates(cus.get(i), waitFor(results.get(i), pm));
+					pm.worked(1);
+				}
+			} finally {
+				executor.shutdownNow();
+				pm.done();
+			}
+		}
+	}
+
+	private static <T> T waitFor(Future<T> future, IProgressMonitor pm) throws JavaModelException {
+		try {
+			while (true) {
+				if (pm.isCanceled())
+					throw new OperationCanceledException();
+				try {
+					return future.get(100, TimeUnit.MILLISECONDS);
+				} catch (TimeoutException e) {
+					// check for cancellation
+				}
+			}
+		} catch (InterruptedException e) {
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause= e.getCause();
+			if (cause instanceof OperationCanceledException)
+				throw (OperationCanceledException) cause;
+			if (cause instanceof JavaModelException)
+				throw (JavaModelException) cause;
+			if (cause instanceof CoreException)
+				throw new JavaModelException((CoreException) cause);
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	/**
+	 * Finds the text matches in a compilation unit which are not covered by the references.
+	 * Runs in a worker thread and must not modify the text change manager.
+	 *
+	 * @param cu the compilation unit
+	 * @param pm the monitor, only used to test for cancellation
+	 * @return the text matches, sorted by offset
+	 * @throws JavaModelException if the contents of the compilation unit cannot be accessed
+	 */
+	private List<TextMatch> findTextMatches(ICompilationUnit cu, IProgressMonitor pm) throws JavaModelException {
+		if (pm.isCanceled())
+			throw new OperationCanceledException();
+		if (!mayContainName(cu))
+			return Collections.emptyList();
+
+		RefactoringScanner scanner= new RefactoringScanner(fCurrentName, fCurrentQualifier);
+		scanner.scan(cu);
+		Set<TextMatch> matches= scanner.getMatches();
+		if (matches.isEmpty())
+			return Collections.emptyList();
 
 		removeReferences(cu, matches);
-		if (!matches.isEmpty())
-			addTextUpdates(cu, matches);
+		List<TextMatch> result= new ArrayList<>(matches);
+		result.sort(Comparator.comparingInt(TextMatch::getStartPosition));
+		return result;
+	}
+
+	/**
+	 * Tests whether the contents of the compilation unit may contain the current name. Open
+	 * compilation units are tested on their buffer, others on the raw bytes of the file. Since
+	 * {@link RefactoringScanner} only finds matches in the raw token source, a file not
+	 * containing the bytes of the name cannot have a match.
+	 *
+	 * @param cu the compilation unit
+	 * @return <code>false</code> if the compilation unit cannot contain a text match
+	 */
+	private boolean mayContainName(ICompilationUnit cu) {
+		try {
+			if (cu.isOpen()) {
+				IBuffer buffer= cu.getBuffer();
+				return buffer == null || buffer.getContents().contains(fCurrentName);
+			}
+		} catch (JavaModelException e) {
+			// let the scanner decide
+			return true;
+		}
+		IResource resource= cu.getResource();
+		return !(resource instanceof IFile) || fPrefilter.mayContain((IFile) resource);
 	}
 
 	private void removeReferences(ICompilationUnit cu, Set<TextMatch> matches) {
@@ -185,7 +311,7 @@ public class TextMatchUpdater {
 		}
 	}
 
-	private void addTextUpdates(ICompilationUnit cu, Set<TextMatch> matches) {
+	private void addTextUpdates(ICompilationUnit cu, List<TextMatch> matches) {
 		for (TextMatch match : matches) {
 			if (!match.isQualified() && fOnlyQualified)
 				continue;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -48,6 +49,7 @@ import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTRequestor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.Expression;
 import org.eclipse.jdt.core.dom.FieldDeclaration;
@@ -131,6 +133,9 @@ public class ChangeTypeRefactoring extends Refactoring {
 
 	private static final String ATTRIBUTE_TYPE= "type"; //$NON-NLS-1$
 
+	/** The maximal number of compilation units parsed together when collecting constraints */
+	private static final int SIZE_BATCH= 500;
+
 	private final Map<ICompilationUnit, List<ITypeConstraint>> fConstraintCache;
 	/**
 	 * Offset of the selected text area.
@@ -1325,27 +1330,38 @@ public class ChangeTypeRefactoring extends Refactoring {
 
 	/**
 	 * Gather constraints associated with a set of compilation units.
+	 * The units whose constraints are not cached yet are parsed in batches, and their ASTs are
+	 * released as soon as their constraints have been collected.
 	 * @return the constraints
 	 */
 	private Collection<ITypeConstraint> getConstraints(ICompilationUnit[] referringCus, IProgressMonitor pm) {
 		pm.beginTask(RefactoringCoreMessages.ChangeTypeRefactoring_analyzingMessage, referringCus.length);
-		Collection<ITypeConstraint> result= new ArrayList<>();
+		List<ICompilationUnit> uncached= new ArrayList<>();
 		for (ICompilationUnit referringCu : referringCus) {
-			result.addAll(getConstraints(referringCu));
-			pm.worked(1);
-			if (pm.isCanceled())
-				throw new OperationCanceledException();
+			if (!fConstraintCache.containsKey(referringCu))
+				uncached.add(referringCu);
+		}
+		pm.worked(referringCus.length - uncached.size());
+		if (!uncached.isEmpty()) {
+			ASTCreator.createASTs(uncached.toArray(new ICompilationUnit[uncached.size()]), null, SIZE_BATCH, new ASTRequestor() {
+				@Override
+				public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+					fConstraintCache.put(source, collectConstraints(source, ast));
+				}
+			}, Progress.subMonitor(pm, uncached.size()));
+		}
+		Collection<ITypeConstraint> result= new LinkedHashSet<>();
+		for (ICompilationUnit referringCu : referringCus) {
+			List<ITypeConstraint> constraints= fConstraintCache.get(referringCu);
+			if (constraints != null)
+				result.addAll(constraints);
 		}
 		pm.done();
 		return result;
 	}
 
-	private List<ITypeConstraint> getConstraints(ICompilationUnit unit) {
-		if (fConstraintCache.containsKey(unit))
-			return fConstraintCache.get(unit);
-
-		CompilationUnit cu= ASTCreator.createAST(unit, null);
-
+	private List<ITypeConstraint> collectConstraints(ICompilationUnit unit, CompilationUnit cu) {
+		fCollector.clear();
 		// only generate type constraints for relevant MethodDeclaration subtrees
 		if (fMethodBinding != null && fCuToSearchResultGroup.containsKey(unit)){
 			SearchResultGroup group= fCuToSearchResultGroup.get(unit);
@@ -1363,7 +1379,7 @@ public class ChangeTypeRefactoring extends Refactoring {
 			cu.accept(fCollector);
 		}
 		List<ITypeConstraint> constraints= Arrays.asList(fCollector.getConstraints());
-		fConstraintCache.put(unit, constraints);
+		fCollector.clear();
 		return constraints;
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2024 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -139,6 +139,7 @@ import org.eclipse.jdt.internal.corext.refactoring.JavaRefactoringArguments;
 import org.eclipse.jdt.internal.corext.refactoring.JavaRefactoringDescriptorUtil;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringAvailabilityTesterCore;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringPhaseStats;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringScopeFactory;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringSearchEngine2;
 import org.eclipse.jdt.internal.corext.refactoring.SearchResultGroup;
@@ -1162,6 +1163,10 @@ public class PullUpRefactoringProcessor extends HierarchyProcessor {
 
 	@Override
 	public RefactoringStatus checkFinalConditions(final IProgressMonitor monitor, final CheckConditionsContext context) throws CoreException, OperationCanceledException {
+		return RefactoringPhaseStats.measure(RefactoringPhaseStats.CHECK_FINAL_CONDITIONS, this, () -> doCheckFinalConditions(monitor, context));
+	}
+
+	private RefactoringStatus doCheckFinalConditions(final IProgressMonitor monitor, final CheckConditionsContext context) throws CoreException, OperationCanceledException {
 		try {
 			SubMonitor subMonitor= SubMonitor.convert(monitor, RefactoringCoreMessages.PullUpRefactoring_checking, 14);
 			clearCaches();
@@ -1453,6 +1458,10 @@ public class PullUpRefactoringProcessor extends HierarchyProcessor {
 
 	@Override
 	public RefactoringStatus checkInitialConditions(final IProgressMonitor monitor) throws CoreException, OperationCanceledException {
+		return RefactoringPhaseStats.measure(RefactoringPhaseStats.CHECK_INITIAL_CONDITIONS, this, () -> doCheckInitialConditions(monitor));
+	}
+
+	private RefactoringStatus doCheckInitialConditions(final IProgressMonitor monitor) throws CoreException, OperationCanceledException {
 		try {
 			SubMonitor subMonitor= SubMonitor.convert(monitor, RefactoringCoreMessages.PullUpRefactoring_checking, 1);
 			final RefactoringStatus status= new RefactoringStatus();
@@ -1594,6 +1603,10 @@ public class PullUpRefactoringProcessor extends HierarchyProcessor {
 
 	@Override
 	public Change createChange(final IProgressMonitor monitor) throws CoreException, OperationCanceledException {
+		return RefactoringPhaseStats.measure(RefactoringPhaseStats.CREATE_CHANGE, this, () -> doCreateChange(monitor));
+	}
+
+	private Change doCreateChange(final IProgressMonitor monitor) throws CoreException, OperationCanceledException {
 		try {
 			final Map<String, String> arguments= new HashMap<>();
 			String project= null;
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.core.resources.IFile;
+
+/**
+ * Tests whether the raw bytes of a file contain an ASCII literal, before a file is searched or
+ * scanned in full. Files are read into a heap buffer that is reused per thread; they are not
+ * memory-mapped, since a mapping keeps the file locked on some platforms until it is garbage
+ * collected.
+ * <p>
+ * The test is conservative: if the literal is not ASCII, the charset of the file does not encode
+ * ASCII characters as single bytes, or the file cannot be read, the file is considered to
+ * possibly contain the literal.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public final class FileContentPrefilter {
+
+	private static final int INITIAL_BUFFER_SIZE= 64 * 1024;
+	private static final int MAX_REUSED_BUFFER_SIZE= 1024 * 1024;
+	private static final int BINARY_CHECK_LENGTH= 8 * 1024;
+	private static final String ASCII_SAMPLE= "azAZ09_$.#/"; //$NON-NLS-1$
+
+	private static final Map<String, Boolean> fgAsciiCompatibleCharsets= new ConcurrentHashMap<>();
+
+	private static final ThreadLocal<ByteBuffer> fgBuffers= ThreadLocal.withInitial(() -> ByteBuffer.allocate(INITIAL_BUFFER_SIZE));
+
+	private final byte[] fLiteral;
+	private final boolean fSkipBinaryFiles;
+	private final long fMaxFileSize;
+
+	/**
+	 * @param literal the literal to search
+	 * @param skipBinaryFiles if <code>true</code>, files that contain a NUL character in their
+	 *            first bytes are treated as binary and do not match
+	 * @param maxFileSize files larger than this size do not match, or -1 for no limit
+	 */
+	public FileContentPrefilter(String literal, boolean skipBinaryFiles, long maxFileSize) {
+		fLiteral= isAscii(literal) && !literal.isEmpty() ? literal.getBytes(StandardCharsets.US_ASCII) : null;
+		fSkipBinaryFiles= skipBinaryFiles;
+		fMaxFileSize= maxFileSize;
+	}
+
+	/**
+	 * Tests whether the file contents stored on disk may contain the literal. Unsaved
+	 * changes in open editors are not considered.
+	 *
+	 * @param file the file
+	 * @return <code>false</code> if the file cannot contain the literal
+	 */
+	public boolean mayContain(IFile file) {
+		if (fLiteral == null)
+			return true;
+		try {
+			IPath location= file.getLocation();
+			if (location == null || !isAsciiCompatible(file.getCharset()))
+				return true;
+			try (FileChannel channel= FileChannel.open(location.toPath(), StandardOpenOption.READ)) {
+				long size= channel.size();
+				if (fMaxFileSize >= 0 && size > fMaxFileSize)
+					return false;
+				if (size > Integer.MAX_VALUE)
+					return true;
+				ByteBuffer contents= getBuffer((int) size);
+				while (contents.hasRemaining() && channel.read(contents) >= 0) {
+					// read all
+				}
+				contents.flip();
+				if (fSkipBinaryFiles && isBinary(contents))
+					return false;
+				return contains(contents, fLiteral);
+			}
+		} catch (CoreException | IOException | UnsupportedOperationException e) {
+			// let the full search decide
+			return true;
+		}
+	}
+
+	/*
+	 * Returns an empty buffer with the given limit. Buffers for large files are not kept.
+	 */
+	private static ByteBuffer getBuffer(int size) {
+		ByteBuffer buffer= fgBuffers.get();
+		if (buffer.capacity() < size) {
+			buffer= ByteBuffer.allocate(size);
+			if (size <= MAX_REUSED_BUFFER_SIZE)
+				fgBuffers.set(buffer);
+		}
+		buffer.clear();
+		buffer.limit(size);
+		return buffer;
+	}
+
+	private static boolean isBinary(ByteBuffer contents) {
+		int end= Math.min(contents.limit(), BINARY_CHECK_LENGTH);
+		for (int i= contents.position(); i < end; i++) {
+			if (contents.get(i) == 0)
+				return true;
+		}
+		return false;
+	}
+
+	private static boolean contains(ByteBuffer contents, byte[] literal) {
+		byte first= literal[0];
+		int last= contents.limit() - literal.length;
+		outer: for (int i= contents.position(); i <= last; i++) {
+			if (contents.get(i) != first)
+				continue;
+			for (int k= 1; k < literal.length; k++) {
+				if (contents.get(i + k) != literal[k])
+					continue outer;
+			}
+			return true;
+		}
+		return false;
+	}
+
+	private static boolean isAscii(String literal) {
+		for (int i= 0; i < literal.length(); i++) {
+			if (literal.charAt(i) > 0x7F)
+				return false;
+		}
+		return true;
+	}
+
+	/*
+	 * ASCII characters are encoded as the same single bytes in the charset (e.g. UTF-8 or
+	 * ISO-8859-1, but not UTF-16).
+	 */
+	private static boolean isAsciiCompatible(String charsetName) {
+		if (charsetName == null)
+			return false;
+		Boolean compatible= fgAsciiCompatibleCharsets.get(charsetName);
+		if (compatible == null) {
+			try {
+				Charset charset= Charset.forName(charsetName);
+				compatible= Boolean.valueOf(charset.canEncode() && Arrays.equals(ASCII_SAMPLE.getBytes(charset), ASCII_SAMPLE.getBytes(StandardCharsets.US_ASCII)));
+			} catch (IllegalArgumentException e) {
+				compatible= Boolean.FALSE;
+			}
+			fgAsciiCompatibleCharsets.put(charsetName, compatible);
+		}
+		return compatible.booleanValue();
+	}
+}
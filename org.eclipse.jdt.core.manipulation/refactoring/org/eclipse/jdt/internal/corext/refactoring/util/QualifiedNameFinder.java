@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,6 +30,7 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 
 import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.LocationKind;
 
 import org.eclipse.text.edits.ReplaceEdit;
 
@@ -58,14 +59,23 @@ public class QualifiedNameFinder {
 			RefactoringCoreMessages.QualifiedNameFinder_qualifiedNames_name,
 			RefactoringCoreMessages.QualifiedNameFinder_qualifiedNames_description));
 
+	/**
+	 * Files larger than this are considered generated and are not updated.
+	 */
+	private static final long MAX_FILE_SIZE= 64 * 1024 * 1024;
+
 	private static class ResultCollector extends TextSearchRequestor {
 
 		private final String fNewValue;
 		private final QualifiedNameSearchResult fResult;
+		private final FileContentPrefilter fPrefilter;
 
-		public ResultCollector(QualifiedNameSearchResult result, String newValue) {
+		public ResultCollector(QualifiedNameSearchResult result, String pattern, String newValue) {
 			fResult= result;
 			fNewValue= newValue;
+			// the pattern may contain '*' and '?' wildcards
+			boolean isLiteral= pattern.indexOf('*') == -1 && pattern.indexOf('?') == -1 && pattern.indexOf('\\') == -1;
+			fPrefilter= isLiteral ? new FileContentPrefilter(pattern, true, MAX_FILE_SIZE) : null;
 		}
 
 		@Override
@@ -88,6 +98,13 @@ public class QualifiedNameFinder {
 			if (segment != null && (segment.startsWith(".refactorings") || segment.startsWith(".deprecations"))) //$NON-NLS-1$ //$NON-NLS-2$
 				return false;
 
+			// Cheap test on the raw contents; skips binary and huge files. Called in parallel by the search engine.
+			// Files open in an editor are searched in their (possibly unsaved) buffer.
+			if (fPrefilter != null
+					&& FileBuffers.getTextFileBufferManager().getTextFileBuffer(file.getFullPath(), LocationKind.IFILE) == null
+					&& !fPrefilter.mayContain(file))
+				return false;
+
 			return true;
 		}
 
@@ -141,7 +158,7 @@ public class QualifiedNameFinder {
 			return;
 		}
 
-		ResultCollector collector= new ResultCollector(result, newValue);
+		ResultCollector collector= new ResultCollector(result, pattern, newValue);
 		TextSearchEngine engine= TextSearchEngine.create();
 		Pattern searchPattern= PatternConstructor.createPattern(pattern, true, false);
 
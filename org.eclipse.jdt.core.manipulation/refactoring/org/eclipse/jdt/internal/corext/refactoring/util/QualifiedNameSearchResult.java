@@ -14,7 +14,7 @@
 package org.eclipse.jdt.internal.corext.refactoring.util;
 
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -47,24 +47,33 @@ public class QualifiedNameSearchResult {
 	}
 
 	public TextChange[] getAllChanges() {
-		Collection<TextChange> values= fChanges.values();
-		return values.toArray(new TextChange[values.size()]);
+		IFile[] files= getAllFiles();
+		TextChange[] result= new TextChange[files.length];
+		for (int i= 0; i < files.length; i++) {
+			result[i]= fChanges.get(files[i]);
+		}
+		return result;
 	}
 
+	/**
+	 * @return the changed files, sorted by path. The search engine collects the results in
+	 *         parallel, so the order in which changes are added is not stable.
+	 */
 	public IFile[] getAllFiles() {
 		Set<IFile> keys= fChanges.keySet();
-		return keys.toArray(new IFile[keys.size()]);
+		IFile[] result= keys.toArray(new IFile[keys.size()]);
+		Arrays.sort(result, Comparator.comparing(file -> file.getFullPath().toString()));
+		return result;
 	}
 
 	public Change getSingleChange(IFile[] alreadyTouchedFiles) {
-		Collection<TextChange> values= fChanges.values();
-		if (values.isEmpty())
+		if (fChanges.isEmpty())
 			return null;
 
 		CompositeChange result= new CompositeChange(RefactoringCoreMessages.QualifiedNameSearchResult_change_name);
 		result.markAsSynthetic();
 		List<IFile> files= Arrays.asList(alreadyTouchedFiles);
-		for (TextChange textChange : values) {
+		for (TextChange textChange : getAllChanges()) {
 			TextFileChange change= (TextFileChange)textChange;
 			if (!files.contains(change.getFile())) {
 				result.add(change);
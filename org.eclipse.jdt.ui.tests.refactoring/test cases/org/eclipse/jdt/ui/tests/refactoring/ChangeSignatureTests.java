@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,10 +30,14 @@ import org.junit.Test;
 
 import org.eclipse.core.tests.harness.FussyProgressMonitor;
 
+import org.eclipse.core.runtime.NullProgressMonitor;
+
 import org.eclipse.ltk.core.refactoring.Change;
 import org.eclipse.ltk.core.refactoring.Refactoring;
 import org.eclipse.ltk.core.refactoring.RefactoringStatus;
 import org.eclipse.ltk.core.refactoring.participants.ProcessorBasedRefactoring;
+import org.eclipse.ltk.ui.refactoring.LanguageElementNode;
+import org.eclipse.ltk.ui.refactoring.TextEditChangeNode.ChildNode;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IMethod;
@@ -46,11 +50,14 @@ import org.eclipse.jdt.core.refactoring.descriptors.JavaRefactoringDescriptor;
 import org.eclipse.jdt.internal.corext.refactoring.ExceptionInfo;
 import org.eclipse.jdt.internal.corext.refactoring.ParameterInfo;
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringAvailabilityTester;
+import org.eclipse.jdt.internal.corext.refactoring.changes.LazyCompilationUnitChange;
 import org.eclipse.jdt.internal.corext.refactoring.structure.ChangeSignatureProcessor;
 import org.eclipse.jdt.internal.corext.util.JdtFlags;
 
 import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
 
+import org.eclipse.jdt.internal.ui.refactoring.CompilationUnitChangeNode;
+
 /**
  * @see org.eclipse.jdt.core.Signature for encoding of signature strings.
  */
@@ -2418,5 +2425,178 @@ public class ChangeSignatureTests extends GenericRefactoringTest {
 		helperRenameMethod(signature, "renamed", true, false);
 	}
 
-}
+	@Test
+	public void testLazyChangeCreation() throws Exception {
+		ICompilationUnit cuA= createCU(getPackageP(), "A.java", """
+			package p;
+			public class A {
+			    public void m(int i) {
+			    }
+			}
+			""");
+		ICompilationUnit cuB= createCU(getPackageP(), "B.java", """
+			package p;
+			public class B {
+			    void foo(A a) {
+			        a.m(1);
+			    }
+			}
+			""");
+		IMethod method= cuA.getType("A").getMethod("m", new String[] { "I" });
+		ChangeSignatureProcessor processor= new ChangeSignatureProcessor(method);
+		processor.setLazyChangeCreation(true);
+		Refactoring ref= new ProcessorBasedRefactoring(processor);
+		processor.getParameterInfos().add(ParameterInfo.createInfoForAddedParameter("int", "j", "2"));
+
+		assertTrue(ref.checkInitialConditions(new NullProgressMonitor()).isOK());
+		assertTrue(ref.checkFinalConditions(new NullProgressMonitor()).isOK());
+		LazyCompilationUnitChange lazyChange= null;
+		for (Change change : processor.getAllChanges()) {
+			if (change instanceof LazyCompilationUnitChange lazy)
+				lazyChange= lazy;
+		}
+		assertNotNull("no lazy change", lazyChange);
+		assertEquals(cuB, lazyChange.getCompilationUnit());
+		assertFalse(lazyChange.isMaterialized());
+		assertEqualLines("""
+			package p;
+			public class B {
+			    void foo(A a) {
+			        a.m(1, 2);
+			    }
+			}
+			""", lazyChange.getPreviewContent(new NullProgressMonitor()));
+		assertTrue(lazyChange.isMaterialized());
+
+		assertNull(performRefactoring(ref));
+		assertEqualLines("""
+			package p;
+			public class B {
+			    void foo(A a) {
+			        a.m(1, 2);
+			    }
+			}
+			""", cuB.getSource());
+	}
 
+	@Test
+	public void testLazyChangeCreationDeletedParameterUsed() throws Exception {
+		ICompilationUnit cuA= createCU(getPackageP(), "A.java", """
+			package p;
+			public class A {
+			    public void m(int i) {
+			    }
+			}
+			""");
+		createCU(getPackageP(), "B.java", """
+			package p;
+			public class B extends A {
+			    @Override
+			    public void m(int i) {
+			        System.out.println(i);
+			    }
+			}
+			""");
+		ICompilationUnit cuC= createCU(getPackageP(), "C.java", """
+			package p;
+			public class C {
+			    void foo(A a) {
+			        a.m(1);
+			    }
+			}
+			""");
+		IMethod method= cuA.getType("A").getMethod("m", new String[] { "I" });
+		ChangeSignatureProcessor processor= new ChangeSignatureProcessor(method);
+		processor.setLazyChangeCreation(true);
+		Refactoring ref= new ProcessorBasedRefactoring(processor);
+		processor.getParameterInfos().get(0).markAsDeleted();
+
+		assertTrue(ref.checkInitialConditions(new NullProgressMonitor()).isOK());
+		RefactoringStatus status= ref.checkFinalConditions(new NullProgressMonitor());
+		assertTrue(status.toString(), status.hasError());
+		for (Change change : processor.getAllChanges()) {
+			// the overriding method in B is checked eagerly, only the caller in C is lazy:
+			assertEquals(change.getModifiedElement().toString(), cuC.equals(change.getModifiedElement()), change instanceof LazyCompilationUnitChange);
+		}
+	}
+
+	private static final class TestChangeNode extends CompilationUnitChangeNode {
+		TestChangeNode(LazyCompilationUnitChange change) {
+			super(change);
+		}
+
+		ChildNode[] getChildNodes() {
+			return createChildNodes();
+		}
+	}
+
+	private LazyCompilationUnitChange createLazyChange(ChangeSignatureProcessor processor, ICompilationUnit cu) throws Exception {
+		Refactoring ref= new ProcessorBasedRefactoring(processor);
+		processor.getParameterInfos().add(ParameterInfo.createInfoForAddedParameter("int", "j", "2"));
+		assertTrue(ref.checkInitialConditions(new NullProgressMonitor()).isOK());
+		assertTrue(ref.checkFinalConditions(new NullProgressMonitor()).isOK());
+		for (Change change : processor.getAllChanges()) {
+			if (cu.equals(change.getModifiedElement()))
+				return change instanceof LazyCompilationUnitChange lazy ? lazy : null;
+		}
+		fail("no change for " + cu.getElementName());
+		return null;
+	}
+
+	@Test
+	public void testLazyChangePreviewNode() throws Exception {
+		ICompilationUnit cuA= createCU(getPackageP(), "A.java", """
+			package p;
+			public class A {
+			    public void m(int i) {
+			    }
+			}
+			""");
+		ICompilationUnit cuB= createCU(getPackageP(), "B.java", """
+			package p;
+			public class B {
+			    void foo(A a) {
+			        a.m(1);
+			    }
+			}
+			""");
+		ChangeSignatureProcessor processor= new ChangeSignatureProcessor(cuA.getType("A").getMethod("m", new String[] { "I" }));
+		processor.setLazyChangeCreation(true);
+		LazyCompilationUnitChange lazyChange= createLazyChange(processor, cuB);
+		assertNotNull("no lazy change", lazyChange);
+		assertFalse(lazyChange.isMaterialized());
+
+		// the preview tree computes the edits to show the changed members
+		TestChangeNode node= new TestChangeNode(lazyChange);
+		ChildNode[] children= node.getChildNodes();
+		assertTrue(lazyChange.isMaterialized());
+		assertEquals(1, children.length);
+		assertTrue(children[0] instanceof LanguageElementNode);
+		assertEquals("B", children[0].getText());
+	}
+
+	@Test
+	public void testLazyChangeCreationMethodReference() throws Exception {
+		ICompilationUnit cuA= createCU(getPackageP(), "A.java", """
+			package p;
+			public class A {
+			    public void m(int i) {
+			    }
+			}
+			""");
+		ICompilationUnit cuB= createCU(getPackageP(), "B.java", """
+			package p;
+			import java.util.function.IntConsumer;
+			public class B {
+			    void foo(A a) {
+			        a.m(1);
+			        IntConsumer c= a::m;
+			    }
+			}
+			""");
+		ChangeSignatureProcessor processor= new ChangeSignatureProcessor(cuA.getType("A").getMethod("m", new String[] { "I" }));
+		processor.setLazyChangeCreation(true);
+		// the method reference has no arguments to update, so the compilation unit is checked eagerly
+		assertNull(createLazyChange(processor, cuB));
+	}
+}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.refactoring.IJavaRefactorings;
+import org.eclipse.jdt.core.refactoring.descriptors.RenameJavaElementDescriptor;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchPattern;
+
+import org.eclipse.jdt.internal.core.refactoring.descriptors.RefactoringSignatureDescriptorFactory;
+import org.eclipse.jdt.internal.corext.refactoring.CuCollectingSearchRequestor;
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringScopeFactory;
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringSearchEngine;
+import org.eclipse.jdt.internal.corext.refactoring.SearchResultGroup;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+/**
+ * Tests that the streaming search used by field renames finds the same references as the
+ * collecting search, and that the rename updates them.
+ */
+public class RenameFieldStreamingTests extends GenericRefactoringTest {
+
+	private static final int REFERENCING_UNITS= 20;
+
+	public RenameFieldStreamingTests() {
+		rts= new RefactoringTestSetup();
+	}
+
+	private IField createField() throws Exception {
+		ICompilationUnit cu= createCU(getPackageP(), "A.java", """
+			package p;
+			public class A {
+			    public static int f;
+			    int g() {
+			        return f + A.f;
+			    }
+			}
+			""");
+		for (int i= 0; i < REFERENCING_UNITS; i++) {
+			createCU(getPackageP(), "B" + i + ".java", getReferencingSource(i, "f"));
+		}
+		return cu.getType("A").getField("f");
+	}
+
+	private static String getReferencingSource(int i, String fieldName) {
+		return """
+			package p;
+			/** uses A.%2$s */
+			public class B%1$d {
+			    int m() {
+			        A.%2$s= %1$d;
+			        return A.%2$s * A.%2$s;
+			    }
+			}
+			""".formatted(Integer.valueOf(i), fieldName);
+	}
+
+	private static Map<IResource, List<String>> toRanges(List<SearchResultGroup> groups) {
+		Map<IResource, List<String>> result= new HashMap<>();
+		for (SearchResultGroup group : groups) {
+			List<String> ranges= result.computeIfAbsent(group.getResource(), resource -> new ArrayList<>());
+			for (SearchMatch match : group.getSearchResults()) {
+				ranges.add(match.getOffset() + "," + match.getLength());
+			}
+		}
+		return result;
+	}
+
+	@Test
+	public void testStreamedGroupsMatchCollectedGroups() throws Exception {
+		IField field= createField();
+		SearchPattern pattern= SearchPattern.createPattern(field, IJavaSearchConstants.REFERENCES);
+		IJavaSearchScope scope= RefactoringScopeFactory.create(field, true, false);
+
+		RefactoringStatus collectedStatus= new RefactoringStatus();
+		SearchResultGroup[] collected= RefactoringSearchEngine.search(pattern, null, scope, new CuCollectingSearchRequestor(), new NullProgressMonitor(), collectedStatus);
+
+		RefactoringStatus streamedStatus= new RefactoringStatus();
+		List<SearchResultGroup> streamed= new ArrayList<>();
+		RefactoringSearchEngine.search(pattern, null, scope, new CuCollectingSearchRequestor(), streamed::add, new NullProgressMonitor(), streamedStatus);
+
+		assertEquals(REFERENCING_UNITS + 1, collected.length);
+		assertEquals(toRanges(List.of(collected)), toRanges(streamed));
+		assertEquals(collectedStatus.getSeverity(), streamedStatus.getSeverity());
+	}
+
+	@Test
+	public void testRenameUpdatesStreamedReferences() throws Exception {
+		IField field= createField();
+
+		RenameJavaElementDescriptor descriptor= RefactoringSignatureDescriptorFactory.createRenameJavaElementDescriptor(IJavaRefactorings.RENAME_FIELD);
+		descriptor.setJavaElement(field);
+		descriptor.setNewName("h");
+		descriptor.setUpdateReferences(true);
+		// the textual matches must not overlap the edits of the references
+		descriptor.setUpdateTextualOccurrences(true);
+		assertNull("was supposed to pass", performRefactoring(descriptor));
+
+		String expected= """
+			package p;
+			public class A {
+			    public static int h;
+			    int g() {
+			        return h + A.h;
+			    }
+			}
+			""";
+		assertEqualLines(expected, getPackageP().getCompilationUnit("A.java").getSource());
+		for (int i= 0; i < REFERENCING_UNITS; i++) {
+			assertEqualLines(getReferencingSource(i, "h"), getPackageP().getCompilationUnit("B" + i + ".java").getSource());
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2020 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,10 @@
 package org.eclipse.jdt.ui.tests.refactoring;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
@@ -292,4 +295,33 @@ public class RenamingNameSuggestorTests {
 		 fh("someHandiesOnLoan", "someMobilePhonesOnLoan", "Handy", "MobilePhone");
 		 fh("somePhonesOnLoan", "someHandiesOnLoan", "MobilePhone", "Handy");
 	}
+
+	@Test
+	public void testMayMatch() {
+		setStrategy(RenamingNameSuggestor.STRATEGY_SUFFIX);
+		assertTrue(fSuggestor.mayMatch("fSomeClass", "SomeClass"));
+		assertTrue(fSuggestor.mayMatch("someOtherClassSuf1", "SomeClass"));
+		assertTrue(fSuggestor.mayMatch("javaElement", "IJavaElement"));
+		assertTrue(fSuggestor.mayMatch("fAst", "AST"));
+		assertTrue(fSuggestor.mayMatch("fDifferentAstNodeToUse", "ASTNode"));
+		assertTrue(fSuggestor.mayMatch("someHandiesOnLoan", "Handy"));
+		assertTrue(fSuggestor.mayMatch("getSomeClass", "SomeClass"));
+
+		assertFalse(fSuggestor.mayMatch("fSomeClass", "Unrelated"));
+		assertFalse(fSuggestor.mayMatch("someHandiesOnLoan", "MobilePhone"));
+
+		// every suggestion implies a possible match
+		fPrefixes= new String[] { "f" };
+		fSuffixes= new String[0];
+		String[][] cases= {
+				{ "fSomeClass", "SomeClass", "SomeOtherClass" },
+				{ "fJavaElement", "IJavaElement", "INewJavaElement" },
+				{ "fDifferentAstNode", "ASTNode", "MyASTNode" },
+				{ "somePhonesOnLoan", "MobilePhone", "Handy" },
+				{ "someItemsOnLoan", "ASTItem", "NOASTThing" } };
+		for (String[] c : cases) {
+			assertNotNull(c[0], fHelper(c[0], c[1], c[2]));
+			assertTrue(c[0], fSuggestor.mayMatch(c[0], c[1]));
+		}
+	}
 }
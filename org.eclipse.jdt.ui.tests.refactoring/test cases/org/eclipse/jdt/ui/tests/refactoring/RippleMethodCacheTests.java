@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IFile;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.refactoring.IJavaRefactorings;
+import org.eclipse.jdt.core.refactoring.descriptors.RenameJavaElementDescriptor;
+
+import org.eclipse.jdt.internal.core.refactoring.descriptors.RefactoringSignatureDescriptorFactory;
+import org.eclipse.jdt.internal.corext.refactoring.rename.RippleMethodCache;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+public class RippleMethodCacheTests extends GenericRefactoringTest {
+
+	public RippleMethodCacheTests() {
+		rts= new RefactoringTestSetup();
+	}
+
+	@Override
+	public void genericafter() throws Exception {
+		RippleMethodCache.clear();
+		super.genericafter();
+	}
+
+	private IType createHierarchy() throws Exception {
+		ICompilationUnit cu= createCU(getPackageP(), "I.java", """
+			package p;
+			public interface I {
+			    void m1();
+			    void m2();
+			}
+			""");
+		createCU(getPackageP(), "A.java", """
+			package p;
+			public class A implements I {
+			    public void m1() {
+			    }
+			    public void m2() {
+			    }
+			}
+			""");
+		RippleMethodCache.clear();
+		return cu.getType("I");
+	}
+
+	private void rename(IMethod method, String newName) throws Exception {
+		RenameJavaElementDescriptor descriptor= RefactoringSignatureDescriptorFactory.createRenameJavaElementDescriptor(IJavaRefactorings.RENAME_METHOD);
+		descriptor.setJavaElement(method);
+		descriptor.setUpdateReferences(true);
+		descriptor.setNewName(newName);
+		assertNull("was supposed to pass", performRefactoring(descriptor));
+	}
+
+	private static void setContents(ICompilationUnit cu, String contents) throws Exception {
+		((IFile) cu.getResource()).setContents(getStream(contents), true, false, null);
+	}
+
+	@Test
+	public void testSecondRenameInSameInterface() throws Exception {
+		IType interfaceI= createHierarchy();
+
+		rename(interfaceI.getMethod("m1", new String[0]), "k1");
+		// the changes of the rename do not change the hierarchy
+		assertTrue(RippleMethodCache.hasInCache(interfaceI));
+
+		rename(interfaceI.getMethod("m2", new String[0]), "k2");
+		assertTrue(RippleMethodCache.hasInCache(interfaceI));
+		String expected= """
+			package p;
+			public class A implements I {
+			    public void k1() {
+			    }
+			    public void k2() {
+			    }
+			}
+			""";
+		assertEqualLines(expected, getPackageP().getCompilationUnit("A.java").getSource());
+	}
+
+	@Test
+	public void testInvalidatedByHierarchyChange() throws Exception {
+		IType interfaceI= createHierarchy();
+		ICompilationUnit cuA= getPackageP().getCompilationUnit("A.java");
+
+		RippleMethodCache.getTypeHierarchy(interfaceI, new NullProgressMonitor());
+		assertTrue(RippleMethodCache.hasInCache(interfaceI));
+
+		setContents(cuA, """
+			package p;
+			public class A implements I {
+			    public void m1() {
+			        System.out.println();
+			    }
+			    public void m2() {
+			    }
+			}
+			""");
+		assertTrue("body change must not invalidate", RippleMethodCache.hasInCache(interfaceI));
+
+		createCU(getPackageP(), "B.java", """
+			package p;
+			public class B implements I {
+			    public void m1() {
+			    }
+			    public void m2() {
+			    }
+			}
+			""");
+		assertFalse("new subtype must invalidate", RippleMethodCache.hasInCache(interfaceI));
+
+		RippleMethodCache.getTypeHierarchy(interfaceI, new NullProgressMonitor());
+		assertTrue(RippleMethodCache.hasInCache(interfaceI));
+
+		setContents(cuA, """
+			package p;
+			public class A {
+			    public void m1() {
+			    }
+			    public void m2() {
+			    }
+			}
+			""");
+		assertFalse("super type change must invalidate", RippleMethodCache.hasInCache(interfaceI));
+	}
+}
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.benchmark;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.ltk.core.refactoring.Refactoring;
+import org.eclipse.ltk.core.refactoring.participants.MoveRefactoring;
+import org.eclipse.ltk.core.refactoring.participants.ProcessorBasedRefactoring;
+import org.eclipse.ltk.core.refactoring.participants.RenameRefactoring;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+
+import org.eclipse.jdt.internal.corext.refactoring.ParameterInfo;
+import org.eclipse.jdt.internal.corext.refactoring.code.ExtractMethodRefactoring;
+import org.eclipse.jdt.internal.corext.refactoring.rename.RenameTypeProcessor;
+import org.eclipse.jdt.internal.corext.refactoring.structure.ChangeSignatureProcessor;
+import org.eclipse.jdt.internal.corext.refactoring.structure.MoveInstanceMethodProcessor;
+import org.eclipse.jdt.internal.corext.refactoring.structure.PullUpRefactoringProcessor;
+
+import org.eclipse.jdt.ui.tests.refactoring.reorg.TestProject;
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringPerformanceTestSetup;
+
+import org.eclipse.jdt.internal.ui.preferences.JavaPreferencesSettings;
+
+/**
+ * Benchmarks of the core refactorings on a synthetic project. The project consists of a type
+ * <code>def.A</code> and a number of compilation units that reference it. The number of
+ * compilation units and the number of references per compilation unit can be configured by the
+ * system properties {@value #SIZE_PROPERTY} and {@value #REFERENCES_PROPERTY}.
+ */
+public class CoreRefactoringBenchmarks extends RefactoringBenchmarkTestCase {
+
+	public static final String SIZE_PROPERTY= "org.eclipse.jdt.ui.tests.refactoring.benchmark.size";
+	public static final String REFERENCES_PROPERTY= "org.eclipse.jdt.ui.tests.refactoring.benchmark.references";
+
+	@Rule
+	public RefactoringPerformanceTestSetup rpts= new RefactoringPerformanceTestSetup();
+
+	private TestProject fTestProject;
+	private int fNumberOfCus;
+	private ICompilationUnit fDefinition;
+
+	@Before
+	public void createProject() throws Exception {
+		fNumberOfCus= Integer.getInteger(SIZE_PROPERTY, 100).intValue();
+		int numberOfRefs= Integer.getInteger(REFERENCES_PROPERTY, 10).intValue();
+		fTestProject= new TestProject();
+		fDefinition= generateSources(fNumberOfCus, numberOfRefs);
+	}
+
+	@After
+	public void deleteProject() throws Exception {
+		if (fTestProject != null)
+			fTestProject.delete();
+	}
+
+	private ICompilationUnit generateSources(int numberOfCus, int numberOfRefs) throws Exception {
+		IPackageFragment definition= fTestProject.getSourceFolder().createPackageFragment("def", false, null);
+		definition.createCompilationUnit("Base.java", """
+			package def;
+			public class Base {
+			}
+			""", false, null);
+		definition.createCompilationUnit("Target.java", """
+			package def;
+			public class Target {
+			    public int offset;
+			}
+			""", false, null);
+		ICompilationUnit result= definition.createCompilationUnit("A.java", """
+			package def;
+			public class A extends Base {
+			    public int value;
+			    public int compute(int x, Target target) {
+			        int y= x * 2;
+			        int z= y + value;
+			        return z + target.offset;
+			    }
+			}
+			""", false, null);
+
+		IPackageFragment references= fTestProject.getSourceFolder().createPackageFragment("ref", false, null);
+		for (int i= 0; i < numberOfCus; i++) {
+			createReferenceCu(references, i, numberOfRefs);
+		}
+		return result;
+	}
+
+	private void createReferenceCu(IPackageFragment pack, int index, int numberOfRefs) throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package " + pack.getElementName() + ";\n");
+		buf.append("import def.A;\n");
+		buf.append("import def.Target;\n");
+		buf.append("public class Ref" + index + " {\n");
+		for (int i= 0; i < numberOfRefs; i++) {
+			buf.append("    A field" + i + " = new A();\n");
+		}
+		buf.append("    int use(Target target) {\n");
+		buf.append("        int sum= 0;\n");
+		for (int i= 0; i < numberOfRefs; i++) {
+			buf.append("        sum+= field" + i + ".compute(" + i + ", target);\n");
+		}
+		buf.append("        return sum;\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		pack.createCompilationUnit("Ref" + index + ".java", buf.toString(), false, null);
+	}
+
+	private IType getTypeA() {
+		return fDefinition.getType("A");
+	}
+
+	private IMethod getCompute() {
+		return getTypeA().getMethod("compute", new String[] { "I", "QTarget;" });
+	}
+
+	@Test
+	public void testRenameType() throws Exception {
+		benchmark(() -> {
+			RenameTypeProcessor processor= new RenameTypeProcessor(getTypeA());
+			processor.setNewElementName("B");
+			processor.setUpdateReferences(true);
+			return new RenameRefactoring(processor);
+		});
+	}
+
+	@Test
+	public void testChangeSignature() throws Exception {
+		benchmark(() -> {
+			ChangeSignatureProcessor processor= new ChangeSignatureProcessor(getCompute());
+			processor.getParameterInfos().add(ParameterInfo.createInfoForAddedParameter("int", "extra", "0"));
+			return new ProcessorBasedRefactoring(processor);
+		});
+	}
+
+	@Test
+	public void testMoveInstanceMethod() throws Exception {
+		benchmark(new BenchmarkSubject() {
+			private MoveInstanceMethodProcessor fProcessor;
+
+			@Override
+			public Refactoring createRefactoring() throws Exception {
+				IMethod method= getCompute();
+				fProcessor= new MoveInstanceMethodProcessor(method, JavaPreferencesSettings.getCodeGenerationSettings(method.getJavaProject()));
+				return new MoveRefactoring(fProcessor);
+			}
+
+			@Override
+			public void configure(Refactoring refactoring) {
+				for (IVariableBinding candidate : fProcessor.getPossibleTargets()) {
+					if ("target".equals(candidate.getName())) {
+						fProcessor.setTarget(candidate);
+						return;
+					}
+				}
+				Assert.fail("target not available");
+			}
+		});
+	}
+
+	@Test
+	public void testExtractMethod() throws Exception {
+		benchmark(() -> {
+			String source= fDefinition.getSource();
+			int start= source.indexOf("int y=");
+			int end= source.indexOf("return z");
+			ExtractMethodRefactoring refactoring= new ExtractMethodRefactoring(fDefinition, start, end - start);
+			refactoring.setMethodName("extracted");
+			return refactoring;
+		});
+	}
+
+	@Test
+	public void testPullUp() throws Exception {
+		benchmark(new BenchmarkSubject() {
+			private PullUpRefactoringProcessor fProcessor;
+
+			@Override
+			public Refactoring createRefactoring() throws Exception {
+				IMethod method= getCompute();
+				IField field= getTypeA().getField("value");
+				IMember[] members= { method, field };
+				fProcessor= new PullUpRefactoringProcessor(members, JavaPreferencesSettings.getCodeGenerationSettings(method.getJavaProject()));
+				return new ProcessorBasedRefactoring(fProcessor);
+			}
+
+			@Override
+			public void configure(Refactoring refactoring) throws Exception {
+				fProcessor.setDestinationType(getTypeA().getJavaProject().findType("def.Base"));
+				fProcessor.setDeletedMethods(new IMethod[] { getCompute() });
+			}
+		});
+	}
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.benchmark;
+
+import org.junit.Assert;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.PerformChangeOperation;
+import org.eclipse.ltk.core.refactoring.Refactoring;
+import org.eclipse.ltk.core.refactoring.RefactoringCore;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+import org.eclipse.jdt.ui.tests.refactoring.infra.RefactoringPerformanceTestCaseCommon;
+
+/**
+ * Benchmarks the phases of a refactoring: checking the initial conditions, checking the final
+ * conditions, creating the change and performing the change.
+ * <p>
+ * A benchmark runs a number of warmup iterations followed by the measured iterations. Each
+ * iteration creates a new refactoring, runs all phases and undoes the change, so all iterations
+ * run on the same sources. The measured iterations are reported to the performance framework,
+ * which compares them to the reference data.
+ * </p>
+ * <p>
+ * The number of iterations can be configured by the system properties {@value #WARMUP_PROPERTY}
+ * and {@value #ITERATIONS_PROPERTY}.
+ * </p>
+ */
+public abstract class RefactoringBenchmarkTestCase extends RefactoringPerformanceTestCaseCommon {
+
+	public static final String WARMUP_PROPERTY= "org.eclipse.jdt.ui.tests.refactoring.benchmark.warmup";
+	public static final String ITERATIONS_PROPERTY= "org.eclipse.jdt.ui.tests.refactoring.benchmark.iterations";
+
+	/**
+	 * The refactoring to benchmark.
+	 */
+	protected interface BenchmarkSubject {
+
+		/**
+		 * Creates a new, fully configured refactoring. Called once per iteration.
+		 *
+		 * @return the refactoring
+		 * @throws Exception if the refactoring cannot be created
+		 */
+		Refactoring createRefactoring() throws Exception;
+
+		/**
+		 * Configures the refactoring after the initial conditions have been checked, e.g. to
+		 * choose a target that is computed by the initial checks.
+		 *
+		 * @param refactoring the refactoring
+		 * @throws Exception if the refactoring cannot be configured
+		 */
+		default void configure(Refactoring refactoring) throws Exception {
+			// nothing to configure
+		}
+	}
+
+	/**
+	 * Runs the benchmark and reports the results to the performance framework.
+	 *
+	 * @param subject the refactoring to benchmark
+	 * @throws Exception if the refactoring fails
+	 */
+	protected void benchmark(BenchmarkSubject subject) throws Exception {
+		int warmup= Integer.getInteger(WARMUP_PROPERTY, 3).intValue();
+		int iterations= Math.max(1, Integer.getInteger(ITERATIONS_PROPERTY, 10).intValue());
+		for (int i= 0; i < warmup; i++) {
+			runIteration(subject, false);
+		}
+		for (int i= 0; i < iterations; i++) {
+			runIteration(subject, true);
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void runIteration(BenchmarkSubject subject, boolean measure) throws Exception {
+		NullProgressMonitor pm= new NullProgressMonitor();
+		joinBackgroudActivities();
+		RefactoringCore.getUndoManager().flush();
+		System.gc();
+		if (measure)
+			startMeasuring();
+		Refactoring refactoring= subject.createRefactoring();
+		RefactoringStatus status= refactoring.checkInitialConditions(pm);
+		assertNoFatalError(status);
+		subject.configure(refactoring);
+		status= refactoring.checkFinalConditions(pm);
+		assertNoFatalError(status);
+		Change change= refactoring.createChange(pm);
+		Assert.assertNotNull("no change", change);
+		change.initializeValidationData(pm);
+		PerformChangeOperation operation= new PerformChangeOperation(change);
+		ResourcesPlugin.getWorkspace().run(operation, pm);
+		if (measure)
+			stopMeasuring();
+		Assert.assertTrue("validation failed", operation.getValidationStatus() == null || operation.getValidationStatus().isOK());
+		Change undo= operation.getUndoChange();
+		Assert.assertNotNull("no undo change", undo);
+		ResourcesPlugin.getWorkspace().run(new PerformChangeOperation(undo), pm);
+		RefactoringCore.getUndoManager().flush();
+	}
+
+	private static void assertNoFatalError(RefactoringStatus status) {
+		Assert.assertFalse(status.toString(), status.hasFatalError());
+	}
+}
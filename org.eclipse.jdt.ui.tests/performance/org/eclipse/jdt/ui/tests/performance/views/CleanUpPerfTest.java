@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -59,6 +59,7 @@ import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.fix.AbstractCleanUp;
+import org.eclipse.jdt.internal.ui.fix.AbstractCleanUpCoreWrapper;
 import org.eclipse.jdt.internal.ui.fix.ArrayWithCurlyCleanUpCore;
 import org.eclipse.jdt.internal.ui.fix.ArraysFillCleanUp;
 import org.eclipse.jdt.internal.ui.fix.AutoboxingCleanUp;
@@ -886,6 +887,51 @@ public class CleanUpPerfTest extends JdtPerformanceTestCaseCommon {
 		doCleanUp(cleanUpRefactoring);
 	}
 
+	@Test
+	public void testFusedCleanUps() throws Exception {
+		CleanUpRefactoring cleanUpRefactoring= createFusedCleanUpsRefactoring(false);
+
+		doCleanUp(cleanUpRefactoring);
+	}
+
+	@Test
+	public void testFusedCleanUpsSeparateTraversals() throws Exception {
+		CleanUpRefactoring cleanUpRefactoring= createFusedCleanUpsRefactoring(true);
+
+		doCleanUp(cleanUpRefactoring);
+	}
+
+	/*
+	 * Clean ups that find the nodes to fix in one shared traversal of the AST. If separate is
+	 * true, the clean ups are wrapped, so that each of them traverses the AST on its own.
+	 */
+	private CleanUpRefactoring createFusedCleanUpsRefactoring(boolean separate) throws CoreException {
+		CleanUpRefactoring cleanUpRefactoring= new CleanUpRefactoring();
+		addAllCUs(cleanUpRefactoring, MyTestSetup.fJProject1.getChildren());
+
+		Map<String, String> node= getNullSettings();
+
+		node.put(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.INVERT_EQUALS, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.STANDARD_COMPARISON, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.ARRAY_WITH_CURLY, CleanUpOptions.TRUE);
+		node.put(CleanUpConstants.PRIMITIVE_COMPARISON, CleanUpOptions.TRUE);
+
+		storeSettings(node);
+
+		AbstractCleanUp[] cleanUps= { new ControlStatementsCleanUp(), new InvertEqualsCleanUpCore(), new StandardComparisonCleanUpCore(), new ArrayWithCurlyCleanUpCore(),
+				new PrimitiveComparisonCleanUpCore() };
+		for (AbstractCleanUp cleanUp : cleanUps) {
+			if (separate) {
+				cleanUpRefactoring.addCleanUp(new AbstractCleanUpCoreWrapper<>(new HashMap<>(), cleanUp) {});
+			} else {
+				cleanUpRefactoring.addCleanUp(cleanUp);
+			}
+		}
+		return cleanUpRefactoring;
+	}
+
 	@Test
 	public void testPrimitiveRatherThanWrappernCleanUp() throws Exception {
 		CleanUpRefactoring cleanUpRefactoring= new CleanUpRefactoring();
@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.JavaTestPlugin;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
+
+import org.eclipse.jdt.internal.common.ASTProcessor;
+import org.eclipse.jdt.internal.common.HelperVisitor;
+import org.eclipse.jdt.internal.common.ReferenceHolder;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+/**
+ * Measures the visitors of <code>org.eclipse.jdt.internal.common</code> that some clean ups use,
+ * on the ASTs of the JUnit sources.
+ */
+public class HelperVisitorPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static class MyTestSetup extends ExternalResource {
+		public static final String SRC_CONTAINER= "src";
+
+		public static IJavaProject fJProject1;
+
+		@Override
+		public void before() throws Throwable {
+			fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+			assertNotNull("rt not found", JavaProjectHelper.addRTJar(fJProject1));
+			File junitSrcArchive= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.JUNIT_SRC_381);
+			JavaProjectHelper.addSourceContainerWithImport(fJProject1, SRC_CONTAINER, junitSrcArchive, JavaProjectHelper.JUNIT_SRC_ENCODING);
+		}
+
+		@Override
+		public void after() {
+			try {
+				if (fJProject1 != null && fJProject1.exists()) {
+					JavaProjectHelper.delete(fJProject1);
+				}
+			} catch (CoreException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	private static final int ITERATIONS= 20;
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	private void addAllCUs(IJavaElement[] children, List<ICompilationUnit> result) throws JavaModelException {
+		for (IJavaElement element : children) {
+			if (element instanceof ICompilationUnit) {
+				result.add((ICompilationUnit) element);
+			} else if (element instanceof IPackageFragmentRoot) {
+				addAllCUs(((IPackageFragmentRoot) element).getChildren(), result);
+			} else if (element instanceof IPackageFragment) {
+				addAllCUs(((IPackageFragment) element).getChildren(), result);
+			}
+		}
+	}
+
+	private CompilationUnit[] createASTs() throws JavaModelException {
+		List<ICompilationUnit> cus= new ArrayList<>();
+		addAllCUs(MyTestSetup.fJProject1.getChildren(), cus);
+		CompilationUnit[] result= new CompilationUnit[cus.size()];
+		for (int i= 0; i < result.length; i++) {
+			result[i]= SharedASTProviderCore.getAST(cus.get(i), SharedASTProviderCore.WAIT_YES, new NullProgressMonitor());
+		}
+		return result;
+	}
+
+	@Test
+	public void testHelperVisitor() throws Exception {
+		CompilationUnit[] roots= createASTs();
+		measureHelperVisitor(Performance.getDefault().getNullPerformanceMeter(), roots);
+		measureHelperVisitor(fPerformanceMeter, roots);
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	@Test
+	public void testASTProcessor() throws Exception {
+		CompilationUnit[] roots= createASTs();
+		measureASTProcessor(Performance.getDefault().getNullPerformanceMeter(), roots);
+		measureASTProcessor(fPerformanceMeter, roots);
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	private void measureHelperVisitor(PerformanceMeter performanceMeter, CompilationUnit[] roots) throws Exception {
+		for (int j= 0; j < 10; j++) {
+			joinBackgroudActivities();
+
+			int[] found= new int[1];
+			performanceMeter.start();
+			for (int k= 0; k < ITERATIONS; k++) {
+				for (CompilationUnit root : roots) {
+					ReferenceHolder<String, Object> dataholder= new ReferenceHolder<>();
+					HelperVisitor<ReferenceHolder<String, Object>, String, Object> hv= new HelperVisitor<>(new HashSet<>(), dataholder);
+					hv.addSimpleName((node, holder) -> {
+						found[0]++;
+						return true;
+					});
+					hv.addIfStatement((node, holder) -> {
+						found[0]++;
+						return true;
+					});
+					hv.addMethodInvocation("equals", (node, holder) -> {
+						found[0]++;
+						return true;
+					});
+					hv.build(root);
+				}
+			}
+			performanceMeter.stop();
+			assertTrue(found[0] > 0);
+		}
+	}
+
+	/*
+	 * A chain of steps, like the clean ups use it: each method invocation in each method, and
+	 * each simple name in each method invocation.
+	 */
+	private void measureASTProcessor(PerformanceMeter performanceMeter, CompilationUnit[] roots) throws Exception {
+		for (int j= 0; j < 10; j++) {
+			joinBackgroudActivities();
+
+			int[] found= new int[1];
+			performanceMeter.start();
+			for (int k= 0; k < ITERATIONS; k++) {
+				for (CompilationUnit root : roots) {
+					ReferenceHolder<String, Object> dataholder= new ReferenceHolder<>();
+					ASTProcessor<ReferenceHolder<String, Object>, String, Object> astp= new ASTProcessor<>(dataholder, new HashSet<>());
+					astp.callMethodDeclarationVisitor((node, holder) -> true)
+							.callMethodInvocationVisitor((node, holder) -> true)
+							.callSimpleNameVisitor((node, holder) -> {
+								found[0]++;
+								return true;
+							}).build(root);
+				}
+			}
+			performanceMeter.stop();
+			assertTrue(found[0] > 0);
+		}
+	}
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.JavaTestPlugin;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IParent;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelCache;
+
+import org.eclipse.jdt.ui.JavaElementLabels;
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+/**
+ * Measures the rendering of member labels, as done by the views and the hovers, on the members of
+ * the JUnit sources. The labels are served from the {@link JavaElementLabelCache} after the first
+ * rendering.
+ */
+public class JavaElementLabelsPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static class MyTestSetup extends ExternalResource {
+		public static final String SRC_CONTAINER= "src";
+
+		public static IJavaProject fJProject1;
+
+		@Override
+		public void before() throws Throwable {
+			fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+			assertNotNull("rt not found", JavaProjectHelper.addRTJar(fJProject1));
+			File junitSrcArchive= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.JUNIT_SRC_381);
+			JavaProjectHelper.addSourceContainerWithImport(fJProject1, SRC_CONTAINER, junitSrcArchive, JavaProjectHelper.JUNIT_SRC_ENCODING);
+		}
+
+		@Override
+		public void after() {
+			try {
+				if (fJProject1 != null && fJProject1.exists()) {
+					JavaProjectHelper.delete(fJProject1);
+				}
+			} catch (CoreException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	private static final int ITERATIONS= 20;
+
+	private static final long[] FLAGS= {
+			JavaElementLabels.ALL_DEFAULT,
+			JavaElementLabels.ALL_FULLY_QUALIFIED,
+			JavaElementLabels.M_PARAMETER_TYPES | JavaElementLabels.M_APP_RETURNTYPE | JavaElementLabels.F_APP_TYPE_SIGNATURE,
+	};
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	private void addAllMembers(IJavaElement[] children, List<IMember> result) throws JavaModelException {
+		for (IJavaElement element : children) {
+			if (element instanceof IMember) {
+				result.add((IMember) element);
+			}
+			if (element instanceof IPackageFragmentRoot || element instanceof IPackageFragment
+					|| element instanceof ICompilationUnit || element instanceof IMember) {
+				addAllMembers(((IParent) element).getChildren(), result);
+			}
+		}
+	}
+
+	@Test
+	public void testMemberLabels() throws Exception {
+		List<IMember> members= new ArrayList<>();
+		addAllMembers(MyTestSetup.fJProject1.getChildren(), members);
+		assertFalse(members.isEmpty());
+
+		measureMemberLabels(Performance.getDefault().getNullPerformanceMeter(), members);
+		measureMemberLabels(fPerformanceMeter, members);
+
+		commitMeasurements();
+		Performance.getDefault().assertPerformance(fPerformanceMeter);
+	}
+
+	private void measureMemberLabels(PerformanceMeter performanceMeter, List<IMember> members) throws Exception {
+		for (int j= 0; j < 10; j++) {
+			JavaElementLabelCache.clearAll();
+			joinBackgroudActivities();
+
+			performanceMeter.start();
+			for (int k= 0; k < ITERATIONS; k++) {
+				for (long flags : FLAGS) {
+					for (IMember member : members) {
+						JavaElementLabels.getTextLabel(member, flags);
+						JavaElementLabels.getStyledTextLabel(member, flags);
+					}
+				}
+			}
+			performanceMeter.stop();
+		}
+	}
+}
@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.BiPredicate;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.SimpleName;
+
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+
+public class FusedASTVisitorTest {
+
+	private static CompilationUnit result;
+
+	@BeforeAll
+	public static void init() {
+		String code= """
+				package test;
+				import java.util.List;
+
+				/**
+				 * The type of {@link List}.
+				 */
+				public class E {
+					/**
+					 * @see #b(List)
+					 */
+					public void a(List<String> list) {
+						for (String s : list) {
+							System.out.println(s);
+						}
+					}
+
+					public void b(List<String> list) {
+						if (list.isEmpty()) {
+							list.add("b");
+						}
+						a(list);
+					}
+
+					public int c() {
+						return Math.max(1, 2);
+					}
+				}
+				""";
+		ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+		parser.setSource(code.toCharArray());
+		result= (CompilationUnit) parser.createAST(null);
+	}
+
+	/**
+	 * Records the calls it gets and skips the children of the method with the given name.
+	 */
+	private static class RecordingVisitor extends ASTVisitor {
+
+		private final String fSkipped;
+		final List<String> fCalls= new ArrayList<>();
+
+		RecordingVisitor(String skipped, boolean visitDocTags) {
+			super(visitDocTags);
+			fSkipped= skipped;
+		}
+
+		@Override
+		public boolean preVisit2(ASTNode node) {
+			fCalls.add("pre " + ASTNode.nodeClassForType(node.getNodeType()).getSimpleName());
+			return !(node instanceof SimpleName && "c".equals(((SimpleName) node).getIdentifier()));
+		}
+
+		@Override
+		public void postVisit(ASTNode node) {
+			fCalls.add("post " + ASTNode.nodeClassForType(node.getNodeType()).getSimpleName());
+		}
+
+		@Override
+		public boolean visit(MethodDeclaration node) {
+			fCalls.add("visit " + node.getName().getIdentifier());
+			return !node.getName().getIdentifier().equals(fSkipped);
+		}
+
+		@Override
+		public void endVisit(MethodDeclaration node) {
+			fCalls.add("endVisit " + node.getName().getIdentifier());
+		}
+
+		@Override
+		public boolean visit(Block node) {
+			fCalls.add("visit Block");
+			return true;
+		}
+
+		@Override
+		public void endVisit(Block node) {
+			fCalls.add("endVisit Block");
+		}
+
+		@Override
+		public boolean visit(MethodInvocation node) {
+			fCalls.add("visit " + node.getName().getIdentifier());
+			return true;
+		}
+	}
+
+	@Test
+	public void sameCallsAsSeparateTraversals() {
+		RecordingVisitor separateA= new RecordingVisitor("a", false);
+		RecordingVisitor separateB= new RecordingVisitor("b", true);
+		result.accept(separateA);
+		result.accept(separateB);
+
+		RecordingVisitor fusedA= new RecordingVisitor("a", false);
+		RecordingVisitor fusedB= new RecordingVisitor("b", true);
+		FusedASTVisitor fused= new FusedASTVisitor();
+		fused.add(fusedA);
+		fused.add(fusedB);
+		result.accept(fused);
+
+		assertEquals(separateA.fCalls, fusedA.fCalls);
+		assertEquals(separateB.fCalls, fusedB.fCalls);
+	}
+
+	@Test
+	public void childrenSkippedIfNoVisitorIsInterested() {
+		List<ASTNode> traversed= new ArrayList<>();
+		FusedASTVisitor fused= new FusedASTVisitor() {
+			@Override
+			public boolean preVisit2(ASTNode node) {
+				traversed.add(node);
+				return super.preVisit2(node);
+			}
+		};
+		fused.add(new RecordingVisitor("a", false));
+		fused.add(new RecordingVisitor("a", false));
+		result.accept(fused);
+
+		for (ASTNode node : traversed) {
+			for (ASTNode parent= node.getParent(); parent != null; parent= parent.getParent()) {
+				assertTrue(!(parent instanceof MethodDeclaration) || !((MethodDeclaration) parent).getName().getIdentifier().equals("a"), node.toString());
+			}
+		}
+	}
+
+	@Test
+	public void restrictedToNodeTypes() {
+		List<String> separate= new ArrayList<>();
+		result.accept(new ASTVisitor() {
+			@Override
+			public boolean visit(MethodInvocation node) {
+				separate.add(node.getName().getIdentifier());
+				return true;
+			}
+		});
+
+		List<String> fusedCalls= new ArrayList<>();
+		FusedASTVisitor fused= new FusedASTVisitor();
+		fused.add(new ASTVisitor() {
+			@Override
+			public void preVisit(ASTNode node) {
+				fusedCalls.add(ASTNode.nodeClassForType(node.getNodeType()).getSimpleName());
+			}
+
+			@Override
+			public boolean visit(MethodInvocation node) {
+				fusedCalls.add(node.getName().getIdentifier());
+				return true;
+			}
+		}, ASTNode.METHOD_INVOCATION);
+		fused.add(new RecordingVisitor(null, true));
+		result.accept(fused);
+
+		List<String> expected= new ArrayList<>();
+		for (String name : separate) {
+			expected.add("MethodInvocation");
+			expected.add(name);
+		}
+		fusedCalls.removeIf("Javadoc"::equals);
+		assertEquals(expected, fusedCalls);
+	}
+
+	@Test
+	public void helperVisitor() {
+		List<String> separate= new ArrayList<>();
+		HelperVisitor<ReferenceHolder<String, NodeFound>, String, NodeFound> hv= new HelperVisitor<>(new HashSet<>(), new ReferenceHolder<>());
+		BiPredicate<MethodInvocation, ReferenceHolder<String, NodeFound>> separateBs= (node, holder) -> separate.add(node.getName().getIdentifier());
+		hv.addMethodInvocation(separateBs);
+		hv.build(result);
+
+		List<String> fusedCalls= new ArrayList<>();
+		HelperVisitor<ReferenceHolder<String, NodeFound>, String, NodeFound> fusedHv= new HelperVisitor<>(new HashSet<>(), new ReferenceHolder<>());
+		BiPredicate<MethodInvocation, ReferenceHolder<String, NodeFound>> fusedBs= (node, holder) -> fusedCalls.add(node.getName().getIdentifier());
+		fusedHv.addMethodInvocation(fusedBs);
+		FusedASTVisitor fused= new FusedASTVisitor();
+		fusedHv.build(fused, false);
+		fused.add(new RecordingVisitor("b", false));
+		result.accept(fused);
+
+		assertEquals(List.of("println", "isEmpty", "add", "a", "max"), separate);
+		assertEquals(separate, fusedCalls);
+	}
+}
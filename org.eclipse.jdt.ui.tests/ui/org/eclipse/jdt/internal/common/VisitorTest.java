@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2024 Carsten Hammer.
+ * Copyright (c) 2021, 2026 Carsten Hammer.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.common;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
@@ -638,6 +641,29 @@ public class VisitorTest {
 		hv.build(result2);
 	}
 
+	@Test
+	public void fromNodetype() {
+		for (VisitorEnum ve : VisitorEnum.values()) {
+			assertEquals(ve, VisitorEnum.fromNodetype(ve.getValue()));
+		}
+		assertNull(VisitorEnum.fromNodetype(-1));
+		assertNull(VisitorEnum.fromNodetype(Integer.MAX_VALUE));
+	}
+
+	@Test
+	public void processorReusesVisitors() {
+		ReferenceHolder<String, Object> dataholder = new ReferenceHolder<>();
+		List<ASTNode> found = new ArrayList<>();
+		ASTProcessor<ReferenceHolder<String, Object>, String, Object> astp=new ASTProcessor<>(dataholder, null);
+		astp.callWhileStatementVisitor((node,holder) -> true, s -> ((WhileStatement)s).getBody())
+		.callMethodInvocationVisitor("next",(node,holder) -> {
+			assertEquals(EnumSet.of(VisitorEnum.MethodInvocation), holder.getHelperVisitor().getSuppliermap().keySet());
+			found.add(node);
+			return true;
+		}).build(result2);
+		assertEquals(3, found.size());
+	}
+
 	Collection<String> getUsedVariableNames(ASTNode node) {
 		CompilationUnit root= (CompilationUnit) node.getRoot();
 		Collection<String> res= (new ScopeAnalyzer(root)).getUsedVariableNames(node.getStartPosition(), node.getLength());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import org.eclipse.jdt.testplugin.TestOptions;
 
 import org.eclipse.jdt.core.JavaCore;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitorTest;
 import org.eclipse.jdt.internal.common.VisitorTest;
 
 import org.eclipse.jdt.ui.tests.browsing.PackagesViewContentProviderTests;
@@ -33,6 +34,9 @@ import org.eclipse.jdt.ui.tests.buildpath.BuildpathTestSuite;
 import org.eclipse.jdt.ui.tests.callhierarchy.CallHierarchyContentProviderTest;
 import org.eclipse.jdt.ui.tests.core.CoreTestSuite;
 import org.eclipse.jdt.ui.tests.core.CoreTests;
+import org.eclipse.jdt.ui.tests.hover.JavadocArchiveIndexParityTests;
+import org.eclipse.jdt.ui.tests.hover.JavadocArchiveIndexTests;
+import org.eclipse.jdt.ui.tests.hover.JavadocContentCacheTests;
 import org.eclipse.jdt.ui.tests.hover.JavadocHoverTests;
 import org.eclipse.jdt.ui.tests.hover.MarkdownCommentTests;
 import org.eclipse.jdt.ui.tests.hover.PackageJavadocTests;
@@ -56,6 +60,7 @@ import org.eclipse.jdt.internal.ui.JavaPlugin;
 @Suite
 @SelectClasses({
 	VisitorTest.class,
+	FusedASTVisitorTest.class,
 	CoreTests.class,
 	CoreTestSuite.class,
 	QuickFixTestSuite.class,
@@ -86,6 +91,9 @@ import org.eclipse.jdt.internal.ui.JavaPlugin;
 	JarExportTests.class,
 	PackageJavadocTests.class,
 	JavadocHoverTests.class,
+	JavadocContentCacheTests.class,
+	JavadocArchiveIndexTests.class,
+	JavadocArchiveIndexParityTests.class,
 	MarkdownCommentTests.class,
 	SmokeViewsTest.class
 })
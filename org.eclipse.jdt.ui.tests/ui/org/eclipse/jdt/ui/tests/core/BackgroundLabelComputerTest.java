@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.util.DisplayHelper;
+
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.ui.JavaElementLabels;
+import org.eclipse.jdt.ui.PreferenceConstants;
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.viewsupport.BackgroundLabelComputer;
+import org.eclipse.jdt.internal.ui.viewsupport.BackgroundLabelComputer.ComputedLabel;
+import org.eclipse.jdt.internal.ui.viewsupport.JavaElementImageProvider;
+import org.eclipse.jdt.internal.ui.viewsupport.JavaUILabelProvider;
+
+/**
+ * Tests for {@link BackgroundLabelComputer}.
+ */
+public class BackgroundLabelComputerTest {
+
+	private static final long TEXT_FLAGS= JavaElementLabels.ALL_DEFAULT | JavaElementLabels.COLORIZE;
+	private static final int IMAGE_FLAGS= JavaElementImageProvider.OVERLAY_ICONS;
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+
+	private ICompilationUnit fCu;
+
+	private JavaUILabelProvider fLabelProvider;
+
+	private BackgroundLabelComputer fComputer;
+
+	private final Set<Object> fChanged= ConcurrentHashMap.newKeySet();
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack= sourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class E {
+			    public void foo(int i) {
+			    }
+			}
+			""";
+		fCu= pack.createCompilationUnit("E.java", str, false, null);
+
+		fLabelProvider= new JavaUILabelProvider();
+		fLabelProvider.addListener(event -> {
+			if (event.getElements() != null)
+				fChanged.addAll(Arrays.asList(event.getElements()));
+		});
+		// no budget in the UI thread, all labels are computed in the background
+		fComputer= new BackgroundLabelComputer(fLabelProvider, new JavaElementImageProvider(), 0);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fComputer.dispose();
+		fLabelProvider.dispose();
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	private ComputedLabel computeInBackground(IJavaElement element) {
+		fChanged.clear();
+		assertNull("placeholder expected", fComputer.getLabel(element, TEXT_FLAGS, IMAGE_FLAGS));
+		boolean fired= new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return fChanged.contains(element);
+			}
+		}.waitForCondition(Display.getCurrent(), 10000);
+		assertTrue("no label provider changed event", fired);
+		ComputedLabel label= fComputer.getLabel(element, TEXT_FLAGS, IMAGE_FLAGS);
+		assertNotNull(label);
+		return label;
+	}
+
+	@Test
+	public void testPlaceholderThenComputedLabel() throws Exception {
+		IMethod method= fCu.getType("E").getMethod("foo", new String[] { "I" });
+		ComputedLabel label= computeInBackground(method);
+		assertEquals(JavaElementLabels.getStyledTextLabel(method, TEXT_FLAGS).getString(), label.getStyledText().getString());
+		assertNotNull(label.getImageDescriptor());
+	}
+
+	@Test
+	public void testInvalidatedByDelta() throws Exception {
+		IMethod method= fCu.getType("E").getMethod("foo", new String[] { "I" });
+		computeInBackground(method);
+
+		fCu.becomeWorkingCopy(null);
+		try {
+			// a reconcile changes the element without changing the modification stamp of the file
+			fCu.getBuffer().replace(fCu.getSource().indexOf("int i"), "int i".length(), "int j");
+			fCu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			computeInBackground(method);
+		} finally {
+			fCu.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void testInvalidatedByPreferenceChange() throws Exception {
+		IMethod method= fCu.getType("E").getMethod("foo", new String[] { "I" });
+		computeInBackground(method);
+
+		IPreferenceStore store= PreferenceConstants.getPreferenceStore();
+		boolean compress= store.getBoolean(PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES);
+		try {
+			store.setValue(PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES, !compress);
+			computeInBackground(method);
+		} finally {
+			store.setValue(PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES, compress);
+		}
+	}
+}
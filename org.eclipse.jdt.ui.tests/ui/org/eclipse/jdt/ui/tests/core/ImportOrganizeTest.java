@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -60,6 +60,7 @@ import org.eclipse.jdt.core.Signature;
 import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
 import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation;
 import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation.IChooseImportQuery;
+import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation.TypeNameMatchCache;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.core.search.MethodNameMatch;
@@ -521,6 +522,56 @@ public class ImportOrganizeTest extends CoreTests {
 		assertEqualString(cu.getSource(), str1);
 	}
 
+	@Test
+	public void testSharedTypeNameMatchCache() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+
+		IPackageFragment pack1= sourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class C extends Vector {
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("C.java", str, false, null);
+		str= """
+			package test1;
+			public class D {
+			    Vector fVector;
+			    ArrayList fList;
+			}
+			""";
+		ICompilationUnit cu2= pack1.createCompilationUnit("D.java", str, false, null);
+
+		TypeNameMatchCache cache= new TypeNameMatchCache();
+		for (ICompilationUnit cu : new ICompilationUnit[] { cu1, cu2 }) {
+			OrganizeImportsOperation op= createOperation(cu, new String[0], 99, false, true, true, null);
+			op.setTypeNameMatchCache(cache);
+			op.run(null);
+		}
+
+		String str1= """
+			package test1;
+			
+			import java.util.Vector;
+			
+			public class C extends Vector {
+			}
+			""";
+		assertEqualString(cu1.getSource(), str1);
+		String str2= """
+			package test1;
+			
+			import java.util.ArrayList;
+			import java.util.Vector;
+			
+			public class D {
+			    Vector fVector;
+			    ArrayList fList;
+			}
+			""";
+		assertEqualString(cu2.getSource(), str2);
+	}
+
 	@Test
 	public void testRestoreExistingImports() throws Exception {
 		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
@@ -670,4 +670,31 @@ public class JavaElementLabelsTest extends CoreTests {
 		lab= JavaElementLabels.getTextLabel(foo2, JavaElementLabels.ALL_DEFAULT | JavaElementLabels.ALL_FULLY_QUALIFIED | JavaElementLabels.M_PARAMETER_ANNOTATIONS);
 		assertEqualString(lab, "org.test.Annotations.foo2(@Ann(value=\"\", cl=Annotations.class, ints={1, 2, -19}, ch='\\u0000', sh=32767, r=@Retention(value=RetentionPolicy.SOURCE)) String)");
 	}
+
+	@Test
+	public void testMethodLabelAfterChange() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= sourceFolder.createPackageFragment("org.test", false, null);
+		String content= """
+			package org.test;
+			public class Changed {
+			    public int foo(String s) { return 0; }
+			}
+			""";
+		ICompilationUnit cu= pack1.createCompilationUnit("Changed.java", content, false, null);
+
+		IJavaElement foo= cu.getElementAt(content.indexOf("foo"));
+		long flags= JavaElementLabels.M_PARAMETER_TYPES | JavaElementLabels.M_APP_RETURNTYPE;
+		assertExpectedLabel(foo, "foo(String) : int", flags);
+		assertExpectedLabel(foo, "foo(String) : int", flags);
+
+		content= """
+			package org.test;
+			public class Changed {
+			    public long foo(String s) { return 0; }
+			}
+			""";
+		pack1.createCompilationUnit("Changed.java", content, true, null);
+		assertExpectedLabel(foo, "foo(String) : long", flags);
+	}
 }
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+
+import org.eclipse.jdt.internal.corext.util.OpenTypeHistory;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Tests for {@link OpenTypeHistory}.
+ */
+public class OpenTypeHistoryTest {
+
+	private static final String JOURNAL_FILENAME= "OpenTypeHistoryTest.journal";
+
+	private static final class TestOpenTypeHistory extends OpenTypeHistory {
+		public TestOpenTypeHistory() {
+			super("OpenTypeHistoryTest.xml", JOURNAL_FILENAME);
+		}
+	}
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+
+	private File fJournal;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		fJournal= JavaPlugin.getDefault().getStateLocation().append(JOURNAL_FILENAME).toFile();
+		fJournal.delete();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fJournal.delete();
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	private static TypeNameMatch createMatch(IType type) throws Exception {
+		return SearchEngine.createTypeNameMatch(type, type.getFlags());
+	}
+
+	@Test
+	public void testJournalReplayAndLazyValidation() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack= sourceFolder.createPackageFragment("test1", false, null);
+		IType a= pack.createCompilationUnit("A.java", "package test1;\npublic class A {\n}\n", false, null).getType("A");
+		ICompilationUnit cuB= pack.createCompilationUnit("B.java", "package test1;\npublic class B {\n}\n", false, null);
+		TypeNameMatch matchA= createMatch(a);
+		TypeNameMatch matchB= createMatch(cuB.getType("B"));
+
+		OpenTypeHistory history= new TestOpenTypeHistory();
+		history.accessed(matchA);
+		history.accessed(matchB);
+		history.flushJournal(); // creates the journal
+		history.accessed(matchA);
+		history.flushJournal(); // appends to the journal
+		long appendedLength= fJournal.length();
+
+		cuB.delete(true, null);
+
+		OpenTypeHistory loaded= new TestOpenTypeHistory();
+		// the journal is replayed, the stale entry is not validated upfront
+		assertTrue(loaded.containsKey(matchB));
+		assertTrue(loaded.getPosition(matchA) > loaded.getPosition(matchB));
+
+		// but on first use
+		assertTrue(loaded.contains(matchA));
+		assertFalse(loaded.contains(matchB));
+		assertFalse(loaded.containsKey(matchB));
+		assertArrayEquals(new TypeNameMatch[] { matchA }, loaded.getTypeInfos());
+
+		loaded.save(); // compacts the journal
+		assertTrue(fJournal.length() < appendedLength);
+
+		OpenTypeHistory compacted= new TestOpenTypeHistory();
+		assertArrayEquals(new TypeNameMatch[] { matchA }, compacted.getTypeInfos());
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,10 @@ package org.eclipse.jdt.ui.tests.core;
 
 import static org.junit.Assert.fail;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
 import java.text.Collator;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -26,6 +30,8 @@ import org.w3c.dom.Element;
 
 import org.eclipse.jdt.internal.corext.util.History;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
 public class SelectionHistoryTest {
@@ -121,6 +127,37 @@ public class SelectionHistoryTest {
 		protected String createFromElement(Element type) {return null;}
 		@Override
 		protected String getKey(String object) {return object;}
+		@Override
+		protected void writeEntry(String object, DataOutputStream out) throws IOException {
+			out.writeUTF(object);
+		}
+		@Override
+		protected String readEntry(DataInputStream in) throws IOException {
+			return in.readUTF();
+		}
+
+	}
+
+	private static final class TestJournalHistory extends History<String, String> {
+
+		public TestJournalHistory(String journalFileName) {
+			super("SelectionHistoryTest.xml", "root", "info", journalFileName);
+			load();
+		}
+		@Override
+		protected void setAttributes(Object object, Element element) {}
+		@Override
+		protected String createFromElement(Element type) {return null;}
+		@Override
+		protected String getKey(String object) {return object;}
+		@Override
+		protected void writeEntry(String object, DataOutputStream out) throws IOException {
+			out.writeUTF(object);
+		}
+		@Override
+		protected String readEntry(DataInputStream in) throws IOException {
+			return in.readUTF();
+		}
 
 	}
 
@@ -190,4 +227,38 @@ public class SelectionHistoryTest {
 		Arrays.sort(strings, comparator);
 		assertEquals(strings, expected);
 	}
+
+	@Test
+	public void journalHistory01() throws Exception {
+		String journalFileName= "SelectionHistoryTest.journal";
+		File journal= JavaPlugin.getDefault().getStateLocation().append(journalFileName).toFile();
+		journal.delete();
+		try {
+			History<String, String> history= new TestJournalHistory(journalFileName);
+			history.accessed("a");
+			history.accessed("b");
+			history.flushJournal(); // creates the journal
+			history.accessed("c");
+			history.accessed("d");
+			history.remove("c");
+			history.accessed("b");
+			history.flushJournal(); // appends to the journal
+
+			History<String, String> loaded= new TestJournalHistory(journalFileName);
+			Comparator<String> comparator= new TestHistoryComparator(loaded);
+			String[] strings= {"a", "b", "c", "d"};
+			String[] expected= {"b", "d", "a", "c"};
+
+			Arrays.sort(strings, comparator);
+			assertEquals(strings, expected);
+
+			loaded.save();
+			History<String, String> compacted= new TestJournalHistory(journalFileName);
+			comparator= new TestHistoryComparator(compacted);
+			Arrays.sort(strings, comparator);
+			assertEquals(strings, expected);
+		} finally {
+			journal.delete();
+		}
+	}
 }
@@ -0,0 +1,492 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.hover;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.JavaTestPlugin;
+
+import org.eclipse.core.runtime.Path;
+
+import org.eclipse.jdt.core.IClasspathAttribute;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.manipulation.internal.javadoc.JavadocArchiveIndex;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+/**
+ * Tests that {@link JavadocArchiveIndex} reads the same member Javadoc from a Javadoc archive as
+ * {@link IMember#getAttachedJavadoc(org.eclipse.core.runtime.IProgressMonitor)}.
+ * <p>
+ * The library and the Javadoc 17 archive in <code>testresources/JavadocArchiveIndexTests</code>
+ * have been generated by javac and javadoc 17 from a class <code>p.C</code> with a field
+ * <code>count</code>, a constructor <code>C(int)</code> and the methods <code>foo(int)</code>,
+ * <code>bar()</code> and <code>baz(String...)</code>. The Javadoc 8 and 11 pages of the class
+ * follow the layout of the standard doclet of these versions.
+ * </p>
+ */
+public class JavadocArchiveIndexParityTests {
+
+	private static final String JAVADOC_8_PAGE= """
+			<!DOCTYPE HTML PUBLIC "-//W3C//DTD HTML 4.01 Transitional//EN" "http://www.w3.org/TR/html4/loose.dtd">
+			<!-- NewPage -->
+			<html lang="en">
+			<head>
+			<!-- Generated by javadoc (1.8.0_392) -->
+			<title>C</title>
+			<link rel="stylesheet" type="text/css" href="../stylesheet.css" title="Style">
+			</head>
+			<body>
+			<!-- ======== START OF CLASS DATA ======== -->
+			<div class="header">
+			<div class="subTitle">p</div>
+			<h2 title="Class C" class="title">Class C</h2>
+			</div>
+			<div class="contentContainer">
+			<div class="description">
+			<ul class="blockList">
+			<li class="blockList">
+			<hr>
+			<br>
+			<pre>public class <span class="typeNameLabel">C</span>
+			extends java.lang.Object</pre>
+			<div class="block">The class C.</div>
+			</li>
+			</ul>
+			</div>
+			<div class="summary">
+			<ul class="blockList">
+			<li class="blockList">
+			<!-- =========== FIELD SUMMARY =========== -->
+			<ul class="blockList">
+			<li class="blockList"><a name="field.summary">
+			<!--   -->
+			</a>
+			<h3>Field Summary</h3>
+			</li>
+			</ul>
+			<!-- ======== CONSTRUCTOR SUMMARY ======== -->
+			<ul class="blockList">
+			<li class="blockList"><a name="constructor.summary">
+			<!--   -->
+			</a>
+			<h3>Constructor Summary</h3>
+			</li>
+			</ul>
+			<!-- ========== METHOD SUMMARY =========== -->
+			<ul class="blockList">
+			<li class="blockList"><a name="method.summary">
+			<!--   -->
+			</a>
+			<h3>Method Summary</h3>
+			</li>
+			</ul>
+			</li>
+			</ul>
+			</div>
+			<div class="details">
+			<ul class="blockList">
+			<li class="blockList">
+			<!-- ============ FIELD DETAIL =========== -->
+			<ul class="blockList">
+			<li class="blockList"><a name="field.detail">
+			<!--   -->
+			</a>
+			<h3>Field Detail</h3>
+			<a name="count">
+			<!--   -->
+			</a>
+			<ul class="blockListLast">
+			<li class="blockList">
+			<h4>count</h4>
+			<pre>public&nbsp;int count</pre>
+			<div class="block">The count.</div>
+			</li>
+			</ul>
+			</li>
+			</ul>
+			<!-- ========= CONSTRUCTOR DETAIL ======== -->
+			<ul class="blockList">
+			<li class="blockList"><a name="constructor.detail">
+			<!--   -->
+			</a>
+			<h3>Constructor Detail</h3>
+			<a name="C-int-">
+			<!--   -->
+			</a>
+			<ul class="blockListLast">
+			<li class="blockList">
+			<h4>C</h4>
+			<pre>public&nbsp;C(int&nbsp;count)</pre>
+			<div class="block">Creates a C.</div>
+			<dl>
+			<dt><span class="paramLabel">Parameters:</span></dt>
+			<dd><code>count</code> - the count</dd>
+			</dl>
+			</li>
+			</ul>
+			</li>
+			</ul>
+			<!-- ============ METHOD DETAIL ========== -->
+			<ul class="blockList">
+			<li class="blockList"><a name="method.detail">
+			<!--   -->
+			</a>
+			<h3>Method Detail</h3>
+			<a name="foo-int-">
+			<!--   -->
+			</a>
+			<ul class="blockList">
+			<li class="blockList">
+			<h4>foo</h4>
+			<pre>public&nbsp;int&nbsp;foo(int&nbsp;i)</pre>
+			<div class="block">Does foo, see <a id="example">the example</a>.</div>
+			<dl>
+			<dt><span class="paramLabel">Parameters:</span></dt>
+			<dd><code>i</code> - the value</dd>
+			<dt><span class="returnLabel">Returns:</span></dt>
+			<dd>the sum</dd>
+			</dl>
+			</li>
+			</ul>
+			<a name="bar--">
+			<!--   -->
+			</a>
+			<ul class="blockList">
+			<li class="blockList">
+			<h4>bar</h4>
+			<pre>public&nbsp;void&nbsp;bar()</pre>
+			<div class="block">Does bar.</div>
+			<dl>
+			<dt><span class="seeLabel">See Also:</span></dt>
+			<dd><a href="../p/C.html#foo-int-"><code>foo(int)</code></a></dd>
+			</dl>
+			</li>
+			</ul>
+			<a name="baz-java.lang.String...-">
+			<!--   -->
+			</a>
+			<ul class="blockListLast">
+			<li class="blockList">
+			<h4>baz</h4>
+			<pre>public&nbsp;void&nbsp;baz(java.lang.String...&nbsp;values)</pre>
+			<div class="block">Does baz.</div>
+			<dl>
+			<dt><span class="paramLabel">Parameters:</span></dt>
+			<dd><code>values</code> - the values</dd>
+			<dt><span class="throwsLabel">Throws:</span></dt>
+			<dd><code>java.lang.IllegalArgumentException</code> - if there are no values</dd>
+			</dl>
+			</li>
+			</ul>
+			</li>
+			</ul>
+			</li>
+			</ul>
+			</div>
+			</div>
+			<!-- ========= END OF CLASS DATA ========= -->
+			</body>
+			</html>
+			""";
+
+	private static final String JAVADOC_11_PAGE= """
+			<!DOCTYPE HTML>
+			<html lang="en">
+			<head>
+			<!-- Generated by javadoc (11.0.21) -->
+			<title>C</title>
+			<meta http-equiv="Content-Type" content="text/html; charset=UTF-8">
+			<link rel="stylesheet" type="text/css" href="../stylesheet.css" title="Style">
+			</head>
+			<body>
+			<main role="main">
+			<!-- ======== START OF CLASS DATA ======== -->
+			<div class="header">
+			<div class="subTitle"><span class="packageLabelInType">Package</span>&nbsp;<a href="package-summary.html">p</a></div>
+			<h2 title="Class C" class="title">Class C</h2>
+			</div>
+			<div class="contentContainer">
+			<div class="description">
+			<ul class="blockList">
+			<li class="blockList">
+			<hr>
+			<pre>public class <span class="typeNameLabel">C</span>
+			extends java.lang.Object</pre>
+			<div class="block">The class C.</div>
+			</li>
+			</ul>
+			</div>
+			<div class="summary">
+			<ul class="blockList">
+			<li class="blockList">
+			<!-- =========== FIELD SUMMARY =========== -->
+			<section role="region">
+			<ul class="blockList">
+			<li class="blockList"><a id="field.summary">
+			<!--   -->
+			</a>
+			<h3>Field Summary</h3>
+			</li>
+			</ul>
+			</section>
+			<!-- ======== CONSTRUCTOR SUMMARY ======== -->
+			<section role="region">
+			<ul class="blockList">
+			<li class="blockList"><a id="constructor.summary">
+			<!--   -->
+			</a>
+			<h3>Constructor Summary</h3>
+			</li>
+			</ul>
+			</section>
+			<!-- ========== METHOD SUMMARY =========== -->
+			<section role="region">
+			<ul class="blockList">
+			<li class="blockList"><a id="method.summary">
+			<!--   -->
+			</a>
+			<h3>Method Summary</h3>
+			</li>
+			</ul>
+			</section>
+			</li>
+			</ul>
+			</div>
+			<div class="details">
+			<ul class="blockList">
+			<li class="blockList">
+			<!-- ============ FIELD DETAIL =========== -->
+			<section role="region">
+			<ul class="blockList">
+			<li class="blockList"><a id="field.detail">
+			<!--   -->
+			</a>
+			<h3>Field Detail</h3>
+			<a id="count">
+			<!--   -->
+			</a>
+			<ul class="blockListLast">
+			<li class="blockList">
+			<h4>count</h4>
+			<pre>public&nbsp;int count</pre>
+			<div class="block">The count.</div>
+			</li>
+			</ul>
+			</li>
+			</ul>
+			</section>
+			<!-- ========= CONSTRUCTOR DETAIL ======== -->
+			<section role="region">
+			<ul class="blockList">
+			<li class="blockList"><a id="constructor.detail">
+			<!--   -->
+			</a>
+			<h3>Constructor Detail</h3>
+			<a id="&lt;init&gt;(int)">
+			<!--   -->
+			</a>
+			<ul class="blockListLast">
+			<li class="blockList">
+			<h4>C</h4>
+			<pre>public&nbsp;C&#8203;(int&nbsp;count)</pre>
+			<div class="block">Creates a C.</div>
+			<dl>
+			<dt><span class="paramLabel">Parameters:</span></dt>
+			<dd><code>count</code> - the count</dd>
+			</dl>
+			</li>
+			</ul>
+			</li>
+			</ul>
+			</section>
+			<!-- ============ METHOD DETAIL ========== -->
+			<section role="region">
+			<ul class="blockList">
+			<li class="blockList"><a id="method.detail">
+			<!--   -->
+			</a>
+			<h3>Method Detail</h3>
+			<a id="foo(int)">
+			<!--   -->
+			</a>
+			<ul class="blockList">
+			<li class="blockList">
+			<h4>foo</h4>
+			<pre class="methodSignature">public&nbsp;int&nbsp;foo&#8203;(int&nbsp;i)</pre>
+			<div class="block">Does foo, see <a id="example">the example</a>.</div>
+			<dl>
+			<dt><span class="paramLabel">Parameters:</span></dt>
+			<dd><code>i</code> - the value</dd>
+			<dt><span class="returnLabel">Returns:</span></dt>
+			<dd>the sum</dd>
+			</dl>
+			</li>
+			</ul>
+			<a id="bar()">
+			<!--   -->
+			</a>
+			<ul class="blockList">
+			<li class="blockList">
+			<h4>bar</h4>
+			<pre class="methodSignature">public&nbsp;void&nbsp;bar()</pre>
+			<div class="block">Does bar.</div>
+			<dl>
+			<dt><span class="seeLabel">See Also:</span></dt>
+			<dd><a href="#foo(int)"><code>foo(int)</code></a></dd>
+			</dl>
+			</li>
+			</ul>
+			<a id="baz(java.lang.String...)">
+			<!--   -->
+			</a>
+			<ul class="blockListLast">
+			<li class="blockList">
+			<h4>baz</h4>
+			<pre class="methodSignature">public&nbsp;void&nbsp;baz&#8203;(java.lang.String...&nbsp;values)</pre>
+			<div class="block">Does baz.</div>
+			<dl>
+			<dt><span class="paramLabel">Parameters:</span></dt>
+			<dd><code>values</code> - the values</dd>
+			<dt><span class="throwsLabel">Throws:</span></dt>
+			<dd><code>java.lang.IllegalArgumentException</code> - if there are no values</dd>
+			</dl>
+			</li>
+			</ul>
+			</li>
+			</ul>
+			</section>
+			</li>
+			</ul>
+			</div>
+			</div>
+			<!-- ========= END OF CLASS DATA ========= -->
+			</main>
+			</body>
+			</html>
+			""";
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+
+	private File fArchive;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+		if (fArchive != null)
+			fArchive.delete();
+	}
+
+	private static File getTestResource(String name) throws Exception {
+		return JavaTestPlugin.getDefault().getFileInPlugin(new Path("/testresources/JavadocArchiveIndexTests/" + name));
+	}
+
+	private File createArchive(String page) throws Exception {
+		fArchive= File.createTempFile("javadoc", ".zip");
+		try (ZipOutputStream out= new ZipOutputStream(new FileOutputStream(fArchive))) {
+			out.putNextEntry(new ZipEntry("p/C.html"));
+			out.write(page.getBytes(StandardCharsets.UTF_8));
+			out.closeEntry();
+		}
+		return fArchive;
+	}
+
+	private IType addLibrary(File javadocArchive) throws Exception {
+		File library= getTestResource("javadocArchiveIndex.jar");
+		IClasspathAttribute javadocLocation= JavaCore.newClasspathAttribute(IClasspathAttribute.JAVADOC_LOCATION_ATTRIBUTE_NAME, "jar:" + javadocArchive.toURI() + "!/");
+		JavaProjectHelper.addToClasspath(fJProject1, JavaCore.newLibraryEntry(new Path(library.getAbsolutePath()), null, null, null, new IClasspathAttribute[] { javadocLocation }, false));
+		IPackageFragmentRoot root= fJProject1.getPackageFragmentRoot(library.getAbsolutePath());
+		IType type= root.getPackageFragment("p").getOrdinaryClassFile("C.class").getType();
+		assertTrue(type.exists());
+		return type;
+	}
+
+	/*
+	 * The range of the index starts at the anchor tag and can end at other tags than the range of
+	 * the Javadoc model, so the text of the ranges is compared.
+	 */
+	private static String toText(String html) {
+		return html.replaceAll("<[^>]*>", " ").replaceAll("\\s+", " ").trim();
+	}
+
+	private static void assertParity(File javadocArchive, IMember member, String anchor) throws Exception {
+		String expected= member.getAttachedJavadoc(null);
+		assertNotNull(anchor, expected);
+		URI entry= new URI(null, null, "p/C.html", anchor);
+		String indexed= JavadocArchiveIndex.getFragment(new URL("jar:" + javadocArchive.toURI() + "!/" + entry));
+		assertNotNull(anchor, indexed);
+		assertEquals(anchor, toText(expected), toText(indexed));
+	}
+
+	@Test
+	public void testJavadoc8Page() throws Exception {
+		File archive= createArchive(JAVADOC_8_PAGE);
+		IType type= addLibrary(archive);
+		assertParity(archive, type.getField("count"), "count");
+		assertParity(archive, type.getMethod("C", new String[] { "I" }), "C-int-");
+		assertParity(archive, type.getMethod("foo", new String[] { "I" }), "foo-int-");
+		assertParity(archive, type.getMethod("bar", new String[0]), "bar--");
+		assertParity(archive, type.getMethod("baz", new String[] { "[Ljava.lang.String;" }), "baz-java.lang.String...-");
+	}
+
+	@Test
+	public void testJavadoc11Page() throws Exception {
+		File archive= createArchive(JAVADOC_11_PAGE);
+		IType type= addLibrary(archive);
+		assertParity(archive, type.getField("count"), "count");
+		assertParity(archive, type.getMethod("C", new String[] { "I" }), "<init>(int)");
+		assertParity(archive, type.getMethod("foo", new String[] { "I" }), "foo(int)");
+		assertParity(archive, type.getMethod("bar", new String[0]), "bar()");
+		assertParity(archive, type.getMethod("baz", new String[] { "[Ljava.lang.String;" }), "baz(java.lang.String...)");
+	}
+
+	@Test
+	public void testJavadoc17Page() throws Exception {
+		File archive= getTestResource("api17.zip");
+		IType type= addLibrary(archive);
+		assertParity(archive, type.getField("count"), "count");
+		assertParity(archive, type.getMethod("C", new String[] { "I" }), "<init>(int)");
+		assertParity(archive, type.getMethod("foo", new String[] { "I" }), "foo(int)");
+		assertParity(archive, type.getMethod("bar", new String[0]), "bar()");
+		assertParity(archive, type.getMethod("baz", new String[] { "[Ljava.lang.String;" }), "baz(java.lang.String...)");
+	}
+}
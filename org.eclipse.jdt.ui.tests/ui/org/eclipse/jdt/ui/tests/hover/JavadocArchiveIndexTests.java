@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.hover;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.core.manipulation.internal.javadoc.JavadocArchiveIndex;
+
+/**
+ * Tests for {@link JavadocArchiveIndex}.
+ */
+public class JavadocArchiveIndexTests {
+
+	private static final String JAVADOC_8_PAGE= """
+			<html><head><meta http-equiv="Content-Type" content="text/html; charset=UTF-8"></head><body>
+			<!-- ============ METHOD DETAIL ========== -->
+			<ul class="blockList"><li class="blockList"><a name="method.detail">
+			<!--   -->
+			</a>
+			<h3>Method Detail</h3>
+			<a name="foo-int-">
+			<!--   -->
+			</a>
+			<ul class="blockList"><li class="blockList"><h4>foo</h4><div class="block">Does foo.</div></li></ul>
+			<a name="bar--">
+			<!--   -->
+			</a>
+			<ul class="blockListLast"><li class="blockList"><h4>bar</h4><div class="block">Does b\u00e4r.</div></li></ul>
+			</li></ul>
+			<!-- ========= END OF CLASS DATA ========= -->
+			</body></html>
+			""";
+
+	private static final String JAVADOC_17_PAGE= """
+			<html><head><meta charset="utf-8"></head><body>
+			<section class="constructor-details" id="constructor-detail"><h2>Constructor Details</h2><ul class="member-list">
+			<li><section class="detail" id="&lt;init&gt;(int)"><h3>C</h3><div class="block">Creates a C.</div></section></li>
+			</ul></section>
+			<section class="method-details" id="method-detail"><h2>Method Details</h2><ul class="member-list">
+			<li><section class="detail" id="foo(int)"><h3>foo</h3><div class="block">Does foo.</div></section></li>
+			<li><section class="detail" id="bar()"><h3>bar</h3><div class="block">Does bar.</div></section></li>
+			</ul></section>
+			<!-- ========= END OF CLASS DATA ========= -->
+			<footer role="contentinfo"><p class="legal-copy">Copyright</p></footer>
+			</body></html>
+			""";
+
+	private File fArchive;
+	private File fDirectory;
+
+	@Before
+	public void setUp() throws Exception {
+		fArchive= File.createTempFile("javadoc", ".zip");
+		fDirectory= Files.createTempDirectory("javadocIndex").toFile();
+		writeArchive(JAVADOC_8_PAGE, JAVADOC_17_PAGE);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		fArchive.delete();
+		try (Stream<java.nio.file.Path> files= Files.walk(fDirectory.toPath())) {
+			files.sorted(Comparator.reverseOrder()).map(java.nio.file.Path::toFile).forEach(File::delete);
+		}
+	}
+
+	private void writeArchive(String page8, String page17) throws IOException {
+		try (ZipOutputStream out= new ZipOutputStream(new FileOutputStream(fArchive))) {
+			out.putNextEntry(new ZipEntry("api/p/C8.html"));
+			out.write(page8.getBytes(StandardCharsets.UTF_8));
+			out.closeEntry();
+			out.putNextEntry(new ZipEntry("api/p/C17.html"));
+			out.write(page17.getBytes(StandardCharsets.UTF_8));
+			out.closeEntry();
+		}
+	}
+
+	@Test
+	public void testJavadoc8Anchors() throws Exception {
+		JavadocArchiveIndex index= new JavadocArchiveIndex(fArchive, fDirectory);
+		String foo= index.read("api/p/C8.html", "foo-int-");
+		assertNotNull(foo);
+		assertTrue(foo, foo.startsWith("<a name=\"foo-int-\">"));
+		assertTrue(foo, foo.contains("Does foo."));
+		assertFalse(foo, foo.contains("bar"));
+
+		String bar= index.read("api/p/C8.html", "bar--");
+		assertNotNull(bar);
+		assertTrue(bar, bar.contains("Does b\u00e4r."));
+		assertFalse(bar, bar.contains("END OF CLASS DATA"));
+
+		assertNull(index.read("api/p/C8.html", "baz--"));
+		assertNull(index.read("api/p/Missing.html", "foo-int-"));
+	}
+
+	@Test
+	public void testJavadoc17Anchors() throws Exception {
+		JavadocArchiveIndex index= new JavadocArchiveIndex(fArchive, fDirectory);
+		String foo= index.read("api/p/C17.html", "foo(int)");
+		assertNotNull(foo);
+		assertTrue(foo, foo.startsWith("<section class=\"detail\" id=\"foo(int)\">"));
+		assertTrue(foo, foo.contains("Does foo."));
+		assertFalse(foo, foo.contains("Does bar."));
+
+		String bar= index.read("api/p/C17.html", "bar()");
+		assertNotNull(bar);
+		assertTrue(bar, bar.contains("Does bar."));
+		assertFalse(bar, bar.contains("Copyright"));
+
+		String constructor= index.read("api/p/C17.html", "<init>(int)");
+		assertNotNull(constructor);
+		assertTrue(constructor, constructor.contains("Creates a C."));
+		assertFalse(constructor, constructor.contains("Method Details"));
+	}
+
+	@Test
+	public void testIndexPersisted() throws Exception {
+		JavadocArchiveIndex index= new JavadocArchiveIndex(fArchive, fDirectory);
+		assertFalse(index.isIndexed("api/p/C8.html"));
+		String foo= index.read("api/p/C8.html", "foo-int-");
+
+		JavadocArchiveIndex loaded= new JavadocArchiveIndex(fArchive, fDirectory);
+		assertTrue(loaded.isIndexed("api/p/C8.html"));
+		assertFalse(loaded.isIndexed("api/p/C17.html"));
+		assertEquals(foo, loaded.read("api/p/C8.html", "foo-int-"));
+
+		// appended to the saved index
+		String bar= loaded.read("api/p/C17.html", "bar()");
+		JavadocArchiveIndex reloaded= new JavadocArchiveIndex(fArchive, fDirectory);
+		assertTrue(reloaded.isIndexed("api/p/C8.html"));
+		assertTrue(reloaded.isIndexed("api/p/C17.html"));
+		assertEquals(foo, reloaded.read("api/p/C8.html", "foo-int-"));
+		assertEquals(bar, reloaded.read("api/p/C17.html", "bar()"));
+	}
+
+	@Test
+	public void testIndexDiscardedIfArchiveChanges() throws Exception {
+		JavadocArchiveIndex index= new JavadocArchiveIndex(fArchive, fDirectory);
+		index.read("api/p/C8.html", "foo-int-");
+
+		writeArchive(JAVADOC_8_PAGE.replace("Does foo.", "Does foo again."), JAVADOC_17_PAGE);
+		assertTrue(index.isStale());
+		JavadocArchiveIndex loaded= new JavadocArchiveIndex(fArchive, fDirectory);
+		assertFalse(loaded.isIndexed("api/p/C8.html"));
+		String foo= loaded.read("api/p/C8.html", "foo-int-");
+		assertTrue(foo, foo.contains("Does foo again."));
+
+		// the old index is kept in its own directory until it is disposed
+		assertEquals(2, fDirectory.list().length);
+		index.dispose();
+		assertEquals(1, fDirectory.list().length);
+		assertNull(index.read("api/p/C8.html", "foo-int-"));
+		assertEquals(foo, loaded.read("api/p/C8.html", "foo-int-"));
+	}
+
+	@Test
+	public void testAnchorsInsideDocumentation() throws Exception {
+		writeArchive(JAVADOC_8_PAGE.replace("Does foo.", "Does foo, see <a name=\"note\">the note</a> and <a id=\"example\">the example</a>. After."),
+				JAVADOC_17_PAGE.replace("Does foo.", "Does foo, see <h4 id=\"note\">Note</h4> and <a id=\"example\">the example</a>. After."));
+		JavadocArchiveIndex index= new JavadocArchiveIndex(fArchive, fDirectory);
+		String foo8= index.read("api/p/C8.html", "foo-int-");
+		assertNotNull(foo8);
+		assertTrue(foo8, foo8.contains("the example</a>. After."));
+		assertFalse(foo8, foo8.contains("Does b\u00e4r."));
+		assertNull(index.read("api/p/C8.html", "note"));
+		assertNull(index.read("api/p/C8.html", "example"));
+
+		String foo17= index.read("api/p/C17.html", "foo(int)");
+		assertNotNull(foo17);
+		assertTrue(foo17, foo17.contains("the example</a>. After."));
+		assertFalse(foo17, foo17.contains("Does bar."));
+		assertNull(index.read("api/p/C17.html", "note"));
+		assertNull(index.read("api/p/C17.html", "example"));
+	}
+
+	@Test
+	public void testFragmentOfJarURL() throws Exception {
+		URL location= new URL("jar:" + fArchive.toURI() + "!/api/p/C17.html#foo(int)");
+		String foo= JavadocArchiveIndex.getFragment(location);
+		assertNotNull(foo);
+		assertTrue(foo, foo.contains("Does foo."));
+
+		assertNull(JavadocArchiveIndex.getFragment(new URL("jar:" + fArchive.toURI() + "!/api/p/C17.html#baz()")));
+		assertNull(JavadocArchiveIndex.getFragment(fArchive.toURI().toURL()));
+	}
+
+	@Test
+	public void testFragmentAfterArchiveChanges() throws Exception {
+		URL location= new URL("jar:" + fArchive.toURI() + "!/api/p/C17.html#foo(int)");
+		String foo= JavadocArchiveIndex.getFragment(location);
+		assertNotNull(foo);
+		assertFalse(foo, foo.contains("Does foo again."));
+
+		writeArchive(JAVADOC_8_PAGE, JAVADOC_17_PAGE.replace("Does foo.", "Does foo again."));
+		foo= JavadocArchiveIndex.getFragment(location);
+		assertNotNull(foo);
+		assertTrue(foo, foo.contains("Does foo again."));
+	}
+}
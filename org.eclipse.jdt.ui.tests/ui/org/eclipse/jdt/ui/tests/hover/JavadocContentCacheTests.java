@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.hover;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.JavaTestPlugin;
+
+import org.eclipse.core.runtime.Path;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.IClasspathAttribute;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.manipulation.internal.javadoc.CoreJavadocAccess;
+
+import org.eclipse.jdt.ui.tests.core.CoreTests;
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.text.javadoc.JavadocContentCache;
+
+/**
+ * Tests for {@link JavadocContentCache}.
+ */
+public class JavadocContentCacheTests extends CoreTests {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+
+	private IType getBinaryType() throws Exception {
+		File clsJarPath= JavaTestPlugin.getDefault().getFileInPlugin(new Path("/testresources/PackageJavadocTests/testData.zip"));
+		File srcJarPath= JavaTestPlugin.getDefault().getFileInPlugin(new Path("/testresources/PackageJavadocTests/testData_src.zip"));
+		JavaProjectHelper.addLibraryWithImport(fJProject1, new Path(clsJarPath.getAbsolutePath()), new Path(srcJarPath.getAbsolutePath()), null);
+		IPackageFragmentRoot jarRoot= fJProject1.getPackageFragmentRoot(ResourcesPlugin.getWorkspace().getRoot().getFile(new Path("/TestSetupProject/testData.zip")));
+		IPackageFragment packageFragment= jarRoot.getPackageFragment("org.eclipse.jdt.ui.tests.noJavadoc");
+		IType type= packageFragment.getOrdinaryClassFile("TestClassNoJavaDoc.class").getType();
+		assertTrue(type.exists());
+		return type;
+	}
+
+	@Test
+	public void testBinaryContentCached() throws Exception {
+		IType type= getBinaryType();
+		JavadocContentCache cache= new JavadocContentCache(null);
+		assertTrue(JavadocContentCache.isCacheable(type));
+		assertFalse(cache.isCached(type));
+
+		String content= cache.getHTMLContent(type);
+		assertEquals(new CoreJavadocAccess().getHTMLContent(type, true), content);
+		assertTrue(cache.isCached(type));
+		assertEquals(content, cache.getHTMLContent(type));
+		assertEquals(1, cache.size());
+
+		cache.clear();
+		assertFalse(cache.isCached(type));
+	}
+
+	@Test
+	public void testSourceContentNotCached() throws Exception {
+		IPackageFragmentRoot src= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack= src.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			/**
+			 * The type E.
+			 */
+			public class E {
+			}
+			""";
+		ICompilationUnit cu= pack.createCompilationUnit("E.java", str, false, null);
+		IType type= cu.getType("E");
+
+		JavadocContentCache cache= new JavadocContentCache(null);
+		assertFalse(JavadocContentCache.isCacheable(type));
+		String content= cache.getHTMLContent(type);
+		assertNotNull(content);
+		assertTrue(content, content.contains("The type E."));
+		assertFalse(cache.isCached(type));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testMissingRemoteContentNotCached() throws Exception {
+		File clsJarPath= JavaTestPlugin.getDefault().getFileInPlugin(new Path("/testresources/PackageJavadocTests/testData.zip"));
+		IClasspathAttribute javadocLocation= JavaCore.newClasspathAttribute(IClasspathAttribute.JAVADOC_LOCATION_ATTRIBUTE_NAME, "http://localhost:1/api/");
+		JavaProjectHelper.addToClasspath(fJProject1, JavaCore.newLibraryEntry(new Path(clsJarPath.getAbsolutePath()), null, null, null, new IClasspathAttribute[] { javadocLocation }, false));
+		IPackageFragmentRoot jarRoot= fJProject1.getPackageFragmentRoot(clsJarPath.getAbsolutePath());
+		IType type= jarRoot.getPackageFragment("org.eclipse.jdt.ui.tests.noJavadoc").getOrdinaryClassFile("TestClassNoJavaDoc.class").getType();
+		assertTrue(type.exists());
+
+		JavadocContentCache cache= new JavadocContentCache(null);
+		assertTrue(JavadocContentCache.isCacheable(type));
+		assertNull(cache.getHTMLContent(type));
+		assertFalse(cache.isCached(type));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testLocalJavadocPageStamped() throws Exception {
+		File clsJarPath= JavaTestPlugin.getDefault().getFileInPlugin(new Path("/testresources/PackageJavadocTests/testData.zip"));
+		File javadocDir= Files.createTempDirectory("javadoc").toFile();
+		File page= new File(javadocDir, "org/eclipse/jdt/ui/tests/noJavadoc/TestClassNoJavaDoc.html");
+		try {
+			page.getParentFile().mkdirs();
+			Files.writeString(page.toPath(), "<html><body></body></html>");
+			IClasspathAttribute javadocLocation= JavaCore.newClasspathAttribute(IClasspathAttribute.JAVADOC_LOCATION_ATTRIBUTE_NAME, javadocDir.toURI().toString());
+			JavaProjectHelper.addToClasspath(fJProject1, JavaCore.newLibraryEntry(new Path(clsJarPath.getAbsolutePath()), null, null, null, new IClasspathAttribute[] { javadocLocation }, false));
+			IPackageFragmentRoot jarRoot= fJProject1.getPackageFragmentRoot(clsJarPath.getAbsolutePath());
+			IType type= jarRoot.getPackageFragment("org.eclipse.jdt.ui.tests.noJavadoc").getOrdinaryClassFile("TestClassNoJavaDoc.class").getType();
+
+			JavadocContentCache cache= new JavadocContentCache(null);
+			cache.getHTMLContent(type);
+			assertTrue(cache.isCached(type));
+
+			// the time stamp of the folder does not change
+			long folderStamp= javadocDir.lastModified();
+			Files.writeString(page.toPath(), "<html><body>changed</body></html>");
+			page.setLastModified(page.lastModified() + 10000);
+			javadocDir.setLastModified(folderStamp);
+			assertFalse(cache.isCached(type));
+		} finally {
+			try (Stream<java.nio.file.Path> paths= Files.walk(javadocDir.toPath())) {
+				paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+			}
+		}
+	}
+
+	@Test
+	public void testPersisted() throws Exception {
+		IType type= getBinaryType();
+		File file= File.createTempFile("javadocContentCache", ".dat");
+		try {
+			JavadocContentCache cache= new JavadocContentCache(file);
+			String content= cache.getHTMLContent(type);
+			cache.save();
+
+			JavadocContentCache loaded= new JavadocContentCache(file);
+			loaded.load();
+			assertTrue(loaded.isCached(type));
+			assertEquals(content, loaded.getHTMLContent(type));
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testPrefetch() throws Exception {
+		IType type= getBinaryType();
+		JavadocContentCache cache= new JavadocContentCache(null);
+		cache.prefetch(List.of(type));
+		for (int i= 0; i < 100 && !cache.isCached(type); i++) {
+			Thread.sleep(100);
+		}
+		assertTrue(cache.isCached(type));
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+}
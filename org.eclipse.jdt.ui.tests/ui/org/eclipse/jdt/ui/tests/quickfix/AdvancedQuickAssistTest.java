@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.quickfix;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Hashtable;
@@ -41,6 +44,9 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
 
 import org.eclipse.jdt.internal.core.manipulation.CodeTemplateContextType;
@@ -55,6 +61,7 @@ import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.text.correction.AssistContext;
 import org.eclipse.jdt.internal.ui.text.correction.CorrectionMessages;
 import org.eclipse.jdt.internal.ui.text.correction.QuickTemplateProcessor;
+import org.eclipse.jdt.internal.ui.text.correction.proposals.DeferredRewriteCorrectionProposal;
 
 public class AdvancedQuickAssistTest extends QuickFixTest {
 	@Rule
@@ -4323,6 +4330,89 @@ public class AdvancedQuickAssistTest extends QuickFixTest {
 
 	}
 
+	@Test
+	public void testConvertSwitchToIfDeferredRewrite() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class E {
+			    public void foo(String s) {
+			        switch (s) {
+			            case "a":
+			                System.out.println(1);
+			                break;
+			            default:
+			                System.out.println(-1);
+			        }
+			    }
+			}
+			""";
+		ICompilationUnit cu= pack1.createCompilationUnit("E.java", str, false, null);
+
+		int offset= str.indexOf("switch");
+		AssistContext context= getCorrectionContext(cu, offset, 0);
+		assertNoErrors(context);
+		List<IJavaCompletionProposal> proposals= collectAssists(context, false);
+
+		assertCorrectLabels(proposals);
+		int deferred= 0;
+		for (IJavaCompletionProposal proposal : proposals) {
+			if (proposal instanceof DeferredRewriteCorrectionProposal) {
+				deferred++;
+			}
+		}
+		assertEquals(2, deferred);
+
+		CUCorrectionProposal proposal= (CUCorrectionProposal) findProposalByName(CorrectionMessages.AdvancedQuickAssistProcessor_convertSwitchToIf, proposals);
+		assertTrue(proposal instanceof DeferredRewriteCorrectionProposal);
+		String expected1= """
+			package test1;
+			public class E {
+			    public void foo(String s) {
+			        if (s.equals("a")) {
+			            System.out.println(1);
+			        } else {
+			            System.out.println(-1);
+			        }
+			    }
+			}
+			""";
+		assertEqualString(proposal.getPreviewContent(), expected1);
+	}
+
+	@Test
+	public void testDeferredRewriteCreatedOnPreview() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class E {
+			}
+			""";
+		ICompilationUnit cu= pack1.createCompilationUnit("E.java", str, false, null);
+		CompilationUnit astRoot= getCorrectionContext(cu, 0, 0).getASTRoot();
+
+		int[] invocations= new int[1];
+		DeferredRewriteCorrectionProposal proposal= new DeferredRewriteCorrectionProposal("Rename", cu, astRoot, 0, null, p -> {
+			invocations[0]++;
+			ASTRewrite rewrite= ASTRewrite.create(astRoot.getAST());
+			TypeDeclaration type= (TypeDeclaration) astRoot.types().get(0);
+			rewrite.replace(type.getName(), astRoot.getAST().newSimpleName("F"), null);
+			return rewrite;
+		});
+		assertEquals("Rename", proposal.getDisplayString());
+		assertEquals(0, invocations[0]);
+
+		String expected= """
+			package test1;
+			public class F {
+			}
+			""";
+		assertEqualString(proposal.getPreviewContent(), expected);
+		assertEquals(1, invocations[0]);
+		assertEqualString(proposal.getPreviewContent(), expected);
+		assertEquals(1, invocations[0]);
+	}
+
 	@Test
 	public void testConvertSwitchToIf2() throws Exception {
 		IPackageFragment pack1= fSourceFolder.createPackageFragment("pack", false, null);
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.quickfix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.dom.ASTNode;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.text.correction.AssistContext;
+import org.eclipse.jdt.internal.ui.text.correction.AssistNodeContext;
+
+/**
+ * Tests for {@link AssistNodeContext}.
+ */
+public class AssistNodeContextTest extends QuickFixTest {
+
+	@Rule
+	public ProjectTestSetup projectSetup= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+
+	private IPackageFragmentRoot fSourceFolder;
+
+	private ICompilationUnit fCu;
+
+	private String fSource;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= projectSetup.getProject();
+		fSourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+
+		IPackageFragment pack= fSourceFolder.createPackageFragment("test1", false, null);
+		fSource= """
+			package test1;
+			public class E {
+			    public int foo(int i) {
+			        switch (i) {
+			        case 0:
+			            return 0;
+			        default:
+			            for (int j= 0; j < i; j++) {
+			                i+= j;
+			            }
+			            return i;
+			        }
+			    }
+			}
+			""";
+		fCu= pack.createCompilationUnit("E.java", fSource, false, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.clear(fJProject1, projectSetup.getDefaultClasspath());
+	}
+
+	private AssistNodeContext getNodeContext(AssistContext context) {
+		return AssistNodeContext.get(context, context.getCoveringNode());
+	}
+
+	@Test
+	public void testCaseLabel() throws Exception {
+		AssistContext context= getCorrectionContext(fCu, fSource.indexOf("case 0"), 0);
+		AssistNodeContext nodeContext= getNodeContext(context);
+		assertTrue(nodeContext.isCovering(ASTNode.SWITCH_CASE));
+		assertFalse(nodeContext.isCovering(ASTNode.SWITCH_STATEMENT, ASTNode.BLOCK));
+		assertTrue(nodeContext.isInside(ASTNode.SWITCH_STATEMENT));
+		assertTrue(nodeContext.isInside(ASTNode.METHOD_DECLARATION, ASTNode.LAMBDA_EXPRESSION));
+		assertFalse(nodeContext.isInside(ASTNode.FOR_STATEMENT));
+	}
+
+	@Test
+	public void testInsideLoop() throws Exception {
+		AssistContext context= getCorrectionContext(fCu, fSource.indexOf("i+= j") + 4, 0);
+		AssistNodeContext nodeContext= getNodeContext(context);
+		assertTrue(nodeContext.isCovering(ASTNode.SIMPLE_NAME));
+		assertTrue(nodeContext.isInside(ASTNode.FOR_STATEMENT));
+		assertTrue(nodeContext.isInside(ASTNode.SWITCH_STATEMENT));
+		assertFalse(nodeContext.isInside(ASTNode.ENHANCED_FOR_STATEMENT, ASTNode.WHILE_STATEMENT));
+	}
+
+	@Test
+	public void testShared() throws Exception {
+		AssistContext context= getCorrectionContext(fCu, fSource.indexOf("return 0"), "return 0;".length());
+		AssistNodeContext nodeContext= getNodeContext(context);
+		assertSame(nodeContext, getNodeContext(context));
+		assertSame(context.getCoveringNode(), nodeContext.getCoveringNode());
+
+		ArrayList<ASTNode> coveredNodes= nodeContext.getCoveredNodes();
+		assertEquals(1, coveredNodes.size());
+		assertEquals(ASTNode.RETURN_STATEMENT, coveredNodes.get(0).getNodeType());
+		coveredNodes.clear();
+		ArrayList<ASTNode> copy= nodeContext.getCoveredNodes();
+		assertNotSame(coveredNodes, copy);
+		assertEquals(1, copy.size());
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.jdt.ui.tests.quickfix;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Hashtable;
@@ -35,11 +36,15 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring;
+import org.eclipse.jdt.internal.corext.fix.CleanUpStatistics;
 
 import org.eclipse.jdt.ui.cleanup.CleanUpOptions;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.actions.MultiSortMembersAction;
+import org.eclipse.jdt.internal.ui.fix.ControlStatementsCleanUp;
 
 /**
  * @since 3.4
@@ -103,4 +108,43 @@ public class CleanUpActionTest extends CleanUpTestCase {
 		assertEquals(expected1, cu1.getBuffer().getContents());
 	}
 
+	@Test
+	public void testCleanUpStatistics() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class E1 {
+			    public void foo(int i) {
+			        if (i > 0)
+			            i--;
+			    }
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", str, false, null);
+
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS);
+
+		CleanUpRefactoring ref= new CleanUpRefactoring();
+		ref.setUseOptionsFromProfile(true);
+		CleanUpStatistics statistics= new CleanUpStatistics();
+		ref.setStatistics(statistics);
+		performRefactoring(ref, new ICompilationUnit[] { cu1 }, JavaPlugin.getDefault().getCleanUpRegistry().createCleanUps(), null);
+
+		CleanUpStatistics.Entry controlStatements= null;
+		for (CleanUpStatistics.Entry entry : statistics.getCleanUpEntries()) {
+			if (ControlStatementsCleanUp.class.getName().equals(entry.getName()))
+				controlStatements= entry;
+		}
+		assertNotNull(controlStatements);
+		assertEquals(1, controlStatements.getFixes());
+
+		assertEquals(1, statistics.getCompilationUnitEntries().size());
+		assertEquals(cu1.getPath().toString(), statistics.getCompilationUnitEntries().get(0).getName());
+
+		assertTrue(statistics.toCSV().startsWith("kind,name,time_ms,runs,fixes,reparses\n"));
+		assertTrue(statistics.toJSON().contains("\"name\": \"" + ControlStatementsCleanUp.class.getName() + "\""));
+		assertNotNull(ref.getStatisticsReport());
+	}
+
 }
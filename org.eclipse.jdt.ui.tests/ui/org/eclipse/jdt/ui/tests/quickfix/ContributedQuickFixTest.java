@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.quickfix;
 
+import static org.junit.Assert.assertEquals;
+
 import java.util.ArrayList;
 import java.util.Hashtable;
 import java.util.List;
@@ -23,6 +25,8 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 
+import org.eclipse.jface.preference.IPreferenceStore;
+
 import org.eclipse.jdt.testplugin.JavaProjectHelper;
 import org.eclipse.jdt.testplugin.TestOptions;
 
@@ -38,7 +42,9 @@ import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 import org.eclipse.jdt.ui.text.java.IJavaCompletionProposal;
 import org.eclipse.jdt.ui.text.java.correction.CUCorrectionProposal;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.text.correction.AssistContext;
+import org.eclipse.jdt.internal.ui.text.correction.JavaCorrectionProcessor;
 
 public class ContributedQuickFixTest extends QuickFixTest {
 
@@ -102,6 +108,36 @@ public class ContributedQuickFixTest extends QuickFixTest {
 
 	}
 
+	@Test
+	public void testContributedQuickAssistConcurrent() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class A {
+			    public String foo() {
+			        return "hello";
+			    }
+			}
+			""";
+		ICompilationUnit cu= pack1.createCompilationUnit("A.java", str, false, null);
+
+		int offset= str.indexOf("hello");
+		List<IJavaCompletionProposal> sequential= collectAssists(getCorrectionContext(cu, offset, 0), false);
+
+		IPreferenceStore store= JavaPlugin.getDefault().getPreferenceStore();
+		store.setValue(JavaCorrectionProcessor.PREF_CONCURRENT_PROCESSORS, true);
+		try {
+			List<IJavaCompletionProposal> concurrent= collectAssists(getCorrectionContext(cu, offset, 0), false);
+
+			assertNumberOfProposals(concurrent, sequential.size());
+			for (int i= 0; i < sequential.size(); i++) {
+				assertEquals(sequential.get(i).getDisplayString(), concurrent.get(i).getDisplayString());
+			}
+		} finally {
+			store.setToDefault(JavaCorrectionProcessor.PREF_CONCURRENT_PROCESSORS);
+		}
+	}
+
 	@Test
 	public void testContributedQuickFix1() throws Exception {
 		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2023 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,13 @@ package org.eclipse.jdt.ui.tests.quickfix;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Hashtable;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -25,9 +30,12 @@ import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
 import org.eclipse.ui.PartInitException;
 
 import org.eclipse.jdt.core.IClasspathEntry;
@@ -36,16 +44,27 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
 import org.eclipse.jdt.internal.corext.fix.CleanUpPostSaveListener;
 import org.eclipse.jdt.internal.corext.fix.CleanUpPreferenceUtil;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring;
+import org.eclipse.jdt.internal.corext.fix.CleanUpTimeBudget;
 
 import org.eclipse.jdt.ui.JavaUI;
+import org.eclipse.jdt.ui.cleanup.CleanUpContext;
 import org.eclipse.jdt.ui.cleanup.CleanUpOptions;
+import org.eclipse.jdt.ui.cleanup.CleanUpRequirements;
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
+import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.fix.IFusedCleanUp;
 import org.eclipse.jdt.internal.ui.javaeditor.EditorUtility;
 import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
 
@@ -1247,4 +1266,166 @@ public class SaveParticipantTest extends CleanUpTestCase {
 
 		assertChangedFromTo(cu1, fileOnDisk, fileOnEditor, expected1);
 	}
+
+	@Test
+	public void testControlStatementsChangedRegionsOnly() throws Exception {
+		// Given
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String fileOnDisk= """
+			package test1;
+			public class E1 {
+			    public void foo(int i) {
+			        if (i > 0)
+			            i--;
+			        if (i < 0)
+			            i++;
+			    }
+			}""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", fileOnDisk, false, null);
+
+		String fileOnEditor= """
+			package test1;
+			public class E1 {
+			    public void foo(int i) {
+			        if (i > 0)
+			            i--;
+			        if (i < 0)
+			            i+= 2;
+			    }
+			}""";
+
+		String expected1= """
+			package test1;
+			public class E1 {
+			    public void foo(int i) {
+			        if (i > 0)
+			            i--;
+			        if (i < 0) {
+			            i+= 2;
+			        }
+			    }
+			}""";
+
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS);
+		enable(CleanUpConstants.CONTROL_STATEMENTS_USE_BLOCKS_ALWAYS);
+		enable(CleanUpConstants.CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY);
+
+		// When
+		editCUInEditor(cu1, fileOnEditor);
+
+		assertChangedFromTo(cu1, fileOnDisk, fileOnEditor, expected1);
+	}
+
+	private static class SleepingCleanUp implements ICleanUp {
+		private final List<ICleanUp> fRan;
+		private final long fSleep;
+
+		public SleepingCleanUp(List<ICleanUp> ran, long sleep) {
+			fRan= ran;
+			fSleep= sleep;
+		}
+
+		@Override
+		public void setOptions(CleanUpOptions options) {
+		}
+
+		@Override
+		public String[] getStepDescriptions() {
+			return new String[0];
+		}
+
+		@Override
+		public CleanUpRequirements getRequirements() {
+			return new CleanUpRequirements(false, false, false, null);
+		}
+
+		@Override
+		public RefactoringStatus checkPreConditions(IJavaProject project, ICompilationUnit[] compilationUnits, IProgressMonitor monitor) {
+			return new RefactoringStatus();
+		}
+
+		@Override
+		public ICleanUpFix createFix(CleanUpContext context) {
+			fRan.add(this);
+			try {
+				Thread.sleep(fSleep);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return null;
+		}
+
+		@Override
+		public RefactoringStatus checkPostConditions(IProgressMonitor monitor) {
+			return new RefactoringStatus();
+		}
+	}
+
+	private static final class FusedSleepingCleanUp extends SleepingCleanUp implements IFusedCleanUp {
+
+		public FusedSleepingCleanUp(List<ICleanUp> ran) {
+			super(ran, 0);
+		}
+
+		@Override
+		public FixCreator addVisitors(CleanUpContext context, FusedASTVisitor visitor) {
+			super.fRan.add(this);
+			return null;
+		}
+	}
+
+	@Test
+	public void testTimeBudget() throws Exception {
+		assertEquals(0, JavaPlugin.getDefault().getPreferenceStore().getDefaultInt(CleanUpConstants.CLEANUP_ON_SAVE_TIME_BUDGET));
+
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class E1 {
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", str, false, null);
+
+		List<ICleanUp> ran= new ArrayList<>();
+		ICleanUp slow= new SleepingCleanUp(ran, 300);
+		ICleanUp skipped= new SleepingCleanUp(ran, 0);
+		CleanUpTimeBudget budget= new CleanUpTimeBudget(200);
+		List<ICleanUp> undone= new ArrayList<>();
+		CleanUpRefactoring.calculateChange(new CleanUpContext(cu1, null), new ICleanUp[] { slow, skipped }, undone, null, budget);
+
+		assertEquals(List.of(slow), ran);
+		assertSame(slow, budget.getExceedingCleanUp());
+		assertEquals(List.of(skipped), budget.getSkippedCleanUps());
+		assertTrue(undone.isEmpty());
+	}
+
+	@Test
+	public void testTimeBudgetBeforeFusedTraversal() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class E1 {
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", str, false, null);
+		ASTParser parser= CleanUpRefactoring.createCleanUpASTParser();
+		parser.setSource(cu1);
+		CompilationUnit ast= (CompilationUnit) parser.createAST(null);
+
+		List<ICleanUp> ran= new ArrayList<>();
+		ICleanUp fused= new FusedSleepingCleanUp(ran);
+		CleanUpRefactoring.calculateChange(new CleanUpContext(cu1, ast), new ICleanUp[] { fused }, new ArrayList<>(), null, null);
+		assertEquals(List.of(fused), ran);
+
+		ran.clear();
+		CleanUpTimeBudget budget= new CleanUpTimeBudget(0);
+		Thread.sleep(10);
+		List<ICleanUp> undone= new ArrayList<>();
+		CleanUpRefactoring.calculateChange(new CleanUpContext(cu1, ast), new ICleanUp[] { fused }, undone, null, budget);
+
+		assertTrue(ran.isEmpty());
+		assertNull(budget.getExceedingCleanUp());
+		assertEquals(List.of(fused), budget.getSkippedCleanUps());
+		assertTrue(undone.isEmpty());
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2024 IBM Corporation and others.
+ * Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -355,6 +355,7 @@ public class CleanUpConstantsOptions extends CleanUpConstants {
 		options.setOption(USE_OBJECTS_EQUALS, CleanUpOptions.FALSE);
 
 		options.setOption(CLEANUP_ON_SAVE_ADDITIONAL_OPTIONS, CleanUpOptions.FALSE);
+		options.setOption(CLEANUP_ON_SAVE_CHANGED_REGIONS_ONLY, CleanUpOptions.FALSE);
 
 		// Source fixing
 		options.setOption(INVERT_EQUALS, CleanUpOptions.FALSE);
@@ -411,6 +412,7 @@ public class CleanUpConstantsOptions extends CleanUpConstants {
 		store.setDefault(SHOW_CLEAN_UP_WIZARD, true);
 		store.setDefault(CLEANUP_PROFILE, DEFAULT_PROFILE);
 		store.setDefault(CLEANUP_ON_SAVE_PROFILE, DEFAULT_SAVE_PARTICIPANT_PROFILE);
+		store.setDefault(CLEANUP_ON_SAVE_TIME_BUDGET, 0);
 	}
 
 	public static void setDefaultOptions(int kind, CleanUpOptions options) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -90,6 +90,7 @@ import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 
+import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring.CleanUpChange;
 import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
 import org.eclipse.jdt.internal.corext.util.Messages;
@@ -103,6 +104,7 @@ import org.eclipse.jdt.ui.cleanup.ICleanUp;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.actions.ActionUtil;
 import org.eclipse.jdt.internal.ui.dialogs.OptionalMessageDialog;
+import org.eclipse.jdt.internal.ui.fix.IMultiLineCleanUp;
 import org.eclipse.jdt.internal.ui.fix.IMultiLineCleanUp.MultiLineCleanUpContext;
 import org.eclipse.jdt.internal.ui.fix.MapCleanUpOptions;
 import org.eclipse.jdt.internal.ui.javaeditor.saveparticipant.IPostSaveListener;
@@ -326,6 +328,11 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 				return;
 
 			ICleanUp[] cleanUps= getCleanUps(unit.getJavaProject().getProject());
+			if (changedRegions != null && changedRegions.length == 0)
+				cleanUps= getCleanUpsNotLimitedToChangedRegions(cleanUps);
+
+			int budget= JavaPlugin.getDefault().getPreferenceStore().getInt(CleanUpConstants.CLEANUP_ON_SAVE_TIME_BUDGET);
+			CleanUpTimeBudget timeBudget= budget > 0 ? new CleanUpTimeBudget(budget) : null;
 
 			long oldFileValue= unit.getResource().getModificationStamp();
 			long oldDocValue= getDocumentStamp((IFile)unit.getResource(), Progress.subMonitor(monitor, 2));
@@ -351,7 +358,14 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 			try {
     			manager.aboutToPerformChange(result);
 
-    			do {
+    			while (cleanUps.length > 0) {
+    				if (timeBudget != null && timeBudget.isExceeded()) {
+    					for (ICleanUp cleanUp : cleanUps) {
+    						timeBudget.skip(cleanUp);
+    					}
+    					break;
+    				}
+
     				RefactoringStatus preCondition= new RefactoringStatus();
 					for (ICleanUp cleanUp : cleanUps) {
 						RefactoringStatus conditions= cleanUp.checkPreConditions(unit.getJavaProject(), new ICompilationUnit[] {unit}, Progress.subMonitor(monitor, 5));
@@ -381,7 +395,7 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
     				}
 
     				ArrayList<ICleanUp> undoneCleanUps= new ArrayList<>();
-					CleanUpChange change= CleanUpRefactoring.calculateChange(context, cleanUps, undoneCleanUps, slowCleanUps);
+					CleanUpChange change= CleanUpRefactoring.calculateChange(context, cleanUps, undoneCleanUps, slowCleanUps, timeBudget);
 
     				RefactoringStatus postCondition= new RefactoringStatus();
 					for (ICleanUp cleanUp : cleanUps) {
@@ -410,7 +424,7 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
     					performChangeOperation.getUndoChange();
     					undoEdits.addFirst(change.getUndoEdit());
     				}
-    			} while (cleanUps.length > 0);
+    			}
     			success= true;
 			} finally {
 				manager.changePerformed(result, success);
@@ -423,6 +437,13 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
     			manager.addUndo(result.getName(), undo);
 			}
 
+			if (timeBudget != null && !timeBudget.getSkippedCleanUps().isEmpty()) {
+				ICleanUp exceedingCleanUp= timeBudget.getExceedingCleanUp();
+				if (exceedingCleanUp != null && slowCleanUps != null)
+					slowCleanUps.add(exceedingCleanUp);
+				logTimeBudgetExceeded(unit, timeBudget);
+			}
+
 			if (slowCleanUps != null && slowCleanUps.size() > 0)
 				showSlowCleanUpsWarning(slowCleanUps);
 		} finally {
@@ -568,6 +589,19 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 	    return false;
     }
 
+	/*
+	 * Clean ups that only clean up the changed regions have nothing to do if no region changed.
+	 * Removing them avoids creating an AST if no other clean up needs one.
+	 */
+	private ICleanUp[] getCleanUpsNotLimitedToChangedRegions(ICleanUp[] cleanUps) {
+		ArrayList<ICleanUp> result= new ArrayList<>(cleanUps.length);
+		for (ICleanUp cleanUp : cleanUps) {
+			if (!(cleanUp instanceof IMultiLineCleanUp) || !cleanUp.getRequirements().requiresChangedRegions())
+				result.add(cleanUp);
+		}
+		return result.toArray(new ICleanUp[result.size()]);
+	}
+
 	private boolean requiresChangedRegions(ICleanUp[] cleanUps) {
 		for (ICleanUp cleanUp : cleanUps) {
 			CleanUpRequirements requirements= cleanUp.getRequirements();
@@ -650,6 +684,30 @@ public class CleanUpPostSaveListener implements IPostSaveListener {
 		return new CoreException(new Status(IStatus.ERROR, JavaUI.ID_PLUGIN, 0, message, e));
 	}
 
+	private void logTimeBudgetExceeded(ICompilationUnit unit, CleanUpTimeBudget timeBudget) {
+		ICleanUp exceedingCleanUp= timeBudget.getExceedingCleanUp();
+		String exceeding= exceedingCleanUp != null ? getDescription(exceedingCleanUp) : getName();
+
+		StringBuilder skipped= new StringBuilder();
+		for (ICleanUp cleanUp : timeBudget.getSkippedCleanUps()) {
+			if (skipped.length() > 0)
+				skipped.append(", "); //$NON-NLS-1$
+			skipped.append(getDescription(cleanUp));
+		}
+
+		String message= Messages.format(FixMessages.CleanUpPostSaveListener_time_budget_exceeded,
+				new Object[] { BasicElementLabels.getFileName(unit), Long.valueOf(timeBudget.getBudget()), exceeding, skipped.toString() });
+		JavaPlugin.log(new Status(IStatus.WARNING, JavaUI.ID_PLUGIN, message));
+	}
+
+	private static String getDescription(ICleanUp cleanUp) {
+		String[] descriptions= cleanUp.getStepDescriptions();
+		if (descriptions == null || descriptions.length == 0)
+			return cleanUp.getClass().getSimpleName();
+
+		return String.join(", ", descriptions); //$NON-NLS-1$
+	}
+
 	private void showSlowCleanUpsWarning(HashSet<ICleanUp> slowCleanUps) {
 
 		final StringBuilder cleanUpNames= new StringBuilder();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.fix;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Hashtable;
@@ -23,6 +26,7 @@ import java.util.Map.Entry;
 import org.eclipse.swt.widgets.Display;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
@@ -69,6 +73,7 @@ import org.eclipse.jdt.core.dom.ASTRequestor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 
+import org.eclipse.jdt.internal.common.FusedASTVisitor;
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.dom.ASTBatchParser;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
@@ -89,6 +94,8 @@ import org.eclipse.jdt.ui.text.java.IProblemLocation;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.fix.IFusedCleanUp;
+import org.eclipse.jdt.internal.ui.fix.IFusedCleanUp.FixCreator;
 import org.eclipse.jdt.internal.ui.fix.IMultiFix.MultiFixContext;
 import org.eclipse.jdt.internal.ui.fix.MapCleanUpOptions;
 import org.eclipse.jdt.internal.ui.refactoring.IScheduledRefactoring;
@@ -252,10 +259,12 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		private final Hashtable<ICompilationUnit, List<CleanUpChange>> fSolutions;
 		private final Hashtable<ICompilationUnit, ParseListElement> fCompilationUnitParseElementMap;
 		private final CleanUpRefactoringProgressMonitor fMonitor;
+		private final CleanUpStatistics fStatistics;
 
-		public CleanUpASTRequestor(List<ParseListElement> parseList, Hashtable<ICompilationUnit, List<CleanUpChange>> solutions, CleanUpRefactoringProgressMonitor monitor) {
+		public CleanUpASTRequestor(List<ParseListElement> parseList, Hashtable<ICompilationUnit, List<CleanUpChange>> solutions, CleanUpRefactoringProgressMonitor monitor, CleanUpStatistics statistics) {
 			fSolutions= solutions;
 			fMonitor= monitor;
+			fStatistics= statistics;
 			fUndoneElements= new ArrayList<>();
 			fCompilationUnitParseElementMap= new Hashtable<>(parseList.size());
 			for (ParseListElement element : parseList) {
@@ -271,6 +280,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			ICompilationUnit primary= (ICompilationUnit)source.getPrimaryElement();
 			ParseListElement element= fCompilationUnitParseElementMap.get(primary);
 			CleanUpTarget target= element.getTarget();
+			if (fStatistics != null && ast != null)
+				fStatistics.parsed(primary);
 
 			CleanUpContext context;
 			if (target instanceof MultiFixTarget) {
@@ -300,7 +311,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			List<ICleanUp>result= new ArrayList<>();
 			CleanUpChange solution;
 			try {
-				solution= calculateChange(context, cleanUps, result, null);
+				solution= calculateChange(context, cleanUps, result, null, null, fStatistics);
 			} catch (CoreException e) {
 				throw new FixCalculationException(e);
 			}
@@ -387,7 +398,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 				}
 
 				CleanUpRefactoringProgressMonitor cuMonitor= new CleanUpRefactoringProgressMonitor(monitor, parseList.size() + sourceList.size(), fSize, fIndex);
-				CleanUpASTRequestor requestor= new CleanUpASTRequestor(fParseList, fSolutions, cuMonitor);
+				CleanUpASTRequestor requestor= new CleanUpASTRequestor(fParseList, fSolutions, cuMonitor, fStatistics);
 				if (parseList.size() > 0) {
 					ASTBatchParser parser= new ASTBatchParser() {
 						@Override
@@ -525,6 +536,22 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	 */
 	private static final int SLOW_CLEAN_UP_THRESHOLD= 2000;
 
+	/**
+	 * Preference key for a boolean preference that tells whether the clean up wizard collects
+	 * {@link CleanUpStatistics} and exports them to the state location of the plug-in. Not shown
+	 * in the UI.
+	 */
+	public static final String PREF_COLLECT_STATISTICS= "org.eclipse.jdt.ui.cleanup.collectStatistics"; //$NON-NLS-1$
+
+	private static final String STATISTICS_FILE_NAME= "cleanup-statistics"; //$NON-NLS-1$
+
+	/**
+	 * The number of clean ups listed in the statistics report.
+	 */
+	private static final int STATISTICS_SUMMARY_SIZE= 10;
+
+	private static final FixCreator NO_FIX= () -> null;
+
 	private final List<ICleanUp> fCleanUps;
 	private final Hashtable<IJavaProject, List<CleanUpTarget>> fProjects;
 	private Change fChange;
@@ -532,6 +559,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	private final String fName;
 
 	private boolean fUseOptionsFromProfile;
+	private CleanUpStatistics fStatistics;
+	private String fStatisticsReport;
 
 	public CleanUpRefactoring() {
 		this(FixMessages.CleanUpRefactoring_Refactoring_name);
@@ -548,6 +577,31 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		fUseOptionsFromProfile= enabled;
 	}
 
+	/**
+	 * Sets the statistics to collect while calculating the change. The statistics are cleared
+	 * and exported each time the final conditions are checked.
+	 *
+	 * @param statistics the statistics or <code>null</code> to not collect statistics
+	 */
+	public void setStatistics(CleanUpStatistics statistics) {
+		fStatistics= statistics;
+	}
+
+	/**
+	 * @return the collected statistics or <code>null</code> if no statistics are collected
+	 */
+	public CleanUpStatistics getStatistics() {
+		return fStatistics;
+	}
+
+	/**
+	 * @return a report of the collected statistics and where they have been exported to, or
+	 *         <code>null</code> if no statistics have been collected
+	 */
+	public String getStatisticsReport() {
+		return fStatisticsReport;
+	}
+
 	public void addCompilationUnit(ICompilationUnit unit) {
 		addCleanUpTarget(new CleanUpTarget(unit));
 	}
@@ -645,6 +699,9 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		int cuCount= getCleanUpTargetsSize();
 
 		RefactoringStatus result= new RefactoringStatus();
+		if (fStatistics != null)
+			fStatistics.clear();
+		fStatisticsReport= null;
 
 		ICleanUp[] cleanUps= getCleanUps();
 		pm.beginTask("", cuCount * 2 * fCleanUps.size() + 4 * cleanUps.length); //$NON-NLS-1$
@@ -676,6 +733,11 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			List<IResource> files= new ArrayList<>();
 			findFilesToBeModified(change, files);
 			result.merge(Checks.validateModifiesFiles(files.toArray(new IFile[files.size()]), getValidationContext(), pm));
+
+			if (fStatistics != null && !fStatistics.isEmpty()) {
+				fStatisticsReport= exportStatistics(fStatistics);
+				result.addInfo(fStatisticsReport);
+			}
 		} finally {
 			pm.done();
 		}
@@ -683,6 +745,19 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		return result;
 	}
 
+	private static String exportStatistics(CleanUpStatistics statistics) {
+		IPath stateLocation= JavaPlugin.getDefault().getStateLocation();
+		Path csv= stateLocation.append(STATISTICS_FILE_NAME + ".csv").toPath(); //$NON-NLS-1$
+		Path json= stateLocation.append(STATISTICS_FILE_NAME + ".json").toPath(); //$NON-NLS-1$
+		try {
+			Files.writeString(csv, statistics.toCSV());
+			Files.writeString(json, statistics.toJSON());
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+		}
+		return Messages.format(FixMessages.CleanUpRefactoring_statistics_message, new Object[] { csv.toString(), json.toString(), statistics.getSummary(STATISTICS_SUMMARY_SIZE) });
+	}
+
 	private void findFilesToBeModified(CompositeChange change, List<IResource> result) throws JavaModelException {
 		for (Change child : change.getChildren()) {
 			if (child instanceof CompositeChange) {
@@ -779,29 +854,60 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	}
 
 	public static CleanUpChange calculateChange(CleanUpContext context, ICleanUp[] cleanUps, List<ICleanUp> undoneCleanUps, HashSet<ICleanUp> slowCleanUps) throws CoreException {
+		return calculateChange(context, cleanUps, undoneCleanUps, slowCleanUps, null);
+	}
+
+	/**
+	 * Calculates the change of the given clean ups. Clean ups that could not be applied, e.g.
+	 * because their edits overlap with the edits of a previous clean up, are added to
+	 * <code>undoneCleanUps</code>.
+	 *
+	 * @param context the context of the compilation unit
+	 * @param cleanUps the clean ups to apply
+	 * @param undoneCleanUps the clean ups that have to be applied in a next pass
+	 * @param slowCleanUps collects the slow clean ups, or <code>null</code>
+	 * @param budget the time budget, or <code>null</code> for no budget. Clean ups that have not
+	 *            been started when the budget is exceeded are skipped and recorded by the budget
+	 * @return the change or <code>null</code> if there is nothing to change
+	 * @throws CoreException if a fix could not be created
+	 */
+	public static CleanUpChange calculateChange(CleanUpContext context, ICleanUp[] cleanUps, List<ICleanUp> undoneCleanUps, HashSet<ICleanUp> slowCleanUps, CleanUpTimeBudget budget) throws CoreException {
+		return calculateChange(context, cleanUps, undoneCleanUps, slowCleanUps, budget, null);
+	}
+
+	private static CleanUpChange calculateChange(CleanUpContext context, ICleanUp[] cleanUps, List<ICleanUp> undoneCleanUps, HashSet<ICleanUp> slowCleanUps, CleanUpTimeBudget budget, CleanUpStatistics statistics) throws CoreException {
 		if (cleanUps.length == 0)
 			return null;
 
+		long[] fusedTimes= new long[cleanUps.length];
+		FixCreator[] fusedFixes= null;
+		if (budget == null || !budget.isExceeded())
+			fusedFixes= traverseFused(context, cleanUps, fusedTimes);
+
 		CleanUpChange solution= null;
 		int i= 0;
 		do {
 			ICleanUp cleanUp= cleanUps[i];
-			ICleanUpFix fix;
-			if (slowCleanUps != null) {
-				long timeBefore= System.currentTimeMillis();
-				fix= cleanUp.createFix(context);
-				if (System.currentTimeMillis() - timeBefore > SLOW_CLEAN_UP_THRESHOLD)
-					slowCleanUps.add(cleanUp);
-			} else {
-				fix= cleanUp.createFix(context);
-			}
-			if (fix != null) {
-				CompilationUnitChange current= fix.createChange(null);
+			if (budget != null && budget.isExceeded())
+				break;
+
+			long startTime= System.nanoTime();
+			ICleanUpFix fix= createFix(cleanUp, context, fusedFixes, i);
+			if (slowCleanUps != null && System.nanoTime() - startTime + fusedTimes[i] > SLOW_CLEAN_UP_THRESHOLD * 1000000L)
+				slowCleanUps.add(cleanUp);
+			if (budget != null)
+				budget.ran(cleanUp);
+			CompilationUnitChange current= fix != null ? fix.createChange(null) : null;
+			if (statistics != null)
+				statistics.ran(cleanUp, context.getCompilationUnit(), System.nanoTime() - startTime + fusedTimes[i], current != null ? Math.max(1, current.getChangeGroups().length) : 0);
+			if (current != null) {
 				TextEdit currentEdit= current.getEdit();
 
 				if (solution != null) {
 					if (TextEditUtil.overlaps(currentEdit, solution.getEdit())) {
 						undoneCleanUps.add(cleanUp);
+						if (statistics != null)
+							statistics.deferred(cleanUp);
 					} else {
 						CleanUpChange merge= new CleanUpChange(FixMessages.CleanUpRefactoring_clean_up_multi_chang_name, context.getCompilationUnit());
 						merge.setEdit(TextEditUtil.merge(currentEdit, solution.getEdit()));
@@ -822,11 +928,65 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		} while (i < cleanUps.length && (context.getAST() == null || !cleanUps[i].getRequirements().requiresFreshAST()));
 
 		for (; i < cleanUps.length; i++) {
-			undoneCleanUps.add(cleanUps[i]);
+			if (budget != null && budget.isExceeded()) {
+				budget.skip(cleanUps[i]);
+			} else {
+				undoneCleanUps.add(cleanUps[i]);
+				if (statistics != null)
+					statistics.deferred(cleanUps[i]);
+			}
 		}
 		return solution;
 	}
 
+	/*
+	 * Lets the clean ups that can share a traversal of the AST find the nodes to fix in one
+	 * traversal, instead of traversing the AST once per clean up. Only the clean ups that run on
+	 * the current AST, i.e. up to the first clean up that requires a fresh AST, take part. The
+	 * time of the traversal is shared equally by the clean ups that added visitors and is stored
+	 * in fusedTimes, so that it counts when telling slow clean ups and in the statistics.
+	 */
+	private static FixCreator[] traverseFused(CleanUpContext context, ICleanUp[] cleanUps, long[] fusedTimes) throws CoreException {
+		CompilationUnit ast= context.getAST();
+		if (ast == null)
+			return null;
+
+		long startTime= System.nanoTime();
+		FixCreator[] result= null;
+		int participants= 0;
+		FusedASTVisitor visitor= new FusedASTVisitor();
+		for (int i= 0; i < cleanUps.length && (i == 0 || !cleanUps[i].getRequirements().requiresFreshAST()); i++) {
+			if (cleanUps[i] instanceof IFusedCleanUp) {
+				if (result == null)
+					result= new FixCreator[cleanUps.length];
+				FixCreator creator= ((IFusedCleanUp) cleanUps[i]).addVisitors(context, visitor);
+				if (creator != null) {
+					result[i]= creator;
+					participants++;
+				} else {
+					result[i]= NO_FIX;
+				}
+			}
+		}
+		if (!visitor.isEmpty())
+			ast.accept(visitor);
+
+		if (participants > 0) {
+			long share= (System.nanoTime() - startTime) / participants;
+			for (int i= 0; i < cleanUps.length; i++) {
+				if (result[i] != null && result[i] != NO_FIX)
+					fusedTimes[i]= share;
+			}
+		}
+		return result;
+	}
+
+	private static ICleanUpFix createFix(ICleanUp cleanUp, CleanUpContext context, FixCreator[] fusedFixes, int index) throws CoreException {
+		if (fusedFixes != null && fusedFixes[index] != null)
+			return fusedFixes[index].createFix();
+		return cleanUp.createFix(context);
+	}
+
 	private static void copyChangeGroups(CompilationUnitChange target, CompilationUnitChange source) {
 		for (TextEditBasedChangeGroup changeGroup : source.getChangeGroups()) {
 			TextEditGroup textEditGroup= changeGroup.getTextEditGroup();
@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.fix;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
+
+/**
+ * Time, fix and AST counts of a clean up run, per clean up and per compilation unit.
+ * <p>
+ * The statistics are collected by {@link CleanUpRefactoring} if set with
+ * {@link CleanUpRefactoring#setStatistics(CleanUpStatistics)}. They tell which clean ups of a
+ * profile are expensive and how often they fix something, and can be exported with
+ * {@link #toCSV()} and {@link #toJSON()}.
+ * </p>
+ * <p>
+ * A clean up is <em>deferred</em> if it could not be applied in the pass it ran in, because it
+ * requires a fresh AST or its edits overlap with the edits of another clean up. Each deferral
+ * causes the compilation unit to be processed again, which is counted as a <em>reparse</em> of
+ * the compilation unit if the clean up requires an AST.
+ * </p>
+ */
+public final class CleanUpStatistics {
+
+	/**
+	 * The statistics of one clean up or one compilation unit.
+	 */
+	public static final class Entry {
+
+		private final String fName;
+		private long fTime;
+		private int fRuns;
+		private int fFixes;
+		private int fReparses;
+
+		Entry(String name) {
+			fName= name;
+		}
+
+		/**
+		 * @return the class name of the clean up or the path of the compilation unit
+		 */
+		public String getName() {
+			return fName;
+		}
+
+		/**
+		 * @return the time spent in creating fixes, in nanoseconds
+		 */
+		public long getTime() {
+			return fTime;
+		}
+
+		/**
+		 * @return the number of times a clean up was asked to create a fix
+		 */
+		public int getRuns() {
+			return fRuns;
+		}
+
+		/**
+		 * @return the number of fixes, i.e. the number of change groups of the created changes
+		 */
+		public int getFixes() {
+			return fFixes;
+		}
+
+		/**
+		 * @return for a clean up, the number of times it was deferred to a next pass; for a
+		 *         compilation unit, the number of times it was parsed again
+		 */
+		public int getReparses() {
+			return fReparses;
+		}
+	}
+
+	private final Map<ICleanUp, Entry> fCleanUps= new LinkedHashMap<>();
+	private final Map<ICompilationUnit, Entry> fUnits= new LinkedHashMap<>();
+	private final Map<ICompilationUnit, Integer> fParses= new LinkedHashMap<>();
+
+	/**
+	 * Removes all collected statistics.
+	 */
+	public void clear() {
+		fCleanUps.clear();
+		fUnits.clear();
+		fParses.clear();
+	}
+
+	/**
+	 * @return <code>true</code> if nothing has been collected
+	 */
+	public boolean isEmpty() {
+		return fCleanUps.isEmpty();
+	}
+
+	void ran(ICleanUp cleanUp, ICompilationUnit unit, long time, int fixes) {
+		Entry cleanUpEntry= getEntry(cleanUp);
+		cleanUpEntry.fTime+= time;
+		cleanUpEntry.fRuns++;
+		cleanUpEntry.fFixes+= fixes;
+
+		Entry unitEntry= getEntry(unit);
+		unitEntry.fTime+= time;
+		unitEntry.fRuns++;
+		unitEntry.fFixes+= fixes;
+	}
+
+	void deferred(ICleanUp cleanUp) {
+		getEntry(cleanUp).fReparses++;
+	}
+
+	void parsed(ICompilationUnit unit) {
+		ICompilationUnit primary= unit.getPrimary();
+		int parses= fParses.merge(primary, Integer.valueOf(1), (a, b) -> Integer.valueOf(a.intValue() + b.intValue())).intValue();
+		if (parses > 1)
+			getEntry(primary).fReparses++;
+	}
+
+	private Entry getEntry(ICleanUp cleanUp) {
+		return fCleanUps.computeIfAbsent(cleanUp, c -> new Entry(c.getClass().getName()));
+	}
+
+	private Entry getEntry(ICompilationUnit unit) {
+		return fUnits.computeIfAbsent(unit.getPrimary(), u -> new Entry(u.getPath().toString()));
+	}
+
+	/**
+	 * @return the statistics of the clean ups, the slowest first
+	 */
+	public List<Entry> getCleanUpEntries() {
+		return sorted(fCleanUps.values());
+	}
+
+	/**
+	 * @return the statistics of the compilation units, the slowest first
+	 */
+	public List<Entry> getCompilationUnitEntries() {
+		return sorted(fUnits.values());
+	}
+
+	private static List<Entry> sorted(Iterable<Entry> entries) {
+		List<Entry> result= new ArrayList<>();
+		for (Entry entry : entries) {
+			result.add(entry);
+		}
+		result.sort(Comparator.comparingLong(Entry::getTime).reversed());
+		return result;
+	}
+
+	/**
+	 * Returns a short summary of the slowest clean ups, one line per clean up.
+	 *
+	 * @param count the maximal number of clean ups to list
+	 * @return the summary
+	 */
+	public String getSummary(int count) {
+		StringBuilder buf= new StringBuilder();
+		List<Entry> entries= getCleanUpEntries();
+		for (int i= 0; i < entries.size() && i < count; i++) {
+			Entry entry= entries.get(i);
+			if (buf.length() > 0)
+				buf.append('\n');
+			buf.append(entry.getName()).append(": ").append(toMillis(entry.getTime())).append(" ms, ") //$NON-NLS-1$ //$NON-NLS-2$
+					.append(entry.getFixes()).append(" fixes"); //$NON-NLS-1$
+		}
+		return buf.toString();
+	}
+
+	/**
+	 * Returns the statistics as comma separated values. The first column tells whether a row is
+	 * about a clean up or a compilation unit.
+	 *
+	 * @return the statistics in CSV format
+	 */
+	public String toCSV() {
+		StringBuilder buf= new StringBuilder();
+		buf.append("kind,name,time_ms,runs,fixes,reparses\n"); //$NON-NLS-1$
+		appendCSV(buf, "cleanup", getCleanUpEntries()); //$NON-NLS-1$
+		appendCSV(buf, "file", getCompilationUnitEntries()); //$NON-NLS-1$
+		return buf.toString();
+	}
+
+	private static void appendCSV(StringBuilder buf, String kind, List<Entry> entries) {
+		for (Entry entry : entries) {
+			buf.append(kind).append(',');
+			String name= entry.getName();
+			if (name.indexOf(',') != -1 || name.indexOf('"') != -1) {
+				buf.append('"').append(name.replace("\"", "\"\"")).append('"'); //$NON-NLS-1$ //$NON-NLS-2$
+			} else {
+				buf.append(name);
+			}
+			buf.append(',').append(toMillis(entry.getTime()));
+			buf.append(',').append(entry.getRuns());
+			buf.append(',').append(entry.getFixes());
+			buf.append(',').append(entry.getReparses());
+			buf.append('\n');
+		}
+	}
+
+	/**
+	 * @return the statistics in JSON format
+	 */
+	public String toJSON() {
+		StringBuilder buf= new StringBuilder();
+		buf.append("{\n  \"cleanUps\": ["); //$NON-NLS-1$
+		appendJSON(buf, getCleanUpEntries());
+		buf.append("],\n  \"files\": ["); //$NON-NLS-1$
+		appendJSON(buf, getCompilationUnitEntries());
+		buf.append("]\n}\n"); //$NON-NLS-1$
+		return buf.toString();
+	}
+
+	private static void appendJSON(StringBuilder buf, List<Entry> entries) {
+		for (int i= 0; i < entries.size(); i++) {
+			Entry entry= entries.get(i);
+			buf.append(i == 0 ? "\n    " : ",\n    "); //$NON-NLS-1$ //$NON-NLS-2$
+			buf.append("{\"name\": \""); //$NON-NLS-1$
+			appendJSONString(buf, entry.getName());
+			buf.append("\", \"timeMs\": ").append(toMillis(entry.getTime())); //$NON-NLS-1$
+			buf.append(", \"runs\": ").append(entry.getRuns()); //$NON-NLS-1$
+			buf.append(", \"fixes\": ").append(entry.getFixes()); //$NON-NLS-1$
+			buf.append(", \"reparses\": ").append(entry.getReparses()); //$NON-NLS-1$
+			buf.append('}');
+		}
+		if (!entries.isEmpty())
+			buf.append("\n  "); //$NON-NLS-1$
+	}
+
+	private static void appendJSONString(StringBuilder buf, String value) {
+		for (int i= 0; i < value.length(); i++) {
+			char ch= value.charAt(i);
+			switch (ch) {
+				case '"':
+				case '\\':
+					buf.append('\\').append(ch);
+					break;
+				default:
+					if (ch < 0x20) {
+						buf.append(String.format("\\u%04x", Integer.valueOf(ch))); //$NON-NLS-1$
+					} else {
+						buf.append(ch);
+					}
+			}
+		}
+	}
+
+	private static long toMillis(long nanos) {
+		return nanos / 1000000;
+	}
+}
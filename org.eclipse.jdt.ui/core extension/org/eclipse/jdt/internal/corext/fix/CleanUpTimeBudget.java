@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.fix;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
+
+/**
+ * The time the clean ups of one compilation unit may take, e.g. when cleaning up on save.
+ * <p>
+ * Clean ups that have not been started when the budget is exceeded are skipped. The budget
+ * remembers the clean up that was running when the budget was exceeded and the skipped
+ * clean ups, so that they can be reported.
+ * </p>
+ *
+ * @see CleanUpConstants#CLEANUP_ON_SAVE_TIME_BUDGET
+ */
+public final class CleanUpTimeBudget {
+
+	private final long fBudget;
+	private final long fDeadline;
+	private ICleanUp fExceedingCleanUp;
+	private final List<ICleanUp> fSkippedCleanUps;
+
+	/**
+	 * @param budget the budget in milliseconds, starting now
+	 */
+	public CleanUpTimeBudget(long budget) {
+		fBudget= budget;
+		fDeadline= System.currentTimeMillis() + budget;
+		fSkippedCleanUps= new ArrayList<>();
+	}
+
+	/**
+	 * @return the budget in milliseconds
+	 */
+	public long getBudget() {
+		return fBudget;
+	}
+
+	/**
+	 * @return <code>true</code> if the budget is used up
+	 */
+	public boolean isExceeded() {
+		return System.currentTimeMillis() > fDeadline;
+	}
+
+	/**
+	 * Records that the given clean up has created its fix.
+	 *
+	 * @param cleanUp the clean up
+	 */
+	void ran(ICleanUp cleanUp) {
+		if (fExceedingCleanUp == null && isExceeded())
+			fExceedingCleanUp= cleanUp;
+	}
+
+	/**
+	 * Records that the given clean up has been skipped.
+	 *
+	 * @param cleanUp the clean up
+	 */
+	void skip(ICleanUp cleanUp) {
+		fSkippedCleanUps.add(cleanUp);
+	}
+
+	/**
+	 * @return the clean up that used up the budget, or <code>null</code> if the budget is not
+	 *         exceeded or has been used up before a clean up ran
+	 */
+	public ICleanUp getExceedingCleanUp() {
+		return fExceedingCleanUp;
+	}
+
+	/**
+	 * @return the clean ups that have been skipped because the budget was exceeded
+	 */
+	public List<ICleanUp> getSkippedCleanUps() {
+		return fSkippedCleanUps;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation;
 import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation.IChooseImportQuery;
+import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation.TypeNameMatchCache;
 import org.eclipse.jdt.core.search.TypeNameMatch;
 
 import org.eclipse.jdt.internal.corext.codemanipulation.CodeGenerationSettings;
@@ -37,6 +38,19 @@ import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 public class ImportsFix extends TextEditFix {
 
 	public static ICleanUpFix createCleanUp(final CompilationUnit cu, CodeGenerationSettings settings, boolean organizeImports, RefactoringStatus status) throws CoreException {
+		return createCleanUp(cu, settings, organizeImports, status, null);
+	}
+
+	/**
+	 * @param cu the AST of the compilation unit
+	 * @param settings the code generation settings
+	 * @param organizeImports whether to organize the imports
+	 * @param status the status to report unresolvable and unparsable compilation units to
+	 * @param typeNameMatchCache the cache shared by the clean ups of one run, or <code>null</code>
+	 * @return the fix or <code>null</code> if nothing is to do
+	 * @throws CoreException if the imports cannot be organized
+	 */
+	public static ICleanUpFix createCleanUp(final CompilationUnit cu, CodeGenerationSettings settings, boolean organizeImports, RefactoringStatus status, TypeNameMatchCache typeNameMatchCache) throws CoreException {
 		if (!organizeImports)
 			return null;
 
@@ -48,6 +62,7 @@ public class ImportsFix extends TextEditFix {
 
 		final ICompilationUnit unit= (ICompilationUnit)cu.getJavaElement();
 		OrganizeImportsOperation op= new OrganizeImportsOperation(unit, cu, settings.importIgnoreLowercase, false, false, query);
+		op.setTypeNameMatchCache(typeNameMatchCache);
 		final TextEdit edit= op.createTextEdit(null);
 		if (hasAmbiguity[0]) {
 			status.addInfo(Messages.format(ActionMessages.OrganizeImportsAction_multi_error_unresolvable, getLocationString(cu)));
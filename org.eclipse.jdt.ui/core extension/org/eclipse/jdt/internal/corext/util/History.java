@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,12 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -49,6 +55,7 @@ import org.w3c.dom.NodeList;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.CorextMessages;
@@ -63,7 +70,11 @@ import org.eclipse.jdt.internal.ui.util.XmlProcessorFactoryJdtUi;
  * MAX_HISTORY_SIZE. If the list exceeds this size the eldest element is removed
  * from the list. An element can be added/renewed with a call to <code>accessed(Object)</code>.
  *
- * The history can be stored to/loaded from an xml file.
+ * The history can be stored to/loaded from an xml file. Subclasses which pass a journal file name
+ * to the constructor are persisted in a compact binary journal instead: every access or removal is
+ * recorded, the pending records are appended to the journal in one batch by a background job, and
+ * the journal is compacted to the current content on <code>save()</code> or once it has grown too
+ * large. The xml file is then only read if no journal exists yet.
  *
  * @param <K> key type
  * @param <V> value type
@@ -74,6 +85,13 @@ public abstract class History<K, V> {
 	private static final String DEFAULT_INFO_NODE_NAME= "infoNode"; //$NON-NLS-1$
 	private static final int MAX_HISTORY_SIZE= 60;
 
+	private static final int JOURNAL_MAGIC= 0x4A484953; // "JHIS"
+	private static final int JOURNAL_VERSION= 1;
+	private static final byte JOURNAL_ACCESSED= 1;
+	private static final byte JOURNAL_REMOVED= 2;
+	private static final int JOURNAL_COMPACT_THRESHOLD= 4 * MAX_HISTORY_SIZE;
+	private static final long JOURNAL_FLUSH_DELAY= 1000;
+
 	private static JavaUIException createException(Throwable t, String message) {
 		return new JavaUIException(JavaUIStatus.createError(IStatus.ERROR, message, t));
 	}
@@ -83,8 +101,27 @@ public abstract class History<K, V> {
 	private final String fFileName;
 	private final String fRootNodeName;
 	private final String fInfoNodeName;
+	private final String fJournalFileName;
+	private int fJournalRecords;
+	// Records not yet appended to the journal file
+	private final ByteArrayOutputStream fPendingJournal;
+	private final DataOutputStream fPendingJournalOut;
+	private int fPendingRecords;
+	private final Job fJournalFlushJob;
 
 	public History(String fileName, String rootNodeName, String infoNodeName) {
+		this(fileName, rootNodeName, infoNodeName, null);
+	}
+
+	/**
+	 * Creates a history which is persisted in the binary journal <code>journalFileName</code>.
+	 *
+	 * @param fileName the name of the xml file, only read if the journal does not exist yet
+	 * @param rootNodeName the name of the xml root node
+	 * @param infoNodeName the name of the xml node of one entry
+	 * @param journalFileName the name of the journal file or <code>null</code> to store as xml
+	 */
+	public History(String fileName, String rootNodeName, String infoNodeName, String journalFileName) {
 		fHistory= new LinkedHashMap<>(80, 0.75f, true) {
 			private static final long serialVersionUID= 1L;
 			@Override
@@ -95,7 +132,15 @@ public abstract class History<K, V> {
 		fFileName= fileName;
 		fRootNodeName= rootNodeName;
 		fInfoNodeName= infoNodeName;
+		fJournalFileName= journalFileName;
 		fPositions= new Hashtable<>(MAX_HISTORY_SIZE);
+		fPendingJournal= new ByteArrayOutputStream();
+		fPendingJournalOut= new DataOutputStream(fPendingJournal);
+		if (journalFileName != null) {
+			fJournalFlushJob= Job.createSystem(journalFileName, monitor -> flushJournal());
+		} else {
+			fJournalFlushJob= null;
+		}
 	}
 
 	public History(String fileName) {
@@ -105,6 +150,7 @@ public abstract class History<K, V> {
 	public synchronized void accessed(V object) {
 		fHistory.put(getKey(object), object);
 		rebuildPositions();
+		appendToJournal(JOURNAL_ACCESSED, object);
 	}
 
 	public synchronized boolean contains(V object) {
@@ -120,14 +166,20 @@ public abstract class History<K, V> {
 	}
 
 	public synchronized Object remove(V object) {
-		Object removed= fHistory.remove(getKey(object));
+		V removed= fHistory.remove(getKey(object));
 		rebuildPositions();
+		if (removed != null) {
+			appendToJournal(JOURNAL_REMOVED, removed);
+		}
 		return removed;
 	}
 
 	public synchronized Object removeKey(Object key) {
-		Object removed= fHistory.remove(key);
+		V removed= fHistory.remove(key);
 		rebuildPositions();
+		if (removed != null) {
+			appendToJournal(JOURNAL_REMOVED, removed);
+		}
 		return removed;
 	}
 
@@ -166,6 +218,8 @@ public abstract class History<K, V> {
 	}
 
 	public synchronized void load() {
+		if (fJournalFileName != null && loadJournal())
+			return;
 		IPath stateLocation= JavaPlugin.getDefault().getStateLocation().append(fFileName);
 		File file= stateLocation.toFile();
 		if (file.exists()) {
@@ -178,6 +232,10 @@ public abstract class History<K, V> {
 	}
 
 	public synchronized void save() {
+		if (fJournalFileName != null) {
+			compactJournal();
+			return;
+		}
 		IPath stateLocation= JavaPlugin.getDefault().getStateLocation().append(fFileName);
 		File file= stateLocation.toFile();
 		try (OutputStream out= new FileOutputStream(file)) {
@@ -221,6 +279,25 @@ public abstract class History<K, V> {
 	 */
 	protected abstract K getKey(V object);
 
+	/**
+	 * Writes <code>object</code> as one journal entry. Only called for histories created with
+	 * a journal file name.
+	 *
+	 * @param object the object to store
+	 * @param out the stream to write to
+	 * @throws IOException if writing fails
+	 */
+	protected abstract void writeEntry(V object, DataOutputStream out) throws IOException;
+
+	/**
+	 * Reads one journal entry written by {@link #writeEntry(Object, DataOutputStream)}.
+	 *
+	 * @param in the stream to read from
+	 * @return the object or <code>null</code> if the entry is no longer valid
+	 * @throws IOException if reading fails
+	 */
+	protected abstract V readEntry(DataInputStream in) throws IOException;
+
 	private void rebuildPositions() {
 		fPositions.clear();
 		int pos=0;
@@ -230,6 +307,121 @@ public abstract class History<K, V> {
 		}
 	}
 
+	private File getJournalFile() {
+		return JavaPlugin.getDefault().getStateLocation().append(fJournalFileName).toFile();
+	}
+
+	/**
+	 * Replays the journal into the history.
+	 *
+	 * @return <code>true</code> if the journal existed and was read, <code>false</code> if the
+	 *         history has to be loaded from the xml file
+	 */
+	private boolean loadJournal() {
+		File file= getJournalFile();
+		if (!file.exists())
+			return false;
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != JOURNAL_MAGIC || in.readInt() != JOURNAL_VERSION)
+				return false;
+			fJournalRecords= 0;
+			while (true) {
+				byte kind;
+				V object;
+				try {
+					kind= in.readByte();
+					object= readEntry(in);
+				} catch (EOFException e) {
+					// end of journal, or a record truncated by a crash while appending
+					break;
+				}
+				fJournalRecords++;
+				if (object == null)
+					continue;
+				if (kind == JOURNAL_ACCESSED) {
+					fHistory.put(getKey(object), object);
+				} else if (kind == JOURNAL_REMOVED) {
+					fHistory.remove(getKey(object));
+				} else {
+					break;
+				}
+			}
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+		}
+		rebuildPositions();
+		return true;
+	}
+
+	private void appendToJournal(byte kind, V object) {
+		if (fJournalFileName == null)
+			return;
+		try {
+			fPendingJournalOut.writeByte(kind);
+			writeEntry(object, fPendingJournalOut);
+			fPendingRecords++;
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+		}
+		// a running flush job is scheduled again, a waiting one picks up the record
+		if (fJournalFlushJob.getState() != Job.SLEEPING) {
+			fJournalFlushJob.schedule(JOURNAL_FLUSH_DELAY);
+		}
+	}
+
+	/**
+	 * Appends the pending records to the journal. The journal is compacted instead if it does
+	 * not exist yet or would grow too large.
+	 */
+	public synchronized void flushJournal() {
+		if (fPendingRecords == 0)
+			return;
+		File file= getJournalFile();
+		if (!file.exists() || fJournalRecords + fPendingRecords > JOURNAL_COMPACT_THRESHOLD) {
+			compactJournal();
+			return;
+		}
+		try (OutputStream out= new BufferedOutputStream(new FileOutputStream(file, true))) {
+			fPendingJournal.writeTo(out);
+			fJournalRecords+= fPendingRecords;
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+		}
+		clearPendingJournal();
+	}
+
+	private void clearPendingJournal() {
+		fPendingJournal.reset();
+		fPendingRecords= 0;
+	}
+
+	/**
+	 * Rewrites the journal so that it only contains the current content of the history,
+	 * from the eldest to the newest element.
+	 */
+	private void compactJournal() {
+		clearPendingJournal();
+		File file= getJournalFile();
+		File tempFile= new File(file.getPath() + ".tmp"); //$NON-NLS-1$
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+			out.writeInt(JOURNAL_MAGIC);
+			out.writeInt(JOURNAL_VERSION);
+			for (V object : fHistory.values()) {
+				out.writeByte(JOURNAL_ACCESSED);
+				writeEntry(object, out);
+			}
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+			tempFile.delete();
+			return;
+		}
+		if (file.exists() && !file.delete() || !tempFile.renameTo(file)) {
+			tempFile.delete();
+			return;
+		}
+		fJournalRecords= fHistory.size();
+	}
+
 	private void load(InputSource inputSource) throws CoreException {
 		Element root;
 		try {
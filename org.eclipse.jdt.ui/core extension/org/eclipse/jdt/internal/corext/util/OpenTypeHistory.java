@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,24 +13,39 @@
  *******************************************************************************/
  package org.eclipse.jdt.internal.corext.util;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.w3c.dom.Element;
 
 import org.eclipse.core.filesystem.EFS;
 import org.eclipse.core.filesystem.IFileInfo;
+import org.eclipse.core.filesystem.IFileStore;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.core.resources.IResource;
@@ -54,16 +69,31 @@ import org.eclipse.jdt.core.search.TypeNameMatch;
 
 import org.eclipse.jdt.internal.corext.CorextMessages;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
 /**
  * History for the open type dialog. Object and keys are both {@link TypeNameMatch}s.
+ * <p>
+ * Entries loaded from disk are not validated upfront. Each entry is checked against the Java model
+ * when it is first read from the history, or by the consistency check job if a Java element delta
+ * marked the history as inconsistent before. The Java model is accessed outside of the history
+ * lock; only the result of the validation is applied under the lock.
+ * </p>
+ * <p>
+ * The consistency check partitions the entries by their package fragment root and validates the
+ * partitions in parallel. Partitions whose root has not changed since the last check are skipped,
+ * and the result of each partition is applied to the history as soon as it is available, so that
+ * readers of the history are not blocked for the duration of the whole check.
+ * </p>
  */
 public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 
 	private static class TypeHistoryDeltaListener implements IElementChangedListener {
 		@Override
 		public void elementChanged(ElementChangedEvent event) {
-			if (processDelta(event.getDelta())) {
-				OpenTypeHistory.getInstance().markAsInconsistent();
+			Set<IJavaElement> changedContainers= new HashSet<>();
+			if (processDelta(event.getDelta(), changedContainers)) {
+				OpenTypeHistory.getInstance().markAsInconsistent(changedContainers);
 			}
 		}
 
@@ -71,11 +101,13 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		 * Computes whether the history needs a consistency check or not.
 		 *
 		 * @param delta the Java element delta
+		 * @param changedContainers collects the package fragment roots, or the projects or Java
+		 *  model if no root is known, whose entries need to be checked
 		 *
 		 * @return <code>true</code> if consistency must be checked
 		 *  <code>false</code> otherwise.
 		 */
-		private boolean processDelta(IJavaElementDelta delta) {
+		private boolean processDelta(IJavaElementDelta delta, Set<IJavaElement> changedContainers) {
 			IJavaElement elem= delta.getElement();
 
 			boolean isChanged= delta.getKind() == IJavaElementDelta.CHANGED;
@@ -85,31 +117,31 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 				case IJavaElement.JAVA_PROJECT:
 					if (isRemoved || (isChanged &&
 							(delta.getFlags() & IJavaElementDelta.F_CLOSED) != 0)) {
-						return true;
+						return addChangedContainer(elem, changedContainers);
 					}
-					return processChildrenDelta(delta);
+					return processChildrenDelta(delta, changedContainers);
 				case IJavaElement.PACKAGE_FRAGMENT_ROOT:
 					if (isRemoved || (isChanged && (
 							(delta.getFlags() & IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED) != 0 ||
 							(delta.getFlags() & IJavaElementDelta.F_REMOVED_FROM_CLASSPATH) != 0))) {
-						return true;
+						return addChangedContainer(elem, changedContainers);
 					}
-					return processChildrenDelta(delta);
+					return processChildrenDelta(delta, changedContainers);
 				case IJavaElement.TYPE:
 					if (isChanged && (delta.getFlags() & IJavaElementDelta.F_MODIFIERS) != 0) {
-						return true;
+						return addChangedContainer(elem, changedContainers);
 					}
 					if (isRemoved) {
-						return true;
+						return addChangedContainer(elem, changedContainers);
 					}
-					return processChildrenDelta(delta);
+					return processChildrenDelta(delta, changedContainers);
 				case IJavaElement.JAVA_MODEL:
 				case IJavaElement.PACKAGE_FRAGMENT:
 				case IJavaElement.CLASS_FILE:
 					if (isRemoved) {
-						return true;
+						return addChangedContainer(elem, changedContainers);
 					}
-					return processChildrenDelta(delta);
+					return processChildrenDelta(delta, changedContainers);
 				case IJavaElement.COMPILATION_UNIT:
 					// Not the primary compilation unit. Ignore it
 					if (!JavaModelUtil.isPrimary((ICompilationUnit) elem)) {
@@ -117,15 +149,21 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 					}
 
 					if (isRemoved || (isChanged && isUnknownStructuralChange(delta.getFlags()))) {
-						return true;
+						return addChangedContainer(elem, changedContainers);
 					}
-					return processChildrenDelta(delta);
+					return processChildrenDelta(delta, changedContainers);
 				default:
 					// fields, methods, imports ect
 					return false;
 			}
 		}
 
+		private boolean addChangedContainer(IJavaElement elem, Set<IJavaElement> changedContainers) {
+			IJavaElement root= elem.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+			changedContainers.add(root != null ? root : elem);
+			return true;
+		}
+
 		private boolean isUnknownStructuralChange(int flags) {
 			if ((flags & IJavaElementDelta.F_CONTENT) == 0)
 				return false;
@@ -138,13 +176,13 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		}
 		*/
 
-		private boolean processChildrenDelta(IJavaElementDelta delta) {
+		private boolean processChildrenDelta(IJavaElementDelta delta, Set<IJavaElement> changedContainers) {
+			// visit all children to collect every changed container
+			boolean result= false;
 			for (IJavaElementDelta child : delta.getAffectedChildren()) {
-				if (processDelta(child)) {
-					return true;
-				}
+				result|= processDelta(child, changedContainers);
 			}
-			return false;
+			return result;
 		}
 	}
 
@@ -165,15 +203,35 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		}
 	}
 
+	/**
+	 * Result of validating one history entry.
+	 *
+	 * @param type the history entry
+	 * @param valid the entry to keep, a new entry if the modifiers have changed, or
+	 *            <code>null</code> if the entry has to be removed
+	 * @param timestamp the container time stamp of the entry
+	 */
+	private record Validation(TypeNameMatch type, TypeNameMatch valid, long timestamp) {
+	}
+
 	// Needs to be volatile since accesses aren't synchronized.
 	private volatile boolean fNeedsConsistencyCheck;
-	// Map of cached time stamps
+	// Map of cached time stamps. Concurrent since read by the consistency check workers.
 	private Map<TypeNameMatch, Long> fTimestampMapping;
+	// Entries loaded from disk which have not been validated yet
+	private Set<TypeNameMatch> fUnvalidated;
+	// Time stamps of the package fragment roots as of their last consistency check
+	private final Map<IPackageFragmentRoot, Long> fRootTimestamps;
+	// Roots changed since the last consistency check, guarded by itself
+	private final Set<IPackageFragmentRoot> fChangedRoots;
+	// Whether a change could not be attributed to a root, guarded by fChangedRoots
+	private boolean fAllRootsChanged;
 
 	private final IElementChangedListener fDeltaListener;
 	private final UpdateJob fUpdateJob;
 
 	private static final String FILENAME= "OpenTypeHistory.xml"; //$NON-NLS-1$
+	private static final String JOURNAL_FILENAME= "OpenTypeHistory.journal"; //$NON-NLS-1$
 	private static final String NODE_ROOT= "typeInfoHistroy"; //$NON-NLS-1$
 	private static final String NODE_TYPE_INFO= "typeInfo"; //$NON-NLS-1$
 	private static final String NODE_HANDLE= "handle"; //$NON-NLS-1$
@@ -195,12 +253,27 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	}
 
 	private OpenTypeHistory() {
-		super(FILENAME, NODE_ROOT, NODE_TYPE_INFO);
-		fTimestampMapping= new HashMap<>();
-		fNeedsConsistencyCheck= true;
+		this(FILENAME, JOURNAL_FILENAME);
+		JavaCore.addElementChangedListener(fDeltaListener);
+	}
+
+	/**
+	 * Creates a history which is persisted in the given files. Unlike the shared instance, the
+	 * history does not listen to Java element changes.
+	 *
+	 * @param fileName the name of the xml file, only read if the journal does not exist yet
+	 * @param journalFileName the name of the journal file
+	 */
+	protected OpenTypeHistory(String fileName, String journalFileName) {
+		super(fileName, NODE_ROOT, NODE_TYPE_INFO, journalFileName);
+		fTimestampMapping= new ConcurrentHashMap<>();
+		fUnvalidated= ConcurrentHashMap.newKeySet();
+		fRootTimestamps= new ConcurrentHashMap<>();
+		fChangedRoots= new HashSet<>();
+		// loaded entries are validated on first use, see fUnvalidated
+		fNeedsConsistencyCheck= false;
 		load();
 		fDeltaListener= new TypeHistoryDeltaListener();
-		JavaCore.addElementChangedListener(fDeltaListener);
 		fUpdateJob= new UpdateJob();
 		// It is not necessary anymore that the update job has a rule since
 		// markAsInconsistent isn't synchronized anymore. See bugs
@@ -208,9 +281,36 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		// https://bugs.eclipse.org/bugs/show_bug.cgi?id=135278
 		// for details.
 		fUpdateJob.setPriority(Job.SHORT);
+		for (TypeNameMatch type : fUnvalidated) {
+			if (!containsKey(type)) {
+				// removed again later in the journal
+				fUnvalidated.remove(type);
+				fTimestampMapping.remove(type);
+			}
+		}
 	}
 
 	public void markAsInconsistent() {
+		synchronized (fChangedRoots) {
+			fAllRootsChanged= true;
+		}
+		scheduleConsistencyCheck();
+	}
+
+	private void markAsInconsistent(Set<IJavaElement> changedContainers) {
+		synchronized (fChangedRoots) {
+			for (IJavaElement container : changedContainers) {
+				if (container instanceof IPackageFragmentRoot) {
+					fChangedRoots.add((IPackageFragmentRoot) container);
+				} else {
+					fAllRootsChanged= true;
+				}
+			}
+		}
+		scheduleConsistencyCheck();
+	}
+
+	private void scheduleConsistencyCheck() {
 		fNeedsConsistencyCheck= true;
 		// cancel the old job. If no job is running this is a NOOP.
 		fUpdateJob.cancel();
@@ -238,8 +338,10 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	}
 
 	@Override
-	public synchronized boolean contains(TypeNameMatch type) {
-		return super.contains(type);
+	public boolean contains(TypeNameMatch type) {
+		if (!super.contains(type))
+			return false;
+		return !fUnvalidated.contains(type) || validate(type) != null;
 	}
 
 	@Override
@@ -255,78 +357,237 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	@Override
 	public synchronized TypeNameMatch remove(TypeNameMatch info) {
 		fTimestampMapping.remove(info);
+		fUnvalidated.remove(info);
 		return (TypeNameMatch)super.remove(info);
 	}
 
 	public synchronized void replace(TypeNameMatch old, TypeNameMatch newMatch) {
 		fTimestampMapping.remove(old);
+		fUnvalidated.remove(old);
 		fTimestampMapping.put(newMatch, getContainerTimestamp(newMatch));
 		super.remove(old);
 		super.accessed(newMatch);
 	}
 
-	public synchronized TypeNameMatch[] getTypeInfos() {
-		Collection<TypeNameMatch> values= getValues();
-		int size= values.size();
-		TypeNameMatch[] result= new TypeNameMatch[size];
-		int i= size - 1;
-		for (TypeNameMatch typeNameMatch : values) {
-			result[i]= typeNameMatch;
-			i--;
+	public TypeNameMatch[] getTypeInfos() {
+		validateLoaded();
+		synchronized (this) {
+			Collection<TypeNameMatch> values= getValues();
+			int size= values.size();
+			TypeNameMatch[] result= new TypeNameMatch[size];
+			int i= size - 1;
+			for (TypeNameMatch typeNameMatch : values) {
+				result[i]= typeNameMatch;
+				i--;
+			}
+			return result;
 		}
-		return result;
 	}
 
-	public synchronized TypeNameMatch[] getFilteredTypeInfos(TypeInfoFilter filter) {
+	public TypeNameMatch[] getFilteredTypeInfos(TypeInfoFilter filter) {
+		validateLoaded();
 		List<TypeNameMatch> result= new ArrayList<>();
-		for (TypeNameMatch type : getValues()) {
-			if ((filter == null || filter.matchesHistoryElement(type)) && !TypeFilter.isFiltered(type.getFullyQualifiedName()))
-				result.add(type);
+		synchronized (this) {
+			for (TypeNameMatch type : getValues()) {
+				if ((filter == null || filter.matchesHistoryElement(type)) && !TypeFilter.isFiltered(type.getFullyQualifiedName()))
+					result.add(type);
+			}
 		}
 		Collections.reverse(result);
 		return result.toArray(new TypeNameMatch[result.size()]);
 
 	}
 
+	/**
+	 * Validates the entries loaded from disk which have not been validated yet.
+	 */
+	private void validateLoaded() {
+		for (TypeNameMatch type : fUnvalidated) {
+			validate(type);
+		}
+	}
+
 	@Override
 	protected TypeNameMatch getKey(TypeNameMatch object) {
 		return object;
 	}
 
-	private synchronized void internalCheckConsistency(IProgressMonitor monitor) throws OperationCanceledException {
+	private void internalCheckConsistency(IProgressMonitor monitor) throws OperationCanceledException {
 		// Setting fNeedsConsistencyCheck is necessary here since
 		// markAsInconsistent isn't synchronized.
 		fNeedsConsistencyCheck= true;
-		List<TypeNameMatch> typesToCheck= new ArrayList<>(getKeys());
-		monitor.beginTask(CorextMessages.TypeInfoHistory_consistency_check, typesToCheck.size());
-		monitor.setTaskName(CorextMessages.TypeInfoHistory_consistency_check);
-		for (TypeNameMatch type : typesToCheck) {
-			long currentTimestamp= getContainerTimestamp(type);
-			Long lastTested= fTimestampMapping.get(type);
-			if (lastTested != null && currentTimestamp != IResource.NULL_STAMP && currentTimestamp == lastTested.longValue() && !isContainerDirty(type))
-				continue;
+		Set<IPackageFragmentRoot> changedRoots;
+		boolean allRootsChanged;
+		synchronized (fChangedRoots) {
+			changedRoots= new HashSet<>(fChangedRoots);
+			allRootsChanged= fAllRootsChanged;
+			fChangedRoots.clear();
+			fAllRootsChanged= false;
+		}
+		Map<IPackageFragmentRoot, List<TypeNameMatch>> partitions= new LinkedHashMap<>();
+		synchronized (this) {
+			for (TypeNameMatch type : getKeys()) {
+				partitions.computeIfAbsent(type.getPackageFragmentRoot(), root -> new ArrayList<>()).add(type);
+			}
+		}
+		SubMonitor subMonitor= SubMonitor.convert(monitor, CorextMessages.TypeInfoHistory_consistency_check, partitions.size());
+		subMonitor.setTaskName(CorextMessages.TypeInfoHistory_consistency_check);
+		boolean completed= false;
+		int threads= Math.max(1, Math.min(partitions.size(), Runtime.getRuntime().availableProcessors()));
+		try (ExecutorService executor= Executors.newFixedThreadPool(threads)) {
 			try {
-				IType jType= type.getType();
-				if (jType == null || !jType.exists()) {
-					remove(type);
-				} else {
-					// copy over the modifiers since they may have changed
-					int modifiers= jType.getFlags();
-					if (modifiers != type.getModifiers()) {
-						replace(type, SearchEngine.createTypeNameMatch(jType, modifiers));
-					} else {
-						fTimestampMapping.put(type, currentTimestamp);
-					}
+				CompletionService<List<Validation>> completionService= new ExecutorCompletionService<>(executor);
+				for (Map.Entry<IPackageFragmentRoot, List<TypeNameMatch>> entry : partitions.entrySet()) {
+					IPackageFragmentRoot root= entry.getKey();
+					boolean rootChanged= allRootsChanged || changedRoots.contains(root);
+					completionService.submit(() -> checkPartition(root, entry.getValue(), rootChanged, subMonitor));
+				}
+				for (int pending= partitions.size(); pending > 0;) {
+					Future<List<Validation>> done= completionService.poll(100, TimeUnit.MILLISECONDS);
+					if (subMonitor.isCanceled())
+						throw new OperationCanceledException();
+					if (done == null)
+						continue;
+					pending--;
+					// publish the validated partition right away
+					applyValidations(done.get());
+					subMonitor.worked(1);
+				}
+				completed= true;
+			} catch (InterruptedException e) {
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof OperationCanceledException)
+					throw new OperationCanceledException();
+				JavaPlugin.log(e.getCause());
+			} finally {
+				executor.shutdownNow();
+			}
+		} finally {
+			if (!completed) {
+				// check these roots again next time
+				synchronized (fChangedRoots) {
+					fChangedRoots.addAll(changedRoots);
+					fAllRootsChanged|= allRootsChanged;
 				}
-			} catch (JavaModelException e) {
-				remove(type);
 			}
+			subMonitor.done();
+		}
+		if (completed)
+			fNeedsConsistencyCheck= false;
+	}
+
+	/**
+	 * Validates the history entries of one package fragment root. Runs in a worker thread and
+	 * must not modify the history.
+	 *
+	 * @param root the package fragment root containing the entries
+	 * @param types the history entries
+	 * @param rootChanged whether a Java element delta reported changes in the root
+	 * @param monitor the monitor of the check, only used to test for cancellation
+	 * @return the validation results of the entries which needed to be checked
+	 */
+	private List<Validation> checkPartition(IPackageFragmentRoot root, List<TypeNameMatch> types, boolean rootChanged, IProgressMonitor monitor) {
+		long rootTimestamp= getRootTimestamp(root);
+		Long lastRootTimestamp= root != null ? fRootTimestamps.get(root) : null;
+		boolean rootUnchanged= !rootChanged && lastRootTimestamp != null && rootTimestamp != IResource.NULL_STAMP && rootTimestamp == lastRootTimestamp.longValue();
+		List<Validation> result= new ArrayList<>(types.size());
+		for (TypeNameMatch type : types) {
 			if (monitor.isCanceled())
 				throw new OperationCanceledException();
-			monitor.worked(1);
+			// unsaved editor content is not covered by the root time stamp
+			if (rootUnchanged && !fUnvalidated.contains(type) && !isContainerDirty(type))
+				continue;
+			result.add(computeValidation(type));
 		}
-		monitor.done();
-		fNeedsConsistencyCheck= false;
+		if (root != null) {
+			fRootTimestamps.put(root, rootTimestamp);
+		}
+		return result;
+	}
+
+	private synchronized void applyValidations(List<Validation> validations) {
+		for (Validation validation : validations) {
+			applyValidation(validation);
+		}
+	}
+
+	/**
+	 * Checks the given history entry against the Java model. Removes the entry if its type
+	 * does not exist anymore and replaces it if the modifiers have changed. Must not be called
+	 * while holding the history lock.
+	 *
+	 * @param type the history entry
+	 * @return the valid entry or <code>null</code> if the entry got removed
+	 */
+	private TypeNameMatch validate(TypeNameMatch type) {
+		if (!containsKey(type)) {
+			fUnvalidated.remove(type);
+			return null;
+		}
+		return applyValidation(computeValidation(type));
+	}
+
+	private Validation computeValidation(TypeNameMatch type) {
+		long currentTimestamp= getContainerTimestamp(type);
+		Long lastTested= fTimestampMapping.get(type);
+		if (lastTested != null && currentTimestamp != IResource.NULL_STAMP && currentTimestamp == lastTested.longValue() && !isContainerDirty(type))
+			return new Validation(type, type, currentTimestamp);
+		try {
+			IType jType= type.getType();
+			if (jType == null || !jType.exists())
+				return new Validation(type, null, currentTimestamp);
+			// copy over the modifiers since they may have changed
+			int modifiers= jType.getFlags();
+			if (modifiers != type.getModifiers())
+				return new Validation(type, SearchEngine.createTypeNameMatch(jType, modifiers), currentTimestamp);
+			return new Validation(type, type, currentTimestamp);
+		} catch (JavaModelException e) {
+			return new Validation(type, null, currentTimestamp);
+		}
+	}
+
+	private synchronized TypeNameMatch applyValidation(Validation validation) {
+		TypeNameMatch type= validation.type();
+		fUnvalidated.remove(type);
+		if (!containsKey(type)) // removed or replaced in the meantime
+			return null;
+		TypeNameMatch valid= validation.valid();
+		if (valid == null) {
+			remove(type);
+		} else if (valid != type) {
+			replace(type, valid);
+		} else {
+			fTimestampMapping.put(type, validation.timestamp());
+		}
+		return valid;
+	}
+
+	private long getRootTimestamp(IPackageFragmentRoot root) {
+		if (root == null || !root.exists())
+			return IResource.NULL_STAMP;
+		if (!root.isArchive()) {
+			// changes in source and class folders are tracked by Java element deltas
+			return 0;
+		}
+		try {
+			IResource resource= root.getResource();
+			IFileStore store;
+			if (resource != null) {
+				URI location= resource.getLocationURI();
+				if (location == null)
+					return IResource.NULL_STAMP;
+				store= EFS.getStore(location);
+			} else { // external JAR
+				store= EFS.getLocalFileSystem().getStore(root.getPath());
+			}
+			IFileInfo info= store.fetchInfo();
+			if (info.exists())
+				return info.getLastModified();
+		} catch (CoreException e) {
+			// Fall through
+		}
+		return IResource.NULL_STAMP;
 	}
 
 	private long getContainerTimestamp(TypeNameMatch match) {
@@ -387,17 +648,12 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		if (handle == null )
 			return null;
 
-		IJavaElement element= JavaCore.create(handle);
-		if (!(element instanceof IType))
-			return null;
-
 		int modifiers= 0;
 		try {
 			modifiers= Integer.parseInt(type.getAttribute(NODE_MODIFIERS));
 		} catch (NumberFormatException e) {
 			// take zero
 		}
-		TypeNameMatch info= SearchEngine.createTypeNameMatch((IType) element, modifiers);
 		long timestamp= IResource.NULL_STAMP;
 		String timestampValue= type.getAttribute(NODE_TIMESTAMP);
 		if (timestampValue != null && timestampValue.length() > 0) {
@@ -407,9 +663,19 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 				// take null stamp
 			}
 		}
+		return createLoadedMatch(handle, modifiers, timestamp);
+	}
+
+	private TypeNameMatch createLoadedMatch(String handle, int modifiers, long timestamp) {
+		IJavaElement element= JavaCore.create(handle);
+		if (!(element instanceof IType))
+			return null;
+
+		TypeNameMatch info= SearchEngine.createTypeNameMatch((IType) element, modifiers);
 		if (timestamp != IResource.NULL_STAMP) {
 			fTimestampMapping.put(info, timestamp);
 		}
+		fUnvalidated.add(info);
 		return info;
 	}
 
@@ -427,4 +693,20 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		}
 	}
 
+	@Override
+	protected void writeEntry(TypeNameMatch type, DataOutputStream out) throws IOException {
+		out.writeUTF(type.getType().getHandleIdentifier());
+		out.writeInt(type.getModifiers());
+		Long timestamp= fTimestampMapping.get(type);
+		out.writeLong(timestamp == null ? IResource.NULL_STAMP : timestamp.longValue());
+	}
+
+	@Override
+	protected TypeNameMatch readEntry(DataInputStream in) throws IOException {
+		String handle= in.readUTF();
+		int modifiers= in.readInt();
+		long timestamp= in.readLong();
+		return createLoadedMatch(handle, modifiers, timestamp);
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,10 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.util;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
 import org.w3c.dom.Element;
 
 public class QualifiedTypeNameHistory extends History<String, String> {
@@ -26,13 +30,17 @@ public class QualifiedTypeNameHistory extends History<String, String> {
 
 	public static QualifiedTypeNameHistory getDefault() {
 		if (fgInstance == null)
-			fgInstance= new QualifiedTypeNameHistory("QualifiedTypeNameHistory.xml"); //$NON-NLS-1$
+			fgInstance= new QualifiedTypeNameHistory("QualifiedTypeNameHistory.xml", "QualifiedTypeNameHistory.journal"); //$NON-NLS-1$ //$NON-NLS-2$
 
 		return fgInstance;
 	}
 
 	public QualifiedTypeNameHistory(String fileName) {
-		super(fileName, NODE_ROOT, NODE_TYPE_INFO);
+		this(fileName, null);
+	}
+
+	public QualifiedTypeNameHistory(String fileName, String journalFileName) {
+		super(fileName, NODE_ROOT, NODE_TYPE_INFO, journalFileName);
 		load();
 	}
 
@@ -51,6 +59,16 @@ public class QualifiedTypeNameHistory extends History<String, String> {
 		return object;
 	}
 
+	@Override
+	protected void writeEntry(String object, DataOutputStream out) throws IOException {
+		out.writeUTF(object);
+	}
+
+	@Override
+	protected String readEntry(DataInputStream in) throws IOException {
+		return in.readUTF();
+	}
+
 	public static int getBoost(String fullyQualifiedTypeName, int min, int max) {
 		float position= getDefault().getNormalizedPosition(fullyQualifiedTypeName);
 		int dist= max - min;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2023 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -68,6 +68,7 @@ import org.eclipse.jdt.core.refactoring.descriptors.IntroduceParameterObjectDesc
 
 import org.eclipse.jdt.internal.core.refactoring.descriptors.RefactoringSignatureDescriptorFactory;
 import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring;
+import org.eclipse.jdt.internal.corext.fix.CleanUpStatistics;
 import org.eclipse.jdt.internal.corext.refactoring.base.RefactoringStatusCodes;
 import org.eclipse.jdt.internal.corext.refactoring.code.ConvertAnonymousToNestedRefactoring;
 import org.eclipse.jdt.internal.corext.refactoring.code.InlineConstantRefactoring;
@@ -237,6 +238,8 @@ public final class RefactoringExecutionStarter {
 		for (ICompilationUnit cu : cus) {
 			refactoring.addCompilationUnit(cu);
 		}
+		if (JavaPlugin.getDefault().getPreferenceStore().getBoolean(CleanUpRefactoring.PREF_COLLECT_STATISTICS))
+			refactoring.setStatistics(new CleanUpStatistics());
 
 		if (!showWizard) {
 			refactoring.setUseOptionsFromProfile(useOptionsFromProfile);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -59,6 +59,8 @@ public class ChangeSignatureWizard extends RefactoringWizard {
 	public ChangeSignatureWizard(ChangeSignatureProcessor processor, Refactoring refactoring) {
 		super(refactoring, DIALOG_BASED_USER_INTERFACE);
 		fProcessor= processor;
+		// show the preview before the changes of all callers have been computed
+		fProcessor.setLazyChangeCreation(true);
 		setDefaultPageTitle(RefactoringMessages.ChangeSignatureRefactoring_modify_Parameters);
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,8 +42,11 @@ import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.ISourceReference;
 import org.eclipse.jdt.core.JavaModelException;
 
+import org.eclipse.jdt.internal.corext.refactoring.changes.LazyCompilationUnitChange;
+
 import org.eclipse.jdt.ui.JavaElementLabels;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.viewsupport.JavaElementImageProvider;
 
 public class CompilationUnitChangeNode extends TextEditChangeNode {
@@ -96,6 +99,14 @@ public class CompilationUnitChangeNode extends TextEditChangeNode {
 		if (change instanceof MultiStateTextFileChange) {
 			return new ChildNode[0]; // no edit preview & edit disabling possible in the MultiStateTextFileChange (edits must be applied in sequence)
 		}
+		if (change instanceof LazyCompilationUnitChange lazyChange) {
+			// the change groups are only known once the edits have been computed
+			try {
+				lazyChange.materialize();
+			} catch (CoreException e) {
+				JavaPlugin.log(e);
+			}
+		}
 
 		ICompilationUnit cunit= change.getAdapter(ICompilationUnit.class);
 		if (cunit != null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -46,6 +46,7 @@ import org.eclipse.core.resources.ProjectScope;
 
 import org.eclipse.jface.dialogs.ControlEnableState;
 import org.eclipse.jface.dialogs.Dialog;
+import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.jface.viewers.ColumnLayoutData;
 import org.eclipse.jface.viewers.ColumnWeightData;
 import org.eclipse.jface.viewers.ITableLabelProvider;
@@ -516,4 +517,13 @@ public class CleanUpRefactoringWizard extends RefactoringWizard {
 		addPage(new CleanUpConfigurationPage((CleanUpRefactoring)getRefactoring()));
 	}
 
+	@Override
+	public boolean performFinish() {
+		boolean result= super.performFinish();
+		String report= ((CleanUpRefactoring)getRefactoring()).getStatisticsReport();
+		if (result && report != null)
+			MessageDialog.openInformation(getShell(), MultiFixMessages.CleanUpRefactoringWizard_statistics_title, report);
+		return result;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -239,6 +239,7 @@ import org.eclipse.jdt.internal.ui.text.JavaWordIterator;
 import org.eclipse.jdt.internal.ui.text.PreferencesAdapter;
 import org.eclipse.jdt.internal.ui.text.java.hover.JavaExpandHover;
 import org.eclipse.jdt.internal.ui.text.java.hover.SourceViewerInformationControl;
+import org.eclipse.jdt.internal.ui.text.javadoc.JavadocPrefetcher;
 import org.eclipse.jdt.internal.ui.util.ElementValidator;
 import org.eclipse.jdt.internal.ui.util.JavaUIHelp;
 import org.eclipse.jdt.internal.ui.viewsupport.ISelectionListenerWithAST;
@@ -1698,6 +1699,11 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 	 * @since 3.0
 	 */
 	protected OverrideIndicatorManager fOverrideIndicatorManager;
+	/**
+	 * Prefetches the Javadoc of the elements near the caret and in the visible range, or
+	 * <code>null</code> if prefetching is disabled.
+	 */
+	private JavadocPrefetcher fJavadocPrefetcher;
 	/**
 	 * Semantic highlighting manager
 	 * @since 3.0, protected as of 3.3
@@ -2639,6 +2645,11 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 
 		uninstallSemanticHighlighting();
 
+		if (fJavadocPrefetcher != null) {
+			fJavadocPrefetcher.uninstall();
+			fJavadocPrefetcher= null;
+		}
+
 		if (fActivationListener != null) {
 			PlatformUI.getWorkbench().removeWindowListener(fActivationListener);
 			fActivationListener= null;
@@ -3118,6 +3129,11 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 			installJavaCodeMining();
 		}
 
+		if (getPreferenceStore().getBoolean(JavadocPrefetcher.PREF_PREFETCH_JAVADOC)) {
+			fJavadocPrefetcher= new JavadocPrefetcher();
+			fJavadocPrefetcher.install(this, getSourceViewer());
+		}
+
 		PlatformUI.getWorkbench().addWindowListener(fActivationListener);
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -941,6 +941,8 @@ public class JavaOutlinePage extends Page implements IContentOutlinePage, IAdapt
 			AppearanceAwareLabelProvider.DEFAULT_TEXTFLAGS |  JavaElementLabels.F_APP_TYPE_SIGNATURE | JavaElementLabels.ALL_CATEGORY2,
 			AppearanceAwareLabelProvider.DEFAULT_IMAGEFLAGS
 		);
+		// the members of large types and class files must not block the UI thread
+		lprovider.setComputeLabelsInBackground(true);
 
 		fOutlineViewer= new JavaOutlineViewer(tree);
 		WorkbenchViewerSetup.setupViewer(fOutlineViewer);
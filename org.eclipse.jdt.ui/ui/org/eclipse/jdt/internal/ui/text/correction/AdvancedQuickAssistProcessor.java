@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -130,6 +130,8 @@ import org.eclipse.jdt.internal.ui.actions.AddGetterSetterTypeProposal;
 import org.eclipse.jdt.internal.ui.actions.HashCodeEqualsTypeProposal;
 import org.eclipse.jdt.internal.ui.actions.ToStringTypeProposal;
 import org.eclipse.jdt.internal.ui.fix.ExpressionsCleanUp;
+import org.eclipse.jdt.internal.ui.text.correction.proposals.DeferredRewriteCorrectionProposal;
+import org.eclipse.jdt.internal.ui.text.correction.proposals.DeferredRewriteCorrectionProposalCore;
 import org.eclipse.jdt.internal.ui.text.correction.proposals.FixCorrectionProposal;
 import org.eclipse.jdt.internal.ui.text.correction.proposals.LinkedCorrectionProposal;
 import org.eclipse.jdt.internal.ui.util.ASTHelper;
@@ -184,39 +186,51 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 	public IJavaCompletionProposal[] getAssists(IInvocationContext context, IProblemLocation[] locations) throws CoreException {
 		ASTNode coveringNode= context.getCoveringNode();
 		if (coveringNode != null) {
-			ArrayList<ASTNode> coveredNodes= getFullyCoveredNodes(context, coveringNode);
+			AssistNodeContext nodeContext= AssistNodeContext.get(context, coveringNode);
+			ArrayList<ASTNode> coveredNodes= nodeContext.getCoveredNodes();
 			ArrayList<ICommandAccess> resultingCollections= new ArrayList<>();
+			boolean coversIf= nodeContext.isCovering(ASTNode.IF_STATEMENT);
 
 			//quick assists that show up also if there is an error/warning
 			getReplaceConditionalWithIfElseProposals(context, coveringNode, resultingCollections);
 
 			if (QuickAssistProcessor.noErrorsAtLocation(locations)) {
-				getConvertToIfReturnProposals(context, coveringNode, resultingCollections);
-				getInverseIfProposals(context, coveringNode, resultingCollections);
-				getIfReturnIntoIfElseAtEndOfVoidMethodProposals(context, coveringNode, resultingCollections);
-				getInverseIfContinueIntoIfThenInLoopsProposals(context, coveringNode, resultingCollections);
-				getInverseIfIntoContinueInLoopsProposals(context, coveringNode, resultingCollections);
+				if (coversIf) {
+					getConvertToIfReturnProposals(context, coveringNode, resultingCollections);
+					getInverseIfProposals(context, coveringNode, resultingCollections);
+					getIfReturnIntoIfElseAtEndOfVoidMethodProposals(context, coveringNode, resultingCollections);
+					getInverseIfContinueIntoIfThenInLoopsProposals(context, coveringNode, resultingCollections);
+					getInverseIfIntoContinueInLoopsProposals(context, coveringNode, resultingCollections);
+				}
 				getInverseConditionProposals(context, coveringNode, coveredNodes, resultingCollections);
 				getRemoveExtraParenthesesProposals(context, coveringNode, coveredNodes, resultingCollections);
 				getAddParanoidalParenthesesProposals(context, coveredNodes, resultingCollections);
 				getAddParenthesesForExpressionProposals(context, coveringNode, resultingCollections);
-				getJoinAndIfStatementsProposals(context, coveringNode, resultingCollections);
-				getSplitAndConditionProposals(context, coveringNode, resultingCollections);
+				if (coversIf)
+					getJoinAndIfStatementsProposals(context, coveringNode, resultingCollections);
+				if (nodeContext.isCovering(ASTNode.INFIX_EXPRESSION))
+					getSplitAndConditionProposals(context, coveringNode, resultingCollections);
 				getJoinOrIfStatementsProposals(context, coveringNode, coveredNodes, resultingCollections);
-				getSplitOrConditionProposals(context, coveringNode, resultingCollections);
-				getInverseConditionalExpressionProposals(context, coveringNode, resultingCollections);
-				getExchangeInnerAndOuterIfConditionsProposals(context, coveringNode, resultingCollections);
+				if (nodeContext.isCovering(ASTNode.INFIX_EXPRESSION))
+					getSplitOrConditionProposals(context, coveringNode, resultingCollections);
+				if (nodeContext.isInside(ASTNode.CONDITIONAL_EXPRESSION))
+					getInverseConditionalExpressionProposals(context, coveringNode, resultingCollections);
+				if (coversIf)
+					getExchangeInnerAndOuterIfConditionsProposals(context, coveringNode, resultingCollections);
 				getExchangeOperandsProposals(context, coveringNode, resultingCollections);
 				getCastAndAssignIfStatementProposals(context, coveringNode, resultingCollections);
 				getCombineStringProposals(context, coveringNode, resultingCollections);
 				getPickOutStringProposals(context, coveringNode, resultingCollections);
-				getReplaceIfElseWithConditionalProposals(context, coveringNode, resultingCollections);
+				if (coversIf)
+					getReplaceIfElseWithConditionalProposals(context, coveringNode, resultingCollections);
 				getInverseLocalVariableProposals(context, coveringNode, resultingCollections);
 				getPushNegationDownProposals(context, coveringNode, resultingCollections);
 				getPullNegationUpProposals(context, coveredNodes, resultingCollections);
 				getJoinIfListInIfElseIfProposals(context, coveringNode, coveredNodes, resultingCollections);
-				getConvertSwitchToIfProposals(context, coveringNode, resultingCollections);
-				getConvertIfElseToSwitchProposals(context, coveringNode, resultingCollections);
+				if (nodeContext.isCovering(ASTNode.SWITCH_STATEMENT))
+					getConvertSwitchToIfProposals(context, coveringNode, resultingCollections);
+				if (coversIf)
+					getConvertIfElseToSwitchProposals(context, coveringNode, resultingCollections);
 				GetterSetterCorrectionSubProcessor.addGetterSetterProposal(context, coveringNode, locations, resultingCollections);
 				getGettersSettersForTypeProposals(coveringNode, resultingCollections);
 				getHashCodeEqualsForTypeProposals(coveringNode, resultingCollections);
@@ -2667,33 +2681,72 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		if (resultingCollections == null) {
 			return true;
 		}
-		if (!getConvertSwitchToIfProposals(context, covering, resultingCollections, false))
+		SwitchStatement switchStatement= (SwitchStatement) covering;
+		if (!canConvertSwitchToIf(switchStatement))
 			return false;
-		return getConvertSwitchToIfProposals(context, covering, resultingCollections, true);
+		ITypeBinding expressionType= switchStatement.getExpression().resolveTypeBinding();
+		boolean isStringsInSwitch= expressionType != null && "java.lang.String".equals(expressionType.getQualifiedName()); //$NON-NLS-1$
+
+		// the rewrites are only created when the proposals are previewed or applied
+		String label= CorrectionMessages.AdvancedQuickAssistProcessor_convertSwitchToIf;
+		resultingCollections.add(new DeferredRewriteCorrectionProposal(label, context.getCompilationUnit(), context.getASTRoot(), IProposalRelevance.CONVERT_SWITCH_TO_IF_ELSE,
+				JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE), proposal -> createConvertSwitchToIfRewrite(context, switchStatement, false, proposal)));
+		if (isStringsInSwitch) {
+			String source= ASTNodes.asString(switchStatement.getExpression()).replaceAll("\r\n?|\n", " "); //$NON-NLS-1$ //$NON-NLS-2$
+			label= Messages.format(CorrectionMessages.AdvancedQuickAssistProcessor_convertSwitchToIf_preserveNPE, source);
+			resultingCollections.add(new DeferredRewriteCorrectionProposal(label, context.getCompilationUnit(), context.getASTRoot(), IProposalRelevance.CONVERT_SWITCH_TO_IF_ELSE,
+					JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE), proposal -> createConvertSwitchToIfRewrite(context, switchStatement, true, proposal)));
+		}
+		return true;
 	}
 
-	private static boolean getConvertSwitchToIfProposals(IInvocationContext context, ASTNode covering, Collection<ICommandAccess> resultingCollections, boolean preserveNPE) {
-		final AST ast= covering.getAST();
+	private static boolean canConvertSwitchToIf(SwitchStatement switchStatement) {
+		AST ast= switchStatement.getAST();
+		boolean inCase= false;
+		boolean hasStopAsLastExecutableStatement= false;
+		boolean defaultFound= false;
+		for (Statement statement : (List<Statement>) switchStatement.statements()) {
+			if (statement instanceof SwitchCase) {
+				SwitchCase switchCase= (SwitchCase) statement;
+				if (ASTHelper.isSwitchCaseExpressionsSupportedInAST(ast) && switchCase.expressions().size() > 1) {
+					return false;
+				}
+				// special case: pass through
+				if (inCase && !hasStopAsLastExecutableStatement) {
+					return false;
+				}
+				inCase= false;
+				if (defaultFound) {
+					// This gets too complicated. We only support 'default' as last SwitchCase.
+					return false;
+				}
+				defaultFound= switchCase.isDefault();
+			} else if (statement instanceof BreakStatement) {
+				inCase= false;
+			} else {
+				inCase= true;
+				hasStopAsLastExecutableStatement= hasStopAsLastExecutableStatement(statement);
+			}
+		}
+		return true;
+	}
+
+	private static ASTRewrite createConvertSwitchToIfRewrite(IInvocationContext context, SwitchStatement switchStatement, boolean preserveNPE, DeferredRewriteCorrectionProposalCore proposal) {
+		final AST ast= switchStatement.getAST();
 		final ASTRewrite rewrite= ASTRewrite.create(ast);
-		final ImportRewrite importRewrite= StubUtility.createImportRewrite(context.getASTRoot(), true);
+		final ImportRewrite importRewrite= proposal.createImportRewrite(context.getASTRoot());
 		//
-		SwitchStatement switchStatement= (SwitchStatement) covering;
 		ITypeBinding expressionType= switchStatement.getExpression().resolveTypeBinding();
 		boolean isStringsInSwitch= expressionType != null && "java.lang.String".equals(expressionType.getQualifiedName()); //$NON-NLS-1$
 
-		if (!isStringsInSwitch && preserveNPE)
-			return false;
-
 		IfStatement firstIfStatement= null;
 		IfStatement currentIfStatement= null;
 		Block currentBlock= null;
-		boolean hasStopAsLastExecutableStatement= false;
 		Block defaultBlock= null;
 		Expression currentCondition= null;
-		boolean defaultFound= false;
 
 		ArrayList<Block> allBlocks= new ArrayList<>();
-		ImportRewriteContext importRewriteContext= new ContextSensitiveImportRewriteContext(ASTResolving.findParentBodyDeclaration(covering), importRewrite);
+		ImportRewriteContext importRewriteContext= new ContextSensitiveImportRewriteContext(ASTResolving.findParentBodyDeclaration(switchStatement), importRewrite);
 
 		Expression switchExpression= switchStatement.getExpression();
 		Name varName;
@@ -2717,24 +2770,7 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 			Statement statement= iter.next();
 			if (statement instanceof SwitchCase) {
 				SwitchCase switchCase= (SwitchCase) statement;
-				if (ASTHelper.isSwitchCaseExpressionsSupportedInAST(ast) && switchCase.expressions().size() > 1) {
-					return false;
-				}
-				// special case: pass through
-				if (currentBlock != null) {
-					if (!hasStopAsLastExecutableStatement) {
-						return false;
-					}
-					currentBlock= null;
-				}
-
-				if (defaultFound) {
-					// This gets too complicated. We only support 'default' as last SwitchCase.
-					return false;
-				}
-				if (switchCase.isDefault()) {
-					defaultFound= true;
-				}
+				currentBlock= null;
 				// prepare condition (is null for 'default')
 				Expression switchCaseCondition= createSwitchCaseCondition(ast, rewrite, importRewrite, importRewriteContext, varName, switchCase, isStringsInSwitch, preserveNPE);
 				if (currentCondition == null) {
@@ -2778,8 +2814,6 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 					currentBlock= null;
 				} else {
 					// add current statement in current block
-
-					hasStopAsLastExecutableStatement= hasStopAsLastExecutableStatement(statement);
 					Statement copyStatement= copyStatementExceptBreak(ast, rewrite, statement);
 
 					currentBlock.statements().add(copyStatement);
@@ -2805,14 +2839,7 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		} else {
 			new StatementRewrite(rewrite, new ASTNode[] { switchStatement }).replace(new ASTNode[] { variableDeclarationStatement, firstIfStatement }, null);
 		}
-
-		// add correction proposal
-		String source= ASTNodes.asString(switchExpression).replaceAll("\r\n?|\n", " "); //$NON-NLS-1$ //$NON-NLS-2$
-		String label= preserveNPE ? Messages.format(CorrectionMessages.AdvancedQuickAssistProcessor_convertSwitchToIf_preserveNPE, source) : CorrectionMessages.AdvancedQuickAssistProcessor_convertSwitchToIf;
-		ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.CONVERT_SWITCH_TO_IF_ELSE);
-		proposal.setImportRewrite(importRewrite);
-		resultingCollections.add(proposal);
-		return true;
+		return rewrite;
 	}
 
 	private static Expression createSwitchCaseCondition(AST ast, ASTRewrite rewrite, ImportRewrite importRewrite, ImportRewriteContext importRewriteContext, Name switchExpression,
@@ -2898,21 +2925,41 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 			return true;
 		}
 
-		if(!getConvertIfElseToSwitchProposals(context, (IfStatement) coveringNode, resultingCollections, true))
+		IfStatement ifStatement= (IfStatement) coveringNode;
+		IfElseToSwitchAnalysis analysis= analyzeIfElseToSwitch(ifStatement);
+		if (analysis == null)
 			return false;
-		return getConvertIfElseToSwitchProposals(context, (IfStatement) coveringNode, resultingCollections, false);
+
+		// the rewrites are only created when the proposals are previewed or applied
+		if (analysis.fExecuteDefaultOnNullExpression) {
+			String source= ASTNodes.asString(analysis.fSwitchExpression).replaceAll("\r\n?|\n", " "); //$NON-NLS-1$ //$NON-NLS-2$
+			String label= Messages.format(CorrectionMessages.AdvancedQuickAssistProcessor_convertIfElseToSwitch_handleNullArg, source);
+			resultingCollections.add(new DeferredRewriteCorrectionProposal(label, context.getCompilationUnit(), context.getASTRoot(), IProposalRelevance.CONVERT_IF_ELSE_TO_SWITCH,
+					JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE), proposal -> createConvertIfElseToSwitchRewrite(context, ifStatement, analysis, true, proposal)));
+		}
+		String label= CorrectionMessages.AdvancedQuickAssistProcessor_convertIfElseToSwitch;
+		resultingCollections.add(new DeferredRewriteCorrectionProposal(label, context.getCompilationUnit(), context.getASTRoot(), IProposalRelevance.CONVERT_IF_ELSE_TO_SWITCH,
+				JavaPluginImages.get(JavaPluginImages.IMG_CORRECTION_CHANGE), proposal -> createConvertIfElseToSwitchRewrite(context, ifStatement, analysis, false, proposal)));
+		return true;
 	}
 
-	private static boolean getConvertIfElseToSwitchProposals(final IInvocationContext context, final IfStatement coveringNode, final List<ICommandAccess> resultingCollections, final boolean handleNullArg) {
-		final AST ast= coveringNode.getAST();
-		final ASTRewrite rewrite= ASTRewrite.create(ast);
-		final ImportRewrite importRewrite= StubUtility.createImportRewrite(context.getASTRoot(), true);
-		ImportRewriteContext importRewriteContext= new ContextSensitiveImportRewriteContext(ASTResolving.findParentBodyDeclaration(coveringNode), importRewrite);
+	/**
+	 * The cases of an if-else statement that can be converted to a switch statement.
+	 */
+	private static final class IfElseToSwitchAnalysis {
+		final List<List<Expression>> fCaseExpressions= new ArrayList<>();
+		final List<Statement> fCaseStatements= new ArrayList<>();
+		final List<ITypeBinding> fEnumTypes= new ArrayList<>();
+		Expression fSwitchExpression;
+		boolean fExecuteDefaultOnNullExpression;
+		Statement fDefaultStatement;
+	}
 
+	private static IfElseToSwitchAnalysis analyzeIfElseToSwitch(IfStatement coveringNode) {
+		IfElseToSwitchAnalysis analysis= new IfElseToSwitchAnalysis();
 		IfStatement currentIf= coveringNode;
 		Statement currentStatement= coveringNode;
 		Expression currentExpression= currentIf.getExpression();
-		SwitchStatement switchStatement= ast.newSwitchStatement();
 		Expression switchExpression= null;
 		boolean executeDefaultOnNullExpression= false;
 		Statement defaultStatement= null;
@@ -2931,27 +2978,27 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 						isMethodInvocationCase= true;
 
 						if (!"equals".equals((((MethodInvocation) currentExpression).getName().getIdentifier()))) //$NON-NLS-1$
-							return false;
+							return null;
 
 						MethodInvocation invocation= (MethodInvocation) currentExpression;
 						leftOperand= invocation.getExpression();
 
 						if (leftOperand == null)
-							return false;
+							return null;
 
 						ITypeBinding leftBinding= leftOperand.resolveTypeBinding();
 
 						if (leftBinding != null) {
 							if ("java.lang.String".equals(leftBinding.getQualifiedName())) { //$NON-NLS-1$
 							} else if (!leftBinding.isEnum()) {
-								return false;
+								return null;
 							}
 						}
 
 						List<Expression> arguments= invocation.arguments();
 
 						if (arguments.size() != 1) {
-							return false;
+							return null;
 						}
 
 						rightOperand= arguments.get(0);
@@ -2960,7 +3007,7 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 						if (rightBinding != null) {
 							if ("java.lang.String".equals(rightBinding.getQualifiedName())) { //$NON-NLS-1$
 							} else if (!rightBinding.isEnum()) {
-								return false;
+								return null;
 							}
 						}
 
@@ -2973,7 +3020,7 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 								&& !InfixExpression.Operator.CONDITIONAL_OR.equals(operator)
 								&& !InfixExpression.Operator.OR.equals(operator)
 								&& !InfixExpression.Operator.XOR.equals(operator))
-							return false;
+							return null;
 
 						leftOperand= infixExpression.getLeftOperand();
 						rightOperand= infixExpression.getRightOperand();
@@ -2982,7 +3029,7 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 							ITypeBinding typeBinding= leftOperand.resolveTypeBinding();
 
 							if (typeBinding != null && "java.lang.String".equals(typeBinding.getQualifiedName())) { //$NON-NLS-1$
-								return false; // Don't propose quick assist when == is used to compare strings, since switch will use equals()
+								return null; // Don't propose quick assist when == is used to compare strings, since switch will use equals()
 							}
 						} else if (InfixExpression.Operator.CONDITIONAL_OR.equals(operator)
 								|| InfixExpression.Operator.OR.equals(operator)
@@ -2991,7 +3038,7 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 							continue;
 						}
 					} else {
-						return false;
+						return null;
 					}
 
 					if (leftOperand.resolveConstantExpressionValue() != null) {
@@ -3006,9 +3053,9 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 						IVariableBinding binding= (IVariableBinding) qualifiedName.resolveBinding();
 
 						if (binding == null || !binding.isEnumConstant())
-							return false;
+							return null;
 
-						importRewrite.addImport(binding.getDeclaringClass(), importRewriteContext);
+						analysis.fEnumTypes.add(binding.getDeclaringClass());
 						caseExpressions.add(qualifiedName.getName());
 						expression= rightOperand;
 						executeDefaultOnNullExpression|= isMethodInvocationCase;
@@ -3017,17 +3064,17 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 						IVariableBinding binding= (IVariableBinding) qualifiedName.resolveBinding();
 
 						if (binding == null || !binding.isEnumConstant())
-							return false;
+							return null;
 
-						importRewrite.addImport(binding.getDeclaringClass(), importRewriteContext);
+						analysis.fEnumTypes.add(binding.getDeclaringClass());
 						caseExpressions.add(qualifiedName.getName());
 						expression= leftOperand;
 					} else {
-						return false;
+						return null;
 					}
 
 					if (expression == null) { // paranoidal check: this condition should never be true
-						return false;
+						return null;
 					}
 
 					if (currentExpression.getParent() instanceof InfixExpression) {
@@ -3041,7 +3088,7 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 					}
 
 					if (!switchExpression.subtreeMatch(new ASTMatcher(), expression)) {
-						return false;
+						return null;
 					}
 				}
 			}
@@ -3054,10 +3101,11 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 				thenStatement= currentIf.getThenStatement();
 			}
 
-			switchStatement.statements().addAll(Arrays.asList(createSwitchCaseStatements(ast, rewrite, caseExpressions)));
+			analysis.fCaseExpressions.add(caseExpressions);
+			analysis.fCaseStatements.add(thenStatement);
 
-			if (!addStatementsAndBreakIfNeeded(switchStatement, thenStatement, ast, rewrite)) {
-				return false;
+			if (endsWithUnlabeledBreak(thenStatement)) {
+				return null;
 			}
 
 			// Advance currentStatement to the next "else if" or "else":
@@ -3079,60 +3127,76 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 		}
 
 		if (switchExpression == null) {
-			return false;
+			return null;
 		}
+		analysis.fSwitchExpression= switchExpression;
+		analysis.fExecuteDefaultOnNullExpression= executeDefaultOnNullExpression;
+		analysis.fDefaultStatement= defaultStatement;
+		return analysis;
+	}
 
+	private static ASTRewrite createConvertIfElseToSwitchRewrite(IInvocationContext context, IfStatement coveringNode, IfElseToSwitchAnalysis analysis, boolean handleNullArg, DeferredRewriteCorrectionProposalCore proposal) {
+		final AST ast= coveringNode.getAST();
+		final ASTRewrite rewrite= ASTRewrite.create(ast);
+		final ImportRewrite importRewrite= proposal.createImportRewrite(context.getASTRoot());
+		ImportRewriteContext importRewriteContext= new ContextSensitiveImportRewriteContext(ASTResolving.findParentBodyDeclaration(coveringNode), importRewrite);
+		for (ITypeBinding enumType : analysis.fEnumTypes) {
+			importRewrite.addImport(enumType, importRewriteContext);
+		}
+
+		SwitchStatement switchStatement= ast.newSwitchStatement();
+		for (int i= 0; i < analysis.fCaseStatements.size(); i++) {
+			switchStatement.statements().addAll(Arrays.asList(createSwitchCaseStatements(ast, rewrite, analysis.fCaseExpressions.get(i))));
+			addStatementsAndBreakIfNeeded(switchStatement, analysis.fCaseStatements.get(i), ast, rewrite);
+		}
+		Expression switchExpression= analysis.fSwitchExpression;
+		Statement defaultStatement= analysis.fDefaultStatement;
 		switchStatement.setExpression((Expression) rewrite.createCopyTarget(switchExpression));
 
 		if (handleNullArg) {
-			if (executeDefaultOnNullExpression) {
-				IfStatement newIfStatement= ast.newIfStatement();
-
-				InfixExpression infixExpression= ast.newInfixExpression();
-				infixExpression.setLeftOperand((Expression) rewrite.createCopyTarget(switchExpression));
-				infixExpression.setRightOperand(ast.newNullLiteral());
-				infixExpression.setOperator(InfixExpression.Operator.EQUALS);
-				newIfStatement.setExpression(infixExpression);
-
-				if (defaultStatement == null) {
-					Block block= ast.newBlock();
-					newIfStatement.setThenStatement(block);
-				} else if (defaultStatement instanceof Block) {
-					List<Statement> statements= ASTNodes.createMoveTarget(rewrite, (List<Statement>) ((Block) defaultStatement).statements());
+			IfStatement newIfStatement= ast.newIfStatement();
 
-					Block block= ast.newBlock();
-					block.statements().addAll(statements);
-
-					newIfStatement.setThenStatement(block);
-				} else {
-					newIfStatement.setThenStatement(ASTNodes.createMoveTarget(rewrite, defaultStatement));
-				}
+			InfixExpression infixExpression= ast.newInfixExpression();
+			infixExpression.setLeftOperand((Expression) rewrite.createCopyTarget(switchExpression));
+			infixExpression.setRightOperand(ast.newNullLiteral());
+			infixExpression.setOperator(InfixExpression.Operator.EQUALS);
+			newIfStatement.setExpression(infixExpression);
 
+			if (defaultStatement == null) {
 				Block block= ast.newBlock();
-				block.statements().add(switchStatement);
-				newIfStatement.setElseStatement(block);
+				newIfStatement.setThenStatement(block);
+			} else if (defaultStatement instanceof Block) {
+				List<Statement> statements= ASTNodes.createMoveTarget(rewrite, (List<Statement>) ((Block) defaultStatement).statements());
 
-				rewrite.replace(coveringNode, newIfStatement, null);
+				Block block= ast.newBlock();
+				block.statements().addAll(statements);
 
-				String source= ASTNodes.asString(switchExpression).replaceAll("\r\n?|\n", " "); //$NON-NLS-1$ //$NON-NLS-2$
-				String label= Messages.format(CorrectionMessages.AdvancedQuickAssistProcessor_convertIfElseToSwitch_handleNullArg, source);
-				ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.CONVERT_IF_ELSE_TO_SWITCH);
-				proposal.setImportRewrite(importRewrite);
-				resultingCollections.add(proposal);
+				newIfStatement.setThenStatement(block);
+			} else {
+				newIfStatement.setThenStatement(ASTNodes.createMoveTarget(rewrite, defaultStatement));
 			}
+
+			Block block= ast.newBlock();
+			block.statements().add(switchStatement);
+			newIfStatement.setElseStatement(block);
+
+			rewrite.replace(coveringNode, newIfStatement, null);
 		} else {
 			rewrite.replace(coveringNode, switchStatement, null);
-
-			String label= CorrectionMessages.AdvancedQuickAssistProcessor_convertIfElseToSwitch;
-			ASTRewriteCorrectionProposal proposal= new ASTRewriteCorrectionProposal(label, context.getCompilationUnit(), rewrite, IProposalRelevance.CONVERT_IF_ELSE_TO_SWITCH);
-			proposal.setImportRewrite(importRewrite);
-			resultingCollections.add(proposal);
 		}
+		return rewrite;
+	}
 
-		return true;
+	private static boolean endsWithUnlabeledBreak(Statement thenStatement) {
+		Statement lastStatement= thenStatement;
+		if (thenStatement instanceof Block) {
+			List<Statement> statements= ((Block) thenStatement).statements();
+			lastStatement= statements.isEmpty() ? null : statements.get(statements.size() - 1);
+		}
+		return lastStatement instanceof BreakStatement && ((BreakStatement) lastStatement).getLabel() == null;
 	}
 
-	private static boolean addStatementsAndBreakIfNeeded(final SwitchStatement switchStatement, final Statement thenStatement, final AST ast, final ASTRewrite rewrite) {
+	private static void addStatementsAndBreakIfNeeded(final SwitchStatement switchStatement, final Statement thenStatement, final AST ast, final ASTRewrite rewrite) {
 		if (thenStatement instanceof Block) {
 			List<Statement> statements= ((Block) thenStatement).statements();
 			Statement lastStatement= null;
@@ -3142,30 +3206,23 @@ public class AdvancedQuickAssistProcessor implements IQuickAssistProcessor {
 				lastStatement= statement;
 			}
 
-			return addBreakIfNeeded(switchStatement, lastStatement, ast);
+			addBreakIfNeeded(switchStatement, lastStatement, ast);
+			return;
 		}
 
 		switchStatement.statements().add(rewrite.createCopyTarget(thenStatement));
-		return addBreakIfNeeded(switchStatement, thenStatement, ast);
+		addBreakIfNeeded(switchStatement, thenStatement, ast);
 	}
 
-	private static boolean addBreakIfNeeded(final SwitchStatement switchStatement, final Statement lastStatementOrNull, final AST ast) {
-		if (lastStatementOrNull instanceof BreakStatement) {
-			if (((BreakStatement) lastStatementOrNull).getLabel() == null) {
-				return false;
-			}
-
-			return true;
-		}
-
-		if (lastStatementOrNull instanceof ReturnStatement
+	private static void addBreakIfNeeded(final SwitchStatement switchStatement, final Statement lastStatementOrNull, final AST ast) {
+		if (lastStatementOrNull instanceof BreakStatement
+				|| lastStatementOrNull instanceof ReturnStatement
 				|| lastStatementOrNull instanceof ThrowStatement
 				|| lastStatementOrNull instanceof ContinueStatement) {
-			return true;
+			return;
 		}
 
 		switchStatement.statements().add(ast.newBreakStatement());
-		return true;
 	}
 
 	private static Expression getNextSiblingExpression(Expression expression) {
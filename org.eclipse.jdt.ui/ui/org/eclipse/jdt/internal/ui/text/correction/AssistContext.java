@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -44,6 +44,11 @@ public class AssistContext extends TextInvocationContext implements IInvocationC
 	 */
 	private NodeFinder fNodeFinder;
 
+	/**
+	 * The cached analysis of the covering node, can be null.
+	 */
+	private AssistNodeContext fNodeContext;
+
 
 	/*
 	 * @since 3.5
@@ -158,4 +163,17 @@ public class AssistContext extends TextInvocationContext implements IInvocationC
 		return fNodeFinder.getCoveredNode();
 	}
 
+	/**
+	 * Returns the analysis of the covering node, which is shared by the quick assist processors.
+	 *
+	 * @param coveringNode the covering node
+	 * @return the analysis of the covering node
+	 */
+	AssistNodeContext getNodeContext(ASTNode coveringNode) {
+		if (fNodeContext == null || fNodeContext.getCoveringNode() != coveringNode) {
+			fNodeContext= new AssistNodeContext(this, coveringNode);
+		}
+		return fNodeContext;
+	}
+
 }
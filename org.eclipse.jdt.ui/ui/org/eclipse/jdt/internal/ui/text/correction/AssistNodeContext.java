@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.correction;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+
+import org.eclipse.jdt.ui.text.java.IInvocationContext;
+
+/**
+ * The analysis of the covering node that is shared by the quick assists of one invocation.
+ * <p>
+ * Quick assists that only apply to nodes of certain types, or to nodes inside of them, are
+ * dispatched on the types of the nodes from the covering node up to the compilation unit.
+ * This avoids asking every assist for proposals at locations where it cannot apply. The
+ * fully covered nodes are computed once and handed out as copies, as assists may modify them.
+ * </p>
+ * <p>
+ * The analysis is cached by {@link AssistContext}, so that all quick assist processors of
+ * an invocation share it.
+ * </p>
+ */
+public final class AssistNodeContext {
+
+	private final IInvocationContext fContext;
+	private final ASTNode fCoveringNode;
+	private final BitSet fPathTypes;
+	private ArrayList<ASTNode> fCoveredNodes;
+
+	/**
+	 * Returns the analysis of the covering node of the given context.
+	 *
+	 * @param context the invocation context
+	 * @param coveringNode the covering node of the context
+	 * @return the analysis
+	 */
+	public static AssistNodeContext get(IInvocationContext context, ASTNode coveringNode) {
+		if (context instanceof AssistContext) {
+			return ((AssistContext) context).getNodeContext(coveringNode);
+		}
+		return new AssistNodeContext(context, coveringNode);
+	}
+
+	AssistNodeContext(IInvocationContext context, ASTNode coveringNode) {
+		fContext= context;
+		fCoveringNode= coveringNode;
+		fPathTypes= new BitSet();
+		for (ASTNode node= coveringNode; node != null; node= node.getParent()) {
+			fPathTypes.set(node.getNodeType());
+		}
+	}
+
+	public ASTNode getCoveringNode() {
+		return fCoveringNode;
+	}
+
+	/**
+	 * @param nodeTypes the node types, see {@link ASTNode#getNodeType()}
+	 * @return <code>true</code> if the covering node is of one of the given types
+	 */
+	public boolean isCovering(int... nodeTypes) {
+		int coveringType= fCoveringNode.getNodeType();
+		for (int nodeType : nodeTypes) {
+			if (coveringType == nodeType)
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @param nodeTypes the node types, see {@link ASTNode#getNodeType()}
+	 * @return <code>true</code> if the covering node or one of its ancestors is of one of the
+	 *         given types
+	 */
+	public boolean isInside(int... nodeTypes) {
+		for (int nodeType : nodeTypes) {
+			if (fPathTypes.get(nodeType))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @return a new list of the nodes fully covered by the selection
+	 */
+	public ArrayList<ASTNode> getCoveredNodes() {
+		if (fCoveredNodes == null) {
+			fCoveredNodes= AdvancedQuickAssistProcessor.getFullyCoveredNodes(fContext, fCoveringNode);
+		}
+		return new ArrayList<>(fCoveredNodes);
+	}
+}
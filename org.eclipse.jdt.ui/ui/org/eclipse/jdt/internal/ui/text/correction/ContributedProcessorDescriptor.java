@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -127,7 +127,25 @@ public final class ContributedProcessorDescriptor {
 		return false;
 	}
 
-	public Object getProcessor(ICompilationUnit cunit, Class<?> expectedType) {
+	/**
+	 * @return the id of the processor extension
+	 */
+	public String getId() {
+		return fConfigurationElement.getAttribute(ID);
+	}
+
+	/**
+	 * @return the name of the plug-in that contributes the processor
+	 */
+	public String getContributorName() {
+		return fConfigurationElement.getContributor().getName();
+	}
+
+	/*
+	 * Synchronized, as processors of other plug-ins may be run concurrently, see
+	 * JavaCorrectionProcessor#PREF_CONCURRENT_PROCESSORS.
+	 */
+	public synchronized Object getProcessor(ICompilationUnit cunit, Class<?> expectedType) {
 		if (matches(cunit)) {
 			if (fProcessorInstance == null) {
 				try {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,11 +17,20 @@ package org.eclipse.jdt.internal.ui.text.correction;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.PerformanceStats;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
@@ -51,6 +60,7 @@ import org.eclipse.ltk.core.refactoring.NullChange;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 
+import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.jdt.internal.corext.util.Messages;
 
 import org.eclipse.jdt.ui.JavaUI;
@@ -72,8 +82,31 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 	private static final String QUICKFIX_PROCESSOR_CONTRIBUTION_ID= "quickFixProcessors"; //$NON-NLS-1$
 	private static final String QUICKASSIST_PROCESSOR_CONTRIBUTION_ID= "quickAssistProcessors"; //$NON-NLS-1$
 
+	/**
+	 * Preference key of the hidden option to compute the proposals of quick fix and quick assist
+	 * processors contributed by other plug-ins concurrently with the processors of this plug-in.
+	 * Off by default, as existing processors may not expect to be called outside of the UI
+	 * thread. Processors run concurrently must not modify the AST of the invocation context.
+	 */
+	public static final String PREF_CONCURRENT_PROCESSORS= "org.eclipse.jdt.ui.correction.concurrentProcessors"; //$NON-NLS-1$
+	/**
+	 * Preference key of the time in milliseconds a processor run concurrently has to compute its
+	 * proposals. The proposals of a processor that does not finish in time are dropped.
+	 */
+	public static final String PREF_PROCESSOR_TIMEOUT= "org.eclipse.jdt.ui.correction.processorTimeout"; //$NON-NLS-1$
+	private static final long DEFAULT_PROCESSOR_TIMEOUT= 2000;
+
+	/** The name of the performance event used to trace the processors. */
+	private static final String PERFORMANCE_EVENT= JavaPlugin.getPluginId() + "/perf/quickfix/processors"; //$NON-NLS-1$
+	/**
+	 * If <code>true</code>, execution time of the processors is measured and the data forwarded to
+	 * core's {@link PerformanceStats} service.
+	 */
+	private static final boolean MEASURE_PERFORMANCE= PerformanceStats.isEnabled(PERFORMANCE_EVENT);
+
 	private static ContributedProcessorDescriptor[] fgContributedAssistProcessors= null;
 	private static ContributedProcessorDescriptor[] fgContributedCorrectionProcessors= null;
+	private static ExecutorService fgProcessorExecutor= null;
 
 	private static ContributedProcessorDescriptor[] getProcessorDescriptors(String contributionId, boolean testMarkerTypes) {
 		IConfigurationElement[] elements= Platform.getExtensionRegistry().getConfigurationElementsFor(JavaUI.ID_PLUGIN, contributionId);
@@ -105,6 +138,57 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 		return fgContributedAssistProcessors;
 	}
 
+	private static synchronized ExecutorService getProcessorExecutor() {
+		if (fgProcessorExecutor == null) {
+			fgProcessorExecutor= Executors.newCachedThreadPool(runnable -> {
+				Thread thread= new Thread(runnable, "Java Correction Processor"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return fgProcessorExecutor;
+	}
+
+	/**
+	 * Shuts down the executor of the concurrently run processors. Called when the plug-in is
+	 * stopped.
+	 */
+	public static synchronized void shutdownProcessorExecutor() {
+		if (fgProcessorExecutor != null) {
+			fgProcessorExecutor.shutdownNow();
+			fgProcessorExecutor= null;
+		}
+	}
+
+	/*
+	 * The concurrently run processors get a copy of the context with their own AST, which can only
+	 * be created for an AssistContext.
+	 */
+	private static boolean isConcurrent(IInvocationContext context, ContributedProcessorDescriptor[] processors) {
+		if (!(context instanceof AssistContext) || !JavaPlugin.getDefault().getPreferenceStore().getBoolean(PREF_CONCURRENT_PROCESSORS)) {
+			return false;
+		}
+		for (ContributedProcessorDescriptor processor : processors) {
+			if (!isLocal(processor)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/*
+	 * The processors of this plug-in create nodes on the shared AST while collecting proposals,
+	 * so they are always run in order on the calling thread.
+	 */
+	private static boolean isLocal(ContributedProcessorDescriptor processor) {
+		return JavaUI.ID_PLUGIN.equals(processor.getContributorName());
+	}
+
+	private static long getProcessorTimeout() {
+		int timeout= JavaPlugin.getDefault().getPreferenceStore().getInt(PREF_PROCESSOR_TIMEOUT);
+		return timeout > 0 ? timeout : DEFAULT_PROCESSOR_TIMEOUT;
+	}
+
 	public static boolean hasCorrections(ICompilationUnit cu, int problemId, String markerType) {
 		SafeHasCorrections collector= new SafeHasCorrections(cu, problemId);
 		for (ContributedProcessorDescriptor processor : getCorrectionProcessors()) {
@@ -326,14 +410,30 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 
 		public void process(ContributedProcessorDescriptor[] desc) {
 			for (ContributedProcessorDescriptor d : desc) {
-				fDescriptor= d;
-				SafeRunner.run(this);
+				process(d);
 			}
 		}
 
 		public void process(ContributedProcessorDescriptor desc) {
 			fDescriptor= desc;
+			PerformanceStats stats= startMeter(desc);
 			SafeRunner.run(this);
+			stopMeter(stats);
+		}
+
+		private PerformanceStats startMeter(ContributedProcessorDescriptor desc) {
+			if (!MEASURE_PERFORMANCE) {
+				return null;
+			}
+			PerformanceStats stats= PerformanceStats.getStats(PERFORMANCE_EVENT, desc.getId());
+			stats.startRun(getClass().getSimpleName());
+			return stats;
+		}
+
+		private void stopMeter(PerformanceStats stats) {
+			if (stats != null) {
+				stats.endRun();
+			}
 		}
 
 		@Override
@@ -456,9 +556,125 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 	}
 
 
+	/**
+	 * Runs the processors of other plug-ins concurrently with the processors of this plug-in, which
+	 * are run on the calling thread. Each processor collects into its own list, and the lists are
+	 * merged in the order of the processor contributions, so that the result does not depend on
+	 * the order in which the processors finish.
+	 * <p>
+	 * The AST of the invocation context and its bindings are not thread safe. A concurrently run
+	 * processor therefore gets a copy of the context with its own AST, which is created on the
+	 * thread of the processor.
+	 * </p>
+	 */
+	private static final class ConcurrentCollector {
+
+		private static final class ProcessorRun {
+			final ContributedProcessorDescriptor fDescriptor;
+			final AssistContext fContext;
+			final SafeCorrectionProcessorAccess fAccess;
+			final List<IJavaCompletionProposal> fProposals;
+			Future<?> fFuture;
+
+			ProcessorRun(ContributedProcessorDescriptor descriptor, AssistContext context, SafeCorrectionProcessorAccess access, List<IJavaCompletionProposal> proposals) {
+				fDescriptor= descriptor;
+				fContext= context;
+				fAccess= access;
+				fProposals= proposals;
+			}
+		}
+
+		private final AssistContext fContext;
+		private final ArrayList<ProcessorRun> fRuns= new ArrayList<>();
+
+		ConcurrentCollector(IInvocationContext context) {
+			fContext= (AssistContext) context;
+		}
+
+		void add(ContributedProcessorDescriptor descriptor, Function<IInvocationContext, SafeCorrectionProcessorAccess> accessFactory, List<IJavaCompletionProposal> proposals) {
+			AssistContext context= isLocal(descriptor) ? fContext : copyContext();
+			fRuns.add(new ProcessorRun(descriptor, context, accessFactory.apply(context), proposals));
+		}
+
+		private AssistContext copyContext() {
+			return new AssistContext(fContext.getCompilationUnit(), fContext.getSourceViewer(), fContext.getEditor(), fContext.getOffset(), fContext.getLength());
+		}
+
+		IStatus collect(Collection<IJavaCompletionProposal> proposals) {
+			for (ProcessorRun run : fRuns) {
+				if (run.fContext != fContext) {
+					run.fFuture= getProcessorExecutor().submit(() -> {
+						run.fContext.setASTRoot(ASTResolving.createQuickFixAST(run.fContext.getCompilationUnit(), null));
+						run.fAccess.process(run.fDescriptor);
+					});
+				}
+			}
+			for (ProcessorRun run : fRuns) {
+				if (run.fFuture == null) {
+					run.fAccess.process(run.fDescriptor);
+				}
+			}
+
+			// the processors of this plug-in do not count against the timeout of the others
+			long timeout= getProcessorTimeout();
+			long deadline= System.currentTimeMillis() + timeout;
+
+			MultiStatus status= null;
+			boolean interrupted= false;
+			for (ProcessorRun run : fRuns) {
+				if (run.fFuture != null) {
+					if (interrupted) {
+						run.fFuture.cancel(true);
+						continue;
+					}
+					try {
+						run.fFuture.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+					} catch (TimeoutException e) {
+						run.fFuture.cancel(true);
+						JavaPlugin.log(new Status(IStatus.WARNING, JavaUI.ID_PLUGIN, IStatus.OK, "Quick fix processor '" + run.fDescriptor.getId() + "' contributed by '" //$NON-NLS-1$ //$NON-NLS-2$
+								+ run.fDescriptor.getContributorName() + "' did not finish within " + timeout + " ms. Its proposals are dropped.", null)); //$NON-NLS-1$ //$NON-NLS-2$
+						continue;
+					} catch (ExecutionException e) {
+						run.fAccess.handleException(e.getCause());
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						run.fFuture.cancel(true);
+						interrupted= true;
+						continue;
+					}
+				}
+				proposals.addAll(run.fProposals);
+				IStatus runStatus= run.fAccess.getStatus();
+				if (!runStatus.isOK()) {
+					if (status == null) {
+						status= new MultiStatus(JavaUI.ID_PLUGIN, IStatus.OK, CorrectionMessages.JavaCorrectionProcessor_error_status, null);
+					}
+					status.merge(runStatus);
+				}
+			}
+			return status != null ? status : Status.OK_STATUS;
+		}
+	}
+
 	public static IStatus collectCorrections(IInvocationContext context, IProblemLocation[] locations, Collection<IJavaCompletionProposal> proposals) {
+		ContributedProcessorDescriptor[] processors= getCorrectionProcessors();
+		if (isConcurrent(context, processors)) {
+			ConcurrentCollector concurrentCollector= new ConcurrentCollector(context);
+			for (ContributedProcessorDescriptor curr : processors) {
+				IProblemLocation[] handled= getHandledProblems(locations, curr);
+				if (handled != null) {
+					ArrayList<IJavaCompletionProposal> res= new ArrayList<>();
+					concurrentCollector.add(curr, runContext -> {
+						SafeCorrectionCollector collector= new SafeCorrectionCollector(runContext, res);
+						collector.setProblemLocations(handled);
+						return collector;
+					}, res);
+				}
+			}
+			return concurrentCollector.collect(proposals);
+		}
 		SafeCorrectionCollector collector= new SafeCorrectionCollector(context, proposals);
-		for (ContributedProcessorDescriptor curr : getCorrectionProcessors()) {
+		for (ContributedProcessorDescriptor curr : processors) {
 			IProblemLocation[] handled= getHandledProblems(locations, curr);
 			if (handled != null) {
 				collector.setProblemLocations(handled);
@@ -502,6 +718,14 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 
 	public static IStatus collectAssists(IInvocationContext context, IProblemLocation[] locations, Collection<IJavaCompletionProposal> proposals) {
 		ContributedProcessorDescriptor[] processors= getAssistProcessors();
+		if (isConcurrent(context, processors)) {
+			ConcurrentCollector concurrentCollector= new ConcurrentCollector(context);
+			for (ContributedProcessorDescriptor curr : processors) {
+				ArrayList<IJavaCompletionProposal> res= new ArrayList<>();
+				concurrentCollector.add(curr, runContext -> new SafeAssistCollector(runContext, locations, res), res);
+			}
+			return concurrentCollector.collect(proposals);
+		}
 		SafeAssistCollector collector= new SafeAssistCollector(context, locations, proposals);
 		collector.process(processors);
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -356,76 +356,117 @@ public class QuickAssistProcessor implements IQuickAssistProcessor {
 	public IJavaCompletionProposal[] getAssists(IInvocationContext context, IProblemLocation[] locations) throws CoreException {
 		ASTNode coveringNode= context.getCoveringNode();
 		if (coveringNode != null) {
-			ArrayList<ASTNode> coveredNodes= AdvancedQuickAssistProcessor.getFullyCoveredNodes(context, coveringNode);
+			// assists that only apply to or inside nodes of certain types are dispatched on the node types of the covering node's path
+			AssistNodeContext nodeContext= AssistNodeContext.get(context, coveringNode);
+			ArrayList<ASTNode> coveredNodes= nodeContext.getCoveredNodes();
 			ArrayList<ICommandAccess> resultingCollections= new ArrayList<>();
 			boolean noErrorsAtLocation= noErrorsAtLocation(locations);
+			boolean coversName= nodeContext.isCovering(ASTNode.SIMPLE_NAME);
+			boolean insideLambda= nodeContext.isInside(ASTNode.LAMBDA_EXPRESSION);
 
 			// quick assists that show up also if there is an error/warning
-			getRenameLocalProposals(context, coveringNode, locations, resultingCollections);
+			if (coversName)
+				getRenameLocalProposals(context, coveringNode, locations, resultingCollections);
 			getRenameRefactoringProposal(context, coveringNode, locations, resultingCollections);
-			getAssignToVariableProposals(context, coveringNode, locations, resultingCollections);
-			getAssignParamToFieldProposals(context, coveringNode, resultingCollections);
-			getAssignAllParamsToFieldsProposals(context, coveringNode, resultingCollections);
+			if (nodeContext.isInside(ASTNode.EXPRESSION_STATEMENT))
+				getAssignToVariableProposals(context, coveringNode, locations, resultingCollections);
+			if (nodeContext.isInside(ASTNode.SINGLE_VARIABLE_DECLARATION)) {
+				getAssignParamToFieldProposals(context, coveringNode, resultingCollections);
+				getAssignAllParamsToFieldsProposals(context, coveringNode, resultingCollections);
+			}
 			getInferDiamondArgumentsProposal(context, coveringNode, locations, resultingCollections);
-			getGenerateForLoopProposals(context, coveringNode, locations, resultingCollections);
-			getJUnitTestCaseProposal(context, coveringNode, resultingCollections);
-			getNewImplementationProposal(context, coveringNode, resultingCollections);
-			getNewInterfaceImplementationProposal(context, coveringNode, resultingCollections);
-			getSplitSwitchLabelProposal(context, coveringNode, resultingCollections);
+			if (nodeContext.isInside(ASTNode.EXPRESSION_STATEMENT))
+				getGenerateForLoopProposals(context, coveringNode, locations, resultingCollections);
+			if (coversName) {
+				getJUnitTestCaseProposal(context, coveringNode, resultingCollections);
+				getNewImplementationProposal(context, coveringNode, resultingCollections);
+				getNewInterfaceImplementationProposal(context, coveringNode, resultingCollections);
+			}
+			if (nodeContext.isInside(ASTNode.SWITCH_CASE))
+				getSplitSwitchLabelProposal(context, coveringNode, resultingCollections);
 			getAddMethodDeclaration(context, coveringNode, resultingCollections);
-			getDeprecatedProposal(context, coveringNode, locations, resultingCollections);
+			if (nodeContext.isInside(ASTNode.METHOD_INVOCATION))
+				getDeprecatedProposal(context, coveringNode, locations, resultingCollections);
 
 			if (noErrorsAtLocation) {
 				boolean problemsAtLocation= locations.length != 0;
-				getCatchClauseToThrowsProposals(context, coveringNode, resultingCollections);
-				getPickoutTypeFromMulticatchProposals(context, coveringNode, coveredNodes, resultingCollections);
-				getConvertToMultiCatchProposals(context, coveringNode, resultingCollections);
-				getUnrollMultiCatchProposals(context, coveringNode, resultingCollections);
+				if (nodeContext.isInside(ASTNode.CATCH_CLAUSE)) {
+					getCatchClauseToThrowsProposals(context, coveringNode, resultingCollections);
+					getPickoutTypeFromMulticatchProposals(context, coveringNode, coveredNodes, resultingCollections);
+					getConvertToMultiCatchProposals(context, coveringNode, resultingCollections);
+					getUnrollMultiCatchProposals(context, coveringNode, resultingCollections);
+				}
 				getTryWithResourceAssistProposals(locations, context, coveringNode, coveredNodes, resultingCollections);
 				getUnWrapProposals(context, coveringNode, resultingCollections);
 				getJoinVariableProposals(context, coveringNode, resultingCollections);
 				getSplitVariableProposals(context, coveringNode, resultingCollections);
-				getAddFinallyProposals(context, coveringNode, resultingCollections);
-				getAddElseProposals(context, coveringNode, resultingCollections);
+				if (nodeContext.isInside(ASTNode.TRY_STATEMENT))
+					getAddFinallyProposals(context, coveringNode, resultingCollections);
+				if (nodeContext.isCovering(ASTNode.IF_STATEMENT))
+					getAddElseProposals(context, coveringNode, resultingCollections);
 				getAddBlockProposals(context, coveringNode, resultingCollections);
 				getInvertEqualsProposal(context, coveringNode, resultingCollections);
-				getArrayInitializerToArrayCreation(context, coveringNode, resultingCollections);
-				getCreateInSuperClassProposals(context, coveringNode, resultingCollections);
+				if (nodeContext.isCovering(ASTNode.ARRAY_INITIALIZER))
+					getArrayInitializerToArrayCreation(context, coveringNode, resultingCollections);
+				if (coversName)
+					getCreateInSuperClassProposals(context, coveringNode, resultingCollections);
 				getExtractVariableProposal(context, problemsAtLocation, resultingCollections);
-				getExtractAnonymousClassProposal(context, coveringNode, resultingCollections);
+				if (nodeContext.isInside(ASTNode.ANONYMOUS_CLASS_DECLARATION))
+					getExtractAnonymousClassProposal(context, coveringNode, resultingCollections);
 				getExtractMethodProposal(context, coveringNode, problemsAtLocation, resultingCollections);
-				getExtractMethodFromLambdaProposal(context, coveringNode, problemsAtLocation, resultingCollections);
-				getInlineLocalProposal(context, coveringNode, resultingCollections);
-				getConvertFieldNamingConventionProposal(context, coveringNode, resultingCollections);
-				getConvertLocalToFieldProposal(context, coveringNode, resultingCollections);
-				getConvertAnonymousToNestedProposal(context, coveringNode, resultingCollections);
-				getConvertAnonymousClassCreationsToLambdaProposals(context, coveringNode, resultingCollections);
-				getConvertLambdaToAnonymousClassCreationsProposals(context, coveringNode, resultingCollections);
-				getChangeLambdaBodyToBlockProposal(context, coveringNode, resultingCollections);
-				getChangeLambdaBodyToExpressionProposal(context, coveringNode, resultingCollections);
-				getAddInferredLambdaParameterTypes(context, coveringNode, resultingCollections);
-				getAddVarLambdaParameterTypes(context, coveringNode, resultingCollections);
-				getRemoveVarOrInferredLambdaParameterTypes(context, coveringNode, resultingCollections);
-				getConvertMethodReferenceToLambdaProposal(context, coveringNode, resultingCollections);
-				getConvertLambdaToMethodReferenceProposal(context, coveringNode, resultingCollections);
-				getFixParenthesesInLambdaExpression(context, coveringNode, resultingCollections);
-				if (!getConvertForLoopProposal(context, coveringNode, resultingCollections))
-					getConvertIterableLoopProposal(context, coveringNode, resultingCollections);
-				getUnnecessaryArrayCreationProposal(context, coveringNode, resultingCollections);
-				getConvertEnhancedForLoopProposal(context, coveringNode, resultingCollections);
+				if (insideLambda)
+					getExtractMethodFromLambdaProposal(context, coveringNode, problemsAtLocation, resultingCollections);
+				if (coversName) {
+					getInlineLocalProposal(context, coveringNode, resultingCollections);
+					getConvertFieldNamingConventionProposal(context, coveringNode, resultingCollections);
+					getConvertLocalToFieldProposal(context, coveringNode, resultingCollections);
+				}
+				if (nodeContext.isInside(ASTNode.CLASS_INSTANCE_CREATION)) {
+					getConvertAnonymousToNestedProposal(context, coveringNode, resultingCollections);
+					getConvertAnonymousClassCreationsToLambdaProposals(context, coveringNode, resultingCollections);
+				}
+				if (insideLambda) {
+					getConvertLambdaToAnonymousClassCreationsProposals(context, coveringNode, resultingCollections);
+					getChangeLambdaBodyToBlockProposal(context, coveringNode, resultingCollections);
+					getChangeLambdaBodyToExpressionProposal(context, coveringNode, resultingCollections);
+					getAddInferredLambdaParameterTypes(context, coveringNode, resultingCollections);
+					getAddVarLambdaParameterTypes(context, coveringNode, resultingCollections);
+					getRemoveVarOrInferredLambdaParameterTypes(context, coveringNode, resultingCollections);
+				}
+				if (nodeContext.isInside(ASTNode.EXPRESSION_METHOD_REFERENCE, ASTNode.SUPER_METHOD_REFERENCE, ASTNode.TYPE_METHOD_REFERENCE, ASTNode.CREATION_REFERENCE))
+					getConvertMethodReferenceToLambdaProposal(context, coveringNode, resultingCollections);
+				if (insideLambda) {
+					getConvertLambdaToMethodReferenceProposal(context, coveringNode, resultingCollections);
+					getFixParenthesesInLambdaExpression(context, coveringNode, resultingCollections);
+				}
+				if (nodeContext.isInside(ASTNode.FOR_STATEMENT)) {
+					if (!getConvertForLoopProposal(context, coveringNode, resultingCollections))
+						getConvertIterableLoopProposal(context, coveringNode, resultingCollections);
+				}
+				if (nodeContext.isInside(ASTNode.METHOD_INVOCATION, ASTNode.SUPER_METHOD_INVOCATION))
+					getUnnecessaryArrayCreationProposal(context, coveringNode, resultingCollections);
+				if (nodeContext.isInside(ASTNode.ENHANCED_FOR_STATEMENT))
+					getConvertEnhancedForLoopProposal(context, coveringNode, resultingCollections);
 				getRemoveBlockProposals(context, coveringNode, resultingCollections);
 				getMakeVariableDeclarationFinalProposals(context, resultingCollections);
 				ConvertStringConcatenationProposals.getProposals(context, resultingCollections);
-				getMissingCaseStatementProposals(context, coveringNode, resultingCollections);
-				getConvertVarTypeToResolvedTypeProposal(context, coveringNode, resultingCollections);
-				getConvertResolvedTypeToVarTypeProposal(context, coveringNode, resultingCollections);
-				getAddStaticImportProposals(context, coveringNode, resultingCollections);
-				getAddStaticMemberFavoritesProposals(coveringNode, resultingCollections);
-				getConvertToSwitchExpressionProposals(context, coveringNode, resultingCollections);
-				getDoWhileRatherThanWhileProposal(context, coveringNode, resultingCollections);
+				if (nodeContext.isInside(ASTNode.SWITCH_STATEMENT))
+					getMissingCaseStatementProposals(context, coveringNode, resultingCollections);
+				if (coversName) {
+					getConvertVarTypeToResolvedTypeProposal(context, coveringNode, resultingCollections);
+					getConvertResolvedTypeToVarTypeProposal(context, coveringNode, resultingCollections);
+					getAddStaticImportProposals(context, coveringNode, resultingCollections);
+				}
+				if (nodeContext.isInside(ASTNode.IMPORT_DECLARATION))
+					getAddStaticMemberFavoritesProposals(coveringNode, resultingCollections);
+				if (nodeContext.isInside(ASTNode.SWITCH_STATEMENT) || nodeContext.isCovering(ASTNode.BLOCK))
+					getConvertToSwitchExpressionProposals(context, coveringNode, resultingCollections);
+				if (nodeContext.isInside(ASTNode.WHILE_STATEMENT))
+					getDoWhileRatherThanWhileProposal(context, coveringNode, resultingCollections);
 				getStringConcatToTextBlockProposal(context, coveringNode, resultingCollections);
 				getSplitTryResourceProposal(context, coveringNode, resultingCollections);
-				getConvertPatternInstanceofIfStmtToSwitchProposals(context, coveringNode, resultingCollections);
+				if (nodeContext.isInside(ASTNode.IF_STATEMENT))
+					getConvertPatternInstanceofIfStmtToSwitchProposals(context, coveringNode, resultingCollections);
 			}
 			return resultingCollections.toArray(new IJavaCompletionProposal[resultingCollections.size()]);
 		}
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.correction.proposals;
+
+import org.eclipse.swt.graphics.Image;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.ui.text.correction.proposals.DeferredRewriteCorrectionProposalCore.RewriteCreator;
+
+/**
+ * A quick fix or quick assist proposal whose AST rewrite is created when the proposal is
+ * previewed or applied. Quick assists whose applicability is known before the rewrite is built
+ * should use this proposal, so that collecting the proposals stays cheap.
+ *
+ * @see DeferredRewriteCorrectionProposalCore
+ */
+public class DeferredRewriteCorrectionProposal extends LinkedCorrectionProposal {
+
+	/**
+	 * @param name the display name of the proposal
+	 * @param cu the compilation unit that is modified
+	 * @param astRoot the AST the rewrite is created on
+	 * @param relevance the relevance of the proposal
+	 * @param image the image that is displayed for the proposal or <code>null</code> if no image
+	 *            is desired
+	 * @param creator creates the rewrite when it is first needed
+	 */
+	public DeferredRewriteCorrectionProposal(String name, ICompilationUnit cu, CompilationUnit astRoot, int relevance, Image image, RewriteCreator creator) {
+		super(name, cu, null, relevance, image, new DeferredRewriteCorrectionProposalCore(name, cu, astRoot, relevance, creator));
+	}
+}
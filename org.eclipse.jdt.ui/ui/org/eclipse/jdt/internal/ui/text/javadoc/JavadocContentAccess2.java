@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -37,6 +37,10 @@ public class JavadocContentAccess2 {
 	 * Gets an IJavaElement's Javadoc comment content from the source or Javadoc attachment
 	 * and renders the tags and links in HTML.
 	 * Returns <code>null</code> if the element does not have a Javadoc comment or if no source is available.
+	 * <p>
+	 * If attached Javadoc is used, the content of elements in binary roots is cached, see
+	 * {@link JavadocContentCache}.
+	 * </p>
 	 *
 	 * @param element				the element to get the Javadoc of
 	 * @param useAttachedJavadoc	if <code>true</code> Javadoc will be extracted from attached Javadoc
@@ -46,6 +50,8 @@ public class JavadocContentAccess2 {
 	 * @throws CoreException is thrown when the element's Javadoc cannot be accessed
 	 */
 	public static String getHTMLContent(IJavaElement element, boolean useAttachedJavadoc) throws CoreException {
+		if (useAttachedJavadoc)
+			return JavadocContentCache.getDefault().getHTMLContent(element);
 		return new CoreJavadocAccess().getHTMLContent(element, useAttachedJavadoc);
 	}
 
@@ -0,0 +1,562 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.javadoc;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeParameter;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.manipulation.internal.javadoc.CoreJavadocAccess;
+import org.eclipse.jdt.core.manipulation.internal.javadoc.CoreJavadocContentAccessUtility;
+
+import org.eclipse.jdt.internal.corext.javadoc.JavaDocLocations;
+import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Cache for the HTML content of Javadoc comments of elements in binary package fragment roots,
+ * which is computed from the attached source or the attached Javadoc.
+ * <p>
+ * The entries are keyed by the handle identifier of the element and are only valid as long as the
+ * <em>stamp</em> of the inputs of the content does not change. The stamp consists of the paths,
+ * time stamps and sizes of the archive, its source attachment and its Javadoc archive, and of the
+ * Javadoc location. If the source is attached from a folder, the stamp contains the source file of
+ * the type, and if the Javadoc is attached from a local folder, the Javadoc page of the type. The
+ * Javadoc of a method can be inherited, so the stamp of a method also contains the stamps of all
+ * super types. Elements whose inputs cannot be stamped, e.g. because a super type is in a source
+ * folder, are not cached. Remote Javadoc locations are not checked for changes, their entries are
+ * only dropped when the cache is full.
+ * If the Javadoc of an element could not be read from a remote location, e.g. because the host
+ * was not reachable, nothing is cached for the element, and the elements of such roots are not
+ * prefetched.
+ * </p>
+ * <p>
+ * The cache is bounded by the number of entries and the total length of the content, the least
+ * recently used entries are removed first. It is saved to the state location of the plug-in when
+ * the plug-in is stopped. The content of elements that are likely to be hovered next can be
+ * computed in the background with {@link #prefetch(Collection)}.
+ * </p>
+ */
+public final class JavadocContentCache {
+
+	private static final String FILE_NAME= "javadocContentCache.dat"; //$NON-NLS-1$
+	private static final int VERSION= 2;
+
+	static final int MAX_ENTRIES= 2000;
+	static final int MAX_TOTAL_LENGTH= 4 * 1024 * 1024;
+	static final int MAX_PREFETCH= 50;
+
+	private static JavadocContentCache fgDefault;
+
+	private record Entry(String stamp, String content) {
+
+		int length() {
+			return content != null ? content.length() : 0;
+		}
+	}
+
+	/**
+	 * Forgets the stamps of the roots when the classpath of a project or a root changes.
+	 */
+	private final class ClasspathListener implements IElementChangedListener {
+
+		private static final int CLASSPATH_FLAGS= IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED;
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			if (affectsRoots(event.getDelta()))
+				resetStamps();
+		}
+
+		private boolean affectsRoots(IJavaElementDelta delta) {
+			IJavaElement element= delta.getElement();
+			if (element.getElementType() == IJavaElement.PACKAGE_FRAGMENT_ROOT)
+				return true;
+			if (element.getElementType() == IJavaElement.JAVA_PROJECT && (delta.getFlags() & CLASSPATH_FLAGS) != 0)
+				return true;
+			if (element.getElementType() > IJavaElement.JAVA_PROJECT)
+				return false;
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				if (affectsRoots(child))
+					return true;
+			}
+			return false;
+		}
+	}
+
+	private final class PrefetchJob extends Job {
+
+		PrefetchJob() {
+			super(JavaDocMessages.JavadocContentCache_prefetch_job_name);
+			setSystem(true);
+			setPriority(Job.DECORATE);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			IJavaElement element;
+			while ((element= nextPrefetch()) != null) {
+				if (monitor.isCanceled())
+					return Status.CANCEL_STATUS;
+				try {
+					getHTMLContent(element);
+				} catch (CoreException e) {
+					// the hover will report it if the element is hovered
+				}
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
+	private final LinkedHashMap<String, Entry> fEntries= new LinkedHashMap<>(16, 0.75f, true);
+	private final Map<IPackageFragmentRoot, String> fStamps= new LinkedHashMap<>();
+	private final LinkedHashSet<IJavaElement> fPrefetchQueue= new LinkedHashSet<>();
+	private final PrefetchJob fPrefetchJob= new PrefetchJob();
+	private final ClasspathListener fClasspathListener= new ClasspathListener();
+	private final File fFile;
+	private int fTotalLength;
+	private boolean fDirty;
+
+	/**
+	 * Creates a cache.
+	 *
+	 * @param file the file to load the cache from and to save it to, or <code>null</code> if the
+	 *            cache is not persisted
+	 */
+	public JavadocContentCache(File file) {
+		fFile= file;
+	}
+
+	/**
+	 * @return the shared cache, loaded from the state location of the plug-in
+	 */
+	public static synchronized JavadocContentCache getDefault() {
+		if (fgDefault == null) {
+			fgDefault= new JavadocContentCache(JavaPlugin.getDefault().getStateLocation().append(FILE_NAME).toFile());
+			fgDefault.load();
+			JavaCore.addElementChangedListener(fgDefault.fClasspathListener, ElementChangedEvent.POST_CHANGE);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Saves the shared cache if it has been created. Called when the plug-in is stopped.
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			JavaCore.removeElementChangedListener(fgDefault.fClasspathListener);
+			fgDefault.fPrefetchJob.cancel();
+			fgDefault.save();
+			fgDefault= null;
+		}
+	}
+
+	/**
+	 * Tells whether the content of the given element can be cached, i.e. whether the element
+	 * is a member or type parameter in a binary package fragment root.
+	 *
+	 * @param element the element
+	 * @return <code>true</code> if the content of the element can be cached
+	 */
+	public static boolean isCacheable(IJavaElement element) {
+		if (!(element instanceof IMember) && !(element instanceof ITypeParameter))
+			return false;
+		IPackageFragmentRoot root= JavaModelUtil.getPackageFragmentRoot(element);
+		try {
+			return root != null && root.getKind() == IPackageFragmentRoot.K_BINARY;
+		} catch (JavaModelException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the Javadoc of the given element as computed by
+	 * {@link JavadocContentAccess2#getHTMLContent(IJavaElement, boolean)} with attached Javadoc
+	 * enabled. The content of cacheable elements is taken from the cache if its entry is still
+	 * valid.
+	 *
+	 * @param element the element to get the Javadoc of
+	 * @return the Javadoc comment content in HTML or <code>null</code> if the element does not
+	 *         have a Javadoc comment or if no source is available
+	 * @throws CoreException is thrown when the element's Javadoc cannot be accessed
+	 */
+	public String getHTMLContent(IJavaElement element) throws CoreException {
+		if (!isCacheable(element))
+			return new CoreJavadocAccess().getHTMLContent(element, true);
+
+		String key= element.getHandleIdentifier();
+		IPackageFragmentRoot root= JavaModelUtil.getPackageFragmentRoot(element);
+		String stamp= getStamp(element, root);
+		if (stamp == null)
+			return new CoreJavadocAccess().getHTMLContent(element, true);
+		synchronized (this) {
+			Entry entry= fEntries.get(key);
+			if (entry != null && entry.stamp().equals(stamp))
+				return entry.content();
+		}
+		String content= new CoreJavadocAccess().getHTMLContent(element, true);
+		if (content != null || !hasRemoteJavadoc(root))
+			put(key, new Entry(stamp, content));
+		return content;
+	}
+
+	/**
+	 * Tells whether the cache has a valid entry for the given element.
+	 *
+	 * @param element the element
+	 * @return <code>true</code> if the content of the element is cached
+	 */
+	public boolean isCached(IJavaElement element) {
+		if (!isCacheable(element))
+			return false;
+		try {
+			String stamp= getStamp(element, JavaModelUtil.getPackageFragmentRoot(element));
+			if (stamp == null)
+				return false;
+			synchronized (this) {
+				Entry entry= fEntries.get(element.getHandleIdentifier());
+				return entry != null && entry.stamp().equals(stamp);
+			}
+		} catch (JavaModelException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Computes the content of the given elements in the background. Replaces the elements of a
+	 * previous call that have not been computed yet.
+	 *
+	 * @param elements the elements, elements that are not cacheable or whose Javadoc is attached
+	 *            from a remote location are ignored
+	 */
+	public void prefetch(Collection<? extends IJavaElement> elements) {
+		synchronized (fPrefetchQueue) {
+			fPrefetchQueue.clear();
+			for (IJavaElement element : elements) {
+				if (fPrefetchQueue.size() == MAX_PREFETCH)
+					break;
+				if (isCacheable(element) && !hasRemoteJavadoc(JavaModelUtil.getPackageFragmentRoot(element)))
+					fPrefetchQueue.add(element);
+			}
+			if (fPrefetchQueue.isEmpty())
+				return;
+		}
+		fPrefetchJob.schedule();
+	}
+
+	private IJavaElement nextPrefetch() {
+		synchronized (fPrefetchQueue) {
+			Iterator<IJavaElement> iter= fPrefetchQueue.iterator();
+			while (iter.hasNext()) {
+				IJavaElement element= iter.next();
+				iter.remove();
+				if (!isCached(element))
+					return element;
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Removes all entries and forgets the stamps of the roots.
+	 */
+	public synchronized void clear() {
+		fEntries.clear();
+		fStamps.clear();
+		fTotalLength= 0;
+		fDirty= true;
+	}
+
+	/**
+	 * Forgets the stamps of the roots, so that they are computed again on the next access. Called
+	 * when the classpath of a project or the attachments of a root may have changed.
+	 */
+	public synchronized void resetStamps() {
+		fStamps.clear();
+	}
+
+	/**
+	 * @return the number of entries
+	 */
+	public synchronized int size() {
+		return fEntries.size();
+	}
+
+	private synchronized void put(String key, Entry entry) {
+		if (entry.length() > MAX_TOTAL_LENGTH / 16)
+			return;
+		Entry old= fEntries.put(key, entry);
+		if (old != null)
+			fTotalLength-= old.length();
+		fTotalLength+= entry.length();
+		Iterator<Entry> iter= fEntries.values().iterator();
+		while (fEntries.size() > MAX_ENTRIES || fTotalLength > MAX_TOTAL_LENGTH) {
+			fTotalLength-= iter.next().length();
+			iter.remove();
+		}
+		fDirty= true;
+	}
+
+	private String getStamp(IPackageFragmentRoot root) throws JavaModelException {
+		synchronized (this) {
+			String stamp= fStamps.get(root);
+			if (stamp != null)
+				return stamp;
+		}
+		StringBuilder buf= new StringBuilder();
+		IResource resource= root.getResource();
+		appendFileStamp(buf, (resource != null && resource.getLocation() != null ? resource.getLocation() : root.getPath()).toFile());
+		File sourceAttachment= getSourceAttachment(root);
+		if (sourceAttachment != null)
+			appendFileStamp(buf, sourceAttachment);
+		URL javadocLocation= JavaDocLocations.getJavadocBaseLocation(root);
+		if (javadocLocation != null) {
+			buf.append('|').append(javadocLocation.toExternalForm());
+			File javadocArchive= getLocalJavadocArchive(javadocLocation);
+			if (javadocArchive != null)
+				appendFileStamp(buf, javadocArchive);
+		}
+		String stamp= buf.toString();
+		synchronized (this) {
+			fStamps.put(root, stamp);
+		}
+		return stamp;
+	}
+
+	/**
+	 * Returns the stamp of the inputs of the content of the given element. The content of a method
+	 * can be inherited from the super types, so their stamps are included.
+	 *
+	 * @param element the member or type parameter
+	 * @param root the root of the element
+	 * @return the stamp, or <code>null</code> if the inputs cannot be stamped and the content must
+	 *         not be cached
+	 * @throws JavaModelException if the attachments of a root cannot be accessed
+	 */
+	private String getStamp(IJavaElement element, IPackageFragmentRoot root) throws JavaModelException {
+		IMember member= element instanceof ITypeParameter ? ((ITypeParameter) element).getDeclaringMember() : (IMember) element;
+		IType type= member instanceof IType ? (IType) member : member.getDeclaringType();
+		StringBuilder buf= new StringBuilder(getStamp(root));
+		if (!appendTypeStamp(buf, type, root))
+			return null;
+		if (CoreJavadocContentAccessUtility.canInheritJavadoc(member)) {
+			// sorted, the order of the super types is not specified
+			TreeSet<String> superStamps= new TreeSet<>();
+			for (IType superType : SuperTypeHierarchyCache.getTypeHierarchy(type).getAllSupertypes(type)) {
+				IPackageFragmentRoot superRoot= JavaModelUtil.getPackageFragmentRoot(superType);
+				if (superRoot == null || superRoot.getKind() != IPackageFragmentRoot.K_BINARY)
+					return null;
+				StringBuilder superStamp= new StringBuilder(superType.getFullyQualifiedName());
+				if (!appendTypeStamp(superStamp, superType, superRoot))
+					return null;
+				superStamps.add(superStamp.toString());
+				superStamps.add(getStamp(superRoot));
+			}
+			for (String superStamp : superStamps)
+				buf.append('|').append(superStamp);
+		}
+		return buf.toString();
+	}
+
+	/**
+	 * Appends the stamps of the files in folders that the content of the given type is read from,
+	 * i.e. of the source file in a source attachment folder and of the page in a local Javadoc
+	 * folder. The time stamp of a folder does not change when a file in it is modified.
+	 *
+	 * @param buf the buffer to append to
+	 * @param type the type
+	 * @param root the root of the type
+	 * @return <code>false</code> if the source file of the type cannot be found
+	 * @throws JavaModelException if the attachments of the root cannot be accessed
+	 */
+	private static boolean appendTypeStamp(StringBuilder buf, IType type, IPackageFragmentRoot root) throws JavaModelException {
+		File sourceAttachment= getSourceAttachment(root);
+		if (sourceAttachment != null && sourceAttachment.isDirectory()) {
+			IType topLevelType= type;
+			while (topLevelType.getDeclaringType() != null)
+				topLevelType= topLevelType.getDeclaringType();
+			StringBuilder path= new StringBuilder();
+			IPath rootPath= root.getSourceAttachmentRootPath();
+			if (rootPath != null && !rootPath.isEmpty())
+				path.append(rootPath.toString()).append('/');
+			String packageName= type.getPackageFragment().getElementName();
+			if (!packageName.isEmpty())
+				path.append(packageName.replace('.', '/')).append('/');
+			path.append(topLevelType.getElementName()).append(".java"); //$NON-NLS-1$
+			File sourceFile= new File(sourceAttachment, path.toString());
+			// the source mapper also finds files below a detected root path, which cannot be stamped
+			if (!sourceFile.isFile())
+				return false;
+			appendFileStamp(buf, sourceFile);
+		}
+		URL javadocLocation= JavaDocLocations.getJavadocBaseLocation(root);
+		if (javadocLocation != null && "file".equals(javadocLocation.getProtocol())) { //$NON-NLS-1$
+			URL page= JavaDocLocations.getJavadocLocation(type, false);
+			if (page != null)
+				appendFileStamp(buf, JavaDocLocations.toFile(page));
+		}
+		return true;
+	}
+
+	private static File getSourceAttachment(IPackageFragmentRoot root) throws JavaModelException {
+		IPath sourceAttachment= root.getSourceAttachmentPath();
+		if (sourceAttachment == null)
+			return null;
+		IResource sourceResource= ResourcesPlugin.getWorkspace().getRoot().findMember(sourceAttachment);
+		return (sourceResource != null && sourceResource.getLocation() != null ? sourceResource.getLocation() : sourceAttachment).toFile();
+	}
+
+	private static File getLocalJavadocArchive(URL javadocLocation) {
+		if (!"jar".equals(javadocLocation.getProtocol())) //$NON-NLS-1$
+			return null;
+		String path= javadocLocation.getPath();
+		if (!path.startsWith("file:")) //$NON-NLS-1$
+			return null;
+		int separator= path.indexOf("!/"); //$NON-NLS-1$
+		try {
+			return JavaDocLocations.toFile(new URL(separator != -1 ? path.substring(0, separator) : path));
+		} catch (MalformedURLException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Tells whether the Javadoc of the given root is attached from a location that is not on the
+	 * local file system. Reading it may block on the network or fail.
+	 *
+	 * @param root the root
+	 * @return <code>true</code> if the Javadoc location of the root is remote
+	 */
+	static boolean hasRemoteJavadoc(IPackageFragmentRoot root) {
+		URL location;
+		try {
+			location= JavaDocLocations.getJavadocBaseLocation(root);
+		} catch (JavaModelException e) {
+			return true;
+		}
+		if (location == null)
+			return false;
+		String protocol= location.getProtocol();
+		if ("jar".equals(protocol)) //$NON-NLS-1$
+			return !location.getPath().startsWith("file:"); //$NON-NLS-1$
+		return !"file".equals(protocol) && !"platform".equals(protocol); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static void appendFileStamp(StringBuilder buf, File file) {
+		buf.append('|').append(file.getPath()).append(':').append(file.lastModified()).append(':').append(file.length());
+	}
+
+	/**
+	 * Loads the entries from the file of the cache, if the file exists.
+	 */
+	public synchronized void load() {
+		if (fFile == null || !fFile.exists())
+			return;
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(fFile)))) {
+			if (in.readInt() != VERSION)
+				return;
+			int size= in.readInt();
+			for (int i= 0; i < size; i++) {
+				String key= readString(in);
+				String stamp= readString(in);
+				String content= in.readBoolean() ? readString(in) : null;
+				put(key, new Entry(stamp, content));
+			}
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+			fEntries.clear();
+			fTotalLength= 0;
+		}
+		fDirty= false;
+	}
+
+	/**
+	 * Saves the entries to the file of the cache, if they have changed since they were loaded or
+	 * saved.
+	 */
+	public synchronized void save() {
+		if (fFile == null || !fDirty)
+			return;
+		List<Map.Entry<String, Entry>> entries= new ArrayList<>(fEntries.entrySet());
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fFile)))) {
+			out.writeInt(VERSION);
+			out.writeInt(entries.size());
+			// least recently used first, so that loading restores the order
+			for (Map.Entry<String, Entry> entry : entries) {
+				writeString(out, entry.getKey());
+				writeString(out, entry.getValue().stamp());
+				String content= entry.getValue().content();
+				out.writeBoolean(content != null);
+				if (content != null)
+					writeString(out, content);
+			}
+			fDirty= false;
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes= value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length= in.readInt();
+		if (length < 0 || length > 4 * MAX_TOTAL_LENGTH)
+			throw new IOException("Invalid length: " + length); //$NON-NLS-1$
+		byte[] bytes= new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.javadoc;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ITextSelection;
+import org.eclipse.jface.text.ITextViewer;
+import org.eclipse.jface.text.IViewportListener;
+import org.eclipse.jface.text.Region;
+
+import org.eclipse.ui.IEditorPart;
+import org.eclipse.ui.texteditor.ITextEditor;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.SimpleName;
+
+import org.eclipse.jdt.internal.ui.viewsupport.ISelectionListenerWithAST;
+import org.eclipse.jdt.internal.ui.viewsupport.SelectionListenerWithASTManager;
+
+/**
+ * Computes the Javadoc of the binary elements referenced near the caret and in the visible range
+ * of an editor in the background, so that their hovers can be shown from the
+ * {@link JavadocContentCache}.
+ * <p>
+ * The elements near the caret are prefetched first. The elements are collected from the shared
+ * AST whenever the selection of the editor changes. Editors only install a prefetcher if
+ * {@link #PREF_PREFETCH_JAVADOC} is set.
+ * </p>
+ */
+public class JavadocPrefetcher implements ISelectionListenerWithAST, IViewportListener {
+
+	/**
+	 * Preference key for a boolean preference that tells whether Java editors prefetch the
+	 * Javadoc of the elements near the caret. Disabled by default and not shown in the UI.
+	 */
+	public static final String PREF_PREFETCH_JAVADOC= "org.eclipse.jdt.ui.javadoc.prefetch"; //$NON-NLS-1$
+
+	/**
+	 * The number of characters before and after the selection that are considered near the caret.
+	 */
+	private static final int CARET_RANGE= 300;
+
+	private ITextEditor fEditor;
+	private ITextViewer fViewer;
+	private volatile IRegion fVisibleRegion;
+
+	/**
+	 * Starts to prefetch for the given editor.
+	 *
+	 * @param editor the editor
+	 * @param viewer the viewer of the editor
+	 */
+	public void install(ITextEditor editor, ITextViewer viewer) {
+		fEditor= editor;
+		fViewer= viewer;
+		fViewer.addViewportListener(this);
+		updateVisibleRegion();
+		SelectionListenerWithASTManager.getDefault().addListener(fEditor, this);
+	}
+
+	/**
+	 * Stops to prefetch.
+	 */
+	public void uninstall() {
+		if (fEditor != null) {
+			SelectionListenerWithASTManager.getDefault().removeListener(fEditor, this);
+			fEditor= null;
+		}
+		if (fViewer != null) {
+			fViewer.removeViewportListener(this);
+			fViewer= null;
+		}
+	}
+
+	@Override
+	public void viewportChanged(int verticalOffset) {
+		updateVisibleRegion();
+	}
+
+	private void updateVisibleRegion() {
+		int start= fViewer.getTopIndexStartOffset();
+		int end= fViewer.getBottomIndexEndOffset();
+		fVisibleRegion= start >= 0 && end >= start ? new Region(start, end - start) : null;
+	}
+
+	@Override
+	public void selectionChanged(IEditorPart part, ITextSelection selection, CompilationUnit astRoot) {
+		if (part != fEditor || selection.getOffset() < 0)
+			return;
+
+		Set<IJavaElement> elements= new LinkedHashSet<>();
+		Set<IBinding> bindings= new HashSet<>();
+		int start= Math.max(0, selection.getOffset() - CARET_RANGE);
+		collectElements(astRoot, start, selection.getOffset() + selection.getLength() + CARET_RANGE, bindings, elements);
+		IRegion visibleRegion= fVisibleRegion;
+		if (visibleRegion != null)
+			collectElements(astRoot, visibleRegion.getOffset(), visibleRegion.getOffset() + visibleRegion.getLength(), bindings, elements);
+
+		if (!elements.isEmpty())
+			JavadocContentCache.getDefault().prefetch(elements);
+	}
+
+	/**
+	 * Collects the cacheable elements referenced by the names that overlap the given range.
+	 *
+	 * @param astRoot the AST
+	 * @param start the start offset of the range
+	 * @param end the end offset of the range
+	 * @param bindings the bindings that have already been inspected
+	 * @param result the collected elements
+	 */
+	static void collectElements(CompilationUnit astRoot, int start, int end, Set<IBinding> bindings, Set<IJavaElement> result) {
+		astRoot.accept(new ASTVisitor() {
+			@Override
+			public boolean preVisit2(ASTNode node) {
+				return result.size() < JavadocContentCache.MAX_PREFETCH && node.getStartPosition() <= end && node.getStartPosition() + node.getLength() >= start;
+			}
+
+			@Override
+			public boolean visit(SimpleName node) {
+				IBinding binding= node.resolveBinding();
+				if (binding != null && bindings.add(binding)) {
+					IJavaElement element= binding.getJavaElement();
+					if (JavadocContentCache.isCacheable(element))
+						result.add(element);
+				}
+				return false;
+			}
+		});
+	}
+}
@@ -0,0 +1,347 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.viewsupport;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.viewers.LabelProviderChangedEvent;
+import org.eclipse.jface.viewers.StyledString;
+
+import org.eclipse.ui.progress.WorkbenchJob;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IOpenable;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.ui.JavaElementLabels;
+
+/**
+ * Computes the styled labels and the image descriptors of Java elements for a
+ * {@link JavaUILabelProvider} in background batches.
+ * <p>
+ * Labels are computed in the UI thread as long as the time spent on them within a short window
+ * stays below a budget, so expanding small nodes does not flicker. Beyond the budget, requests
+ * return <code>null</code>, the label provider shows a placeholder, and the elements are computed
+ * by a background job. For each computed batch a label provider changed event is fired in the
+ * UI thread, upon which the viewers fetch the cached labels.
+ * </p>
+ * <p>
+ * A cached label is valid as long as the modification stamp of the element's resource and the
+ * label flags are unchanged. Java element deltas invalidate the labels of the affected packages,
+ * compilation units and class files, and changes of the label preferences invalidate all labels,
+ * see {@link #clearAll()}.
+ * </p>
+ */
+public class BackgroundLabelComputer implements IElementChangedListener {
+
+	/**
+	 * A label computed for an element.
+	 */
+	public static final class ComputedLabel {
+
+		private final long fStamp;
+		private final long fTextFlags;
+		private final int fImageFlags;
+		private final StyledString fStyledText;
+		private final ImageDescriptor fImageDescriptor;
+
+		ComputedLabel(long stamp, long textFlags, int imageFlags, StyledString styledText, ImageDescriptor imageDescriptor) {
+			fStamp= stamp;
+			fTextFlags= textFlags;
+			fImageFlags= imageFlags;
+			fStyledText= styledText;
+			fImageDescriptor= imageDescriptor;
+		}
+
+		/**
+		 * @return the colored label, without label decorations. Must not be modified.
+		 */
+		public StyledString getStyledText() {
+			return fStyledText;
+		}
+
+		/**
+		 * @return the image descriptor including the Java element adornments
+		 */
+		public ImageDescriptor getImageDescriptor() {
+			return fImageDescriptor;
+		}
+
+		boolean isValid(long stamp, long textFlags, int imageFlags) {
+			return fStamp == stamp && fTextFlags == textFlags && fImageFlags == imageFlags;
+		}
+	}
+
+	private record Request(long textFlags, int imageFlags) {
+	}
+
+	private static final int BATCH_SIZE= 200;
+	private static final int MAX_CACHE_SIZE= 20000;
+	private static final long SYNC_BUDGET= 50 * 1000 * 1000; // ns
+	private static final long SYNC_WINDOW= 250 * 1000 * 1000; // ns
+
+	private static final List<BackgroundLabelComputer> fgComputers= new CopyOnWriteArrayList<>();
+
+	private final JavaUILabelProvider fLabelProvider;
+	private final JavaElementImageProvider fImageProvider;
+	private final long fSyncBudget;
+
+	private final Map<IJavaElement, ComputedLabel> fCache;
+	private final LinkedHashMap<IJavaElement, Request> fQueue; // guarded by itself
+	private final Set<IJavaElement> fComputed;
+
+	private final Job fComputeJob;
+	private final WorkbenchJob fUpdateJob;
+
+	// accessed in the UI thread only
+	private long fWindowStart;
+	private long fTimeSpent;
+
+	private volatile boolean fDisposed;
+
+	/**
+	 * @param labelProvider the label provider to notify when labels have been computed
+	 * @param imageProvider the image provider of the label provider
+	 */
+	public BackgroundLabelComputer(JavaUILabelProvider labelProvider, JavaElementImageProvider imageProvider) {
+		this(labelProvider, imageProvider, SYNC_BUDGET);
+	}
+
+	/**
+	 * This constructor is for testing purpose only.
+	 *
+	 * @param labelProvider the label provider to notify when labels have been computed
+	 * @param imageProvider the image provider of the label provider
+	 * @param syncBudget the time in nanoseconds to spend on labels in the UI thread per window
+	 */
+	public BackgroundLabelComputer(JavaUILabelProvider labelProvider, JavaElementImageProvider imageProvider, long syncBudget) {
+		fLabelProvider= labelProvider;
+		fImageProvider= imageProvider;
+		fSyncBudget= syncBudget;
+		fCache= new ConcurrentHashMap<>();
+		fQueue= new LinkedHashMap<>();
+		fComputed= ConcurrentHashMap.newKeySet();
+
+		fComputeJob= new Job("Java element label computation...") { //$NON-NLS-1$
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				return computeQueued(monitor);
+			}
+		};
+		fComputeJob.setSystem(true);
+		fComputeJob.setPriority(Job.DECORATE);
+
+		fUpdateJob= new WorkbenchJob("Java element label update...") { //$NON-NLS-1$
+			@Override
+			public IStatus runInUIThread(IProgressMonitor monitor) {
+				fireComputed();
+				return Status.OK_STATUS;
+			}
+		};
+		fUpdateJob.setSystem(true);
+
+		JavaCore.addElementChangedListener(this);
+		fgComputers.add(this);
+	}
+
+	/**
+	 * Removes the cached labels of all computers. To be called when the label composition changes,
+	 * e.g. because of changed label preferences.
+	 */
+	public static void clearAll() {
+		for (BackgroundLabelComputer computer : fgComputers) {
+			computer.fCache.clear();
+		}
+	}
+
+	/**
+	 * Returns whether labels of the given element are computed by this class.
+	 *
+	 * @param element the element
+	 * @return <code>true</code> for packages, compilation units, class files and their children
+	 */
+	public static boolean isSupported(Object element) {
+		if (element instanceof IJavaElement) {
+			int type= ((IJavaElement) element).getElementType();
+			return type >= IJavaElement.PACKAGE_FRAGMENT && type != IJavaElement.JAVA_MODULE;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the label of an element. Must be called in the UI thread.
+	 *
+	 * @param element the element, see {@link #isSupported(Object)}
+	 * @param textFlags the flags as defined in {@link JavaElementLabels}
+	 * @param imageFlags the flags as defined in {@link JavaElementImageProvider}
+	 * @return the label, or <code>null</code> if the label is being computed in the background
+	 */
+	public ComputedLabel getLabel(IJavaElement element, long textFlags, int imageFlags) {
+		long stamp= getModificationStamp(element);
+		ComputedLabel label= fCache.get(element);
+		if (label != null && label.isValid(stamp, textFlags, imageFlags)) {
+			return label;
+		}
+		long now= System.nanoTime();
+		if (now - fWindowStart > SYNC_WINDOW) {
+			fWindowStart= now;
+			fTimeSpent= 0;
+		}
+		if (fTimeSpent < fSyncBudget || element.getElementName().isEmpty()) {
+			label= computeLabel(element, stamp, textFlags, imageFlags);
+			fTimeSpent+= System.nanoTime() - now;
+			return label;
+		}
+		synchronized (fQueue) {
+			fQueue.put(element, new Request(textFlags, imageFlags));
+		}
+		fComputeJob.schedule();
+		return null;
+	}
+
+	private ComputedLabel computeLabel(IJavaElement element, long stamp, long textFlags, int imageFlags) {
+		StyledString styledText= JavaElementLabels.getStyledTextLabel(element, textFlags | JavaElementLabels.COLORIZE);
+		ImageDescriptor imageDescriptor= fImageProvider.getJavaImageDescriptor(element, imageFlags);
+		ComputedLabel label= new ComputedLabel(stamp, textFlags, imageFlags, styledText, imageDescriptor);
+		if (fCache.size() >= MAX_CACHE_SIZE) {
+			fCache.clear();
+		}
+		fCache.put(element, label);
+		return label;
+	}
+
+	private IStatus computeQueued(IProgressMonitor monitor) {
+		List<Entry<IJavaElement, Request>> batch;
+		while (!(batch= pollBatch()).isEmpty()) {
+			if (monitor.isCanceled() || fDisposed) {
+				return Status.CANCEL_STATUS;
+			}
+			List<Entry<IJavaElement, Request>> requests= batch;
+			// keep the openables of the batch open while computing
+			JavaCore.runReadOnly(() -> {
+				for (Entry<IJavaElement, Request> entry : requests) {
+					IJavaElement element= entry.getKey();
+					Request request= entry.getValue();
+					computeLabel(element, getModificationStamp(element), request.textFlags(), request.imageFlags());
+					fComputed.add(element);
+				}
+			});
+			fUpdateJob.schedule();
+		}
+		return Status.OK_STATUS;
+	}
+
+	private List<Entry<IJavaElement, Request>> pollBatch() {
+		List<Entry<IJavaElement, Request>> batch= new ArrayList<>(BATCH_SIZE);
+		synchronized (fQueue) {
+			Iterator<Entry<IJavaElement, Request>> iterator= fQueue.entrySet().iterator();
+			while (iterator.hasNext() && batch.size() < BATCH_SIZE) {
+				Entry<IJavaElement, Request> entry= iterator.next();
+				batch.add(Map.entry(entry.getKey(), entry.getValue()));
+				iterator.remove();
+			}
+		}
+		return batch;
+	}
+
+	private void fireComputed() {
+		if (fDisposed) {
+			return;
+		}
+		List<IJavaElement> computed= new ArrayList<>(fComputed);
+		fComputed.removeAll(computed);
+		if (!computed.isEmpty()) {
+			fLabelProvider.fireLabelProviderChanged(new LabelProviderChangedEvent(fLabelProvider, computed.toArray()));
+		}
+	}
+
+	private static long getModificationStamp(IJavaElement element) {
+		IOpenable openable= element.getOpenable();
+		IResource resource= openable instanceof IJavaElement ? ((IJavaElement) openable).getResource() : null;
+		return resource != null ? resource.getModificationStamp() : IResource.NULL_STAMP;
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		Set<IJavaElement> changed= new HashSet<>();
+		if (!collectChangedOpenables(event.getDelta(), changed)) {
+			fCache.clear();
+			return;
+		}
+		if (!changed.isEmpty()) {
+			fCache.keySet().removeIf(element -> changed.contains(element) || changed.contains(element.getOpenable()));
+		}
+	}
+
+	/**
+	 * Collects the packages, compilation units and class files affected by the delta.
+	 *
+	 * @param delta the delta
+	 * @param changed the set to add the affected elements to
+	 * @return <code>false</code> if the change cannot be attributed to single elements and all
+	 *         labels have to be invalidated
+	 */
+	private boolean collectChangedOpenables(IJavaElementDelta delta, Set<IJavaElement> changed) {
+		IJavaElement element= delta.getElement();
+		if (element.getElementType() >= IJavaElement.PACKAGE_FRAGMENT) {
+			changed.add(element.getElementType() > IJavaElement.CLASS_FILE ? (IJavaElement) element.getOpenable() : element);
+			return true;
+		}
+		if ((delta.getFlags() & ~IJavaElementDelta.F_CHILDREN) != 0 || delta.getKind() != IJavaElementDelta.CHANGED) {
+			return false;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (!collectChangedOpenables(child, changed)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Stops the computation and releases the cached labels.
+	 */
+	public void dispose() {
+		fDisposed= true;
+		fgComputers.remove(this);
+		JavaCore.removeElementChangedListener(this);
+		fComputeJob.cancel();
+		fUpdateJob.cancel();
+		synchronized (fQueue) {
+			fQueue.clear();
+		}
+		fCache.clear();
+		fComputed.clear();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -177,6 +177,33 @@ public class JavaElementImageProvider {
 		return new JavaElementImageDescriptor(JavaPluginImages.DESC_OBJS_GHOST, 0, size);
 	}
 
+	/**
+	 * Returns the image descriptor shown for a Java element while its image is computed in the
+	 * background. The descriptor does not require access to the element's info.
+	 * @param element the Java element
+	 * @param flags the image flags
+	 * @return returns the image descriptor
+	 */
+	public ImageDescriptor getPlaceholderImageDescriptor(IJavaElement element, int flags) {
+		Point size= useSmallSize(flags) ? SMALL_SIZE : BIG_SIZE;
+		ImageDescriptor baseDesc;
+		switch (element.getElementType()) {
+			case IJavaElement.PACKAGE_FRAGMENT:
+				baseDesc= JavaPluginImages.DESC_OBJS_PACKAGE;
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				baseDesc= JavaPluginImages.DESC_OBJS_CUNIT;
+				break;
+			case IJavaElement.CLASS_FILE:
+				baseDesc= JavaPluginImages.DESC_OBJS_CFILE;
+				break;
+			default:
+				baseDesc= JavaPluginImages.DESC_OBJS_GHOST;
+				break;
+		}
+		return new JavaElementImageDescriptor(baseDesc, 0, size);
+	}
+
 	/**
 	 * Returns an image descriptor for a IAdaptable. The descriptor includes overlays, if specified (only error ticks apply).
 	 * Returns <code>null</code> if no image could be found.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import org.eclipse.core.runtime.SafeRunner;
 
 import org.eclipse.core.resources.IStorage;
 
+import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.jface.util.SafeRunnable;
 import org.eclipse.jface.viewers.DelegatingStyledCellLabelProvider.IStyledLabelProvider;
 import org.eclipse.jface.viewers.IColorProvider;
@@ -33,8 +34,13 @@ import org.eclipse.jface.viewers.LabelProviderChangedEvent;
 import org.eclipse.jface.viewers.StyledCellLabelProvider;
 import org.eclipse.jface.viewers.StyledString;
 
+import org.eclipse.jdt.core.IJavaElement;
+
 import org.eclipse.jdt.ui.JavaElementLabels;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.viewsupport.BackgroundLabelComputer.ComputedLabel;
+
 public class JavaUILabelProvider implements ILabelProvider, IColorProvider, IStyledLabelProvider {
 
 	protected ListenerList<ILabelProviderListener> fListeners = new ListenerList<>();
@@ -47,6 +53,8 @@ public class JavaUILabelProvider implements ILabelProvider, IColorProvider, ISty
 	private int fImageFlags;
 	private long fTextFlags;
 
+	private BackgroundLabelComputer fBackgroundLabelComputer;
+
 	/**
 	 * Creates a new label provider with default flags.
 	 */
@@ -78,6 +86,38 @@ public class JavaUILabelProvider implements ILabelProvider, IColorProvider, ISty
 		fLabelDecorators.add(decorator);
 	}
 
+	/**
+	 * Enables or disables the computation of Java element labels in the background. When enabled,
+	 * labels which cannot be computed within the UI thread budget are shown as a placeholder until
+	 * a label provider changed event announces the computed label.
+	 *
+	 * @param enable <code>true</code> to compute labels in the background
+	 * @see BackgroundLabelComputer
+	 */
+	public void setComputeLabelsInBackground(boolean enable) {
+		if (enable && fBackgroundLabelComputer == null) {
+			fBackgroundLabelComputer= new BackgroundLabelComputer(this, fImageLabelProvider);
+		} else if (!enable && fBackgroundLabelComputer != null) {
+			fBackgroundLabelComputer.dispose();
+			fBackgroundLabelComputer= null;
+		}
+	}
+
+	/**
+	 * Returns the label computed by the background label computer.
+	 *
+	 * @param element the element
+	 * @return the computed label or <code>null</code> if the element is not computed in the
+	 *         background or its label is still being computed
+	 */
+	private ComputedLabel getComputedLabel(Object element) {
+		return fBackgroundLabelComputer.getLabel((IJavaElement) element, evaluateTextFlags(element) | JavaElementLabels.COLORIZE, evaluateImageFlags(element));
+	}
+
+	private boolean isComputedInBackground(Object element) {
+		return fBackgroundLabelComputer != null && BackgroundLabelComputer.isSupported(element);
+	}
+
 	/**
 	 * Sets the textFlags.
 	 * @param textFlags The textFlags to set
@@ -141,6 +181,13 @@ public class JavaUILabelProvider implements ILabelProvider, IColorProvider, ISty
 
 	@Override
 	public Image getImage(Object element) {
+		if (isComputedInBackground(element)) {
+			ComputedLabel label= getComputedLabel(element);
+			ImageDescriptor descriptor= label != null
+					? label.getImageDescriptor()
+					: fImageLabelProvider.getPlaceholderImageDescriptor((IJavaElement) element, evaluateImageFlags(element));
+			return decorateImage(JavaPlugin.getImageDescriptorRegistry().get(descriptor), element);
+		}
 		Image result= fImageLabelProvider.getImageLabel(element, evaluateImageFlags(element));
 		if (result == null && (element instanceof IStorage)) {
 			result= fStorageLabelProvider.getImage(element);
@@ -164,6 +211,11 @@ public class JavaUILabelProvider implements ILabelProvider, IColorProvider, ISty
 
 	@Override
 	public String getText(Object element) {
+		if (isComputedInBackground(element)) {
+			ComputedLabel label= getComputedLabel(element);
+			String text= label != null ? label.getStyledText().getString() : ((IJavaElement) element).getElementName();
+			return decorateText(text, element);
+		}
 		String result= JavaElementLabels.getTextLabel(element, evaluateTextFlags(element));
 		if (result.length() == 0 && (element instanceof IStorage)) {
 			result= fStorageLabelProvider.getText(element);
@@ -173,7 +225,19 @@ public class JavaUILabelProvider implements ILabelProvider, IColorProvider, ISty
 
 	@Override
 	public StyledString getStyledText(Object element) {
-		StyledString string= JavaElementLabels.getStyledTextLabel(element, (evaluateTextFlags(element) | JavaElementLabels.COLORIZE));
+		StyledString string;
+		if (isComputedInBackground(element)) {
+			ComputedLabel label= getComputedLabel(element);
+			if (label != null) {
+				// the cached label is shared, decorations must be applied to a copy
+				string= new StyledString();
+				string.append(label.getStyledText());
+			} else {
+				string= new StyledString(((IJavaElement) element).getElementName());
+			}
+		} else {
+			string= JavaElementLabels.getStyledTextLabel(element, (evaluateTextFlags(element) | JavaElementLabels.COLORIZE));
+		}
 		if (string.length() == 0 && (element instanceof IStorage)) {
 			string= new StyledString(fStorageLabelProvider.getText(element));
 		}
@@ -186,6 +250,10 @@ public class JavaUILabelProvider implements ILabelProvider, IColorProvider, ISty
 
 	@Override
 	public void dispose() {
+		if (fBackgroundLabelComputer != null) {
+			fBackgroundLabelComputer.dispose();
+			fBackgroundLabelComputer= null;
+		}
 		if (fLabelDecorators != null) {
 			for (ILabelDecorator decorator : fLabelDecorators) {
 				decorator.dispose();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IStorage;
 
+import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.jface.viewers.StyledString;
 import org.eclipse.jface.viewers.StyledString.Styler;
 
@@ -44,6 +45,7 @@ import org.eclipse.jdt.core.ITypeParameter;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelCache;
 import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelsCore;
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.util.Strings;
@@ -51,6 +53,7 @@ import org.eclipse.jdt.internal.corext.util.Strings;
 import org.eclipse.jdt.launching.JavaRuntime;
 
 import org.eclipse.jdt.internal.ui.packageview.ClassPathContainer;
+import org.eclipse.jdt.internal.ui.viewsupport.BackgroundLabelComputer;
 import org.eclipse.jdt.internal.ui.viewsupport.JavaElementLabelComposer;
 
 
@@ -391,6 +394,10 @@ public class JavaElementLabels {
 
 	private static final Styler DECORATIONS_STYLE= StyledString.DECORATIONS_STYLER;
 
+	private static final JavaElementLabelCache<String> fgLabelCache= new JavaElementLabelCache<>();
+	private static final JavaElementLabelCache<StyledString> fgStyledLabelCache= new JavaElementLabelCache<>();
+	private static volatile IPropertyChangeListener fgPreferenceListener;
+
 
 	private JavaElementLabels() {
 	}
@@ -501,9 +508,15 @@ public class JavaElementLabels {
 	 * @return the label of the Java element
 	 */
 	public static String getElementLabel(IJavaElement element, long flags) {
+		String label= fgLabelCache.get(element, flags);
+		if (label != null) {
+			return label;
+		}
 		StringBuffer result= new StringBuffer();
 		getElementLabel(element, flags, result);
-		return org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
+		label= org.eclipse.jdt.internal.core.manipulation.util.Strings.markJavaElementLabelLTR(result.toString());
+		putCachedLabel(fgLabelCache, element, flags, label);
+		return label;
 	}
 
 	/**
@@ -516,9 +529,45 @@ public class JavaElementLabels {
 	 * @since 3.4
 	 */
 	public static StyledString getStyledElementLabel(IJavaElement element, long flags) {
+		StyledString label= fgStyledLabelCache.get(element, flags);
+		if (label != null) {
+			return copy(label);
+		}
 		StyledString result= new StyledString();
 		getElementLabel(element, flags, result);
-		return Strings.markJavaElementLabelLTR(result);
+		result= Strings.markJavaElementLabelLTR(result);
+		putCachedLabel(fgStyledLabelCache, element, flags, copy(result));
+		return result;
+	}
+
+	private static StyledString copy(StyledString styledString) {
+		StyledString copy= new StyledString();
+		copy.append(styledString);
+		return copy;
+	}
+
+	private static <T> void putCachedLabel(JavaElementLabelCache<T> cache, IJavaElement element, long flags, T label) {
+		if (fgPreferenceListener == null) {
+			addPreferenceListener();
+		}
+		cache.put(element, flags, label);
+	}
+
+	private static synchronized void addPreferenceListener() {
+		if (fgPreferenceListener == null) {
+			// the composed labels depend on the package name compression and abbreviation preferences
+			fgPreferenceListener= event -> {
+				String property= event.getProperty();
+				if (PreferenceConstants.APPEARANCE_COMPRESS_PACKAGE_NAMES.equals(property)
+						|| PreferenceConstants.APPEARANCE_PKG_NAME_PATTERN_FOR_PKG_VIEW.equals(property)
+						|| PreferenceConstants.APPEARANCE_ABBREVIATE_PACKAGE_NAMES.equals(property)
+						|| PreferenceConstants.APPEARANCE_PKG_NAME_ABBREVIATION_PATTERN_FOR_PKG_VIEW.equals(property)) {
+					JavaElementLabelCache.clearAll();
+					BackgroundLabelComputer.clearAll();
+				}
+			};
+			PreferenceConstants.getPreferenceStore().addPropertyChangeListener(fgPreferenceListener);
+		}
 	}
 
 	/**
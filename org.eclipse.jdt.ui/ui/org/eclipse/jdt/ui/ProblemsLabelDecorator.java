@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -152,6 +152,12 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 	/** job to update adornments for container resources in UI thread */
 	private final AdornmentUpdateJob adornmentUpdateJob;
 
+	/**
+	 * <code>false</code> if a subclass overrides {@link #isInside(int, ISourceReference)}, in which
+	 * case every marker position has to be passed to that method
+	 */
+	private final boolean fUseMarkerIndexRanges;
+
 	/**
 	 * Creates a new <code>ProblemsLabelDecorator</code>.
 	 */
@@ -169,10 +175,23 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 	 */
 	public ProblemsLabelDecorator(ImageDescriptorRegistry registry) {
 		fRegistry= registry;
+		fUseMarkerIndexRanges= !isInsideOverridden(getClass());
 		adornmentUpdateJob = new AdornmentUpdateJob();
 		AdornmentCacheManager.register(this);
 	}
 
+	private static boolean isInsideOverridden(Class<?> clazz) {
+		for (Class<?> curr= clazz; curr != ProblemsLabelDecorator.class; curr= curr.getSuperclass()) {
+			try {
+				curr.getDeclaredMethod("isInside", int.class, ISourceReference.class); //$NON-NLS-1$
+				return true;
+			} catch (NoSuchMethodException e) {
+				// continue with the super class
+			}
+		}
+		return false;
+	}
+
 	private ImageDescriptorRegistry getRegistry() {
 		if (fRegistry == null) {
 			fRegistry= fUseNewRegistry ? new ImageDescriptorRegistry() : JavaPlugin.getImageDescriptorRegistry();
@@ -354,8 +373,15 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 		/** Job to compute adornments for container resources in background */
 		final AdornmentCalculationJob adornmentJob;
 
+		/**
+		 * Cache for the problem marker positions of files, key is resource, value is the index
+		 * of the markers built from the current marker state
+		 */
+		final Map<IResource, MarkerIndex> markerIndexCache;
+
 		public AdornmentCacheManager() {
 			adornmentCache = new ConcurrentHashMap<>();
+			markerIndexCache = new ConcurrentHashMap<>();
 			adornmentJob = new AdornmentCalculationJob();
 			listeners = Collections.synchronizedSet(new LinkedHashSet<>());
 		}
@@ -372,6 +398,24 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 			return instance.adornmentCache.put(resource, Integer.valueOf(adornment));
 		}
 
+		static MarkerIndex getMarkerIndex(IResource resource) {
+			MarkerIndex index = instance.markerIndexCache.get(resource);
+			if (index != null && index.modificationStamp == resource.getModificationStamp()) {
+				return index;
+			}
+			return null;
+		}
+
+		static void setMarkerIndex(IResource resource, MarkerIndex index) {
+			instance.markerIndexCache.put(resource, index);
+		}
+
+		static void invalidateMarkerIndexes(IResource[] resources) {
+			for (IResource resource : resources) {
+				instance.markerIndexCache.remove(resource);
+			}
+		}
+
 		static void register(ProblemsLabelDecorator decorator) {
 			instance.listeners.add(decorator);
 		}
@@ -381,6 +425,7 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 			if(instance.listeners.isEmpty()) {
 				instance.adornmentJob.cancel();
 				instance.adornmentCache.clear();
+				instance.markerIndexCache.clear();
 			}
 		}
 	}
@@ -551,6 +596,96 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 		}
 	}
 
+	/**
+	 * Index of the problem markers of one file: for each severity the sorted start offsets of the
+	 * text markers with that severity. The severity of a source range is answered by a binary
+	 * search per severity instead of testing every marker against the range.
+	 */
+	static final class MarkerIndex {
+
+		private static final int[] NO_OFFSETS = new int[0];
+
+		/** modification stamp of the resource the index was built for */
+		final long modificationStamp;
+
+		/** sorted start offsets, indexed by severity */
+		private final int[][] startOffsets;
+
+		MarkerIndex(long modificationStamp, int[][] startOffsets) {
+			this.modificationStamp = modificationStamp;
+			this.startOffsets = startOffsets;
+		}
+
+		static MarkerIndex create(IResource resource, int depth) throws CoreException {
+			long modificationStamp = resource.getModificationStamp();
+			IMarker[] markers = resource.findMarkers(IMarker.PROBLEM, true, depth);
+			int[][] offsets = new int[IMarker.SEVERITY_ERROR + 1][];
+			int[] counts = new int[IMarker.SEVERITY_ERROR + 1];
+			for (int severity = IMarker.SEVERITY_INFO; severity <= IMarker.SEVERITY_ERROR; severity++) {
+				offsets[severity] = new int[markers.length];
+			}
+			for (IMarker marker : markers) {
+				if (!marker.isSubtypeOf(IMarker.TEXT)) {
+					continue;
+				}
+				int severity = marker.getAttribute(IMarker.SEVERITY, -1);
+				int start = marker.getAttribute(IMarker.CHAR_START, -1);
+				if (start >= 0 && (severity == IMarker.SEVERITY_INFO || severity == IMarker.SEVERITY_WARNING || severity == IMarker.SEVERITY_ERROR)) {
+					offsets[severity][counts[severity]++] = start;
+				}
+			}
+			for (int severity = IMarker.SEVERITY_INFO; severity <= IMarker.SEVERITY_ERROR; severity++) {
+				if (counts[severity] == 0) {
+					offsets[severity] = NO_OFFSETS;
+				} else {
+					offsets[severity] = Arrays.copyOf(offsets[severity], counts[severity]);
+					Arrays.sort(offsets[severity]);
+				}
+			}
+			return new MarkerIndex(modificationStamp, offsets);
+		}
+
+		/**
+		 * Returns the maximal severity of the markers starting inside the given range.
+		 *
+		 * @param offset the offset of the range
+		 * @param length the length of the range
+		 * @return the maximal severity or <code>-1</code> if no marker starts inside the range
+		 */
+		int getMaxSeverity(int offset, int length) {
+			for (int severity = IMarker.SEVERITY_ERROR; severity >= IMarker.SEVERITY_INFO; severity--) {
+				int[] offsets = startOffsets[severity];
+				int first = lowerBound(offsets, offset);
+				if (first < offsets.length && offsets[first] < offset + length) {
+					return severity;
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * @param severity one of the <code>IMarker.SEVERITY_*</code> constants
+		 * @return the sorted start offsets of the markers with the given severity, must not be modified
+		 */
+		int[] getStartOffsets(int severity) {
+			return startOffsets[severity];
+		}
+
+		private static int lowerBound(int[] offsets, int offset) {
+			int low = 0;
+			int high = offsets.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (offsets[mid] < offset) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+	}
+
 	private int computeContainerAdornmentFlags(IResource resource) {
 		if (resource == null) {
 			return 0;
@@ -605,20 +740,38 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 		if (res == null || !res.isAccessible()) {
 			return 0;
 		}
-		int severity= -1;
-		IMarker[] markers= res.findMarkers(IMarker.PROBLEM, true, depth);
-		if (markers != null && markers.length > 0) {
-			for (int i= 0; i < markers.length && (severity != IMarker.SEVERITY_ERROR); i++) {
-				IMarker curr= markers[i];
-				if (isMarkerInRange(curr, sourceElement)) {
-					int val= curr.getAttribute(IMarker.SEVERITY, -1);
-					if (val == IMarker.SEVERITY_INFO || val == IMarker.SEVERITY_WARNING || val == IMarker.SEVERITY_ERROR) {
-						severity= Math.max(severity, val);
+		MarkerIndex index= getMarkerIndex(res, depth);
+		if (!fUseMarkerIndexRanges) {
+			for (int severity= IMarker.SEVERITY_ERROR; severity >= IMarker.SEVERITY_INFO; severity--) {
+				for (int offset : index.getStartOffsets(severity)) {
+					if (isInside(offset, sourceElement)) {
+						return convertToTick(severity);
 					}
 				}
 			}
+			return 0;
 		}
-		return convertToTick(severity);
+		if (fCachedRange == null) {
+			fCachedRange= sourceElement.getSourceRange();
+		}
+		ISourceRange range= fCachedRange;
+		if (range == null) {
+			return 0;
+		}
+		return convertToTick(index.getMaxSeverity(range.getOffset(), range.getLength()));
+	}
+
+	private MarkerIndex getMarkerIndex(IResource res, int depth) throws CoreException {
+		// the shared index is only invalidated through marker change notifications
+		if (fProblemChangedListener == null) {
+			return MarkerIndex.create(res, depth);
+		}
+		MarkerIndex index= AdornmentCacheManager.getMarkerIndex(res);
+		if (index == null) {
+			index= MarkerIndex.create(res, depth);
+			AdornmentCacheManager.setMarkerIndex(res, index);
+		}
+		return index;
 	}
 
 	private static int convertToTick(int severity) {
@@ -686,14 +839,6 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 		}
 	}
 
-	private boolean isMarkerInRange(IMarker marker, ISourceReference sourceElement) throws CoreException {
-		if (marker.isSubtypeOf(IMarker.TEXT)) {
-			int pos= marker.getAttribute(IMarker.CHAR_START, -1);
-			return isInside(pos, sourceElement);
-		}
-		return false;
-	}
-
 	private IAnnotationModel isInJavaAnnotationModel(ICompilationUnit original) {
 		if (original.isWorkingCopy()) {
 			FileEditorInput editorInput= new FileEditorInput((IFile) original.getResource());
@@ -812,6 +957,9 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 	}
 
 	private void fireProblemsChanged(IResource[] changedResources, boolean isMarkerChange) {
+		if (isMarkerChange) {
+			AdornmentCacheManager.invalidateMarkerIndexes(changedResources);
+		}
 		if (fListeners != null && !fListeners.isEmpty()) {
 			LabelProviderChangedEvent event= new ProblemsLabelChangedEvent(this, changedResources, isMarkerChange);
 			for (ILabelProviderListener listener : fListeners) {